@@ -258,6 +258,12 @@ public class DynamoConstants {
 	 */
 	public static final String SELECTED_TAB = "selectedTab";
 
+	/**
+	 * Name of the system property that is used to determine if the export dialogs
+	 * offer an export to the Apache Arrow IPC format
+	 */
+	public static final String SP_ALLOW_ARROW_EXPORT = "ocs.allow.arrow.export";
+
 	/**
 	 * Name of the system property that is used to determine if exporting of lists
 	 * (inside grids) is allowed
@@ -452,6 +458,97 @@ public class DynamoConstants {
 	 */
 	public static final String SP_EXPORT_CSV_SEPARATOR = "ocs.export.csv.separator";
 
+	/**
+	 * Name of the system property that is used to set the maximum number of data
+	 * rows on a single sheet of an Excel export. Larger exports are split over
+	 * multiple sheets
+	 */
+	public static final String SP_EXPORT_EXCEL_MAX_ROWS_PER_SHEET = "ocs.export.excel.max.rows.per.sheet";
+
+	/**
+	 * Name of the system property that is used to set the number of threads that
+	 * retrieve and format consecutive ranges of the rows of an Excel export. Only
+	 * values greater than 1 enable parallel retrieval
+	 */
+	public static final String SP_EXPORT_EXCEL_THREADS = "ocs.export.excel.threads";
+
+	/**
+	 * Name of the system property that is used to set the number of threads that
+	 * format rows in parallel during an export. Only values greater than 1 enable
+	 * parallel formatting
+	 */
+	public static final String SP_EXPORT_FORMAT_THREADS = "ocs.export.format.threads";
+
+	/**
+	 * Name of the system property that is used to set the directory in which the
+	 * results of background export jobs are stored
+	 */
+	public static final String SP_EXPORT_JOB_DIRECTORY = "ocs.export.job.directory";
+
+	/**
+	 * Name of the system property that is used to set the maximum number of
+	 * background export jobs that a single user can have queued or running
+	 */
+	public static final String SP_EXPORT_JOB_MAX_PER_USER = "ocs.export.job.max.per.user";
+
+	/**
+	 * Name of the system property that is used to set the maximum number of
+	 * background export jobs that can wait for a free thread
+	 */
+	public static final String SP_EXPORT_JOB_QUEUE_SIZE = "ocs.export.job.queue.size";
+
+	/**
+	 * Name of the system property that is used to set the number of minutes that
+	 * the result of a finished background export job remains available
+	 */
+	public static final String SP_EXPORT_JOB_RETENTION_MINUTES = "ocs.export.job.retention.minutes";
+
+	/**
+	 * Name of the system property that is used to set the number of threads that
+	 * carry out background export jobs
+	 */
+	public static final String SP_EXPORT_JOB_THREADS = "ocs.export.job.threads";
+
+	/**
+	 * Name of the system property that is used to set the number of pages that are
+	 * fetched ahead from the database during an export. A value of 0 disables
+	 * prefetching
+	 */
+	public static final String SP_EXPORT_PREFETCH_PAGES = "ocs.export.prefetch.pages";
+
+	/**
+	 * Name of the system property that holds the (comma separated) fully qualified
+	 * class names of the entities that can be exported using the REST endpoint.
+	 * The endpoint is only registered when this property is set
+	 */
+	public static final String SP_EXPORT_REST_ENTITIES = "ocs.export.rest.entities";
+
+	/**
+	 * Name of the system property that holds the base path of the REST endpoint
+	 * for exports
+	 */
+	public static final String SP_EXPORT_REST_PATH = "ocs.export.rest.path";
+
+	/**
+	 * Name of the system property that indicates whether the export dialogs carry
+	 * out exports as background jobs
+	 */
+	public static final String SP_EXPORT_USE_JOBS = "ocs.export.use.jobs";
+
+	/**
+	 * Name of the system property that indicates whether exports may fetch only the
+	 * values of the exported attributes instead of complete entities
+	 */
+	public static final String SP_EXPORT_USE_PROJECTIONS = "ocs.export.use.projections";
+
+	/**
+	 * Name of the system property that is used to set the number of threads that
+	 * convert the rows of an import in parallel. Only values greater than 1
+	 * enable parallel conversion. XLSX files are read using streaming and are
+	 * always converted by the reading thread
+	 */
+	public static final String SP_IMPORT_THREADS = "ocs.import.threads";
+
 	/**
 	 * System property that indicates whether to indent grids in input forms
 	 */
@@ -520,6 +617,12 @@ public class DynamoConstants {
 	 */
 	public static final String SP_USE_GRID_SELECTION_CHECK_BOXES = "ocs.use.grid.selection.checkboxes";
 	
+	/**
+	 * Name of the property that indicates whether to read the view permissions from
+	 * the index generated at build time instead of scanning the class path
+	 */
+	public static final String SP_USE_VIEW_PERMISSION_INDEX = "ocs.view.permission.index";
+
 	/**
 	 * Whether to use thousands grouping in XLS files
 	 */
@@ -269,6 +269,16 @@ public interface BaseService<ID, T extends AbstractEntity<ID>> {
 	 */
 	List<?> findProperties(Filter filter, String[] selectProperties, SortOrders sortOrders);
 
+	/**
+	 * Flushes the pending changes and clears the persistence context, so that
+	 * the entities that were saved so far in the current transaction are no
+	 * longer managed (useful when saving large numbers of entities). Does nothing
+	 * by default, for services that are not backed by a persistence context
+	 */
+	default void flushAndClear() {
+		// nothing to flush
+	}
+
 	/**
 	 * Returns the class of the entity managed by this DAO
 	 * 
@@ -33,4 +33,15 @@ public interface UserDetailsService {
      */
     boolean isUserInRole(String... roles);
 
+    /**
+     * Returns a value that changes whenever the roles of the current user change.
+     * This is used to invalidate cached authorization decisions
+     * 
+     * @return the value, or null if role changes cannot be detected (in which case
+     *         authorization decisions are not cached)
+     */
+    default Object getRolesVersion() {
+        return null;
+    }
+
 }
@@ -13,6 +13,7 @@
  */
 package com.ocs.dynamo.util;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
@@ -61,6 +62,14 @@ public final class SystemPropertyUtils {
 		}
 	}
 
+	/**
+	 * @return whether the export dialogs offer an export to the Apache Arrow IPC
+	 *         format. This requires the Arrow libraries to be on the class path
+	 */
+	public static boolean allowArrowExport() {
+		return getBooleanProperty(DynamoConstants.SP_ALLOW_ARROW_EXPORT, false);
+	}
+
 	/**
 	 * 
 	 * @return whether export of grid contents to Excel/CSV is allowed. This system
@@ -400,6 +409,89 @@ public final class SystemPropertyUtils {
 		return getStringProperty(DynamoConstants.SP_DEFAULT_TRUE_REPRESENTATION + "." + locale.getLanguage(), null);
 	}
 
+	/**
+	 * @return the maximum number of data rows on a single sheet of an Excel
+	 *         export. Defaults to the maximum number of rows that Excel supports,
+	 *         minus the title row
+	 */
+	public static int getExportExcelMaxRowsPerSheet() {
+		return getIntProperty(DynamoConstants.SP_EXPORT_EXCEL_MAX_ROWS_PER_SHEET, 1_048_575);
+	}
+
+	/**
+	 * @return the number of threads that retrieve and format consecutive ranges of
+	 *         the rows of an Excel export in parallel. The rows are retrieved by
+	 *         the writing thread when this is 1 or less
+	 */
+	public static int getExportExcelThreads() {
+		return getIntProperty(DynamoConstants.SP_EXPORT_EXCEL_THREADS, 1);
+	}
+
+	/**
+	 * @return the number of threads that format rows in parallel during an export.
+	 *         Rows are formatted by the writing thread when this is 1 or less
+	 */
+	public static int getExportFormatThreads() {
+		return getIntProperty(DynamoConstants.SP_EXPORT_FORMAT_THREADS, 1);
+	}
+
+	/**
+	 * @return the directory in which the results of background export jobs are
+	 *         stored
+	 */
+	public static String getExportJobDirectory() {
+		return getStringProperty(DynamoConstants.SP_EXPORT_JOB_DIRECTORY,
+				System.getProperty("java.io.tmpdir") + File.separator + "dynamo-exports");
+	}
+
+	/**
+	 * @return the maximum number of background export jobs that a single user can
+	 *         have queued or running
+	 */
+	public static int getExportJobMaxPerUser() {
+		return getIntProperty(DynamoConstants.SP_EXPORT_JOB_MAX_PER_USER, 2);
+	}
+
+	/**
+	 * @return the maximum number of background export jobs that can wait for a
+	 *         free thread
+	 */
+	public static int getExportJobQueueSize() {
+		return getIntProperty(DynamoConstants.SP_EXPORT_JOB_QUEUE_SIZE, 10);
+	}
+
+	/**
+	 * @return the number of minutes that the result of a finished background export
+	 *         job remains available
+	 */
+	public static int getExportJobRetentionMinutes() {
+		return getIntProperty(DynamoConstants.SP_EXPORT_JOB_RETENTION_MINUTES, 60);
+	}
+
+	/**
+	 * @return the number of threads that carry out background export jobs
+	 */
+	public static int getExportJobThreads() {
+		return getIntProperty(DynamoConstants.SP_EXPORT_JOB_THREADS, 2);
+	}
+
+	/**
+	 * @return the number of pages that are fetched ahead from the database during
+	 *         an export. Pages are fetched on demand when this is 0
+	 */
+	public static int getExportPrefetchPages() {
+		return getIntProperty(DynamoConstants.SP_EXPORT_PREFETCH_PAGES, 0);
+	}
+
+	/**
+	 * @return the number of threads that convert the rows of an import in
+	 *         parallel. Rows are converted by the reading thread when this is 1 or
+	 *         less, and for XLSX files, which are read using streaming
+	 */
+	public static int getImportThreads() {
+		return getIntProperty(DynamoConstants.SP_IMPORT_THREADS, 1);
+	}
+
 	/**
 	 * Looks up the value for an integer property
 	 * 
@@ -494,6 +586,21 @@ public final class SystemPropertyUtils {
 		return getBooleanProperty(DynamoConstants.SP_USE_DEFAULT_PROMPT_VALUE, true);
 	}
 
+	/**
+	 * @return whether the export dialogs carry out exports as background jobs
+	 */
+	public static boolean useExportJobs() {
+		return getBooleanProperty(DynamoConstants.SP_EXPORT_USE_JOBS, false);
+	}
+
+	/**
+	 * @return whether exports may fetch only the values of the exported attributes
+	 *         instead of complete entities
+	 */
+	public static boolean useExportProjections() {
+		return getBooleanProperty(DynamoConstants.SP_EXPORT_USE_PROJECTIONS, false);
+	}
+
 	/**
 	 * @return whether to use check boxes for multiple selection in grids
 	 */
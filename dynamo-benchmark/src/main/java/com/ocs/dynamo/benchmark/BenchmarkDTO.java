@@ -0,0 +1,97 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import com.ocs.dynamo.importer.ImportField;
+import com.ocs.dynamo.importer.dto.AbstractDTO;
+
+/**
+ * The DTO that the rows of the import benchmarks are converted to. The fields
+ * match the columns written by {@link ImportBenchmarkData}
+ *
+ * @author bas.rutten
+ */
+public class BenchmarkDTO extends AbstractDTO {
+
+	private static final long serialVersionUID = -2339455016839567553L;
+
+	@ImportField(index = 0)
+	private String name;
+
+	@ImportField(index = 1, required = true)
+	private Integer number;
+
+	@ImportField(index = 2)
+	private BigDecimal amount;
+
+	@ImportField(index = 3)
+	private LocalDate date;
+
+	@ImportField(index = 4, defaultValue = "false")
+	private Boolean active;
+
+	@ImportField(index = 5)
+	private Double rating;
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(String name) {
+		this.name = name;
+	}
+
+	public Integer getNumber() {
+		return number;
+	}
+
+	public void setNumber(Integer number) {
+		this.number = number;
+	}
+
+	public BigDecimal getAmount() {
+		return amount;
+	}
+
+	public void setAmount(BigDecimal amount) {
+		this.amount = amount;
+	}
+
+	public LocalDate getDate() {
+		return date;
+	}
+
+	public void setDate(LocalDate date) {
+		this.date = date;
+	}
+
+	public Boolean getActive() {
+		return active;
+	}
+
+	public void setActive(Boolean active) {
+		this.active = active;
+	}
+
+	public Double getRating() {
+		return rating;
+	}
+
+	public void setRating(Double rating) {
+		this.rating = rating;
+	}
+}
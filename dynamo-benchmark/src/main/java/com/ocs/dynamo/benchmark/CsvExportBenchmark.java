@@ -0,0 +1,199 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ocs.dynamo.ui.composite.export.impl.CsvRowWriter;
+import com.ocs.dynamo.utils.ClassUtils;
+import com.opencsv.CSVWriter;
+
+/**
+ * Compares writing CSV rows the way the CSV export used to (looking up every
+ * property value through reflection, collecting the values of a row in a list
+ * and writing them using OpenCSV) with the column plan and the
+ * {@link CsvRowWriter}. The formatting of the values is the same in both cases
+ * and is therefore left out. Run with "-prof gc" to compare the allocation
+ * rates
+ *
+ * @author bas.rutten
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvExportBenchmark {
+
+	private static final String[] PROPERTIES = { "id", "name", "city", "amount", "active", "address.street" };
+
+	@Param({ "10000", "100000" })
+	private int rows;
+
+	private List<Person> people;
+
+	private List<Function<Object, Object>> accessors;
+
+	private boolean[] check;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		people = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			people.add(new Person(i, "Person " + i, i % 10 == 0 ? "Den \"Bosch\"" : "Amsterdam",
+					BigDecimal.valueOf(i, 2), i % 2 == 0, new Address("Street " + i)));
+		}
+
+		accessors = new ArrayList<>();
+		for (String property : PROPERTIES) {
+			accessors.add(ClassUtils.getFieldValueFunction(Person.class, property));
+		}
+		// the numeric columns never contain characters that must be escaped
+		check = new boolean[] { false, true, true, false, true, true };
+	}
+
+	@Benchmark
+	public long openCsv() throws IOException {
+		CountingOutputStream out = new CountingOutputStream();
+		CSVWriter writer = new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), ';', '"', '"', "\n");
+		for (Person person : people) {
+			List<String> row = new ArrayList<>();
+			for (String property : PROPERTIES) {
+				row.add(format(ClassUtils.getFieldValue(person, property)));
+			}
+			writer.writeNext(row.toArray(new String[0]));
+		}
+		writer.flush();
+		return out.count;
+	}
+
+	@Benchmark
+	public long rowWriter() throws IOException {
+		CountingOutputStream out = new CountingOutputStream();
+		CsvRowWriter writer = new CsvRowWriter(out, ';', '"', '"', "\n");
+		for (Person person : people) {
+			for (int i = 0; i < check.length; i++) {
+				writer.writeField(format(accessors.get(i).apply(person)), check[i]);
+			}
+			writer.endRow();
+		}
+		writer.flush();
+		return out.count;
+	}
+
+	private static String format(Object value) {
+		return value == null ? null : value.toString();
+	}
+
+	/**
+	 * Stream that only counts the number of bytes written to it
+	 */
+	private static class CountingOutputStream extends OutputStream {
+
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+
+	public static class Address {
+
+		private final String street;
+
+		public Address(String street) {
+			this.street = street;
+		}
+
+		public String getStreet() {
+			return street;
+		}
+	}
+
+	public static class Person {
+
+		private final Integer id;
+
+		private final String name;
+
+		private final String city;
+
+		private final BigDecimal amount;
+
+		private final Boolean active;
+
+		private final Address address;
+
+		public Person(Integer id, String name, String city, BigDecimal amount, Boolean active, Address address) {
+			this.id = id;
+			this.name = name;
+			this.city = city;
+			this.amount = amount;
+			this.active = active;
+			this.address = address;
+		}
+
+		public Integer getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getCity() {
+			return city;
+		}
+
+		public BigDecimal getAmount() {
+			return amount;
+		}
+
+		public Boolean getActive() {
+			return active;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+	}
+}
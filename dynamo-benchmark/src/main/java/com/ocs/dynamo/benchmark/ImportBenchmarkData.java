@@ -0,0 +1,239 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.benchmark;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+/**
+ * Generates the files that are used by the import benchmarks. Every row
+ * contains a name, a number, an amount, a date, a boolean and a rating (see
+ * {@link BenchmarkDTO}), and the content only depends on the index of the row,
+ * so that every run imports exactly the same data. Generated files are kept in
+ * the directory that is specified by the "benchmark.data.dir" system property
+ * (by default a "dynamo-benchmark" directory in the temporary directory) and
+ * are reused by later runs
+ *
+ * @author bas.rutten
+ */
+public final class ImportBenchmarkData {
+
+	/**
+	 * The lengths of the fields in a fixed-length file
+	 */
+	public static final List<Integer> FIELD_LENGTHS = List.of(20, 10, 12, 10, 5, 8);
+
+	public static final String SEPARATOR = ";";
+
+	public static final String QUOTE = "\"";
+
+	/**
+	 * The number of rows in the sheet per record of a multi-row Excel file: a
+	 * separator row followed by a row per field
+	 */
+	public static final int ROWS_PER_RECORD = 7;
+
+	private static final LocalDate START_DATE = LocalDate.of(2000, 1, 1);
+
+	private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy");
+
+	private ImportBenchmarkData() {
+	}
+
+	/**
+	 * Returns a CSV file (with a header line) that contains the specified number
+	 * of rows. Every tenth name contains the separator and is therefore quoted
+	 *
+	 * @param rows the number of rows
+	 * @return the path to the file
+	 * @throws IOException when the file cannot be written
+	 */
+	public static Path csv(int rows) throws IOException {
+		return getFile("import-" + rows + ".csv", file -> {
+			try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+				writer.write("name;number;amount;date;active;rating\n");
+				for (int i = 0; i < rows; i++) {
+					String name = i % 10 == 0 ? QUOTE + "Doe; " + i + QUOTE : getName(i);
+					writer.write(String.join(SEPARATOR, name, Integer.toString(i), getAmount(i).toPlainString(),
+							DATE_FORMAT.format(getDate(i)), Boolean.toString(isActive(i)),
+							Double.toString(getRating(i))));
+					writer.write('\n');
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns a fixed-length file (with a header line) that contains the specified
+	 * number of rows
+	 *
+	 * @param rows the number of rows
+	 * @return the path to the file
+	 * @throws IOException when the file cannot be written
+	 */
+	public static Path fixedLength(int rows) throws IOException {
+		return getFile("import-" + rows + ".fixed", file -> {
+			try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+				writer.write(fixed("name", "number", "amount", "date", "activ", "rating"));
+				for (int i = 0; i < rows; i++) {
+					writer.write(fixed(getName(i), Integer.toString(i), getAmount(i).toPlainString(),
+							DATE_FORMAT.format(getDate(i)), Boolean.toString(isActive(i)),
+							Double.toString(getRating(i))));
+				}
+			}
+		});
+	}
+
+	/**
+	 * Returns an Excel file of which the first sheet contains a header row
+	 * followed by a row per record
+	 *
+	 * @param rows the number of rows
+	 * @return the path to the file
+	 * @throws IOException when the file cannot be written
+	 */
+	public static Path xlsx(int rows) throws IOException {
+		return getFile("import-" + rows + ".xlsx", file -> writeWorkbook(file, (sheet, dateStyle) -> {
+			Row header = sheet.createRow(0);
+			header.createCell(0).setCellValue("name");
+			for (int i = 0; i < rows; i++) {
+				Row row = sheet.createRow(i + 1);
+				row.createCell(0).setCellValue(getName(i));
+				row.createCell(1).setCellValue(i);
+				row.createCell(2).setCellValue(getAmount(i).doubleValue());
+				row.createCell(3).setCellValue(getDate(i));
+				row.getCell(3).setCellStyle(dateStyle);
+				row.createCell(4).setCellValue(isActive(i));
+				row.createCell(5).setCellValue(getRating(i));
+			}
+		}));
+	}
+
+	/**
+	 * Returns an Excel file of which the first column of the first sheet contains
+	 * the records below each other, every record consisting of
+	 * {@link #ROWS_PER_RECORD} rows
+	 *
+	 * @param records the number of records
+	 * @return the path to the file
+	 * @throws IOException when the file cannot be written
+	 */
+	public static Path xlsxRecords(int records) throws IOException {
+		return getFile("import-records-" + records + ".xlsx", file -> writeWorkbook(file, (sheet, dateStyle) -> {
+			int r = 0;
+			for (int i = 0; i < records; i++) {
+				sheet.createRow(r++).createCell(0).setCellValue("Record " + i);
+				sheet.createRow(r++).createCell(0).setCellValue(getName(i));
+				sheet.createRow(r++).createCell(0).setCellValue(i);
+				sheet.createRow(r++).createCell(0).setCellValue(getAmount(i).doubleValue());
+				Row date = sheet.createRow(r++);
+				date.createCell(0).setCellValue(getDate(i));
+				date.getCell(0).setCellStyle(dateStyle);
+				sheet.createRow(r++).createCell(0).setCellValue(isActive(i));
+				sheet.createRow(r++).createCell(0).setCellValue(getRating(i));
+			}
+		}));
+	}
+
+	private static String getName(int i) {
+		return "Person " + i;
+	}
+
+	private static BigDecimal getAmount(int i) {
+		return BigDecimal.valueOf(i % 1_000_000, 2);
+	}
+
+	private static LocalDate getDate(int i) {
+		return START_DATE.plusDays(i % 10_000);
+	}
+
+	private static boolean isActive(int i) {
+		return i % 2 == 0;
+	}
+
+	private static double getRating(int i) {
+		return (i % 50) / 10.0;
+	}
+
+	private static String fixed(String... values) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < values.length; i++) {
+			builder.append(StringUtils.rightPad(StringUtils.left(values[i], FIELD_LENGTHS.get(i)), FIELD_LENGTHS.get(i)));
+		}
+		return builder.append('\n').toString();
+	}
+
+	private static void writeWorkbook(Path file, SheetWriter writer) throws IOException {
+		SXSSFWorkbook workbook = new SXSSFWorkbook(100);
+		try (OutputStream out = Files.newOutputStream(file)) {
+			CellStyle dateStyle = workbook.createCellStyle();
+			dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("dd-mm-yyyy"));
+			writer.write(workbook.createSheet(), dateStyle);
+			workbook.write(out);
+		} finally {
+			workbook.dispose();
+			workbook.close();
+		}
+	}
+
+	/**
+	 * Returns a data file, generating it first when it does not exist yet. The
+	 * file is generated under a temporary name, so that an interrupted run never
+	 * leaves an incomplete file behind
+	 *
+	 * @param name      the name of the file
+	 * @param generator writes the file
+	 * @return the path to the file
+	 * @throws IOException when the file cannot be written
+	 */
+	private static Path getFile(String name, FileGenerator generator) throws IOException {
+		Path directory = Path.of(System.getProperty("benchmark.data.dir",
+				Path.of(System.getProperty("java.io.tmpdir"), "dynamo-benchmark").toString()));
+		Path file = directory.resolve(name);
+		if (!Files.exists(file)) {
+			Files.createDirectories(directory);
+			Path temp = Files.createTempFile(directory, name, ".tmp");
+			generator.generate(temp);
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+		return file;
+	}
+
+	@FunctionalInterface
+	private interface FileGenerator {
+
+		void generate(Path file) throws IOException;
+	}
+
+	@FunctionalInterface
+	private interface SheetWriter {
+
+		void write(Sheet sheet, CellStyle dateStyle);
+	}
+}
@@ -0,0 +1,193 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.benchmark;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the import benchmarks ({@link TextImportBenchmark},
+ * {@link XlsImportBenchmark} and {@link ProcessRowBenchmark}) and compares the
+ * number of rows per second and the number of bytes allocated per row with a
+ * baseline file. Exits with a non-zero status when a metric is worse than the
+ * baseline by more than the tolerance, so that it can fail a build (see the
+ * "import-regression" profile of this module). The following system properties
+ * are supported:
+ * <ul>
+ * <li>benchmark.baseline: the baseline file</li>
+ * <li>benchmark.tolerance: the allowed deviation, as a fraction (default
+ * 0.15)</li>
+ * <li>benchmark.rows: the comma-separated numbers of rows to run the file
+ * benchmarks with (default 10000,1000000)</li>
+ * <li>benchmark.metrics: the comma-separated types of metrics to check
+ * (default bytesPerRow, add rowsPerSecond to also check the throughput)</li>
+ * <li>benchmark.baseline.update: when "true", writes the results to the
+ * baseline file instead of comparing them</li>
+ * </ul>
+ * Every checked metric must have a baseline value, otherwise the check fails.
+ * The throughput depends on the machine, so a throughput baseline must be
+ * recorded on the machine that runs the check
+ *
+ * @author bas.rutten
+ */
+public final class ImportRegressionCheck {
+
+	private static final String INCLUDE = "com\\.ocs\\.dynamo\\.benchmark\\.(TextImport|XlsImport|ProcessRow)Benchmark\\.";
+
+	private static final String ROWS_PER_SECOND = ".rowsPerSecond";
+
+	private static final String BYTES_PER_ROW = ".bytesPerRow";
+
+	private static final String UPDATE_HINT = "record it using -Dbenchmark.baseline.update=true";
+
+	private ImportRegressionCheck() {
+	}
+
+	public static void main(String[] args) throws IOException, RunnerException {
+		Path baselineFile = Path.of(System.getProperty("benchmark.baseline", "import-baseline.properties"));
+		double tolerance = Double.parseDouble(System.getProperty("benchmark.tolerance", "0.15"));
+		String[] rows = System.getProperty("benchmark.rows", "10000,1000000").split(",");
+		List<String> checked = List.of(System.getProperty("benchmark.metrics", "bytesPerRow").split(","));
+
+		Options options = new OptionsBuilder().include(INCLUDE).addProfiler(GCProfiler.class).param("rows", rows)
+				.build();
+		Map<String, Double> metrics = new TreeMap<>();
+		for (RunResult result : new Runner(options).run()) {
+			collect(result, metrics);
+		}
+
+		if (Boolean.getBoolean("benchmark.baseline.update")) {
+			writeBaseline(baselineFile, metrics, checked);
+			System.out.println("Baseline written to " + baselineFile);
+			return;
+		}
+
+		List<String> regressions = compare(readBaseline(baselineFile), metrics, checked, tolerance);
+		if (!regressions.isEmpty()) {
+			System.err.println("Import performance regressions (tolerance " + tolerance + "):");
+			regressions.forEach(System.err::println);
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Extracts the metrics from the result of a benchmark. Benchmarks that
+	 * process multiple rows per operation report the rows in a "rows" counter
+	 *
+	 * @param result  the result
+	 * @param metrics the metrics, by name
+	 */
+	private static void collect(RunResult result, Map<String, Double> metrics) {
+		BenchmarkParams params = result.getParams();
+		String benchmark = params.getBenchmark();
+		StringBuilder key = new StringBuilder(
+				benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+		for (String param : params.getParamsKeys()) {
+			key.append('.').append(params.getParam(param));
+		}
+
+		double operationsPerSecond = result.getPrimaryResult().getScore();
+		Result<?> rowCounter = result.getSecondaryResults().get("rows");
+		double rowsPerSecond = rowCounter == null ? operationsPerSecond : rowCounter.getScore();
+		metrics.put(key + ROWS_PER_SECOND, rowsPerSecond);
+
+		result.getSecondaryResults().entrySet().stream()
+				.filter(entry -> entry.getKey().endsWith("gc.alloc.rate.norm")).findFirst()
+				.ifPresent(entry -> metrics.put(key + BYTES_PER_ROW,
+						entry.getValue().getScore() * operationsPerSecond / rowsPerSecond));
+	}
+
+	/**
+	 * Compares the metrics with the baseline. A checked metric without a baseline
+	 * value counts as a regression, so that an incomplete baseline cannot pass
+	 * silently
+	 *
+	 * @param baseline  the baseline
+	 * @param metrics   the metrics
+	 * @param checked   the types of metrics to check
+	 * @param tolerance the allowed deviation
+	 * @return the descriptions of the regressions
+	 */
+	private static List<String> compare(Properties baseline, Map<String, Double> metrics, List<String> checked,
+			double tolerance) {
+		List<String> regressions = new ArrayList<>();
+		System.out.printf(Locale.ROOT, "%-60s %15s %15s%n", "Metric", "Baseline", "Current");
+		metrics.forEach((key, value) -> {
+			String expected = baseline.getProperty(key);
+			System.out.printf(Locale.ROOT, "%-60s %15s %15.1f%n", key, expected == null ? "-" : expected, value);
+			if (!isChecked(key, checked)) {
+				return;
+			}
+			if (expected == null) {
+				regressions.add(String.format(Locale.ROOT, "%s: %.1f (no baseline, %s)", key, value, UPDATE_HINT));
+			} else {
+				double base = Double.parseDouble(expected);
+				boolean regression = key.endsWith(BYTES_PER_ROW) ? value > base * (1 + tolerance)
+						: value < base * (1 - tolerance);
+				if (regression) {
+					regressions.add(String.format(Locale.ROOT, "%s: %.1f (baseline %.1f)", key, value, base));
+				}
+			}
+		});
+		return regressions;
+	}
+
+	private static boolean isChecked(String key, List<String> checked) {
+		return checked.stream().anyMatch(type -> key.endsWith("." + type.trim()));
+	}
+
+	private static Properties readBaseline(Path file) throws IOException {
+		if (!Files.exists(file)) {
+			throw new IOException("Baseline file " + file + " does not exist, " + UPDATE_HINT);
+		}
+		Properties baseline = new Properties();
+		try (Reader reader = Files.newBufferedReader(file, StandardCharsets.ISO_8859_1)) {
+			baseline.load(reader);
+		}
+		return baseline;
+	}
+
+	private static void writeBaseline(Path file, Map<String, Double> metrics, List<String> checked)
+			throws IOException {
+		try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.ISO_8859_1)) {
+			writer.write("# Import benchmark baseline, see ImportRegressionCheck\n");
+			writer.write("# Every checked metric must have a value here, " + UPDATE_HINT + "\n");
+			for (Map.Entry<String, Double> entry : metrics.entrySet()) {
+				if (isChecked(entry.getKey(), checked)) {
+					writer.write(
+							entry.getKey() + "=" + String.format(Locale.ROOT, "%.1f", entry.getValue()) + "\n");
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ocs.dynamo.importer.impl.BaseCsvImporter;
+import com.ocs.dynamo.importer.impl.BaseXlsImporter;
+import com.ocs.dynamo.importer.impl.RowIterator;
+
+/**
+ * Measures {@link com.ocs.dynamo.importer.impl.BaseImporter#processRow} in
+ * isolation, for rows that have already been read from a CSV or an XLSX file.
+ * Every operation converts a single row, so the score is the number of rows
+ * per second and "gc.alloc.rate.norm" (with "-prof gc") the allocation per row
+ *
+ * @author bas.rutten
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessRowBenchmark {
+
+	private static final int ROWS = 1024;
+
+	@Param({ "csv", "xlsx" })
+	private String format;
+
+	private final BaseCsvImporter csvImporter = new BaseCsvImporter();
+
+	private final BaseXlsImporter xlsImporter = new BaseXlsImporter();
+
+	private final List<String[]> lines = new ArrayList<>();
+
+	private final List<Row> rows = new ArrayList<>();
+
+	private Workbook workbook;
+
+	private int index;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		if ("csv".equals(format)) {
+			try (RowIterator<String[]> iterator = csvImporter.iterateCsvFile(ImportBenchmarkData.csv(ROWS),
+					ImportBenchmarkData.SEPARATOR, ImportBenchmarkData.QUOTE)) {
+				// skip the header
+				iterator.next();
+				iterator.forEachRemaining(lines::add);
+			}
+		} else {
+			try (InputStream in = Files.newInputStream(ImportBenchmarkData.xlsx(ROWS))) {
+				workbook = new XSSFWorkbook(in);
+			}
+			Sheet sheet = workbook.getSheetAt(0);
+			for (int i = 1; i <= ROWS; i++) {
+				rows.add(sheet.getRow(i));
+			}
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws IOException {
+		if (workbook != null) {
+			workbook.close();
+		}
+	}
+
+	@Benchmark
+	public BenchmarkDTO processRow() {
+		int i = index++ & (ROWS - 1);
+		if (rows.isEmpty()) {
+			return csvImporter.processRow(i, lines.get(i), BenchmarkDTO.class);
+		}
+		return xlsImporter.processRow(i, rows.get(i), BenchmarkDTO.class);
+	}
+}
@@ -0,0 +1,149 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.ocs.dynamo.service.BaseService;
+import com.ocs.dynamo.service.impl.BaseSpringServiceLocator;
+
+/**
+ * Measures the cost of looking up beans and entity services through the
+ * service locator, compared to querying the application context directly (which
+ * is what the locator used to do on every call)
+ *
+ * @author bas.rutten
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceLocatorBenchmark {
+
+	/**
+	 * The classes that are used as "entity classes" of the registered services.
+	 * The actual type is irrelevant for the lookup
+	 */
+	private static final Class<?>[] ENTITY_CLASSES = { String.class, Integer.class, Long.class, Double.class,
+			Float.class, Short.class, Byte.class, Character.class, Boolean.class, StringBuilder.class };
+
+	/**
+	 * The number of other beans registered in the context
+	 */
+	@Param({ "10", "500" })
+	private int otherBeans;
+
+	private GenericApplicationContext context;
+
+	private BaseSpringServiceLocator locator;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		context = new GenericApplicationContext();
+		for (int i = 0; i < otherBeans; i++) {
+			context.registerBean("bean" + i, StringBuilder.class);
+		}
+		for (Class<?> entityClass : ENTITY_CLASSES) {
+			context.registerBean(entityClass.getSimpleName() + "Service", BaseService.class,
+					() -> createService(entityClass));
+		}
+		context.registerBean(LookupTarget.class);
+		context.refresh();
+
+		locator = new BaseSpringServiceLocator() {
+			@Override
+			protected ApplicationContext loadCtx() {
+				return context;
+			}
+		};
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public Object getServiceDirect() {
+		Map<String, LookupTarget> beans = context.getBeansOfType(LookupTarget.class);
+		return beans.values().iterator().next();
+	}
+
+	@Benchmark
+	public Object getServiceLocator() {
+		return locator.getService(LookupTarget.class);
+	}
+
+	@Benchmark
+	@SuppressWarnings("rawtypes")
+	public Object getServiceForEntityDirect() {
+		Class<?> entityClass = ENTITY_CLASSES[ENTITY_CLASSES.length - 1];
+		Map<String, BaseService> services = context.getBeansOfType(BaseService.class, false, true);
+		for (BaseService<?, ?> service : services.values()) {
+			if (entityClass.equals(service.getEntityClass())) {
+				return service;
+			}
+		}
+		return null;
+	}
+
+	@Benchmark
+	public Object getServiceForEntityLocator() {
+		return locator.getServiceForEntity(ENTITY_CLASSES[ENTITY_CLASSES.length - 1]);
+	}
+
+	/**
+	 * Creates a service that only reports its entity class
+	 *
+	 * @param entityClass the entity class
+	 * @return the service
+	 */
+	private static BaseService<?, ?> createService(Class<?> entityClass) {
+		return (BaseService<?, ?>) Proxy.newProxyInstance(ServiceLocatorBenchmark.class.getClassLoader(),
+				new Class<?>[] { BaseService.class },
+				(proxy, method, args) -> switch (method.getName()) {
+				case "getEntityClass" -> entityClass;
+				case "hashCode" -> System.identityHashCode(proxy);
+				case "equals" -> proxy == args[0];
+				case "toString" -> "Service for " + entityClass.getSimpleName();
+				default -> throw new UnsupportedOperationException(method.getName());
+				});
+	}
+
+	/**
+	 * Bean that is looked up by type
+	 */
+	public static class LookupTarget {
+	}
+}
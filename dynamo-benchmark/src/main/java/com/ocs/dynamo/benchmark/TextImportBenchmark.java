@@ -0,0 +1,117 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ocs.dynamo.importer.impl.BaseCsvImporter;
+import com.ocs.dynamo.importer.impl.BaseFixedLengthImporter;
+import com.ocs.dynamo.importer.impl.BaseTextImporter;
+import com.ocs.dynamo.importer.impl.RowIterator;
+import com.ocs.dynamo.importer.template.DefaultTextImportTemplate;
+
+/**
+ * Measures the throughput of importing a CSV or fixed-length file from disk
+ * through the {@link DefaultTextImportTemplate}, from reading the lines to
+ * handing the DTOs to a consumer. The "rows" counter reports the number of rows
+ * per second; run with "-prof gc" and divide "gc.alloc.rate.norm" by the
+ * number of rows for the allocation per row (see
+ * {@link ImportRegressionCheck})
+ *
+ * @author bas.rutten
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class TextImportBenchmark {
+
+	@Param({ "csv", "fixed" })
+	private String format;
+
+	@Param({ "10000", "1000000", "10000000" })
+	private int rows;
+
+	private Path file;
+
+	private BaseTextImporter importer;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		if ("csv".equals(format)) {
+			file = ImportBenchmarkData.csv(rows);
+			importer = new BaseCsvImporter();
+		} else {
+			file = ImportBenchmarkData.fixedLength(rows);
+			importer = new BaseFixedLengthImporter();
+		}
+	}
+
+	@Benchmark
+	public long textTemplate(RowCounter counter) {
+		List<String> errors = new ArrayList<>();
+		long[] count = new long[1];
+		try (RowIterator<String[]> lines = open()) {
+			new DefaultTextImportTemplate<Integer, BenchmarkDTO>(BenchmarkDTO.class, null, importer, lines, errors)
+					.execute(dto -> count[0]++);
+		}
+		if (!errors.isEmpty()) {
+			throw new IllegalStateException(errors.get(0));
+		}
+		counter.rows += count[0];
+		return count[0];
+	}
+
+	private RowIterator<String[]> open() {
+		if (importer instanceof BaseCsvImporter csv) {
+			return csv.iterateCsvFile(file, ImportBenchmarkData.SEPARATOR, ImportBenchmarkData.QUOTE);
+		}
+		return ((BaseFixedLengthImporter) importer).iterateFixedLengthFile(file, ImportBenchmarkData.FIELD_LENGTHS);
+	}
+
+	/**
+	 * Counts the imported rows
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class RowCounter {
+
+		public long rows;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			rows = 0;
+		}
+	}
+}
@@ -0,0 +1,109 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.ocs.dynamo.benchmark.TextImportBenchmark.RowCounter;
+import com.ocs.dynamo.importer.impl.BaseXlsImporter;
+import com.ocs.dynamo.importer.impl.XlsRowImportTemplate;
+
+/**
+ * Measures the throughput of importing an XLSX file: row by row using the
+ * streaming reader and {@link BaseXlsImporter#processRow}, and record by record
+ * (every record consisting of multiple rows) using the
+ * {@link XlsRowImportTemplate}. The number of rows is the number of rows in the
+ * sheet; since a sheet cannot contain more than about a million rows, the
+ * larger sizes of the text import benchmark are not used. The "rows" counter
+ * reports the number of imported rows (or records) per second
+ *
+ * @author bas.rutten
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(value = 1, jvmArgs = { "-Xmx2g" })
+public class XlsImportBenchmark {
+
+	private static final int CACHE_SIZE = 500;
+
+	@Param({ "10000", "1000000" })
+	private int rows;
+
+	private final BaseXlsImporter importer = new BaseXlsImporter();
+
+	private byte[] rowFile;
+
+	private byte[] recordFile;
+
+	@Setup(Level.Trial)
+	public void setup() throws IOException {
+		rowFile = Files.readAllBytes(ImportBenchmarkData.xlsx(rows));
+		recordFile = Files.readAllBytes(ImportBenchmarkData.xlsxRecords(rows / ImportBenchmarkData.ROWS_PER_RECORD));
+	}
+
+	@Benchmark
+	public long processRow(RowCounter counter) throws IOException {
+		long count = 0;
+		try (Workbook workbook = importer.createReader(rowFile, CACHE_SIZE)) {
+			for (Row row : workbook.getSheetAt(0)) {
+				// skip the header
+				if (row.getRowNum() > 0 && importer.processRow(row.getRowNum(), row, BenchmarkDTO.class) != null) {
+					count++;
+				}
+			}
+		}
+		counter.rows += count;
+		return count;
+	}
+
+	@Benchmark
+	public long recordTemplate(RowCounter counter) throws IOException {
+		List<String> errors = new ArrayList<>();
+		List<BenchmarkDTO> result = new XlsRowImportTemplate<Integer, BenchmarkDTO>(importer, null, recordFile, errors,
+				BenchmarkDTO.class, 0, 0, 0, ImportBenchmarkData.ROWS_PER_RECORD - 1, false) {
+
+			@Override
+			protected Integer extractKey(BenchmarkDTO record) {
+				return record.getNumber();
+			}
+		}.execute();
+		if (!errors.isEmpty()) {
+			throw new IllegalStateException(errors.get(0));
+		}
+		counter.rows += result.size();
+		return result.size();
+	}
+}
@@ -149,16 +149,20 @@ public abstract class VersionedEntityDaoImpl<ID, T extends AbstractEntity<ID>, U
 	}
 
 	/**
-	 * Overwrite count method to query the revision tables
+	 * Overwrite count method to query the revision tables. The revisions are
+	 * counted by the database, so the snapshots and revision entities are not
+	 * loaded
 	 */
 	@Override
 	@Transactional
 	public long count(Filter filter, boolean distinct) {
 		// filter on ID (this should always be there)
-		AuditQuery aq = getAuditReader().createQuery().forRevisionsOfEntity(getBaseEntityClass(), false, true);
+		AuditQuery aq = getAuditReader().createQuery().forRevisionsOfEntity(getBaseEntityClass(), false, true)
+				.addProjection(AuditEntity.id().count());
 		addIdFilter(aq, filter);
 		addAdditionalFilters(aq, filter);
-		return aq.getResultList().size();
+		Number count = (Number) aq.getSingleResult();
+		return count == null ? 0L : count.longValue();
 	}
 
 	/**
@@ -280,6 +284,8 @@ public abstract class VersionedEntityDaoImpl<ID, T extends AbstractEntity<ID>, U
 			if (pageable.getSortOrders() != null) {
 				addSortOrders(aq, pageable.getSortOrders().toArray());
 			}
+			// make sure that the pages do not overlap when the sort values are equal
+			aq.addOrder(AuditEntity.revisionNumber().asc());
 		}
 
 		List<U> resultList = new ArrayList<>();
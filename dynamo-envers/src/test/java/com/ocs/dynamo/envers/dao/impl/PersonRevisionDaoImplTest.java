@@ -112,6 +112,21 @@ public class PersonRevisionDaoImplTest extends BackendIntegrationTest {
 		list = personRevisionDao.findRevisions(person.getId());
 		assertEquals(3, list.size());
 
+		// fetch pages of revisions
+		count = personRevisionDao.count(new Compare.Equal("id", person.getId()), true);
+		assertEquals(3L, count);
+		p = new PageableImpl(1, 2, new SortOrders(new SortOrder("name", Direction.ASC)));
+		list = personRevisionDao.fetch(new Compare.Equal("id", person.getId()), p);
+		assertEquals(1, list.size());
+
+		// unsorted pages are ordered by revision number
+		list = personRevisionDao.fetch(new Compare.Equal("id", person.getId()), new PageableImpl(0, 2));
+		assertEquals(2, list.size());
+		assertEquals(RevisionType.ADD, list.get(0).getRevisionType());
+		list = personRevisionDao.fetch(new Compare.Equal("id", person.getId()), new PageableImpl(1, 2));
+		assertEquals(1, list.size());
+		assertEquals(RevisionType.DEL, list.get(0).getRevisionType());
+
 		// fetch non existing
 		key = new RevisionKey<>(person.getId(), 5);
 		pr = personRevisionDao.fetchById(key);
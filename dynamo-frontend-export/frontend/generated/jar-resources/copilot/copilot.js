@@ -0,0 +1,7 @@
+import { Y as s, X as n, _ as a, Z as d } from "./copilot-sWvu6xks.js";
+export {
+  s as Copilot,
+  n as devTools,
+  a as openInIde,
+  d as sendAndHandleResponse
+};
@@ -0,0 +1,25 @@
+import { O as a } from "./copilot-sWvu6xks.js";
+const r = {
+  tagName: "vaadin-app-layout",
+  displayName: "App Layout",
+  elements: [
+    {
+      selector: "vaadin-app-layout",
+      displayName: "Layout",
+      properties: [a.backgroundColor]
+    },
+    {
+      selector: "vaadin-app-layout::part(drawer)",
+      displayName: "Drawer",
+      properties: [a.backgroundColor, a.padding]
+    },
+    {
+      selector: "vaadin-app-layout::part(navbar)",
+      displayName: "Navbar",
+      properties: [a.backgroundColor, a.padding]
+    }
+  ]
+};
+export {
+  r as default
+};
@@ -0,0 +1,37 @@
+import { inputFieldProperties as e, labelProperties as i, helperTextProperties as a, errorMessageProperties as r } from "./vaadin-text-field-ku8iHk7Q.js";
+import { standardButtonProperties as t } from "./vaadin-button-COw2KVfj.js";
+import "./copilot-sWvu6xks.js";
+const s = {
+  tagName: "vaadin-big-decimal-field",
+  displayName: "BigDecimal Field",
+  elements: [
+    {
+      selector: "vaadin-big-decimal-field::part(input-field)",
+      displayName: "Input field",
+      properties: e
+    },
+    {
+      selector: "vaadin-big-decimal-field::part(label)",
+      displayName: "Label",
+      properties: i
+    },
+    {
+      selector: "vaadin-big-decimal-field::part(helper-text)",
+      displayName: "Helper text",
+      properties: a
+    },
+    {
+      selector: "vaadin-big-decimal-field::part(error-message)",
+      displayName: "Error message",
+      properties: r
+    },
+    {
+      selector: "vaadin-big-decimal-field::part(clear-button)",
+      displayName: "Clear button",
+      properties: t
+    }
+  ]
+};
+export {
+  s as default
+};
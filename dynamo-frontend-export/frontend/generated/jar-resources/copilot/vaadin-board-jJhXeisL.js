@@ -0,0 +1,32 @@
+import { O as r } from "./copilot-sWvu6xks.js";
+const o = {
+  tagName: "vaadin-board",
+  displayName: "Board",
+  elements: [
+    {
+      selector: "vaadin-board",
+      displayName: "Layout",
+      properties: [
+        r.backgroundColor,
+        r.borderColor,
+        r.borderWidth,
+        r.borderRadius,
+        r.padding
+      ]
+    },
+    {
+      selector: "vaadin-board vaadin-board-row",
+      displayName: "Row",
+      properties: [
+        r.backgroundColor,
+        r.borderColor,
+        r.borderWidth,
+        r.borderRadius,
+        r.padding
+      ]
+    }
+  ]
+};
+export {
+  o as default
+};
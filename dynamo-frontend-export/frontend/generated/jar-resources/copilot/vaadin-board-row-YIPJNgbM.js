@@ -0,0 +1,25 @@
+import { x as e, O as o } from "./copilot-sWvu6xks.js";
+const r = {
+  tagName: "vaadin-board-row",
+  description: e`You are styling selected row only, if you wish to style all rows of given board please pick
+    <code>vaadin-board</code> instead.`,
+  notAccessibleDescription: e`If you wish to style all rows of current board please pick
+    <code>vaadin-board</code> instead.`,
+  displayName: "Board Row",
+  elements: [
+    {
+      selector: "vaadin-board-row",
+      displayName: "Layout",
+      properties: [
+        o.backgroundColor,
+        o.borderColor,
+        o.borderWidth,
+        o.borderRadius,
+        o.padding
+      ]
+    }
+  ]
+};
+export {
+  r as default
+};
@@ -0,0 +1,25 @@
+import { S as e, T as a } from "./copilot-sWvu6xks.js";
+const n = {
+  tagName: "vaadin-cookie-consent",
+  displayName: "Cookie Consent",
+  elements: [
+    {
+      selector: "div.cc-banner",
+      displayName: "Banner",
+      properties: e
+    },
+    {
+      selector: "div.cc-banner span.cc-message",
+      displayName: "Message",
+      properties: a
+    },
+    {
+      selector: "div.cc-banner a.cc-btn",
+      displayName: "Button",
+      properties: [...e, ...a]
+    }
+  ]
+};
+export {
+  n as default
+};
@@ -0,0 +1,26 @@
+import { labelProperties as e, helperTextProperties as r, errorMessageProperties as a } from "./vaadin-text-field-ku8iHk7Q.js";
+import "./copilot-sWvu6xks.js";
+const p = {
+  tagName: "vaadin-date-time-picker",
+  displayName: "Date Time Picker",
+  elements: [
+    {
+      selector: "vaadin-date-time-picker::part(label)",
+      displayName: "Label",
+      properties: e
+    },
+    {
+      selector: "vaadin-date-time-picker::part(helper-text)",
+      displayName: "Helper text",
+      properties: r
+    },
+    {
+      selector: "vaadin-date-time-picker::part(error-message)",
+      displayName: "Error message",
+      properties: a
+    }
+  ]
+};
+export {
+  p as default
+};
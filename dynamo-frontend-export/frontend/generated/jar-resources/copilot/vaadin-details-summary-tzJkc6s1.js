@@ -0,0 +1,20 @@
+import { N as a, O as s, Q as e } from "./copilot-sWvu6xks.js";
+const i = {
+  tagName: "vaadin-details-summary",
+  displayName: "Details Summary",
+  elements: [
+    {
+      selector: "vaadin-details-summary",
+      displayName: "Summary",
+      properties: [a.textColor, a.fontSize, s.padding]
+    },
+    {
+      selector: "vaadin-details-summary::part(toggle)",
+      displayName: "Toggle",
+      properties: [e.iconColor, e.iconSize]
+    }
+  ]
+};
+export {
+  i as default
+};
@@ -0,0 +1,40 @@
+import { S as a, T as e } from "./copilot-sWvu6xks.js";
+const o = {
+  tagName: "vaadin-dialog",
+  displayName: "Dialog",
+  elements: [
+    {
+      selector: "vaadin-dialog-overlay::part(backdrop)",
+      displayName: "Modality curtain (backdrop)",
+      properties: a
+    },
+    {
+      selector: "vaadin-dialog-overlay::part(overlay)",
+      displayName: "Dialog surface",
+      properties: a
+    },
+    {
+      selector: "vaadin-dialog-overlay::part(header)",
+      displayName: "Header",
+      properties: a
+    },
+    {
+      selector: "vaadin-dialog-overlay::part(title)",
+      displayName: "Title",
+      properties: e
+    },
+    {
+      selector: "vaadin-dialog-overlay::part(content)",
+      displayName: "Content",
+      properties: a
+    },
+    {
+      selector: "vaadin-dialog-overlay::part(footer)",
+      displayName: "Footer",
+      properties: a
+    }
+  ]
+};
+export {
+  o as default
+};
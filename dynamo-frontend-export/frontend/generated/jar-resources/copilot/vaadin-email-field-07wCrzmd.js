@@ -0,0 +1,37 @@
+import { inputFieldProperties as e, labelProperties as a, helperTextProperties as r, errorMessageProperties as i } from "./vaadin-text-field-ku8iHk7Q.js";
+import { standardButtonProperties as t } from "./vaadin-button-COw2KVfj.js";
+import "./copilot-sWvu6xks.js";
+const o = {
+  tagName: "vaadin-email-field",
+  displayName: "Email Field",
+  elements: [
+    {
+      selector: "vaadin-email-field::part(input-field)",
+      displayName: "Input field",
+      properties: e
+    },
+    {
+      selector: "vaadin-email-field::part(label)",
+      displayName: "Label",
+      properties: a
+    },
+    {
+      selector: "vaadin-email-field::part(helper-text)",
+      displayName: "Helper text",
+      properties: r
+    },
+    {
+      selector: "vaadin-email-field::part(error-message)",
+      displayName: "Error message",
+      properties: i
+    },
+    {
+      selector: "vaadin-email-field::part(clear-button)",
+      displayName: "Clear button",
+      properties: t
+    }
+  ]
+};
+export {
+  o as default
+};
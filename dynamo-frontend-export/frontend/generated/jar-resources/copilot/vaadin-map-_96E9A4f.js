@@ -0,0 +1,21 @@
+import { O as a } from "./copilot-sWvu6xks.js";
+const o = {
+  tagName: "vaadin-map",
+  displayName: "Map",
+  elements: [
+    {
+      selector: "vaadin-map",
+      displayName: "Root element",
+      properties: [
+        a.backgroundColor,
+        a.borderColor,
+        a.borderWidth,
+        a.borderRadius,
+        a.padding
+      ]
+    }
+  ]
+};
+export {
+  o as default
+};
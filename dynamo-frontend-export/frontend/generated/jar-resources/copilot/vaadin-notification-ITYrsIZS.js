@@ -0,0 +1,20 @@
+import { S as a, T as t } from "./copilot-sWvu6xks.js";
+const e = {
+  tagName: "vaadin-notification",
+  displayName: "Notification",
+  elements: [
+    {
+      selector: "vaadin-notification-card::part(overlay)",
+      displayName: "Notification card",
+      properties: a
+    },
+    {
+      selector: "vaadin-notification-card::part(content)",
+      displayName: "Content",
+      properties: t
+    }
+  ]
+};
+export {
+  e as default
+};
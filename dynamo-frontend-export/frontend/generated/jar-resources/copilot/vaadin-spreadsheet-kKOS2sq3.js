@@ -0,0 +1,21 @@
+import { O as e } from "./copilot-sWvu6xks.js";
+const r = {
+  tagName: "vaadin-spreadsheet",
+  displayName: "Spreadsheet",
+  elements: [
+    {
+      selector: "vaadin-spreadsheet",
+      displayName: "Spreadsheet",
+      properties: [
+        e.backgroundColor,
+        e.borderColor,
+        e.borderWidth,
+        e.borderRadius,
+        e.padding
+      ]
+    }
+  ]
+};
+export {
+  r as default
+};
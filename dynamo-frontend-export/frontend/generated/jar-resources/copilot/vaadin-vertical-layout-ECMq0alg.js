@@ -0,0 +1,22 @@
+import { O as a } from "./copilot-sWvu6xks.js";
+const r = {
+  tagName: "vaadin-vertical-layout",
+  displayName: "Vertical Layout",
+  elements: [
+    {
+      selector: "vaadin-vertical-layout",
+      displayName: "Layout",
+      properties: [
+        a.backgroundColor,
+        a.borderColor,
+        a.borderWidth,
+        a.borderRadius,
+        a.padding,
+        a.gap
+      ]
+    }
+  ]
+};
+export {
+  r as default
+};
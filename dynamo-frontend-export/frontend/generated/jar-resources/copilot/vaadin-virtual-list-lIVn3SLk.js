@@ -0,0 +1,20 @@
+import { O as a } from "./copilot-sWvu6xks.js";
+const i = {
+  tagName: "vaadin-virtual-list",
+  displayName: "Virtual List",
+  elements: [
+    {
+      selector: "vaadin-virtual-list",
+      displayName: "List",
+      properties: [
+        a.backgroundColor,
+        a.borderColor,
+        a.borderWidth,
+        a.borderRadius
+      ]
+    }
+  ]
+};
+export {
+  i as default
+};
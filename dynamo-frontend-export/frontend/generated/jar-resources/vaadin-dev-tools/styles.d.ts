@@ -0,0 +1 @@
+export declare const popupStyles: import("lit").CSSResult;
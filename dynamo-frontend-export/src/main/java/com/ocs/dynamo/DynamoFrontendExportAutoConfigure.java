@@ -13,12 +13,17 @@
  */
 package com.ocs.dynamo;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.ocs.dynamo.constants.DynamoConstants;
 import com.ocs.dynamo.ui.composite.export.ExportDelegate;
 import com.ocs.dynamo.ui.composite.export.impl.ExportDelegateImpl;
+import com.ocs.dynamo.ui.composite.export.impl.ExportRestController;
 
 /**
  * Auto configuration for the frontend-export module. Responsible for registering an export delegate that is used
@@ -34,4 +39,13 @@ public class DynamoFrontendExportAutoConfigure {
     public ExportDelegate exportDelegate() {
         return new ExportDelegateImpl();
     }
+
+    @Bean
+    @ConditionalOnMissingBean(value = ExportRestController.class)
+    @ConditionalOnProperty(name = DynamoConstants.SP_EXPORT_REST_ENTITIES)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    public ExportRestController exportRestController(
+            @Value("${" + DynamoConstants.SP_EXPORT_REST_ENTITIES + "}") String entities) {
+        return new ExportRestController(entities);
+    }
 }
@@ -15,15 +15,27 @@ package com.ocs.dynamo.ui.composite.export;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import com.ocs.dynamo.domain.AbstractEntity;
 import com.ocs.dynamo.domain.model.EntityModel;
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.ui.component.DefaultVerticalLayout;
 import com.ocs.dynamo.ui.component.DownloadButton;
 import com.ocs.dynamo.ui.composite.dialog.BaseModalDialog;
+import com.ocs.dynamo.ui.composite.form.process.ProgressBarUpdater;
+import com.ocs.dynamo.ui.composite.form.process.ProgressForm;
+import com.ocs.dynamo.ui.composite.form.process.Progressable;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
 import com.ocs.dynamo.ui.utils.VaadinUtils;
+import com.ocs.dynamo.util.SystemPropertyUtils;
+import com.vaadin.flow.component.Text;
 import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.icon.VaadinIcon;
@@ -34,7 +46,9 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Base class for export dialogs
+ * Base class for export dialogs. When background jobs are enabled (and
+ * supported by the dialog), the export is submitted as an {@link ExportJob} and
+ * a download button is shown once the job has completed
  * 
  * @author Bas Rutten
  *
@@ -42,7 +56,10 @@ import lombok.extern.slf4j.Slf4j;
  * @param <T>  the type of the entity to export
  */
 @Slf4j
-public abstract class BaseExportDialog<ID extends Serializable, T extends AbstractEntity<ID>> extends BaseModalDialog {
+public abstract class BaseExportDialog<ID extends Serializable, T extends AbstractEntity<ID>> extends BaseModalDialog
+		implements Progressable {
+
+	protected static final String EXTENSION_ARROW = ".arrows";
 
 	protected static final String EXTENSION_CSV = ".csv";
 
@@ -53,6 +70,9 @@ public abstract class BaseExportDialog<ID extends Serializable, T extends Abstra
 	@Getter
 	private final EntityModel<T> entityModel;
 
+	@Getter
+	private DownloadButton exportArrowButton;
+
 	@Getter
 	private DownloadButton exportCsvButton;
 
@@ -68,6 +88,27 @@ public abstract class BaseExportDialog<ID extends Serializable, T extends Abstra
 	@Getter
 	private ProgressBar progressBar;
 
+	/**
+	 * The label that displays the progress of a background job
+	 */
+	@Getter
+	private Text statusLabel;
+
+	/**
+	 * The background job that is currently running
+	 */
+	private transient ExportJob job;
+
+	/**
+	 * The buttons that submit a background job
+	 */
+	private final List<Button> jobButtons = new ArrayList<>();
+
+	/**
+	 * The layout that holds the download button for the result of a background job
+	 */
+	private VerticalLayout jobResultLayout;
+
 	@Getter
 	private final UI ui;
 
@@ -96,10 +137,86 @@ public abstract class BaseExportDialog<ID extends Serializable, T extends Abstra
 		});
 	}
 
+	/**
+	 * Creates the button for exporting to the Apache Arrow IPC format. Must be
+	 * overridden by dialogs for which {@link #supportsArrow()} returns true
+	 * 
+	 * @return the button
+	 */
+	protected DownloadButton createDownloadArrowButton() {
+		throw new UnsupportedOperationException("Arrow export is not supported by " + getClass().getName());
+	}
+
 	protected abstract DownloadButton createDownloadCSVButton();
 
 	protected abstract DownloadButton createDownloadExcelButton();
 
+	/**
+	 * Indicates whether the dialog offers to export to the Apache Arrow IPC
+	 * format. This only determines whether the buttons for doing so are shown
+	 * 
+	 * @return true if this is the case, false otherwise
+	 */
+	protected boolean supportsArrow() {
+		return false;
+	}
+
+	/**
+	 * Indicates whether the dialog offers to submit its exports as background
+	 * jobs. This only determines whether the buttons for doing so are shown
+	 * 
+	 * @return true if this is the case, false otherwise
+	 */
+	protected boolean supportsJobs() {
+		return false;
+	}
+
+	/**
+	 * Submits a background job that exports to the Apache Arrow IPC format. Must
+	 * be overridden by dialogs for which both {@link #supportsJobs()} and
+	 * {@link #supportsArrow()} return true
+	 * 
+	 * @return the submitted job
+	 */
+	protected ExportJob submitArrowJob() {
+		throw new UnsupportedOperationException("Arrow export jobs are not supported by " + getClass().getName());
+	}
+
+	/**
+	 * Submits a background job that exports to CSV. Must be overridden by dialogs
+	 * for which {@link #supportsJobs()} returns true
+	 * 
+	 * @return the submitted job
+	 */
+	protected ExportJob submitCsvJob() {
+		throw new UnsupportedOperationException("Export jobs are not supported by " + getClass().getName());
+	}
+
+	/**
+	 * Submits a background job that exports to Excel. Must be overridden by
+	 * dialogs for which {@link #supportsJobs()} returns true
+	 * 
+	 * @return the submitted job
+	 */
+	protected ExportJob submitExcelJob() {
+		throw new UnsupportedOperationException("Export jobs are not supported by " + getClass().getName());
+	}
+
+	/**
+	 * Creates the name of the file that contains the export
+	 * 
+	 * @param extension the file extension
+	 * @return the file name
+	 */
+	protected String createFileName(String extension) {
+		return getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now() + extension;
+	}
+
+	@Override
+	public int estimateCurrentProgress() {
+		return job == null ? 0 : job.getPercentage();
+	}
+
 	/**
 	 * Creates the download stream
 	 * 
@@ -121,18 +238,122 @@ public abstract class BaseExportDialog<ID extends Serializable, T extends Abstra
 		}
 	}
 
+	/**
+	 * Carries out an export that writes directly to the download stream, so that
+	 * the result does not have to be kept in memory. This is called without
+	 * holding the session lock, so the dialog is only updated using
+	 * {@link UI#access}
+	 * 
+	 * @param out      the stream to write the export to
+	 * @param exporter the code that carries out the export
+	 */
+	protected void download(OutputStream out, Consumer<OutputStream> exporter) {
+		try {
+			exporter.accept(out);
+			getUi().access(() -> getProgressBar().setVisible(false));
+		} catch (Exception ex) {
+			log.error(ex.getMessage(), ex);
+			getUi().access(() -> VaadinUtils.showErrorNotification(ex.getMessage()));
+		} finally {
+			getUi().access(this::close);
+		}
+	}
+
 	private void buildMainLayout(VerticalLayout parent) {
 		progressBar = new ProgressBar();
 		progressBar.setIndeterminate(true);
 		progressBar.setVisible(false);
 
+		if (SystemPropertyUtils.useExportJobs() && supportsJobs()) {
+			buildJobLayout(parent);
+			return;
+		}
+
 		exportExcelButton = createDownloadExcelButton();
 		parent.add(exportExcelButton);
 
 		exportCsvButton = createDownloadCSVButton();
 		parent.add(exportCsvButton);
 
+		if (isArrowAllowed()) {
+			exportArrowButton = createDownloadArrowButton();
+			parent.add(exportArrowButton);
+		}
+
 		UI.getCurrent().setPollInterval(100);
 		parent.add(progressBar);
 	}
+
+	private void buildJobLayout(VerticalLayout parent) {
+		jobButtons.add(createJobButton(message("ocs.export.excel"), this::submitExcelJob));
+		jobButtons.add(createJobButton(message("ocs.export.csv"), this::submitCsvJob));
+		if (isArrowAllowed()) {
+			jobButtons.add(createJobButton(message("ocs.export.arrow"), this::submitArrowJob));
+		}
+		jobButtons.forEach(parent::add);
+
+		statusLabel = new Text("");
+		jobResultLayout = new DefaultVerticalLayout(false, false);
+
+		UI.getCurrent().setPollInterval(ProgressForm.POLL_INTERVAL);
+		parent.add(progressBar, statusLabel, jobResultLayout);
+	}
+
+	private boolean isArrowAllowed() {
+		return SystemPropertyUtils.allowArrowExport() && supportsArrow();
+	}
+
+	private Button createJobButton(String caption, Supplier<ExportJob> submit) {
+		Button button = new Button(caption, VaadinIcon.DOWNLOAD.create());
+		button.addClickListener(event -> startJob(submit));
+		return button;
+	}
+
+	/**
+	 * Submits a background job and displays its progress
+	 * 
+	 * @param submit the code that submits the job
+	 */
+	private void startJob(Supplier<ExportJob> submit) {
+		try {
+			job = submit.get();
+		} catch (OCSRuntimeException ex) {
+			log.error(ex.getMessage(), ex);
+			showNotification(ex.getMessage());
+			return;
+		}
+
+		jobButtons.forEach(button -> button.setEnabled(false));
+		jobResultLayout.removeAll();
+		progressBar.setIndeterminate(false);
+		progressBar.setValue(0.0f);
+		progressBar.setVisible(true);
+
+		ProgressBarUpdater updater = new ProgressBarUpdater(ui, this, 100);
+		Thread updateThread = new Thread(updater);
+		updateThread.start();
+
+		job.getCompletion().thenAccept(finished -> {
+			updater.setStopped(true);
+			ui.access(() -> jobFinished(finished));
+		});
+	}
+
+	/**
+	 * Offers the result of a finished job for download
+	 * 
+	 * @param finished the job that has finished
+	 */
+	private void jobFinished(ExportJob finished) {
+		progressBar.setVisible(false);
+		statusLabel.setText("");
+		jobButtons.forEach(button -> button.setEnabled(true));
+
+		if (ExportJob.Status.COMPLETED.equals(finished.getStatus())) {
+			jobResultLayout.add(new DownloadButton(message("ocs.export.job.download", finished.getFileName()),
+					() -> getExportService().openJobResult(finished), finished::getFileName));
+		} else {
+			showNotification(message("ocs.export.job.failed", finished.getFileName(), finished.getErrorMessage()));
+		}
+	}
 }
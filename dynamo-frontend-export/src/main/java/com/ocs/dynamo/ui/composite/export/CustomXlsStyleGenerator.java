@@ -15,15 +15,14 @@ package com.ocs.dynamo.ui.composite.export;
 
 import java.io.Serializable;
 
-import org.apache.poi.ss.usermodel.CellStyle;
-import org.apache.poi.ss.usermodel.Workbook;
-
 import com.ocs.dynamo.domain.AbstractEntity;
 import com.ocs.dynamo.domain.model.AttributeModel;
 
 /**
- * Interface for a custom Excel style generator
- * 
+ * Interface for a custom Excel style generator. The generator describes the
+ * desired style; the actual cell styles are created (only once for every
+ * distinct description) by the {@link XlsStyleGenerator}
+ *
  * @author bas.rutten
  *
  * @param <ID> the type of the primary key
@@ -34,12 +33,13 @@ public interface CustomXlsStyleGenerator<ID extends Serializable, T extends Abst
 
 	/**
 	 * Returns the cell style for a certain cell
-	 * 
-	 * @param workbook the workbook
-	 * @param entity   the entity that is displayed in the row
-	 * @param value    the cell value
-	 * @param am       the attribute model. Can be empty
-	 * @return the desired style
+	 *
+	 * @param entity         the entity that is displayed in the row
+	 * @param value          the cell value
+	 * @param am             the attribute model. Can be empty
+	 * @param pivotColumnKey the column key (for pivot export)
+	 * @return the description of the desired style, or <code>null</code> to use
+	 *         the default style
 	 */
-	CellStyle getCustomCellStyle(Workbook workbook, T entity, Object value, AttributeModel am, Object pivotColumnKey);
+	XlsCellStyle getCustomCellStyle(T entity, Object value, AttributeModel am, Object pivotColumnKey);
 }
@@ -13,7 +13,6 @@
  */
 package com.ocs.dynamo.ui.composite.export;
 
-import java.io.ByteArrayInputStream;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -69,11 +68,19 @@ public class ExportDialog<ID extends Serializable, T extends AbstractEntity<ID>>
         this.joins = joins;
     }
 
+    @Override
+    protected DownloadButton createDownloadArrowButton() {
+        return new DownloadButton(message("ocs.export.arrow"), getProgressBar(),
+                (out, session) -> download(out, stream -> getExportService().exportArrow(getEntityModel(),
+                        getExportMode(), predicate, sortOrders, stream, joins)),
+                () -> createFileName(EXTENSION_ARROW));
+    }
+
     @Override
     protected DownloadButton createDownloadCSVButton() {
         return new DownloadButton(message("ocs.export.csv"), getProgressBar(),
-                () -> download(() -> new ByteArrayInputStream(
-                        getExportService().exportCsv(getEntityModel(), getExportMode(), predicate, sortOrders, joins))),
+                (out, session) -> download(out, stream -> getExportService().exportCsv(getEntityModel(),
+                        getExportMode(), predicate, sortOrders, stream, joins)),
                 () -> getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now()
                         + EXTENSION_CSV);
     }
@@ -81,10 +88,38 @@ public class ExportDialog<ID extends Serializable, T extends AbstractEntity<ID>>
     @Override
     protected DownloadButton createDownloadExcelButton() {
         return new DownloadButton(message("ocs.export.excel"), getProgressBar(),
-                () -> download(() -> new ByteArrayInputStream(getExportService().exportExcel(getEntityModel(),
-                        getExportMode(), predicate, sortOrders, customGenerator, joins))),
+                (out, session) -> download(out, stream -> getExportService().exportExcel(getEntityModel(),
+                        getExportMode(), predicate, sortOrders, customGenerator, stream, joins)),
                 () -> getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now()
                         + EXTENSION_XLS);
     }
 
+    @Override
+    protected boolean supportsArrow() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsJobs() {
+        return true;
+    }
+
+    @Override
+    protected ExportJob submitArrowJob() {
+        return getExportService().submitArrow(getEntityModel(), getExportMode(), predicate, sortOrders,
+                createFileName(EXTENSION_ARROW), joins);
+    }
+
+    @Override
+    protected ExportJob submitCsvJob() {
+        return getExportService().submitCsv(getEntityModel(), getExportMode(), predicate, sortOrders,
+                createFileName(EXTENSION_CSV), joins);
+    }
+
+    @Override
+    protected ExportJob submitExcelJob() {
+        return getExportService().submitExcel(getEntityModel(), getExportMode(), predicate, sortOrders,
+                customGenerator, createFileName(EXTENSION_XLS), joins);
+    }
+
 }
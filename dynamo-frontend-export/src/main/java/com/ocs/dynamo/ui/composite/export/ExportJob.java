@@ -0,0 +1,127 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import com.ocs.dynamo.util.ProgressCounter;
+import com.ocs.dynamo.utils.DefaultProgressCounter;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * An export that is carried out in the background. The result is written to a
+ * file that can be downloaded after the job has completed
+ *
+ * @author bas.rutten
+ */
+@Getter
+public class ExportJob {
+
+	public enum Status {
+		QUEUED, RUNNING, COMPLETED, FAILED;
+	}
+
+	private final String id = UUID.randomUUID().toString();
+
+	/**
+	 * The name of the user that submitted the job
+	 */
+	private final String userName;
+
+	/**
+	 * The name of the file that is offered for download
+	 */
+	private final String fileName;
+
+	private final LocalDateTime submittedAt = LocalDateTime.now();
+
+	/**
+	 * Counts the number of entities that have been exported
+	 */
+	private final ProgressCounter counter = new DefaultProgressCounter();
+
+	/**
+	 * Completed (with the job itself) when the job has finished, whether it
+	 * succeeded or not
+	 */
+	private final CompletableFuture<ExportJob> completion = new CompletableFuture<>();
+
+	/**
+	 * The (estimated) number of entities to export
+	 */
+	@Setter
+	private volatile int estimatedSize;
+
+	@Setter
+	private volatile Status status = Status.QUEUED;
+
+	private volatile LocalDateTime finishedAt;
+
+	/**
+	 * The error message in case the job failed
+	 */
+	private volatile String errorMessage;
+
+	/**
+	 * Constructor
+	 *
+	 * @param userName the name of the user that submits the job
+	 * @param fileName the name of the file that is offered for download
+	 */
+	public ExportJob(String userName, String fileName) {
+		this.userName = userName;
+		this.fileName = fileName;
+	}
+
+	/**
+	 * Returns the progress of the job as a percentage. This only reaches 100 once
+	 * the job has finished
+	 *
+	 * @return the percentage
+	 */
+	public int getPercentage() {
+		if (isFinished()) {
+			return 100;
+		}
+		int size = estimatedSize;
+		if (size <= 0) {
+			return 0;
+		}
+		return (int) Math.min(99L, 100L * counter.getCurrent() / size);
+	}
+
+	/**
+	 * @return whether the job has finished (successfully or not)
+	 */
+	public boolean isFinished() {
+		return Status.COMPLETED.equals(status) || Status.FAILED.equals(status);
+	}
+
+	/**
+	 * Marks the job as finished
+	 *
+	 * @param status       the final status
+	 * @param errorMessage the error message (in case the job failed)
+	 */
+	public void finish(Status status, String errorMessage) {
+		this.errorMessage = errorMessage;
+		this.finishedAt = LocalDateTime.now();
+		this.status = status;
+		completion.complete(this);
+	}
+}
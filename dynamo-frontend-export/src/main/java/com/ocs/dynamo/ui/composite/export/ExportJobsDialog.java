@@ -0,0 +1,91 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export;
+
+import java.util.List;
+
+import com.ocs.dynamo.ui.component.DefaultVerticalLayout;
+import com.ocs.dynamo.ui.component.DownloadButton;
+import com.ocs.dynamo.ui.composite.dialog.BaseModalDialog;
+import com.vaadin.flow.component.Text;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+
+/**
+ * A dialog that lists the background export jobs of the current user, and
+ * offers the results of the completed jobs for download
+ *
+ * @author bas.rutten
+ */
+public class ExportJobsDialog extends BaseModalDialog {
+
+	private static final long serialVersionUID = 4409566290413476528L;
+
+	private final ExportService exportService;
+
+	private VerticalLayout jobsLayout;
+
+	/**
+	 * Constructor
+	 *
+	 * @param exportService the export service
+	 */
+	public ExportJobsDialog(ExportService exportService) {
+		super("ocsDownloadDialog");
+		this.exportService = exportService;
+
+		setTitle(message("ocs.export.jobs"));
+		setBuildMainLayout(parent -> {
+			jobsLayout = new DefaultVerticalLayout(false, false);
+			parent.add(jobsLayout);
+			refresh();
+		});
+
+		setBuildButtonBar(buttonBar -> {
+			Button refreshButton = new Button(message("ocs.refresh"));
+			refreshButton.addClickListener(event -> refresh());
+			refreshButton.setIcon(VaadinIcon.REFRESH.create());
+			buttonBar.add(refreshButton);
+
+			Button closeButton = new Button(message("ocs.close"));
+			closeButton.addClickListener(event -> close());
+			closeButton.setIcon(VaadinIcon.CLOSE.create());
+			buttonBar.add(closeButton);
+		});
+	}
+
+	/**
+	 * Displays the current state of the jobs
+	 */
+	public void refresh() {
+		jobsLayout.removeAll();
+
+		List<ExportJob> jobs = exportService.getJobs();
+		if (jobs.isEmpty()) {
+			jobsLayout.add(new Text(message("ocs.export.jobs.none")));
+		}
+
+		for (ExportJob job : jobs) {
+			switch (job.getStatus()) {
+			case COMPLETED -> jobsLayout.add(new DownloadButton(message("ocs.export.job.download", job.getFileName()),
+					() -> exportService.openJobResult(job), job::getFileName));
+			case FAILED ->
+				jobsLayout.add(new Text(message("ocs.export.job.failed", job.getFileName(), job.getErrorMessage())));
+			default ->
+				jobsLayout.add(new Text(message("ocs.export.job.progress", job.getFileName(), job.getPercentage())));
+			}
+		}
+	}
+}
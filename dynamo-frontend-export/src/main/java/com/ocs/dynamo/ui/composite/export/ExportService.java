@@ -13,6 +13,8 @@
  */
 package com.ocs.dynamo.ui.composite.export;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.List;
 import java.util.function.Supplier;
@@ -25,12 +27,49 @@ import com.vaadin.flow.data.provider.SortOrder;
 import com.vaadin.flow.function.SerializablePredicate;
 
 /**
- * Service for exporting grid contents to XLSX or CSV
+ * Service for exporting grid contents to XLSX or CSV (or Apache Arrow, for
+ * processing by analytical tools). Every export is available
+ * in two flavours: one that returns the complete result as a byte array and one
+ * that writes the result directly to an output stream (e.g. the HTTP response).
+ * The latter should be preferred for large exports, since it does not keep the
+ * entire file in memory. To write to a channel, wrap it using
+ * {@link java.nio.channels.Channels#newOutputStream}
+ * <p>
+ * Long running exports can also be submitted as an {@link ExportJob}. Such a
+ * job runs in the background and writes its result to a file, which can be
+ * downloaded once the job has completed
  *
  * @author Bas Rutten
  */
 public interface ExportService {
 
+    /**
+     * Exports to the Apache Arrow IPC streaming format and writes the result to the
+     * provided output stream. Requires the Arrow libraries to be on the class path
+     *
+     * @param entityModel the entity model of the entity to export
+     * @param mode        the desired export mode
+     * @param predicate   the predicate
+     * @param sortOrders  the list of sort orders
+     * @param out         the stream to write the result to. The stream is not closed
+     * @param joins       the joins to use when fetching data
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> void exportArrow(EntityModel<T> entityModel,
+            ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, OutputStream out,
+            FetchJoinInformation... joins);
+
+    /**
+     * Exports a fixed set of data to the Apache Arrow IPC streaming format and
+     * writes the result to the provided output stream
+     *
+     * @param entityModel the entity model
+     * @param mode        the desired export mode
+     * @param items       the set of items to export
+     * @param out         the stream to write the result to. The stream is not closed
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> void exportArrowFixed(EntityModel<T> entityModel,
+            ExportMode mode, List<T> items, OutputStream out);
+
     /**
      * Exports to CSV
      *
@@ -45,6 +84,20 @@ public interface ExportService {
                                                                              ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
                                                                              FetchJoinInformation... joins);
 
+    /**
+     * Exports to CSV and writes the result to the provided output stream
+     *
+     * @param entityModel the entity model of the entity to export
+     * @param mode        the desired export mode
+     * @param predicate   the predicate
+     * @param sortOrders  the list of sort orders
+     * @param out         the stream to write the result to. The stream is not closed
+     * @param joins       the joins to use when fetching data
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> void exportCsv(EntityModel<T> entityModel,
+            ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, OutputStream out,
+            FetchJoinInformation... joins);
+
     /**
      * Exports a fixed set of data to CSV
      *
@@ -56,6 +109,18 @@ public interface ExportService {
     <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportCsvFixed(EntityModel<T> entityModel,
                                                                                   ExportMode mode, List<T> items);
 
+    /**
+     * Exports a fixed set of data to CSV and writes the result to the provided
+     * output stream
+     *
+     * @param entityModel the entity model
+     * @param mode        the desired export mode
+     * @param items       the set of items to export
+     * @param out         the stream to write the result to. The stream is not closed
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> void exportCsvFixed(EntityModel<T> entityModel,
+            ExportMode mode, List<T> items, OutputStream out);
+
     /**
      * Constructor
      *
@@ -72,6 +137,21 @@ public interface ExportService {
                                                                                   SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, PivotParameters pivotParameters,
                                                                                   FetchJoinInformation... joins);
 
+    /**
+     * Exports pivoted data to CSV and writes the result to the provided output
+     * stream
+     *
+     * @param entityModel     the entity model of the entity to export
+     * @param predicate       the predicate used for filtering the data
+     * @param sortOrders      the sort orders
+     * @param pivotParameters the pivot parameters
+     * @param out             the stream to write the result to. The stream is not closed
+     * @param joins           the fetch joins to use when retrieving the data
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> void exportCsvPivot(EntityModel<T> entityModel,
+            SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, PivotParameters pivotParameters,
+            OutputStream out, FetchJoinInformation... joins);
+
     /**
      * Exports to Excel
      *
@@ -87,6 +167,21 @@ public interface ExportService {
                                                                                ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
                                                                                Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, FetchJoinInformation... joins);
 
+    /**
+     * Exports to Excel and writes the result to the provided output stream
+     *
+     * @param entityModel     the entity model of the entity to export
+     * @param mode            the desired export mode
+     * @param predicate       the predicate
+     * @param sortOrders      the list of sort orders
+     * @param customGenerator the custom style generator
+     * @param out             the stream to write the result to. The stream is not closed
+     * @param joins           the joins to use when fetching data
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> void exportExcel(EntityModel<T> entityModel,
+            ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+            Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, OutputStream out, FetchJoinInformation... joins);
+
     /**
      * Exports a fixed set to Excel
      *
@@ -98,6 +193,19 @@ public interface ExportService {
     <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportExcelFixed(EntityModel<T> entityModel,
                                                                                     ExportMode mode, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, List<T> items);
 
+    /**
+     * Exports a fixed set to Excel and writes the result to the provided output
+     * stream
+     *
+     * @param entityModel     the entity model
+     * @param mode            the export mode
+     * @param customGenerator the custom style generator
+     * @param items           the set of items to export
+     * @param out             the stream to write the result to. The stream is not closed
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> void exportExcelFixed(EntityModel<T> entityModel,
+            ExportMode mode, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, List<T> items, OutputStream out);
+
     /**
      * Exports pivoted data to Excel
      *
@@ -116,4 +224,155 @@ public interface ExportService {
                                                                                     SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
                                                                                     Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, PivotParameters pivotParameters,
                                                                                     FetchJoinInformation... joins);
+
+    /**
+     * Exports pivoted data to Excel and writes the result to the provided output
+     * stream
+     *
+     * @param entityModel     the entity model of the entity to export
+     * @param predicate       the predicate used for filtering the data
+     * @param sortOrders      the sort orders
+     * @param customGenerator the custom style generator
+     * @param pivotParameters the pivot parameters
+     * @param out             the stream to write the result to. The stream is not closed
+     * @param joins           the fetch joins to use when retrieving the data
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> void exportExcelPivot(EntityModel<T> entityModel,
+            SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+            Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, PivotParameters pivotParameters,
+            OutputStream out, FetchJoinInformation... joins);
+
+    /**
+     * Submits a background job that exports to the Apache Arrow IPC streaming
+     * format
+     *
+     * @param entityModel the entity model of the entity to export
+     * @param mode        the desired export mode
+     * @param predicate   the predicate
+     * @param sortOrders  the list of sort orders
+     * @param fileName    the name of the file that is offered for download
+     * @param joins       the joins to use when fetching data
+     * @return the submitted job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitArrow(EntityModel<T> entityModel,
+            ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, String fileName,
+            FetchJoinInformation... joins);
+
+    /**
+     * Submits a background job that exports a fixed set of data to the Apache
+     * Arrow IPC streaming format
+     *
+     * @param entityModel the entity model
+     * @param mode        the desired export mode
+     * @param items       the set of items to export
+     * @param fileName    the name of the file that is offered for download
+     * @return the submitted job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitArrowFixed(EntityModel<T> entityModel,
+            ExportMode mode, List<T> items, String fileName);
+
+    /**
+     * Submits a background job that exports to CSV
+     *
+     * @param entityModel the entity model of the entity to export
+     * @param mode        the desired export mode
+     * @param predicate   the predicate
+     * @param sortOrders  the list of sort orders
+     * @param fileName    the name of the file that is offered for download
+     * @param joins       the joins to use when fetching data
+     * @return the submitted job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitCsv(EntityModel<T> entityModel,
+            ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, String fileName,
+            FetchJoinInformation... joins);
+
+    /**
+     * Submits a background job that exports a fixed set of data to CSV
+     *
+     * @param entityModel the entity model
+     * @param mode        the desired export mode
+     * @param items       the set of items to export
+     * @param fileName    the name of the file that is offered for download
+     * @return the submitted job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitCsvFixed(EntityModel<T> entityModel,
+            ExportMode mode, List<T> items, String fileName);
+
+    /**
+     * Submits a background job that exports pivoted data to CSV
+     *
+     * @param entityModel     the entity model of the entity to export
+     * @param predicate       the predicate used for filtering the data
+     * @param sortOrders      the sort orders
+     * @param pivotParameters the pivot parameters
+     * @param fileName        the name of the file that is offered for download
+     * @param joins           the fetch joins to use when retrieving the data
+     * @return the submitted job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitCsvPivot(EntityModel<T> entityModel,
+            SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, PivotParameters pivotParameters,
+            String fileName, FetchJoinInformation... joins);
+
+    /**
+     * Submits a background job that exports to Excel
+     *
+     * @param entityModel     the entity model of the entity to export
+     * @param mode            the desired export mode
+     * @param predicate       the predicate
+     * @param sortOrders      the list of sort orders
+     * @param customGenerator the custom style generator
+     * @param fileName        the name of the file that is offered for download
+     * @param joins           the joins to use when fetching data
+     * @return the submitted job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitExcel(EntityModel<T> entityModel,
+            ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+            Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, String fileName, FetchJoinInformation... joins);
+
+    /**
+     * Submits a background job that exports a fixed set of data to Excel
+     *
+     * @param entityModel     the entity model
+     * @param mode            the export mode
+     * @param customGenerator the custom style generator
+     * @param items           the set of items to export
+     * @param fileName        the name of the file that is offered for download
+     * @return the submitted job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitExcelFixed(EntityModel<T> entityModel,
+            ExportMode mode, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, List<T> items,
+            String fileName);
+
+    /**
+     * Submits a background job that exports pivoted data to Excel
+     *
+     * @param entityModel     the entity model of the entity to export
+     * @param predicate       the predicate used for filtering the data
+     * @param sortOrders      the sort orders
+     * @param customGenerator the custom style generator
+     * @param pivotParameters the pivot parameters
+     * @param fileName        the name of the file that is offered for download
+     * @param joins           the fetch joins to use when retrieving the data
+     * @return the submitted job
+     */
+    <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitExcelPivot(EntityModel<T> entityModel,
+            SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+            Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, PivotParameters pivotParameters,
+            String fileName, FetchJoinInformation... joins);
+
+    /**
+     * Returns the background export jobs of the current user that have not
+     * expired yet, most recent first
+     *
+     * @return the jobs
+     */
+    List<ExportJob> getJobs();
+
+    /**
+     * Opens the result of a completed background export job
+     *
+     * @param job the job
+     * @return a stream that contains the result. Must be closed by the caller
+     */
+    InputStream openJobResult(ExportJob job);
 }
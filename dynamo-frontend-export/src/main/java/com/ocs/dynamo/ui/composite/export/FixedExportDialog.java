@@ -13,7 +13,6 @@
  */
 package com.ocs.dynamo.ui.composite.export;
 
-import java.io.ByteArrayInputStream;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -57,11 +56,19 @@ public class FixedExportDialog<ID extends Serializable, T extends AbstractEntity
         this.customGenerator = customGenerator;
     }
 
+    @Override
+    protected DownloadButton createDownloadArrowButton() {
+        return new DownloadButton(message("ocs.export.arrow"), getProgressBar(),
+                (out, session) -> download(out, stream -> getExportService().exportArrowFixed(getEntityModel(),
+                        getExportMode(), itemsSupplier.get(), stream)),
+                () -> createFileName(EXTENSION_ARROW));
+    }
+
     @Override
     protected DownloadButton createDownloadCSVButton() {
         return new DownloadButton(message("ocs.export.csv"), getProgressBar(),
-                () -> download(() -> new ByteArrayInputStream(
-                        getExportService().exportCsvFixed(getEntityModel(), getExportMode(), itemsSupplier.get()))),
+                (out, session) -> download(out, stream -> getExportService().exportCsvFixed(getEntityModel(),
+                        getExportMode(), itemsSupplier.get(), stream)),
                 () -> getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now()
                         + EXTENSION_CSV);
     }
@@ -69,10 +76,38 @@ public class FixedExportDialog<ID extends Serializable, T extends AbstractEntity
     @Override
     protected DownloadButton createDownloadExcelButton() {
         return new DownloadButton(message("ocs.export.excel"), getProgressBar(),
-                () -> download(() -> new ByteArrayInputStream(getExportService().exportExcelFixed(getEntityModel(),
-                        getExportMode(), customGenerator, itemsSupplier.get()))),
+                (out, session) -> download(out, stream -> getExportService().exportExcelFixed(getEntityModel(),
+                        getExportMode(), customGenerator, itemsSupplier.get(), stream)),
                 () -> getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now()
                         + EXTENSION_XLS);
     }
 
+    @Override
+    protected boolean supportsArrow() {
+        return true;
+    }
+
+    @Override
+    protected boolean supportsJobs() {
+        return true;
+    }
+
+    @Override
+    protected ExportJob submitArrowJob() {
+        return getExportService().submitArrowFixed(getEntityModel(), getExportMode(), itemsSupplier.get(),
+                createFileName(EXTENSION_ARROW));
+    }
+
+    @Override
+    protected ExportJob submitCsvJob() {
+        return getExportService().submitCsvFixed(getEntityModel(), getExportMode(), itemsSupplier.get(),
+                createFileName(EXTENSION_CSV));
+    }
+
+    @Override
+    protected ExportJob submitExcelJob() {
+        return getExportService().submitExcelFixed(getEntityModel(), getExportMode(), customGenerator,
+                itemsSupplier.get(), createFileName(EXTENSION_XLS));
+    }
+
 }
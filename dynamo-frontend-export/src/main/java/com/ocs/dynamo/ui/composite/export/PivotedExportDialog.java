@@ -13,7 +13,6 @@
  */
 package com.ocs.dynamo.ui.composite.export;
 
-import java.io.ByteArrayInputStream;
 import java.io.Serializable;
 import java.time.LocalDateTime;
 import java.util.List;
@@ -76,8 +75,8 @@ public class PivotedExportDialog<ID extends Serializable, T extends AbstractEnti
     @Override
     protected DownloadButton createDownloadCSVButton() {
         return new DownloadButton(message("ocs.export.csv"), getProgressBar(),
-                () -> download(() -> new ByteArrayInputStream(getExportService().exportCsvPivot(getEntityModel(),
-                        predicate, sortOrders, pivotParameters, joins))),
+                (out, session) -> download(out, stream -> getExportService().exportCsvPivot(getEntityModel(),
+                        predicate, sortOrders, pivotParameters, stream, joins)),
                 () -> getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now()
                         + EXTENSION_CSV);
     }
@@ -85,10 +84,27 @@ public class PivotedExportDialog<ID extends Serializable, T extends AbstractEnti
     @Override
     protected DownloadButton createDownloadExcelButton() {
         return new DownloadButton(message("ocs.export.excel"), getProgressBar(),
-                () -> download(() -> new ByteArrayInputStream(getExportService().exportExcelPivot(getEntityModel(),
-                        predicate, sortOrders, customGenerator, pivotParameters, joins))),
+                (out, session) -> download(out, stream -> getExportService().exportExcelPivot(getEntityModel(),
+                        predicate, sortOrders, customGenerator, pivotParameters, stream, joins)),
                 () -> getEntityModel().getDisplayNamePlural(VaadinUtils.getLocale()) + "_" + LocalDateTime.now()
                         + EXTENSION_XLS);
     }
 
+    @Override
+    protected boolean supportsJobs() {
+        return true;
+    }
+
+    @Override
+    protected ExportJob submitCsvJob() {
+        return getExportService().submitCsvPivot(getEntityModel(), predicate, sortOrders, pivotParameters,
+                createFileName(EXTENSION_CSV), joins);
+    }
+
+    @Override
+    protected ExportJob submitExcelJob() {
+        return getExportService().submitExcelPivot(getEntityModel(), predicate, sortOrders, customGenerator,
+                pivotParameters, createFileName(EXTENSION_XLS), joins);
+    }
+
 }
@@ -0,0 +1,153 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export;
+
+import org.apache.poi.ss.usermodel.BorderStyle;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.HorizontalAlignment;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.VerticalAlignment;
+import org.apache.poi.ss.usermodel.Workbook;
+
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Description of the visual properties of an Excel cell style. Any property
+ * that is left empty is taken over from the default style of the cell. Equal
+ * descriptions are mapped to the same cell style in the workbook, so a
+ * description can safely be created for every cell
+ *
+ * @author bas.rutten
+ */
+@Getter
+@Builder
+@EqualsAndHashCode
+public final class XlsCellStyle {
+
+	/**
+	 * Whether to use a bold font
+	 */
+	private final Boolean bold;
+
+	/**
+	 * Whether to use an italic font
+	 */
+	private final Boolean italic;
+
+	/**
+	 * The font color
+	 */
+	private final IndexedColors fontColor;
+
+	/**
+	 * The font height in points
+	 */
+	private final Short fontHeight;
+
+	/**
+	 * The (solid) background color
+	 */
+	private final IndexedColors fillColor;
+
+	/**
+	 * The data format, e.g. "#,##0.00"
+	 */
+	private final String dataFormat;
+
+	private final HorizontalAlignment horizontalAlignment;
+
+	private final VerticalAlignment verticalAlignment;
+
+	/**
+	 * The border that is applied to all sides of the cell
+	 */
+	private final BorderStyle border;
+
+	private final Boolean wrapText;
+
+	/**
+	 * Checks whether the description changes the font
+	 *
+	 * @return true if this is the case, false otherwise
+	 */
+	public boolean hasFont() {
+		return bold != null || italic != null || fontColor != null || fontHeight != null;
+	}
+
+	/**
+	 * Creates a new font in the workbook that results from applying the font
+	 * properties of this description to a default font
+	 *
+	 * @param workbook the workbook
+	 * @param base     the default font
+	 * @return the created font
+	 */
+	public Font createFont(Workbook workbook, Font base) {
+		Font font = workbook.createFont();
+		font.setFontName(base.getFontName());
+		font.setFontHeightInPoints(fontHeight != null ? fontHeight : base.getFontHeightInPoints());
+		font.setBold(bold != null ? bold : base.getBold());
+		font.setItalic(italic != null ? italic : base.getItalic());
+		font.setColor(fontColor != null ? fontColor.getIndex() : base.getColor());
+		font.setUnderline(base.getUnderline());
+		font.setStrikeout(base.getStrikeout());
+		return font;
+	}
+
+	/**
+	 * Creates a new cell style in the workbook that results from applying this
+	 * description to a default style
+	 *
+	 * @param workbook the workbook
+	 * @param base     the default style
+	 * @param font     the font to use, or <code>null</code> to keep the font of the
+	 *                 default style
+	 * @return the created cell style
+	 */
+	public CellStyle createStyle(Workbook workbook, CellStyle base, Font font) {
+		CellStyle style = workbook.createCellStyle();
+		style.cloneStyleFrom(base);
+
+		if (font != null) {
+			style.setFont(font);
+		}
+		if (fillColor != null) {
+			style.setFillForegroundColor(fillColor.getIndex());
+			style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+		}
+		if (dataFormat != null) {
+			style.setDataFormat(workbook.createDataFormat().getFormat(dataFormat));
+		}
+		if (horizontalAlignment != null) {
+			style.setAlignment(horizontalAlignment);
+		}
+		if (verticalAlignment != null) {
+			style.setVerticalAlignment(verticalAlignment);
+		}
+		if (border != null) {
+			style.setBorderBottom(border);
+			style.setBorderTop(border);
+			style.setBorderLeft(border);
+			style.setBorderRight(border);
+		}
+		if (wrapText != null) {
+			style.setWrapText(wrapText);
+		}
+		return style;
+	}
+}
@@ -16,6 +16,8 @@ package com.ocs.dynamo.ui.composite.export;
 import java.io.Serializable;
 
 import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.Workbook;
 
 import com.ocs.dynamo.domain.AbstractEntity;
 import com.ocs.dynamo.domain.model.AttributeModel;
@@ -58,4 +60,22 @@ public interface XlsStyleGenerator<ID extends Serializable, T extends AbstractEn
 	 */
 	CellStyle getTotalsStyle(Class<?> type, AttributeModel am);
 
+	/**
+	 * Returns the cell style that results from applying a custom style
+	 * description to a default style. By default a new style is created for every
+	 * call. Since the number of styles in a workbook is limited, implementations
+	 * should override this to return the same cell style for equal combinations
+	 *
+	 * @param workbook the workbook that contains the default style
+	 * @param base     the default style of the cell
+	 * @param custom   the description of the custom style
+	 * @return the resulting cell style
+	 */
+	default CellStyle getCustomStyle(Workbook workbook, CellStyle base, XlsCellStyle custom) {
+		CellStyle baseStyle = base == null ? workbook.getCellStyleAt(0) : base;
+		Font font = custom.hasFont() ? custom.createFont(workbook, workbook.getFontAt(baseStyle.getFontIndex()))
+				: null;
+		return custom.createStyle(workbook, baseStyle, font);
+	}
+
 }
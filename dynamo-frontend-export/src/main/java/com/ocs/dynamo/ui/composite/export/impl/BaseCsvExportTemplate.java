@@ -13,7 +13,10 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
 
 import com.ocs.dynamo.dao.FetchJoinInformation;
 import com.ocs.dynamo.dao.SortOrder;
@@ -22,6 +25,8 @@ import com.ocs.dynamo.domain.model.EntityModel;
 import com.ocs.dynamo.filter.Filter;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
+import com.ocs.dynamo.util.SystemPropertyUtils;
+import com.opencsv.CSVWriter;
 
 /**
  * Base class for CSV exports
@@ -47,4 +52,34 @@ public abstract class BaseCsvExportTemplate<ID extends Serializable, T extends A
         super(service, entityModel, exportMode, sortOrders, filter, "", joins);
     }
 
+    /**
+     * Creates a CSV writer that writes directly to the provided output stream.
+     * The writer must be flushed but not closed, since closing it would also
+     * close the underlying stream
+     *
+     * @param out the output stream
+     * @return the writer
+     */
+    protected CSVWriter createWriter(OutputStream out) {
+        return new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
+                SystemPropertyUtils.getCsvSeparator().charAt(0),
+                SystemPropertyUtils.getCsvQuoteChar().charAt(0),
+                SystemPropertyUtils.getCsvEscapeChar().charAt(0), String.format("%n"));
+    }
+
+    /**
+     * Creates a row writer that writes directly to the provided output stream.
+     * Uses the same settings as the writer returned by
+     * {@link #createWriter(OutputStream)} but does not create any objects per
+     * row. The writer must be flushed when done
+     *
+     * @param out the output stream
+     * @return the writer
+     */
+    protected CsvRowWriter createRowWriter(OutputStream out) {
+        return new CsvRowWriter(out, SystemPropertyUtils.getCsvSeparator().charAt(0),
+                SystemPropertyUtils.getCsvQuoteChar().charAt(0),
+                SystemPropertyUtils.getCsvEscapeChar().charAt(0), String.format("%n"));
+    }
+
 }
@@ -13,6 +13,8 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
@@ -38,10 +40,10 @@ import com.ocs.dynamo.domain.model.EntityModel;
 import com.ocs.dynamo.filter.Filter;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.ui.composite.export.CustomXlsStyleGenerator;
+import com.ocs.dynamo.ui.composite.export.XlsCellStyle;
 import com.ocs.dynamo.ui.composite.export.XlsStyleGenerator;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
 import com.ocs.dynamo.ui.utils.GridFormatUtils;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.ocs.dynamo.utils.DateUtils;
 import com.ocs.dynamo.utils.MathUtils;
@@ -129,15 +131,15 @@ public abstract class BaseExcelExportTemplate<ID extends Serializable, T extends
 	protected Cell createCell(Row row, int colIndex, T entity, Object value, AttributeModel attributeModel,
 			Object pivotColumnKey) {
 		Cell cell = row.createCell(colIndex);
-		cell.setCellStyle(getGenerator().getCellStyle(colIndex, entity, value, attributeModel));
+		CellStyle style = getGenerator().getCellStyle(colIndex, entity, value, attributeModel);
 		if (customGenerator != null) {
 			// override default style with custom style
-			CellStyle custom = customGenerator.getCustomCellStyle(workbook, entity, value, attributeModel,
-					pivotColumnKey);
+			XlsCellStyle custom = customGenerator.getCustomCellStyle(entity, value, attributeModel, pivotColumnKey);
 			if (custom != null) {
-				cell.setCellStyle(custom);
+				style = getGenerator().getCustomStyle(getWorkbook(), style, custom);
 			}
 		}
+		cell.setCellStyle(style);
 		return cell;
 	}
 
@@ -183,8 +185,8 @@ public abstract class BaseExcelExportTemplate<ID extends Serializable, T extends
 			writeDecimalCellValue(cell, value, am, forcePercentage);
 		} else if (am != null) {
 			// use the attribute model
-			String str = GridFormatUtils.formatPropertyValue(am, value, ", ", VaadinUtils.getLocale(),
-					VaadinUtils.getTimeZoneId(), VaadinUtils.getCurrencySymbol());
+			String str = GridFormatUtils.formatPropertyValue(am, value, ", ", getLocale(),
+					getTimeZoneId(), getCurrencySymbol());
 			cell.setCellValue(str);
 		} else if (value != null) {
 			cell.setCellValue(value.toString());
@@ -221,4 +223,21 @@ public abstract class BaseExcelExportTemplate<ID extends Serializable, T extends
 		}
 	}
 
+	/**
+	 * Writes the workbook to the provided output stream. When a streaming workbook
+	 * is used, the temporary files that back it are removed afterwards
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException when the workbook cannot be written
+	 */
+	protected void writeWorkbook(OutputStream out) throws IOException {
+		try {
+			getWorkbook().write(out);
+		} finally {
+			if (getWorkbook() instanceof SXSSFWorkbook streaming) {
+				streaming.dispose();
+			}
+		}
+	}
+
 }
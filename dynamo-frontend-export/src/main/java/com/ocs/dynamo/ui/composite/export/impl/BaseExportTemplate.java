@@ -13,9 +13,18 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import com.ocs.dynamo.constants.DynamoConstants;
 import com.ocs.dynamo.dao.FetchJoinInformation;
@@ -30,14 +39,25 @@ import com.ocs.dynamo.domain.model.EntityModelFactory;
 import com.ocs.dynamo.domain.query.DataSetIterator;
 import com.ocs.dynamo.domain.query.FixedDataSetIterator;
 import com.ocs.dynamo.domain.query.PagingDataSetIterator;
+import com.ocs.dynamo.domain.query.PrefetchingDataSetIterator;
 import com.ocs.dynamo.exception.OCSRuntimeException;
 import com.ocs.dynamo.filter.Filter;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.service.ServiceLocatorFactory;
+import com.ocs.dynamo.ui.composite.export.ExportJob;
+import com.ocs.dynamo.ui.composite.export.impl.ExportPipeline.RowWriter;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
+import com.ocs.dynamo.ui.utils.VaadinUtils;
+import com.ocs.dynamo.util.ProgressCounter;
+import com.ocs.dynamo.util.SystemPropertyUtils;
+import com.ocs.dynamo.utils.ClassUtils;
+
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Transient;
 
 import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 
 /**
  * Base class for entity model based exports to Excel or CSV
@@ -51,6 +71,11 @@ public abstract class BaseExportTemplate<ID extends Serializable, T extends Abst
 
 	protected static final int PAGE_SIZE = 1000;
 
+	/**
+	 * The number of rows that are formatted together when formatting in parallel
+	 */
+	protected static final int FORMAT_BATCH_SIZE = 100;
+
 	@Getter(AccessLevel.PROTECTED)
 	private final EntityModelFactory entityModelFactory = ServiceLocatorFactory.getServiceLocator()
 			.getEntityModelFactory();
@@ -76,6 +101,27 @@ public abstract class BaseExportTemplate<ID extends Serializable, T extends Abst
 	@Getter(AccessLevel.PROTECTED)
 	private final ExportMode exportMode;
 
+	/**
+	 * The locale, time zone and currency symbol are determined up front, since
+	 * rows might be formatted on threads that have no access to the session
+	 */
+	@Getter(AccessLevel.PROTECTED)
+	private final Locale locale = VaadinUtils.getLocale();
+
+	@Getter(AccessLevel.PROTECTED)
+	private final ZoneId timeZoneId = VaadinUtils.getTimeZoneId();
+
+	@Getter(AccessLevel.PROTECTED)
+	private final String currencySymbol = VaadinUtils.getCurrencySymbol();
+
+	/**
+	 * The background job that carries out the export (if any). Used for reporting
+	 * progress
+	 */
+	@Getter(AccessLevel.PROTECTED)
+	@Setter
+	private ExportJob job;
+
 	/**
 	 * Constructor
 	 * 
@@ -101,13 +147,172 @@ public abstract class BaseExportTemplate<ID extends Serializable, T extends Abst
 	}
 
 	/**
-	 * Generates the content to export
+	 * Generates the content to export and writes it to the provided output stream.
+	 * Implementations must not close the stream
 	 *
 	 * @param iterator data set iterator that contains the rows to include
-	 * @return the byte representation of the exported data
+	 * @param out      the stream to write the exported data to
+	 * @throws IOException when the data cannot be written
+	 */
+	protected abstract void generate(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException;
+
+	/**
+	 * Generates the content to export and writes it to the provided output stream.
+	 * By default, the IDs of the matching entities are retrieved first, after
+	 * which the entities are fetched page by page and passed to
+	 * {@link #generate(DataSetIterator, OutputStream)}. Templates that can produce
+	 * the export in a cheaper way override this method. Implementations must not
+	 * close the stream
+	 *
+	 * @param out the stream to write the exported data to
+	 * @throws IOException when the data cannot be written
+	 */
+	protected void generate(OutputStream out) throws IOException {
+		generate(findIds(), out);
+	}
+
+	/**
+	 * Writes rows that consist of the unformatted values of the exported
+	 * attributes. Templates that export values rather than formatted rows
+	 * override this method, and implement {@link #generate(OutputStream)} and
+	 * {@link #generate(DataSetIterator, OutputStream)} by calling
+	 * {@link #generateValues(OutputStream)} and
+	 * {@link #generateValues(DataSetIterator, OutputStream)}. Implementations
+	 * must not close the stream
+	 *
+	 * @param source    supplies the rows, returns <code>null</code> when there are
+	 *                  no more rows
+	 * @param extractor the function used to retrieve the value of a column from a
+	 *                  row
+	 * @param out       the stream to write to
 	 * @throws IOException when the data cannot be written
 	 */
-	protected abstract byte[] generate(DataSetIterator<ID, T> iterator) throws IOException;
+	protected <S> void writeValues(Supplier<S> source, ValueExtractor<S> extractor, OutputStream out)
+			throws IOException {
+		throw new UnsupportedOperationException(getClass().getName() + " does not export values");
+	}
+
+	/**
+	 * Writes the values of the exported attributes of all entities provided by the
+	 * iterator, using {@link #writeValues(Supplier, ValueExtractor, OutputStream)}
+	 *
+	 * @param iterator the iterator that provides the entities
+	 * @param out      the stream to write to
+	 * @throws IOException when the data cannot be written
+	 */
+	protected final void generateValues(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException {
+		writeValues(iterator::next, (entity, column) -> column.accessor().apply(entity), out);
+	}
+
+	/**
+	 * Writes the values of the exported attributes of all matching entities,
+	 * using {@link #writeValues(Supplier, ValueExtractor, OutputStream)}. Only the
+	 * values of the exported attributes are read when possible, otherwise the
+	 * entities are retrieved
+	 *
+	 * @param out the stream to write to
+	 * @throws IOException when the data cannot be written
+	 */
+	protected final void generateValues(OutputStream out) throws IOException {
+		List<ID> ids = findIds();
+		ProjectionIterator<ID> rows = createProjectionIterator(ids);
+		if (rows == null) {
+			generate(ids, out);
+			return;
+		}
+		writeValues(rows::next, (values, column) -> values[column.index()], out);
+	}
+
+	/**
+	 * Creates the columns for the exported attributes (as returned by
+	 * {@link #getExportedAttributeModels()})
+	 *
+	 * @return the columns, in order
+	 */
+	protected final List<ValueColumn> createValueColumns() {
+		List<ValueColumn> columns = new ArrayList<>();
+		for (AttributeModel am : getExportedAttributeModels()) {
+			columns.add(new ValueColumn(columns.size(), am,
+					ClassUtils.getFieldValueFunction(getEntityModel().getEntityClass(), am.getPath())));
+		}
+		return columns;
+	}
+
+	/**
+	 * Formats all entities provided by the iterator and writes the resulting rows
+	 * in order. Depending on the configured number of format threads, the rows are
+	 * formatted in parallel, so the formatter must be thread-safe and must not use
+	 * the session
+	 *
+	 * @param iterator  the iterator that provides the entities
+	 * @param formatter the function used to format an entity
+	 * @param writer    the writer that writes a formatted row
+	 * @throws IOException when a row cannot be written
+	 */
+	protected <R> void formatRows(DataSetIterator<ID, T> iterator, Function<T, R> formatter, RowWriter<R> writer)
+			throws IOException {
+		formatRows(iterator::next, formatter, writer);
+	}
+
+	/**
+	 * Formats all objects provided by the source and writes the resulting rows in
+	 * order
+	 *
+	 * @param source    supplies the objects to format, returns <code>null</code>
+	 *                  when there are no more objects
+	 * @param formatter the function used to format an object
+	 * @param writer    the writer that writes a formatted row
+	 * @throws IOException when a row cannot be written
+	 */
+	protected <S, R> void formatRows(Supplier<S> source, Function<S, R> formatter, RowWriter<R> writer)
+			throws IOException {
+		new ExportPipeline<S, R>(SystemPropertyUtils.getExportFormatThreads(), FORMAT_BATCH_SIZE).run(source,
+				formatter, writer);
+	}
+
+	/**
+	 * Returns the attribute models of the exported columns, in the order of the
+	 * columns
+	 *
+	 * @return the attribute models
+	 */
+	protected List<AttributeModel> getExportedAttributeModels() {
+		return getEntityModel().getAttributeModelsSortedForGrid().stream().filter(am -> am != null && mustShow(am))
+				.toList();
+	}
+
+	/**
+	 * Checks whether the value of an attribute can be retrieved using a tuple
+	 * query. This is the case for basic attributes that are stored in a column of
+	 * the table of the entity (possibly inside an embedded object)
+	 *
+	 * @param am the attribute model
+	 * @return true if this is the case, false otherwise
+	 */
+	private boolean isProjectable(AttributeModel am) {
+		if (!AttributeType.BASIC.equals(am.getAttributeType())) {
+			return false;
+		}
+
+		Class<?> clazz = getEntityModel().getEntityClass();
+		String[] parts = am.getPath().split("\\.");
+		for (int i = 0; i < parts.length; i++) {
+			Field field = ClassUtils.getField(clazz, parts[i]);
+			if (field == null || Modifier.isStatic(field.getModifiers())
+					|| Modifier.isTransient(field.getModifiers())
+					|| ClassUtils.getAnnotation(clazz, parts[i], Transient.class) != null) {
+				return false;
+			}
+			if (i < parts.length - 1) {
+				// only embedded objects can be traversed without a join
+				if (ClassUtils.getAnnotation(clazz, parts[i], Embedded.class) == null) {
+					return false;
+				}
+				clazz = field.getType();
+			}
+		}
+		return true;
+	}
 
 	/**
 	 * Check whether a certain attribute model must be included in the export
@@ -128,17 +333,77 @@ public abstract class BaseExportTemplate<ID extends Serializable, T extends Abst
 	 * @return the byte representation of the export
 	 */
 	public final byte[] process() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		process(out);
+		return out.toByteArray();
+	}
+
+	/**
+	 * Carries out the export and writes the result directly to the provided output
+	 * stream. The stream is flushed but not closed
+	 * 
+	 * @param out the stream to write the export to
+	 */
+	public final void process(OutputStream out) {
 		try {
-			// retrieve all store series based on the IDs
-			List<ID> ids = service.findIds(getFilter(), sortOrders);
-			PagingDataSetIterator<ID, T> iterator = new PagingDataSetIterator<>(ids,
-					page -> service.fetchByIds(page, new SortOrders(sortOrders), joins), PAGE_SIZE);
-			return generate(iterator);
+			generate(out);
+			out.flush();
 		} catch (IOException ex) {
 			throw new OCSRuntimeException(ex.getMessage(), ex);
 		}
 	}
 
+	/**
+	 * Counts the entities that match the filter, without retrieving them. The
+	 * result is used as the estimated size of the background job (if any)
+	 *
+	 * @return the number of entities
+	 */
+	protected final int count() {
+		int size = (int) service.count(getFilter(), false);
+		if (job != null) {
+			job.setEstimatedSize(size);
+		}
+		return size;
+	}
+
+	/**
+	 * Retrieves the IDs of the entities that match the filter, in the desired
+	 * order. The number of IDs is used as the estimated size of the background job
+	 * (if any)
+	 *
+	 * @return the IDs
+	 */
+	protected final List<ID> findIds() {
+		List<ID> ids = service.findIds(getFilter(), sortOrders);
+		if (job != null) {
+			job.setEstimatedSize(ids.size());
+		}
+		return ids;
+	}
+
+	/**
+	 * Generates the content to export from the entities with the provided IDs,
+	 * which are retrieved page by page
+	 *
+	 * @param ids the IDs of the entities to export
+	 * @param out the stream to write the exported data to
+	 * @throws IOException when the data cannot be written
+	 */
+	protected final void generate(List<ID> ids, OutputStream out) throws IOException {
+		Function<List<ID>, List<T>> fetcher = createFetcher();
+
+		int prefetchPages = SystemPropertyUtils.getExportPrefetchPages();
+		if (prefetchPages > 0) {
+			try (PrefetchingDataSetIterator<ID, T> iterator = new PrefetchingDataSetIterator<>(ids, fetcher,
+					PAGE_SIZE, prefetchPages)) {
+				generate(track(iterator), out);
+			}
+		} else {
+			generate(track(new PagingDataSetIterator<>(ids, fetcher, PAGE_SIZE)), out);
+		}
+	}
+
 	/**
 	 * Processes a fixed set of data
 	 * 
@@ -146,13 +411,143 @@ public abstract class BaseExportTemplate<ID extends Serializable, T extends Abst
 	 * @return the byte representation
 	 */
 	public final byte[] processFixed(List<T> items) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		processFixed(items, out);
+		return out.toByteArray();
+	}
+
+	/**
+	 * Processes a fixed set of data and writes the result directly to the provided
+	 * output stream. The stream is flushed but not closed
+	 * 
+	 * @param items the set of data to process
+	 * @param out   the stream to write the export to
+	 */
+	public final void processFixed(List<T> items, OutputStream out) {
+		if (job != null) {
+			job.setEstimatedSize(items.size());
+		}
 		try {
-			// retrieve all store series based on the IDs
-			FixedDataSetIterator<ID, T> iterator = new FixedDataSetIterator<>(items);
-			return generate(iterator);
+			generate(track(new FixedDataSetIterator<>(items)), out);
+			out.flush();
 		} catch (IOException ex) {
 			throw new OCSRuntimeException(ex.getMessage(), ex);
 		}
 	}
 
+	/**
+	 * Splits the entities with the provided IDs into a number of consecutive
+	 * partitions that can be processed independently (e.g. in parallel). Every
+	 * iterator fetches its own pages from the database
+	 *
+	 * @param ids           the IDs of the entities to export
+	 * @param partitionSize the number of entities per partition
+	 * @return the iterators over the partitions, in order
+	 */
+	protected final List<DataSetIterator<ID, T>> createPartitions(List<ID> ids, int partitionSize) {
+		Function<List<ID>, List<T>> fetcher = createFetcher();
+		List<DataSetIterator<ID, T>> partitions = new ArrayList<>();
+		for (int start = 0; start < ids.size(); start += partitionSize) {
+			partitions.add(track(new PagingDataSetIterator<>(
+					ids.subList(start, Math.min(start + partitionSize, ids.size())), fetcher, PAGE_SIZE)));
+		}
+		return partitions;
+	}
+
+	/**
+	 * Creates an iterator that reads the values of the exported attributes (as
+	 * returned by {@link #getExportedAttributeModels()}) instead of complete
+	 * entities. Note that the values are read directly from the database,
+	 * bypassing any logic in the getter methods of the entity
+	 *
+	 * @param ids the IDs of the entities to export
+	 * @return the iterator, or <code>null</code> when projections are disabled or
+	 *         when not every exported attribute can be read this way
+	 */
+	protected final ProjectionIterator<ID> createProjectionIterator(List<ID> ids) {
+		if (!canProject()) {
+			return null;
+		}
+		ProjectionIterator<ID> rows = new ProjectionIterator<>(service, ids,
+				getExportedAttributeModels().stream().map(AttributeModel::getPath).toList(), PAGE_SIZE);
+		rows.setProgressCounter(job == null ? null : job.getCounter());
+		return rows;
+	}
+
+	/**
+	 * Checks whether the values of the exported attributes can be read without
+	 * retrieving the entities (see {@link #createProjectionIterator(List)})
+	 *
+	 * @return true if this is the case, false otherwise
+	 */
+	protected final boolean canProject() {
+		return SystemPropertyUtils.useExportProjections()
+				&& getExportedAttributeModels().stream().allMatch(this::isProjectable);
+	}
+
+	private Function<List<ID>, List<T>> createFetcher() {
+		return page -> service.fetchByIds(page, new SortOrders(sortOrders), joins);
+	}
+
+	/**
+	 * Wraps an iterator so that the progress of the background job (if any) is
+	 * updated for every entity that is retrieved
+	 *
+	 * @param iterator the iterator
+	 * @return the resulting iterator
+	 */
+	private DataSetIterator<ID, T> track(DataSetIterator<ID, T> iterator) {
+		return job == null ? iterator : new CountingDataSetIterator(iterator, job.getCounter());
+	}
+
+	/**
+	 * A column that holds the unformatted value of an exported attribute
+	 *
+	 * @param index    the index of the column
+	 * @param am       the attribute model
+	 * @param accessor the function used to retrieve the value from an entity
+	 */
+	protected record ValueColumn(int index, AttributeModel am, Function<Object, Object> accessor) {
+	}
+
+	/**
+	 * Retrieves the value of a column from a row
+	 *
+	 * @param <S> the type of the row
+	 */
+	@FunctionalInterface
+	protected interface ValueExtractor<S> {
+
+		Object getValue(S row, ValueColumn column);
+	}
+
+	/**
+	 * Iterator that keeps track of the number of entities that have been retrieved
+	 */
+	private class CountingDataSetIterator implements DataSetIterator<ID, T> {
+
+		private final DataSetIterator<ID, T> delegate;
+
+		private final ProgressCounter counter;
+
+		CountingDataSetIterator(DataSetIterator<ID, T> delegate, ProgressCounter counter) {
+			this.delegate = delegate;
+			this.counter = counter;
+		}
+
+		@Override
+		public T next() {
+			T next = delegate.next();
+			if (next != null) {
+				counter.increment();
+			}
+			return next;
+		}
+
+		@Override
+		public int size() {
+			return delegate.size();
+		}
+	}
+
 }
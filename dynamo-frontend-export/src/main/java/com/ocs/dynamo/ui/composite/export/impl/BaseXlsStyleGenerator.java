@@ -18,6 +18,8 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.poi.ss.usermodel.BorderStyle;
 import org.apache.poi.ss.usermodel.CellStyle;
@@ -32,6 +34,7 @@ import org.apache.poi.ss.usermodel.Workbook;
 import com.ocs.dynamo.domain.AbstractEntity;
 import com.ocs.dynamo.domain.model.AttributeDateType;
 import com.ocs.dynamo.domain.model.AttributeModel;
+import com.ocs.dynamo.ui.composite.export.XlsCellStyle;
 import com.ocs.dynamo.ui.composite.export.XlsStyleGenerator;
 import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.ocs.dynamo.utils.NumberUtils;
@@ -75,6 +78,17 @@ public class BaseXlsStyleGenerator<ID extends Serializable, T extends AbstractEn
 
 	private final CellStyle currencyStyle;
 
+	/**
+	 * The custom styles that have already been created, by default style and
+	 * description
+	 */
+	private final Map<CustomStyleKey, CellStyle> customStyles = new HashMap<>();
+
+	/**
+	 * The fonts that have already been created for custom styles
+	 */
+	private final Map<CustomFontKey, Font> customFonts = new HashMap<>();
+
 	/**
 	 * Constructor
 	 * 
@@ -219,7 +233,33 @@ public class BaseXlsStyleGenerator<ID extends Serializable, T extends AbstractEn
 		}
 	}
 
-/**
+	/**
+	 * Returns the cell style that results from applying a custom style
+	 * description to a default style. Every distinct combination (and every
+	 * distinct font) is only created once
+	 *
+	 * @param workbook the workbook that contains the default style
+	 * @param base     the default style of the cell
+	 * @param custom   the description of the custom style
+	 * @return the resulting cell style
+	 */
+	@Override
+	public CellStyle getCustomStyle(Workbook workbook, CellStyle base, XlsCellStyle custom) {
+		short baseIndex = base == null ? 0 : base.getIndex();
+		return customStyles.computeIfAbsent(new CustomStyleKey(baseIndex, custom), key -> {
+			CellStyle baseStyle = workbook.getCellStyleAt(baseIndex);
+			Font font = custom.hasFont() ? getCustomFont(workbook, baseStyle.getFontIndex(), custom) : null;
+			return custom.createStyle(workbook, baseStyle, font);
+		});
+	}
+
+	private Font getCustomFont(Workbook workbook, int baseFontIndex, XlsCellStyle custom) {
+		CustomFontKey key = new CustomFontKey(baseFontIndex, custom.getBold(), custom.getItalic(),
+				custom.getFontColor(), custom.getFontHeight());
+		return customFonts.computeIfAbsent(key, k -> custom.createFont(workbook, workbook.getFontAt(baseFontIndex)));
+	}
+
+	/**
 	 * Sets a certain border for a cell style
 	 * 
 	 * @param style  the cell style
@@ -232,4 +272,11 @@ public class BaseXlsStyleGenerator<ID extends Serializable, T extends AbstractEn
 		style.setBorderRight(borderStyle);
 	}
 
+	private record CustomStyleKey(short baseIndex, XlsCellStyle custom) {
+	}
+
+	private record CustomFontKey(int baseFontIndex, Boolean bold, Boolean italic, IndexedColors color,
+			Short height) {
+	}
+
 }
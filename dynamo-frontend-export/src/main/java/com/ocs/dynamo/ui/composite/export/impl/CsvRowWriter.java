@@ -0,0 +1,204 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+import com.opencsv.ICSVWriter;
+
+/**
+ * Writer for CSV exports that appends the fields of the rows to a reusable
+ * buffer and encodes them to UTF-8 directly, so no objects are created per row.
+ * The output is the same as that of a {@link com.opencsv.CSVWriter} that
+ * quotes all fields
+ *
+ * @author bas.rutten
+ */
+public class CsvRowWriter {
+
+	private static final int BUFFER_SIZE = 8192;
+
+	private final OutputStream out;
+
+	private final char separator;
+
+	private final char quoteChar;
+
+	private final char escapeChar;
+
+	private final String lineEnd;
+
+	private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+	private final StringBuilder buffer = new StringBuilder(BUFFER_SIZE * 2);
+
+	private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE * 4);
+
+	private char[] chars = new char[BUFFER_SIZE * 2];
+
+	private boolean firstField = true;
+
+	/**
+	 * Constructor
+	 *
+	 * @param out        the stream to write to. The stream is flushed but never
+	 *                   closed
+	 * @param separator  the separator character
+	 * @param quoteChar  the quote character, or
+	 *                   {@link ICSVWriter#NO_QUOTE_CHARACTER}
+	 * @param escapeChar the escape character, or
+	 *                   {@link ICSVWriter#NO_ESCAPE_CHARACTER}
+	 * @param lineEnd    the line end
+	 */
+	public CsvRowWriter(OutputStream out, char separator, char quoteChar, char escapeChar, String lineEnd) {
+		this.out = out;
+		this.separator = separator;
+		this.quoteChar = quoteChar;
+		this.escapeChar = escapeChar;
+		this.lineEnd = lineEnd;
+	}
+
+	/**
+	 * Ends the current row
+	 *
+	 * @throws IOException when the buffered rows cannot be written
+	 */
+	public void endRow() throws IOException {
+		buffer.append(lineEnd);
+		firstField = true;
+		if (buffer.length() >= BUFFER_SIZE) {
+			encode();
+		}
+	}
+
+	/**
+	 * Writes all buffered rows and flushes the underlying stream
+	 *
+	 * @throws IOException when the rows cannot be written
+	 */
+	public void flush() throws IOException {
+		encode();
+		out.flush();
+	}
+
+	/**
+	 * Appends a field to the current row
+	 *
+	 * @param value the value of the field. A <code>null</code> value results in an
+	 *              empty, unquoted field
+	 * @param check whether to check the value for characters that must be escaped
+	 */
+	public void writeField(CharSequence value, boolean check) {
+		if (!firstField) {
+			buffer.append(separator);
+		}
+		firstField = false;
+		if (value == null) {
+			return;
+		}
+
+		if (quoteChar != ICSVWriter.NO_QUOTE_CHARACTER) {
+			buffer.append(quoteChar);
+		}
+		if (check && needsEscaping(value)) {
+			for (int i = 0; i < value.length(); i++) {
+				char c = value.charAt(i);
+				if (mustEscape(c)) {
+					buffer.append(escapeChar);
+				}
+				buffer.append(c);
+			}
+		} else {
+			buffer.append(value);
+		}
+		if (quoteChar != ICSVWriter.NO_QUOTE_CHARACTER) {
+			buffer.append(quoteChar);
+		}
+	}
+
+	/**
+	 * Writes a complete row
+	 *
+	 * @param values the values of the fields
+	 * @throws IOException when the buffered rows cannot be written
+	 */
+	public void writeRow(String[] values) throws IOException {
+		for (String value : values) {
+			writeField(value, true);
+		}
+		endRow();
+	}
+
+	private boolean mustEscape(char c) {
+		if (quoteChar == ICSVWriter.NO_QUOTE_CHARACTER) {
+			return c == quoteChar || c == escapeChar || c == separator || c == '\n';
+		}
+		return c == quoteChar || c == escapeChar;
+	}
+
+	/**
+	 * Checks whether a value contains any characters that must be escaped. This
+	 * can also be used to determine up front whether the values of a column need
+	 * to be checked at all, by passing all characters that can occur in them
+	 *
+	 * @param value the value
+	 * @return true if this is the case, false otherwise
+	 */
+	public boolean needsEscaping(CharSequence value) {
+		if (escapeChar == ICSVWriter.NO_ESCAPE_CHARACTER) {
+			return false;
+		}
+		for (int i = 0; i < value.length(); i++) {
+			if (mustEscape(value.charAt(i))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Encodes the buffered characters and writes them to the stream
+	 */
+	private void encode() throws IOException {
+		int length = buffer.length();
+		if (chars.length < length) {
+			chars = new char[length];
+		}
+		buffer.getChars(0, length, chars, 0);
+		buffer.setLength(0);
+
+		CharBuffer in = CharBuffer.wrap(chars, 0, length);
+		while (true) {
+			CoderResult result = encoder.encode(in, bytes, false);
+			out.write(bytes.array(), 0, bytes.position());
+			bytes.clear();
+			if (result.isUnderflow()) {
+				break;
+			}
+		}
+
+		// keep an incomplete surrogate pair until the rest of it has been written
+		if (in.hasRemaining()) {
+			buffer.append(chars, in.position(), in.remaining());
+		}
+	}
+}
@@ -0,0 +1,332 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.service.MessageService;
+import com.ocs.dynamo.ui.composite.export.ExportJob;
+import com.ocs.dynamo.ui.composite.export.ExportJob.Status;
+import com.ocs.dynamo.ui.utils.VaadinUtils;
+import com.ocs.dynamo.util.SystemPropertyUtils;
+import com.ocs.dynamo.utils.DaemonThreadFactory;
+
+import jakarta.annotation.PreDestroy;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Carries out exports in the background. Jobs are executed by a bounded thread
+ * pool and write their result to a file in the export job directory. The
+ * results are removed once the retention period has passed. The expired results
+ * are purged periodically once the first job has been submitted, so this also
+ * happens when no new exports are started. A result is never removed while it
+ * is being read
+ *
+ * @author bas.rutten
+ */
+@Slf4j
+@Component
+public class ExportJobManager {
+
+	private final Map<String, SpooledJob> jobs = new ConcurrentHashMap<>();
+
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Periodically removes the expired results. Started when the first job is
+	 * submitted
+	 */
+	private ScheduledExecutorService purger;
+
+	private final MessageService messageService;
+
+	private final Path directory;
+
+	private final int maxJobsPerUser;
+
+	private final int retentionMinutes;
+
+	/**
+	 * Constructor. Uses the settings from the system properties
+	 *
+	 * @param messageService the message service
+	 */
+	@Autowired
+	public ExportJobManager(MessageService messageService) {
+		this(messageService, Paths.get(SystemPropertyUtils.getExportJobDirectory()),
+				SystemPropertyUtils.getExportJobThreads(), SystemPropertyUtils.getExportJobQueueSize(),
+				SystemPropertyUtils.getExportJobMaxPerUser(), SystemPropertyUtils.getExportJobRetentionMinutes());
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param messageService   the message service
+	 * @param directory        the directory in which to store the results
+	 * @param threads          the number of threads that carry out jobs
+	 * @param queueSize        the maximum number of jobs that can wait for a free
+	 *                         thread
+	 * @param maxJobsPerUser   the maximum number of unfinished jobs per user
+	 * @param retentionMinutes the number of minutes that a finished job remains
+	 *                         available
+	 */
+	public ExportJobManager(MessageService messageService, Path directory, int threads, int queueSize,
+			int maxJobsPerUser, int retentionMinutes) {
+		this.messageService = messageService;
+		this.directory = directory;
+		this.maxJobsPerUser = maxJobsPerUser;
+		this.retentionMinutes = retentionMinutes;
+
+		int poolSize = Math.max(1, threads);
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(Math.max(1, queueSize)), new DaemonThreadFactory("dynamo-export-job"));
+	}
+
+	/**
+	 * Submits a job
+	 *
+	 * @param userName the name of the user that submits the job
+	 * @param fileName the name of the file that is offered for download
+	 * @param export   the code that carries out the export. Receives the job (to
+	 *                 report progress) and the stream to write the result to
+	 * @return the submitted job
+	 */
+	public ExportJob submit(String userName, String fileName, BiConsumer<ExportJob, OutputStream> export) {
+		startPurger();
+		purgeExpired();
+
+		// the job threads have no session, so the locale of the user is determined
+		// up front
+		Locale locale = VaadinUtils.getLocale();
+		ExportJob job = new ExportJob(userName, fileName);
+		SpooledJob spooled;
+		synchronized (this) {
+			long unfinished = jobs.values().stream()
+					.filter(s -> Objects.equals(userName, s.job().getUserName()) && !s.job().isFinished()).count();
+			if (unfinished >= maxJobsPerUser) {
+				throw new OCSRuntimeException(message(locale, "ocs.export.job.limit", unfinished));
+			}
+			spooled = new SpooledJob(job, createFile(), locale, new AtomicInteger());
+			jobs.put(job.getId(), spooled);
+		}
+
+		try {
+			executor.execute(() -> run(spooled, export));
+		} catch (RejectedExecutionException ex) {
+			jobs.remove(job.getId());
+			delete(spooled.file());
+			throw new OCSRuntimeException(message(locale, "ocs.export.job.busy"), ex);
+		}
+		return job;
+	}
+
+	/**
+	 * Starts purging the expired results periodically, unless this has already
+	 * been done
+	 */
+	private synchronized void startPurger() {
+		if (purger == null) {
+			purger = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("dynamo-export-purge"));
+			long purgeSeconds = Math.max(1L, retentionMinutes * 60L);
+			purger.scheduleWithFixedDelay(this::purgeExpired, purgeSeconds, purgeSeconds, TimeUnit.SECONDS);
+		}
+	}
+
+	/**
+	 * Returns the (unexpired) jobs of a user, most recent first
+	 *
+	 * @param userName the name of the user
+	 * @return the jobs
+	 */
+	public List<ExportJob> getJobs(String userName) {
+		purgeExpired();
+		return jobs.values().stream().map(SpooledJob::job).filter(job -> Objects.equals(userName, job.getUserName()))
+				.sorted(Comparator.comparing(ExportJob::getSubmittedAt).reversed()).toList();
+	}
+
+	/**
+	 * Opens the result of a completed job. The result is not purged until the
+	 * stream has been closed
+	 *
+	 * @param job the job
+	 * @return a stream that contains the result. Must be closed by the caller
+	 */
+	public synchronized InputStream openResult(ExportJob job) {
+		SpooledJob spooled = jobs.get(job.getId());
+		if (spooled == null || !Status.COMPLETED.equals(job.getStatus())) {
+			Locale locale = spooled == null ? VaadinUtils.getLocale() : spooled.locale();
+			throw new OCSRuntimeException(message(locale, "ocs.export.job.expired", job.getFileName()));
+		}
+		try {
+			InputStream in = Files.newInputStream(spooled.file());
+			spooled.readers().incrementAndGet();
+			return new ResultInputStream(in, spooled.readers());
+		} catch (IOException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * Removes all finished jobs for which the retention period has passed, along
+	 * with their results. Results that are being read are removed during a next
+	 * purge
+	 */
+	public synchronized void purgeExpired() {
+		LocalDateTime limit = LocalDateTime.now().minusMinutes(retentionMinutes);
+		try {
+			jobs.values().removeIf(spooled -> {
+				LocalDateTime finishedAt = spooled.job().getFinishedAt();
+				if (spooled.job().isFinished() && finishedAt != null && !finishedAt.isAfter(limit)
+						&& spooled.readers().get() == 0) {
+					delete(spooled.file());
+					return true;
+				}
+				return false;
+			});
+		} catch (RuntimeException ex) {
+			// never let an error stop the periodic purge
+			log.error(ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * Stops all jobs and removes all results, including the ones that have not
+	 * expired yet
+	 */
+	@PreDestroy
+	public synchronized void shutdown() {
+		if (purger != null) {
+			purger.shutdownNow();
+		}
+		executor.shutdownNow();
+		jobs.values().forEach(spooled -> delete(spooled.file()));
+		jobs.clear();
+	}
+
+	/**
+	 * Looks up a message
+	 *
+	 * @param locale the locale of the user
+	 * @param key    the key of the message
+	 * @param args   the arguments of the message
+	 * @return the message
+	 */
+	private String message(Locale locale, String key, Object... args) {
+		return messageService.getMessage(key, locale, args);
+	}
+
+	private void run(SpooledJob spooled, BiConsumer<ExportJob, OutputStream> export) {
+		ExportJob job = spooled.job();
+		job.setStatus(Status.RUNNING);
+		try {
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(spooled.file()))) {
+				export.accept(job, out);
+			}
+			job.finish(Status.COMPLETED, null);
+		} catch (IOException | RuntimeException ex) {
+			log.error(ex.getMessage(), ex);
+			delete(spooled.file());
+			job.finish(Status.FAILED, ex.getMessage());
+		} finally {
+			// make sure that the job never remains running, not even after an error
+			if (!job.isFinished()) {
+				delete(spooled.file());
+				job.finish(Status.FAILED, null);
+			}
+		}
+	}
+
+	private Path createFile() {
+		try {
+			Files.createDirectories(directory);
+			return Files.createTempFile(directory, "export-", ".tmp");
+		} catch (IOException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+	}
+
+	private void delete(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException ex) {
+			log.warn("Could not delete export result {}: {}", file, ex.getMessage());
+		}
+	}
+
+	/**
+	 * A job along with the file to which its result is written
+	 *
+	 * @param job     the job
+	 * @param file    the file
+	 * @param locale  the locale of the user that submitted the job
+	 * @param readers the number of streams that are reading the file
+	 */
+	private record SpooledJob(ExportJob job, Path file, Locale locale, AtomicInteger readers) {
+	}
+
+	/**
+	 * Stream over the result of a job that releases the result when it is closed
+	 */
+	private static final class ResultInputStream extends FilterInputStream {
+
+		private final AtomicInteger readers;
+
+		private boolean closed;
+
+		ResultInputStream(InputStream in, AtomicInteger readers) {
+			super(in);
+			this.readers = readers;
+		}
+
+		@Override
+		public void close() throws IOException {
+			if (closed) {
+				return;
+			}
+			closed = true;
+			try {
+				super.close();
+			} finally {
+				readers.decrementAndGet();
+			}
+		}
+	}
+}
@@ -0,0 +1,80 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.io.IOException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.ocs.dynamo.utils.OrderedBatchExecutor;
+
+/**
+ * Pipeline that turns the entities of an export into rows. The entities are
+ * formatted in batches on a number of worker threads, while a single writer
+ * (the calling thread) writes the resulting rows in their original order (see
+ * {@link OrderedBatchExecutor}).
+ * 
+ * The formatter is called from multiple threads and must therefore be
+ * thread-safe. When only a single thread is configured, every row is formatted
+ * and written by the calling thread
+ * 
+ * @author bas.rutten
+ *
+ * @param <T> the type of the entities to format
+ * @param <R> the type of the formatted rows
+ */
+public class ExportPipeline<T, R> {
+
+	/**
+	 * Writes a formatted row
+	 *
+	 * @param <R> the type of the row
+	 */
+	@FunctionalInterface
+	public interface RowWriter<R> {
+
+		/**
+		 * Writes the row
+		 * 
+		 * @param row the row to write
+		 * @throws IOException when the row cannot be written
+		 */
+		void write(R row) throws IOException;
+	}
+
+	private final OrderedBatchExecutor<T, R> executor;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param threads   the number of threads used for formatting
+	 * @param batchSize the number of rows that are formatted together
+	 */
+	public ExportPipeline(int threads, int batchSize) {
+		this.executor = new OrderedBatchExecutor<>("dynamo-export-format", threads, batchSize);
+	}
+
+	/**
+	 * Formats all entities and writes the resulting rows
+	 * 
+	 * @param source    supplies the entities, returns <code>null</code> when there
+	 *                  are no more entities
+	 * @param formatter the function used to format an entity
+	 * @param writer    the writer that writes the formatted rows
+	 * @throws IOException when a row cannot be written
+	 */
+	public void run(Supplier<T> source, Function<T, R> formatter, RowWriter<R> writer) throws IOException {
+		executor.run(source, formatter, (entity, row) -> writer.write(row));
+	}
+}
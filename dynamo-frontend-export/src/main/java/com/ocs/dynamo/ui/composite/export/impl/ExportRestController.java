@@ -0,0 +1,174 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocs.dynamo.constants.DynamoConstants;
+import com.ocs.dynamo.dao.SortOrder;
+import com.ocs.dynamo.dao.SortOrder.Direction;
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.model.AttributeModel;
+import com.ocs.dynamo.domain.model.EntityModel;
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.filter.Filter;
+import com.ocs.dynamo.service.BaseService;
+import com.ocs.dynamo.service.ServiceLocatorFactory;
+import com.ocs.dynamo.ui.composite.type.ExportMode;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * REST endpoint that streams the entities of an entity type as JSON lines (or
+ * a JSON array) using the {@link ModelBasedJsonExportTemplate}. Only the entity
+ * types that are listed in the {@link DynamoConstants#SP_EXPORT_REST_ENTITIES}
+ * property are exposed, and only the attributes that would also be included in
+ * an export from the user interface are written. The request body can contain
+ * a "filter" (see {@link JsonFilterParser}), the "sortOrders" (objects with a
+ * "property" and a "direction") and the export "mode".
+ * <p>
+ * The endpoint is only registered when that property is set, both when it is
+ * picked up by component scanning and by the auto configuration. It does not
+ * perform any authorization itself, so make sure it is secured by the security
+ * configuration of the application
+ *
+ * @author bas.rutten
+ */
+@Slf4j
+@RestController
+@ConditionalOnProperty(name = DynamoConstants.SP_EXPORT_REST_ENTITIES)
+@RequestMapping("${" + DynamoConstants.SP_EXPORT_REST_PATH + ":/api/export}")
+public class ExportRestController {
+
+	public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	/**
+	 * The exposed entity classes, by simple class name
+	 */
+	private final Map<String, Class<?>> entityClasses = new HashMap<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param entities comma separated list of the fully qualified class names of
+	 *                 the entities to expose
+	 */
+	public ExportRestController(@Value("${" + DynamoConstants.SP_EXPORT_REST_ENTITIES + "}") String entities) {
+		for (String name : StringUtils.split(entities, ',')) {
+			try {
+				Class<?> clazz = Class.forName(name.trim());
+				if (!AbstractEntity.class.isAssignableFrom(clazz)) {
+					throw new OCSRuntimeException("Not an entity: " + name);
+				}
+				entityClasses.put(clazz.getSimpleName(), clazz);
+			} catch (ClassNotFoundException ex) {
+				throw new OCSRuntimeException("Unknown entity: " + name, ex);
+			}
+		}
+	}
+
+	/**
+	 * Streams the entities that match the filter
+	 *
+	 * @param entity   the simple class name of the entity
+	 * @param format   "ndjson" for JSON lines, "json" for a JSON array
+	 * @param request  the request, may be empty
+	 * @param response the response to write to
+	 * @throws IOException when the response cannot be written
+	 */
+	@PostMapping("/{entity}")
+	public void export(@PathVariable("entity") String entity,
+			@RequestParam(name = "format", defaultValue = "ndjson") String format,
+			@RequestBody(required = false) JsonNode request, HttpServletResponse response) throws IOException {
+		Class<?> entityClass = entityClasses.get(entity);
+		if (entityClass == null) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Unknown entity: " + entity);
+		}
+		boolean jsonLines = !"json".equals(format);
+
+		ModelBasedJsonExportTemplate<?, ?> template = createTemplate(entityClass,
+				request == null ? objectMapper.createObjectNode() : request, jsonLines);
+
+		response.setContentType(jsonLines ? APPLICATION_NDJSON : MediaType.APPLICATION_JSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+		template.process(response.getOutputStream());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedJsonExportTemplate<ID, T> createTemplate(
+			Class<?> entityClass, JsonNode request, boolean jsonLines) {
+		BaseService<ID, T> service = (BaseService<ID, T>) ServiceLocatorFactory.getServiceLocator()
+				.getServiceForEntity(entityClass);
+		if (service == null) {
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, "No service for entity: " + entityClass);
+		}
+		EntityModel<T> entityModel = (EntityModel<T>) ServiceLocatorFactory.getServiceLocator()
+				.getEntityModelFactory().getModel(entityClass);
+
+		try {
+			Filter filter = new JsonFilterParser(entityModel, objectMapper).parse(request.get("filter"));
+			SortOrder[] sortOrders = parseSortOrders(entityModel, request.get("sortOrders"));
+			ExportMode mode = request.hasNonNull("mode") ? ExportMode.valueOf(request.get("mode").asText())
+					: ExportMode.FULL;
+			return new ModelBasedJsonExportTemplate<>(service, entityModel, mode, sortOrders, filter, jsonLines);
+		} catch (OCSRuntimeException | IllegalArgumentException ex) {
+			log.debug(ex.getMessage(), ex);
+			throw new ResponseStatusException(HttpStatus.BAD_REQUEST, ex.getMessage(), ex);
+		}
+	}
+
+	private SortOrder[] parseSortOrders(EntityModel<?> entityModel, JsonNode node) {
+		if (node == null || node.isNull() || node.isEmpty()) {
+			return null;
+		}
+		if (!node.isArray()) {
+			throw new OCSRuntimeException("The sort orders must be an array");
+		}
+
+		List<SortOrder> sortOrders = new ArrayList<>();
+		for (JsonNode order : node) {
+			String property = order.path("property").asText();
+			AttributeModel am = entityModel.getAttributeModel(property);
+			if (am == null || !am.isVisible()) {
+				throw new OCSRuntimeException("Cannot sort on property: " + property);
+			}
+			sortOrders.add(new SortOrder(am.getPath(),
+					Direction.fromString(order.path("direction").asText(Direction.ASC.name()))));
+		}
+		return sortOrders.toArray(new SortOrder[0]);
+	}
+}
@@ -13,10 +13,13 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.util.List;
 import java.util.function.Supplier;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.ocs.dynamo.dao.FetchJoinInformation;
@@ -26,7 +29,9 @@ import com.ocs.dynamo.filter.Filter;
 import com.ocs.dynamo.filter.FilterConverter;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.service.ServiceLocatorFactory;
+import com.ocs.dynamo.service.UserDetailsService;
 import com.ocs.dynamo.ui.composite.export.CustomXlsStyleGenerator;
+import com.ocs.dynamo.ui.composite.export.ExportJob;
 import com.ocs.dynamo.ui.composite.export.ExportService;
 import com.ocs.dynamo.ui.composite.export.PivotParameters;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
@@ -34,6 +39,7 @@ import com.ocs.dynamo.ui.utils.SortUtils;
 import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.vaadin.flow.data.provider.SortOrder;
 import com.vaadin.flow.function.SerializablePredicate;
+import com.vaadin.flow.server.VaadinSession;
 
 /**
  * Implementation of the export service
@@ -44,80 +50,302 @@ import com.vaadin.flow.function.SerializablePredicate;
 @Service
 public class ExportServiceImpl implements ExportService {
 
+	@Autowired
+	private ExportJobManager jobManager;
+
+	@Autowired
+	private UserDetailsService userDetailsService;
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> void exportArrow(EntityModel<T> entityModel,
+			ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, OutputStream out,
+			FetchJoinInformation... joins) {
+		createLocked(() -> this.<ID, T>createArrowTemplate(entityModel, mode, predicate, sortOrders, joins))
+				.process(out);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> void exportArrowFixed(EntityModel<T> entityModel,
+			ExportMode mode, List<T> items, OutputStream out) {
+		createLocked(() -> this.<ID, T>createArrowFixedTemplate(entityModel, mode)).processFixed(items, out);
+	}
+
 	@Override
-	@SuppressWarnings("unchecked")
 	public <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportCsv(EntityModel<T> entityModel,
 			ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
 			FetchJoinInformation... joins) {
-		BaseService<ID, T> service = (BaseService<ID, T>) ServiceLocatorFactory.getServiceLocator()
-				.getServiceForEntity(entityModel.getEntityClass());
-		FilterConverter<T> converter = new FilterConverter<>(entityModel);
-		Filter filter = converter.convert(predicate);
+		return this.<ID, T>createCsvTemplate(entityModel, mode, predicate, sortOrders, joins).process();
+	}
 
-		ModelBasedCsvExportTemplate<ID, T> template = new ModelBasedCsvExportTemplate<>(service, entityModel, mode,
-				SortUtils.translateSortOrders(sortOrders), filter, joins);
-		return template.process();
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> void exportCsv(EntityModel<T> entityModel,
+			ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, OutputStream out,
+			FetchJoinInformation... joins) {
+		createLocked(() -> this.<ID, T>createCsvTemplate(entityModel, mode, predicate, sortOrders, joins))
+				.process(out);
 	}
 
 	@Override
 	public <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportCsvFixed(EntityModel<T> entityModel,
 			ExportMode mode, List<T> items) {
-		ModelBasedCsvExportTemplate<ID, T> template = new ModelBasedCsvExportTemplate<>(null, entityModel, mode, null,
-				null);
-		return template.processFixed(items);
+		return this.<ID, T>createCsvFixedTemplate(entityModel, mode).processFixed(items);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> void exportCsvFixed(EntityModel<T> entityModel,
+			ExportMode mode, List<T> items, OutputStream out) {
+		createLocked(() -> this.<ID, T>createCsvFixedTemplate(entityModel, mode)).processFixed(items, out);
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportExcel(EntityModel<T> entityModel,
 			ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
 			Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, FetchJoinInformation... joins) {
-		BaseService<ID, T> service = (BaseService<ID, T>) ServiceLocatorFactory.getServiceLocator()
-				.getServiceForEntity(entityModel.getEntityClass());
-		FilterConverter<T> converter = new FilterConverter<>(entityModel);
-		Filter filter = converter.convert(predicate);
-		ModelBasedExcelExportTemplate<ID, T> template = new ModelBasedExcelExportTemplate<>(service, entityModel, mode,
-				SortUtils.translateSortOrders(sortOrders), filter,
-				entityModel.getDisplayNamePlural(VaadinUtils.getLocale()), customGenerator, joins);
-		return template.process();
+		return createExcelTemplate(entityModel, mode, predicate, sortOrders, customGenerator, joins).process();
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> void exportExcel(EntityModel<T> entityModel,
+			ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+			Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, OutputStream out, FetchJoinInformation... joins) {
+		createLocked(() -> createExcelTemplate(entityModel, mode, predicate, sortOrders, customGenerator, joins))
+				.process(out);
 	}
 
 	@Override
 	public <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportExcelFixed(EntityModel<T> entityModel,
 			ExportMode mode, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, List<T> items) {
-		ModelBasedExcelExportTemplate<ID, T> template = new ModelBasedExcelExportTemplate<>(null, entityModel, mode,
-				null, null, entityModel.getDisplayNamePlural(VaadinUtils.getLocale()), customGenerator);
-		return template.processFixed(items);
+		return createExcelFixedTemplate(entityModel, mode, customGenerator).processFixed(items);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> void exportExcelFixed(EntityModel<T> entityModel,
+			ExportMode mode, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, List<T> items,
+			OutputStream out) {
+		createLocked(() -> createExcelFixedTemplate(entityModel, mode, customGenerator)).processFixed(items, out);
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportExcelPivot(EntityModel<T> entityModel,
 			SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
 			Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, PivotParameters pivotParameters,
 			FetchJoinInformation... joins) {
-		BaseService<ID, T> service = (BaseService<ID, T>) ServiceLocatorFactory.getServiceLocator()
-				.getServiceForEntity(entityModel.getEntityClass());
-		FilterConverter<T> converter = new FilterConverter<>(entityModel);
-		Filter filter = converter.convert(predicate);
-		ModelBasedExcelPivotExportTemplate<ID, T> template = new ModelBasedExcelPivotExportTemplate<>(service,
-				entityModel, SortUtils.translateSortOrders(sortOrders), filter,
-				entityModel.getDisplayNamePlural(VaadinUtils.getLocale()), customGenerator, pivotParameters, joins);
-		return template.process();
+		return createExcelPivotTemplate(entityModel, predicate, sortOrders, customGenerator, pivotParameters, joins)
+				.process();
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> void exportExcelPivot(EntityModel<T> entityModel,
+			SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+			Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, PivotParameters pivotParameters,
+			OutputStream out, FetchJoinInformation... joins) {
+		createLocked(() -> createExcelPivotTemplate(entityModel, predicate, sortOrders, customGenerator,
+				pivotParameters, joins)).process(out);
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public <ID extends Serializable, T extends AbstractEntity<ID>> byte[] exportCsvPivot(EntityModel<T> entityModel,
 			SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, PivotParameters pivotParameters,
 			FetchJoinInformation... joins) {
-		BaseService<ID, T> service = (BaseService<ID, T>) ServiceLocatorFactory.getServiceLocator()
-				.getServiceForEntity(entityModel.getEntityClass());
+		return this.<ID, T>createCsvPivotTemplate(entityModel, predicate, sortOrders, pivotParameters, joins)
+				.process();
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> void exportCsvPivot(EntityModel<T> entityModel,
+			SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, PivotParameters pivotParameters,
+			OutputStream out, FetchJoinInformation... joins) {
+		createLocked(() -> this.<ID, T>createCsvPivotTemplate(entityModel, predicate, sortOrders, pivotParameters,
+				joins)).process(out);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitArrow(EntityModel<T> entityModel,
+			ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, String fileName,
+			FetchJoinInformation... joins) {
+		return submit(this.<ID, T>createArrowTemplate(entityModel, mode, predicate, sortOrders, joins), fileName);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitArrowFixed(
+			EntityModel<T> entityModel, ExportMode mode, List<T> items, String fileName) {
+		return submitFixed(this.<ID, T>createArrowFixedTemplate(entityModel, mode), items, fileName);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitCsv(EntityModel<T> entityModel,
+			ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, String fileName,
+			FetchJoinInformation... joins) {
+		return submit(this.<ID, T>createCsvTemplate(entityModel, mode, predicate, sortOrders, joins), fileName);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitCsvFixed(EntityModel<T> entityModel,
+			ExportMode mode, List<T> items, String fileName) {
+		return submitFixed(this.<ID, T>createCsvFixedTemplate(entityModel, mode), items, fileName);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitCsvPivot(EntityModel<T> entityModel,
+			SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders, PivotParameters pivotParameters,
+			String fileName, FetchJoinInformation... joins) {
+		return submit(this.<ID, T>createCsvPivotTemplate(entityModel, predicate, sortOrders, pivotParameters, joins),
+				fileName);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitExcel(EntityModel<T> entityModel,
+			ExportMode mode, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+			Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, String fileName, FetchJoinInformation... joins) {
+		return submit(createExcelTemplate(entityModel, mode, predicate, sortOrders, customGenerator, joins), fileName);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitExcelFixed(
+			EntityModel<T> entityModel, ExportMode mode, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator,
+			List<T> items, String fileName) {
+		return submitFixed(createExcelFixedTemplate(entityModel, mode, customGenerator), items, fileName);
+	}
+
+	@Override
+	public <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitExcelPivot(
+			EntityModel<T> entityModel, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+			Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, PivotParameters pivotParameters,
+			String fileName, FetchJoinInformation... joins) {
+		return submit(
+				createExcelPivotTemplate(entityModel, predicate, sortOrders, customGenerator, pivotParameters, joins),
+				fileName);
+	}
+
+	@Override
+	public List<ExportJob> getJobs() {
+		return jobManager.getJobs(userDetailsService.getCurrentUserName());
+	}
+
+	@Override
+	public InputStream openJobResult(ExportJob job) {
+		return jobManager.openResult(job);
+	}
+
+	/**
+	 * Creates a template while holding the session lock. The template determines
+	 * the locale, time zone and currency symbol of the user when it is created, so
+	 * the lock is only needed briefly and is not held while the export is written
+	 * to the response
+	 *
+	 * @param creator the code that creates the template
+	 * @return the template
+	 */
+	private static <X extends BaseExportTemplate<?, ?>> X createLocked(Supplier<X> creator) {
+		VaadinSession session = VaadinSession.getCurrent();
+		if (session == null || session.hasLock()) {
+			return creator.get();
+		}
+		session.lock();
+		try {
+			return creator.get();
+		} finally {
+			session.unlock();
+		}
+	}
+
+	/**
+	 * Submits a background job that carries out an export. The template is created
+	 * up front, since the job has no access to the session
+	 *
+	 * @param template the template that carries out the export
+	 * @param fileName the name of the file that is offered for download
+	 * @return the submitted job
+	 */
+	private ExportJob submit(BaseExportTemplate<?, ?> template, String fileName) {
+		return jobManager.submit(userDetailsService.getCurrentUserName(), fileName, (job, out) -> {
+			template.setJob(job);
+			template.process(out);
+		});
+	}
+
+	/**
+	 * Submits a background job that exports a fixed set of data
+	 *
+	 * @param template the template that carries out the export
+	 * @param items    the set of items to export
+	 * @param fileName the name of the file that is offered for download
+	 * @return the submitted job
+	 */
+	private <ID extends Serializable, T extends AbstractEntity<ID>> ExportJob submitFixed(
+			BaseExportTemplate<ID, T> template, List<T> items, String fileName) {
+		return jobManager.submit(userDetailsService.getCurrentUserName(), fileName, (job, out) -> {
+			template.setJob(job);
+			template.processFixed(items, out);
+		});
+	}
+
+	private <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedArrowExportTemplate<ID, T> createArrowTemplate(
+			EntityModel<T> entityModel, ExportMode mode, SerializablePredicate<T> predicate,
+			List<SortOrder<?>> sortOrders, FetchJoinInformation... joins) {
+		return new ModelBasedArrowExportTemplate<>(getService(entityModel), entityModel, mode,
+				SortUtils.translateSortOrders(sortOrders), convertFilter(entityModel, predicate), joins);
+	}
+
+	private <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedArrowExportTemplate<ID, T> createArrowFixedTemplate(
+			EntityModel<T> entityModel, ExportMode mode) {
+		return new ModelBasedArrowExportTemplate<>(null, entityModel, mode, null, null);
+	}
+
+	private <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedCsvExportTemplate<ID, T> createCsvTemplate(
+			EntityModel<T> entityModel, ExportMode mode, SerializablePredicate<T> predicate,
+			List<SortOrder<?>> sortOrders, FetchJoinInformation... joins) {
+		return new ModelBasedCsvExportTemplate<>(getService(entityModel), entityModel, mode,
+				SortUtils.translateSortOrders(sortOrders), convertFilter(entityModel, predicate), joins);
+	}
+
+	private <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedCsvExportTemplate<ID, T> createCsvFixedTemplate(
+			EntityModel<T> entityModel, ExportMode mode) {
+		return new ModelBasedCsvExportTemplate<>(null, entityModel, mode, null, null);
+	}
+
+	private <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedCsvPivotExportTemplate<ID, T> createCsvPivotTemplate(
+			EntityModel<T> entityModel, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+			PivotParameters pivotParameters, FetchJoinInformation... joins) {
+		return new ModelBasedCsvPivotExportTemplate<>(getService(entityModel), entityModel,
+				SortUtils.translateSortOrders(sortOrders), convertFilter(entityModel, predicate), pivotParameters,
+				joins);
+	}
+
+	private <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedExcelExportTemplate<ID, T> createExcelTemplate(
+			EntityModel<T> entityModel, ExportMode mode, SerializablePredicate<T> predicate,
+			List<SortOrder<?>> sortOrders, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator,
+			FetchJoinInformation... joins) {
+		return new ModelBasedExcelExportTemplate<>(getService(entityModel), entityModel, mode,
+				SortUtils.translateSortOrders(sortOrders), convertFilter(entityModel, predicate),
+				entityModel.getDisplayNamePlural(VaadinUtils.getLocale()), customGenerator, joins);
+	}
+
+	private <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedExcelExportTemplate<ID, T> createExcelFixedTemplate(
+			EntityModel<T> entityModel, ExportMode mode, Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator) {
+		return new ModelBasedExcelExportTemplate<>(null, entityModel, mode, null, null,
+				entityModel.getDisplayNamePlural(VaadinUtils.getLocale()), customGenerator);
+	}
+
+	private <ID extends Serializable, T extends AbstractEntity<ID>> ModelBasedExcelPivotExportTemplate<ID, T> createExcelPivotTemplate(
+			EntityModel<T> entityModel, SerializablePredicate<T> predicate, List<SortOrder<?>> sortOrders,
+			Supplier<CustomXlsStyleGenerator<ID, T>> customGenerator, PivotParameters pivotParameters,
+			FetchJoinInformation... joins) {
+		return new ModelBasedExcelPivotExportTemplate<>(getService(entityModel), entityModel,
+				SortUtils.translateSortOrders(sortOrders), convertFilter(entityModel, predicate),
+				entityModel.getDisplayNamePlural(VaadinUtils.getLocale()), customGenerator, pivotParameters, joins);
+	}
+
+	private <T> Filter convertFilter(EntityModel<T> entityModel, SerializablePredicate<T> predicate) {
 		FilterConverter<T> converter = new FilterConverter<>(entityModel);
-		Filter filter = converter.convert(predicate);
-		ModelBasedCsvPivotExportTemplate<ID, T> template = new ModelBasedCsvPivotExportTemplate<>(service, entityModel,
-				SortUtils.translateSortOrders(sortOrders), filter, pivotParameters, joins);
-		return template.process();
+		return converter.convert(predicate);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <ID extends Serializable, T extends AbstractEntity<ID>> BaseService<ID, T> getService(
+			EntityModel<T> entityModel) {
+		return (BaseService<ID, T>) ServiceLocatorFactory.getServiceLocator()
+				.getServiceForEntity(entityModel.getEntityClass());
 	}
 
 }
@@ -0,0 +1,181 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocs.dynamo.domain.model.AttributeModel;
+import com.ocs.dynamo.domain.model.AttributeType;
+import com.ocs.dynamo.domain.model.EntityModel;
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.filter.And;
+import com.ocs.dynamo.filter.Between;
+import com.ocs.dynamo.filter.Compare;
+import com.ocs.dynamo.filter.Contains;
+import com.ocs.dynamo.filter.Filter;
+import com.ocs.dynamo.filter.In;
+import com.ocs.dynamo.filter.IsNull;
+import com.ocs.dynamo.filter.Like;
+import com.ocs.dynamo.filter.Not;
+import com.ocs.dynamo.filter.Or;
+
+/**
+ * Converts a filter that is described in JSON into a {@link Filter}. Every
+ * filter is an object with a "type" (and, or, not, equal, greater, less,
+ * greaterOrEqual, lessOrEqual, like, contains, in, between or isNull). Property
+ * filters contain the "property" and the "value" (or "values" for "in", "from"
+ * and "to" for "between"), junctions contain the "filters" and "not" contains
+ * the "filter", e.g.
+ *
+ * <pre>
+ * { "type": "and", "filters": [
+ *     { "type": "equal", "property": "status", "value": "ACTIVE" },
+ *     { "type": "between", "property": "birthDate", "from": "1990-01-01", "to": "1999-12-31" } ] }
+ * </pre>
+ *
+ * Only visible, non-LOB attributes of the entity model can be filtered on, and
+ * the values are converted to the type of the attribute
+ *
+ * @author bas.rutten
+ */
+public class JsonFilterParser {
+
+	private static final String FILTER = "filter";
+
+	private static final String FILTERS = "filters";
+
+	private static final String PROPERTY = "property";
+
+	private static final String TYPE = "type";
+
+	private static final String VALUE = "value";
+
+	private final EntityModel<?> entityModel;
+
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * Constructor
+	 *
+	 * @param entityModel  the entity model of the entity that is filtered
+	 * @param objectMapper the object mapper used to convert the values
+	 */
+	public JsonFilterParser(EntityModel<?> entityModel, ObjectMapper objectMapper) {
+		this.entityModel = entityModel;
+		this.objectMapper = objectMapper;
+	}
+
+	/**
+	 * Converts a JSON filter
+	 *
+	 * @param node the JSON filter
+	 * @return the filter, or <code>null</code> if no filter was specified
+	 */
+	public Filter parse(JsonNode node) {
+		if (node == null || node.isNull() || node.isMissingNode()) {
+			return null;
+		}
+
+		String type = getRequired(node, TYPE).asText();
+		return switch (type) {
+		case "and" -> new And(parseAll(node));
+		case "or" -> new Or(parseAll(node));
+		case "not" -> new Not(parse(getRequired(node, FILTER)));
+		case "equal" -> new Compare.Equal(getProperty(node), getValue(node, VALUE));
+		case "greater" -> new Compare.Greater(getProperty(node), getValue(node, VALUE));
+		case "greaterOrEqual" -> new Compare.GreaterOrEqual(getProperty(node), getValue(node, VALUE));
+		case "less" -> new Compare.Less(getProperty(node), getValue(node, VALUE));
+		case "lessOrEqual" -> new Compare.LessOrEqual(getProperty(node), getValue(node, VALUE));
+		case "like" -> new Like(getProperty(node), getRequired(node, VALUE).asText(),
+				node.path("caseSensitive").asBoolean(false));
+		case "contains" -> new Contains(getProperty(node), getValue(node, VALUE));
+		case "in" -> new In(getProperty(node), getValues(node));
+		case "between" -> new Between(getProperty(node), (Comparable<?>) getValue(node, "from"),
+				(Comparable<?>) getValue(node, "to"));
+		case "isNull" -> new IsNull(getProperty(node));
+		default -> throw new OCSRuntimeException("Unknown filter type: " + type);
+		};
+	}
+
+	private List<Filter> parseAll(JsonNode node) {
+		JsonNode filters = getRequired(node, FILTERS);
+		if (!filters.isArray()) {
+			throw new OCSRuntimeException("The filters must be an array");
+		}
+		List<Filter> result = new ArrayList<>();
+		filters.forEach(filter -> result.add(parse(filter)));
+		return result;
+	}
+
+	/**
+	 * Returns the attribute model of the property of a property filter
+	 *
+	 * @param node the filter
+	 * @return the attribute model
+	 */
+	private AttributeModel getAttributeModel(JsonNode node) {
+		String property = getRequired(node, PROPERTY).asText();
+		AttributeModel am = entityModel.getAttributeModel(property);
+		if (am == null || !am.isVisible() || AttributeType.LOB.equals(am.getAttributeType())) {
+			throw new OCSRuntimeException("Cannot filter on property: " + property);
+		}
+		return am;
+	}
+
+	private String getProperty(JsonNode node) {
+		return getAttributeModel(node).getPath();
+	}
+
+	private static JsonNode getRequired(JsonNode node, String name) {
+		JsonNode value = node.get(name);
+		if (value == null || value.isNull()) {
+			throw new OCSRuntimeException("Missing \"" + name + "\" in filter: " + node);
+		}
+		return value;
+	}
+
+	/**
+	 * Converts a value to the (member) type of the attribute
+	 *
+	 * @param node the filter
+	 * @param name the name of the value
+	 * @return the converted value
+	 */
+	private Object getValue(JsonNode node, String name) {
+		return convert(getAttributeModel(node), getRequired(node, name));
+	}
+
+	private List<Object> getValues(JsonNode node) {
+		AttributeModel am = getAttributeModel(node);
+		JsonNode values = getRequired(node, "values");
+		if (!values.isArray()) {
+			throw new OCSRuntimeException("The values must be an array");
+		}
+		List<Object> result = new ArrayList<>();
+		values.forEach(value -> result.add(convert(am, value)));
+		return result;
+	}
+
+	private Object convert(AttributeModel am, JsonNode value) {
+		try {
+			return objectMapper.treeToValue(value, am.getNormalizedType());
+		} catch (JsonProcessingException | IllegalArgumentException ex) {
+			throw new OCSRuntimeException("Invalid value for property " + am.getPath() + ": " + value, ex);
+		}
+	}
+}
@@ -0,0 +1,355 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeMilliVector;
+import org.apache.arrow.vector.TimeStampMilliTZVector;
+import org.apache.arrow.vector.TimeStampMilliVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.dictionary.DictionaryProvider;
+import org.apache.arrow.vector.ipc.ArrowStreamWriter;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.DictionaryEncoding;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+import com.ocs.dynamo.dao.FetchJoinInformation;
+import com.ocs.dynamo.dao.SortOrder;
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.model.AttributeModel;
+import com.ocs.dynamo.domain.model.AttributeType;
+import com.ocs.dynamo.domain.model.EntityModel;
+import com.ocs.dynamo.domain.query.DataSetIterator;
+import com.ocs.dynamo.filter.Filter;
+import com.ocs.dynamo.service.BaseService;
+import com.ocs.dynamo.ui.composite.type.ExportMode;
+import com.ocs.dynamo.ui.utils.GridFormatUtils;
+import com.ocs.dynamo.utils.NumberUtils;
+
+/**
+ * A template for exporting data to the Apache Arrow IPC streaming format. Unlike
+ * the CSV and Excel exports, the values are not formatted but written using a
+ * column type that matches the type of the attribute, so that the export can be
+ * processed by analytical tools without any parsing. Enumerations are written as
+ * dictionary encoded strings, attributes that have no suitable column type
+ * (e.g. references to other entities) are written as formatted strings. The
+ * rows are written in record batches of {@link #PAGE_SIZE} rows
+ *
+ * @author bas.rutten
+ *
+ * @param <ID> the type of the primary key of the entity to export
+ * @param <T>  the type of the entity to export
+ */
+public class ModelBasedArrowExportTemplate<ID extends Serializable, T extends AbstractEntity<ID>>
+		extends BaseExportTemplate<ID, T> {
+
+	/**
+	 * The key of the field metadata entry that holds the display name of the
+	 * attribute. The path of the attribute is used as the name of the field
+	 */
+	public static final String DISPLAY_NAME = "displayName";
+
+	private static final int DECIMAL_PRECISION = 38;
+
+	private static final int DECIMAL_BIT_WIDTH = 128;
+
+	private static final String UTC = "UTC";
+
+	/**
+	 * Constructor
+	 *
+	 * @param service     service used for retrieving data from the database
+	 * @param entityModel the entity model of the entities to export
+	 * @param exportMode  the export mode
+	 * @param sortOrders  the sort orders used to order the data
+	 * @param filter      filter to apply to limit the results
+	 * @param joins       fetch joins to use when querying the database
+	 */
+	public ModelBasedArrowExportTemplate(BaseService<ID, T> service, EntityModel<T> entityModel,
+			ExportMode exportMode, SortOrder[] sortOrders, Filter filter, FetchJoinInformation... joins) {
+		super(service, entityModel, exportMode, sortOrders, filter, "", joins);
+	}
+
+	@Override
+	protected void generate(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException {
+		generateValues(iterator, out);
+	}
+
+	/**
+	 * Reads only the values of the exported attributes when possible
+	 */
+	@Override
+	protected void generate(OutputStream out) throws IOException {
+		generateValues(out);
+	}
+
+	/**
+	 * Writes the schema followed by a record batch for every {@link #PAGE_SIZE}
+	 * rows
+	 */
+	@Override
+	protected <S> void writeValues(Supplier<S> source, ValueExtractor<S> extractor, OutputStream out)
+			throws IOException {
+		try (BufferAllocator allocator = new RootAllocator()) {
+			List<ArrowColumn> columns = createColumns(allocator);
+			DictionaryProvider.MapDictionaryProvider dictionaries = new DictionaryProvider.MapDictionaryProvider();
+			columns.stream().filter(column -> column.dictionary() != null)
+					.forEach(column -> dictionaries.put(column.dictionary()));
+
+			Schema schema = new Schema(columns.stream().map(ArrowColumn::field).toList());
+			// the writer keeps copies of the dictionaries that are only released when it
+			// is closed, the stream itself must remain open
+			try (VectorSchemaRoot root = VectorSchemaRoot.create(schema, allocator);
+					ArrowStreamWriter writer = new ArrowStreamWriter(root, dictionaries,
+							CloseShieldOutputStream.wrap(out))) {
+				writer.start();
+
+				S row = source.get();
+				while (row != null) {
+					// vectors are cleared after every batch, unset values are null
+					root.allocateNew();
+					int count = 0;
+					while (row != null && count < PAGE_SIZE) {
+						for (ArrowColumn column : columns) {
+							Object value = extractor.getValue(row, column.value());
+							if (value != null) {
+								column.setter().set(root.getVector(column.value().index()), count, value);
+							}
+						}
+						count++;
+						row = source.get();
+					}
+					root.setRowCount(count);
+					writer.writeBatch();
+					root.clear();
+				}
+				writer.end();
+			} finally {
+				closeDictionaries(columns);
+			}
+		}
+	}
+
+	/**
+	 * Determines how every column must be exported
+	 *
+	 * @param allocator the allocator used to allocate the dictionaries
+	 * @return the columns
+	 */
+	private List<ArrowColumn> createColumns(BufferAllocator allocator) {
+		List<ArrowColumn> columns = new ArrayList<>();
+		try {
+			for (ValueColumn column : createValueColumns()) {
+				columns.add(createColumn(column, allocator));
+			}
+		} catch (RuntimeException ex) {
+			closeDictionaries(columns);
+			throw ex;
+		}
+		return columns;
+	}
+
+	/**
+	 * Releases the dictionaries of the enumeration columns
+	 *
+	 * @param columns the columns
+	 */
+	private static void closeDictionaries(List<ArrowColumn> columns) {
+		columns.stream().filter(column -> column.dictionary() != null)
+				.forEach(column -> column.dictionary().getVector().close());
+	}
+
+	/**
+	 * Maps an attribute model to an Arrow column type
+	 *
+	 * @param column    the column that holds the value of the attribute
+	 * @param allocator the allocator used to allocate the dictionary of an
+	 *                  enumeration
+	 * @return the column
+	 */
+	private ArrowColumn createColumn(ValueColumn column, BufferAllocator allocator) {
+		AttributeModel am = column.am();
+		Class<?> type = am.getType();
+
+		if (!AttributeType.BASIC.equals(am.getAttributeType())) {
+			return new ArrowColumn(column, createField(am, ArrowType.Utf8.INSTANCE, null),
+					(vector, i, value) -> setString(vector, i, formatValue(am, value)), null);
+		}
+
+		if (type.isEnum()) {
+			return createEnumColumn(column, allocator);
+		} else if (NumberUtils.isInteger(type) || Short.class.equals(type) || short.class.equals(type)
+				|| Byte.class.equals(type) || byte.class.equals(type)) {
+			return new ArrowColumn(column, createField(am, new ArrowType.Int(32, true), null),
+					(vector, i, value) -> ((IntVector) vector).setSafe(i, ((Number) value).intValue()), null);
+		} else if (NumberUtils.isLong(type)) {
+			return new ArrowColumn(column, createField(am, new ArrowType.Int(64, true), null),
+					(vector, i, value) -> ((BigIntVector) vector).setSafe(i, ((Number) value).longValue()), null);
+		} else if (NumberUtils.isDouble(type) || NumberUtils.isFloat(type)) {
+			return new ArrowColumn(column,
+					createField(am, new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE), null),
+					(vector, i, value) -> ((Float8Vector) vector).setSafe(i, ((Number) value).doubleValue()), null);
+		} else if (BigDecimal.class.equals(type)) {
+			// the scale of a decimal vector is fixed, so values are rounded to the
+			// precision of the attribute
+			int scale = am.getPrecision();
+			return new ArrowColumn(column,
+					createField(am, new ArrowType.Decimal(DECIMAL_PRECISION, scale, DECIMAL_BIT_WIDTH), null),
+					(vector, i, value) -> ((DecimalVector) vector).setSafe(i,
+							((BigDecimal) value).setScale(scale, RoundingMode.HALF_UP)),
+					null);
+		} else if (Boolean.class.equals(type) || boolean.class.equals(type)) {
+			return new ArrowColumn(column, createField(am, ArrowType.Bool.INSTANCE, null),
+					(vector, i, value) -> ((BitVector) vector).setSafe(i, Boolean.TRUE.equals(value) ? 1 : 0), null);
+		} else if (LocalDate.class.equals(type)) {
+			return new ArrowColumn(column, createField(am, new ArrowType.Date(DateUnit.DAY), null),
+					(vector, i, value) -> ((DateDayVector) vector).setSafe(i,
+							(int) ((LocalDate) value).toEpochDay()),
+					null);
+		} else if (LocalTime.class.equals(type)) {
+			return new ArrowColumn(column, createField(am, new ArrowType.Time(TimeUnit.MILLISECOND, 32), null),
+					(vector, i, value) -> ((TimeMilliVector) vector).setSafe(i,
+							(int) (((LocalTime) value).toNanoOfDay() / 1_000_000)),
+					null);
+		} else if (LocalDateTime.class.equals(type)) {
+			// a timestamp without a time zone holds the wall clock time
+			return new ArrowColumn(column,
+					createField(am, new ArrowType.Timestamp(TimeUnit.MILLISECOND, null), null),
+					(vector, i, value) -> ((TimeStampMilliVector) vector).setSafe(i,
+							((LocalDateTime) value).toInstant(ZoneOffset.UTC).toEpochMilli()),
+					null);
+		} else if (ZonedDateTime.class.equals(type) || OffsetDateTime.class.equals(type)
+				|| Instant.class.equals(type)) {
+			return new ArrowColumn(column,
+					createField(am, new ArrowType.Timestamp(TimeUnit.MILLISECOND, UTC), null),
+					(vector, i, value) -> ((TimeStampMilliTZVector) vector).setSafe(i, toEpochMilli(value)), null);
+		} else if (String.class.equals(type)) {
+			return new ArrowColumn(column, createField(am, ArrowType.Utf8.INSTANCE, null),
+					(vector, i, value) -> setString(vector, i, value.toString()), null);
+		}
+		return new ArrowColumn(column, createField(am, ArrowType.Utf8.INSTANCE, null),
+				(vector, i, value) -> setString(vector, i, formatValue(am, value)), null);
+	}
+
+	/**
+	 * Creates a column for an enumeration. The column holds the ordinal of the
+	 * value, the dictionary contains the display names of the values
+	 *
+	 * @param column    the column that holds the value of the enumeration
+	 * @param allocator the allocator used to allocate the dictionary
+	 * @return the column
+	 */
+	private ArrowColumn createEnumColumn(ValueColumn column, BufferAllocator allocator) {
+		AttributeModel am = column.am();
+		ArrowType.Int indexType = new ArrowType.Int(32, true);
+		DictionaryEncoding encoding = new DictionaryEncoding(column.index(), false, indexType);
+
+		Object[] constants = am.getType().getEnumConstants();
+		VarCharVector values = new VarCharVector(am.getPath(), allocator);
+		try {
+			values.allocateNew(constants.length);
+			for (int i = 0; i < constants.length; i++) {
+				setString(values, i, formatValue(am, constants[i]));
+			}
+			values.setValueCount(constants.length);
+		} catch (RuntimeException ex) {
+			values.close();
+			throw ex;
+		}
+
+		return new ArrowColumn(column, createField(am, indexType, encoding),
+				(vector, i, value) -> ((IntVector) vector).setSafe(i, ((Enum<?>) value).ordinal()),
+				new Dictionary(values, encoding));
+	}
+
+	private Field createField(AttributeModel am, ArrowType type, DictionaryEncoding encoding) {
+		return new Field(am.getPath(),
+				new FieldType(true, type, encoding, Map.of(DISPLAY_NAME, am.getDisplayName(getLocale()))), null);
+	}
+
+	private String formatValue(AttributeModel am, Object value) {
+		return GridFormatUtils.formatPropertyValue(am, value, ", ", getLocale(), getTimeZoneId(), getCurrencySymbol());
+	}
+
+	private static void setString(FieldVector vector, int index, String value) {
+		if (value != null) {
+			((VarCharVector) vector).setSafe(index, value.getBytes(StandardCharsets.UTF_8));
+		}
+	}
+
+	private static long toEpochMilli(Object value) {
+		if (value instanceof ZonedDateTime zdt) {
+			return zdt.toInstant().toEpochMilli();
+		} else if (value instanceof OffsetDateTime odt) {
+			return odt.toInstant().toEpochMilli();
+		}
+		return ((Instant) value).toEpochMilli();
+	}
+
+	/**
+	 * Sets a (non-null) value in a vector
+	 */
+	@FunctionalInterface
+	private interface ValueSetter {
+
+		void set(FieldVector vector, int index, Object value);
+	}
+
+	/**
+	 * The way in which a column is exported. Determined once per export
+	 *
+	 * @param value      the column that holds the value
+	 * @param field      the Arrow field
+	 * @param setter     the function used to set a value in the vector
+	 * @param dictionary the dictionary of an enumeration column, <code>null</code>
+	 *                   for other columns
+	 */
+	private record ArrowColumn(ValueColumn value, Field field, ValueSetter setter, Dictionary dictionary) {
+	}
+
+}
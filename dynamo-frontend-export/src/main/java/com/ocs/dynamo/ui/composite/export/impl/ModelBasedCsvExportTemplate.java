@@ -13,13 +13,13 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.OutputStream;
 import java.io.Serializable;
-import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormatSymbols;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 import com.ocs.dynamo.dao.FetchJoinInformation;
 import com.ocs.dynamo.dao.SortOrder;
@@ -31,10 +31,9 @@ import com.ocs.dynamo.filter.Filter;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
 import com.ocs.dynamo.ui.utils.GridFormatUtils;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.ocs.dynamo.utils.ClassUtils;
-import com.opencsv.CSVWriter;
+import com.ocs.dynamo.utils.NumberUtils;
 
 /**
  * A template for exporting data to CSV
@@ -63,44 +62,153 @@ public class ModelBasedCsvExportTemplate<ID extends Serializable, T extends Abst
 	}
 
 	@Override
-	protected byte[] generate(DataSetIterator<ID, T> iterator) throws IOException {
-		try (ByteArrayOutputStream out = new ByteArrayOutputStream();
-				CSVWriter writer = new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
-						SystemPropertyUtils.getCsvSeparator().charAt(0),
-						SystemPropertyUtils.getCsvQuoteChar().charAt(0),
-						SystemPropertyUtils.getCsvEscapeChar().charAt(0), String.format("%n"))) {
-
-			addHeaderRow(writer);
-
-			T entity = iterator.next();
-			while (entity != null) {
-				List<String> row = new ArrayList<>();
-				for (AttributeModel am : getEntityModel().getAttributeModelsSortedForGrid()) {
-					if (mustShow(am)) {
-						Object value = ClassUtils.getFieldValue(entity, am.getPath());
-						String str = GridFormatUtils.formatPropertyValue(am, value, ", ", VaadinUtils.getLocale(),
-								VaadinUtils.getTimeZoneId(), VaadinUtils.getCurrencySymbol());
-						row.add(str);
+	protected void generate(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException {
+		CsvRowWriter writer = createRowWriter(out);
+		List<CsvColumn> columns = createColumns(writer);
+		addHeaderRow(writer, columns);
+
+		if (!columns.isEmpty()) {
+			if (SystemPropertyUtils.getExportFormatThreads() > 1) {
+				// the formatted values must be kept until they can be written
+				formatRows(iterator, entity -> formatRow(columns, entity), row -> writeRow(writer, columns, row));
+			} else {
+				T entity = iterator.next();
+				while (entity != null) {
+					for (CsvColumn column : columns) {
+						writer.writeField(formatValue(column.am(), column.accessor().apply(entity)), column.check());
 					}
+					writer.endRow();
+					entity = iterator.next();
 				}
-				if (!row.isEmpty()) {
-					writer.writeNext(row.toArray(new String[0]));
-				}
-				entity = iterator.next();
 			}
-			writer.flush();
-			return out.toByteArray();
 		}
+		writer.flush();
 	}
 
-	private void addHeaderRow(CSVWriter writer) {
-		List<String> headers = new ArrayList<>();
-		for (AttributeModel am : getEntityModel().getAttributeModelsSortedForGrid()) {
-			if (mustShow(am)) {
-				headers.add(am.getDisplayName(VaadinUtils.getLocale()));
+	/**
+	 * Reads only the values of the exported attributes when possible
+	 */
+	@Override
+	protected void generate(OutputStream out) throws IOException {
+		List<ID> ids = findIds();
+		ProjectionIterator<ID> rows = createProjectionIterator(ids);
+		if (rows == null) {
+			generate(ids, out);
+			return;
+		}
+		generateProjected(rows, out);
+	}
+
+	private void generateProjected(ProjectionIterator<ID> rows, OutputStream out) throws IOException {
+		CsvRowWriter writer = createRowWriter(out);
+		List<CsvColumn> columns = createColumns(writer);
+		addHeaderRow(writer, columns);
+
+		if (!columns.isEmpty()) {
+			if (SystemPropertyUtils.getExportFormatThreads() > 1) {
+				formatRows(rows::next, values -> formatValues(columns, values), row -> writeRow(writer, columns, row));
+			} else {
+				Object[] values = rows.next();
+				while (values != null) {
+					for (int i = 0; i < columns.size(); i++) {
+						CsvColumn column = columns.get(i);
+						writer.writeField(formatValue(column.am(), values[i]), column.check());
+					}
+					writer.endRow();
+					values = rows.next();
+				}
 			}
 		}
-		writer.writeNext(headers.toArray(new String[0]));
+		writer.flush();
+	}
+
+	/**
+	 * Determines how every column must be exported
+	 *
+	 * @param writer the writer used to write the rows
+	 * @return the columns
+	 */
+	private List<CsvColumn> createColumns(CsvRowWriter writer) {
+		// formatted numbers only contain a limited set of characters, so there is no
+		// need to check them when none of these characters must be escaped
+		boolean checkNumbers = writer.needsEscaping(getNumberCharacters());
+
+		List<CsvColumn> columns = new ArrayList<>();
+		for (AttributeModel am : getExportedAttributeModels()) {
+			columns.add(new CsvColumn(am,
+					ClassUtils.getFieldValueFunction(getEntityModel().getEntityClass(), am.getPath()),
+					checkNumbers || !NumberUtils.isNumeric(am.getType())));
+		}
+		return columns;
+	}
+
+	private String[] formatRow(List<CsvColumn> columns, T entity) {
+		String[] row = new String[columns.size()];
+		for (int i = 0; i < row.length; i++) {
+			CsvColumn column = columns.get(i);
+			row[i] = formatValue(column.am(), column.accessor().apply(entity));
+		}
+		return row;
+	}
+
+	private String[] formatValues(List<CsvColumn> columns, Object[] values) {
+		String[] row = new String[columns.size()];
+		for (int i = 0; i < row.length; i++) {
+			row[i] = formatValue(columns.get(i).am(), values[i]);
+		}
+		return row;
+	}
+
+	private String formatValue(AttributeModel am, Object value) {
+		return GridFormatUtils.formatPropertyValue(am, value, ", ", getLocale(), getTimeZoneId(), getCurrencySymbol());
+	}
+
+	/**
+	 * Returns all characters that can occur in a formatted number
+	 *
+	 * @return the characters
+	 */
+	private String getNumberCharacters() {
+		DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(getLocale());
+		StringBuilder characters = new StringBuilder("0123456789.,-+E%\u00a0\u202f ");
+		for (int i = 0; i < 10; i++) {
+			characters.append((char) (symbols.getZeroDigit() + i));
+		}
+		characters.append(symbols.getGroupingSeparator()).append(symbols.getMonetaryGroupingSeparator())
+				.append(symbols.getDecimalSeparator()).append(symbols.getMonetaryDecimalSeparator())
+				.append(symbols.getMinusSign()).append(symbols.getPercent()).append(symbols.getPerMill())
+				.append(symbols.getExponentSeparator()).append(symbols.getInfinity()).append(symbols.getNaN())
+				.append(symbols.getCurrencySymbol());
+		if (getCurrencySymbol() != null) {
+			characters.append(getCurrencySymbol());
+		}
+		return characters.toString();
+	}
+
+	private void writeRow(CsvRowWriter writer, List<CsvColumn> columns, String[] row) throws IOException {
+		for (int i = 0; i < row.length; i++) {
+			writer.writeField(row[i], columns.get(i).check());
+		}
+		writer.endRow();
+	}
+
+	private void addHeaderRow(CsvRowWriter writer, List<CsvColumn> columns) throws IOException {
+		String[] headers = new String[columns.size()];
+		for (int i = 0; i < headers.length; i++) {
+			headers[i] = columns.get(i).am().getDisplayName(getLocale());
+		}
+		writer.writeRow(headers);
+	}
+
+	/**
+	 * The way in which a column is exported. Determined once per export
+	 *
+	 * @param am       the attribute model of the column
+	 * @param accessor the function used to retrieve the value from an entity
+	 * @param check    whether the formatted values must be checked for characters
+	 *                 that must be escaped
+	 */
+	private record CsvColumn(AttributeModel am, Function<Object, Object> accessor, boolean check) {
 	}
 
 }
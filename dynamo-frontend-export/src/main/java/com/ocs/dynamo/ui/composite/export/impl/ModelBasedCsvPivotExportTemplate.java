@@ -13,12 +13,10 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.OutputStreamWriter;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -31,9 +29,8 @@ import com.ocs.dynamo.domain.query.DataSetIterator;
 import com.ocs.dynamo.filter.Filter;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.ui.composite.export.PivotParameters;
+import com.ocs.dynamo.ui.composite.export.impl.PivotRowIterator.PivotRow;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
-import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.ocs.dynamo.utils.ClassUtils;
 import com.ocs.dynamo.utils.NumberUtils;
 import com.opencsv.CSVWriter;
@@ -68,79 +65,117 @@ public class ModelBasedCsvPivotExportTemplate<ID extends Serializable, T extends
     }
 
     @Override
-    protected byte[] generate(DataSetIterator<ID, T> iterator) throws IOException {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream();
-             CSVWriter writer = new CSVWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8),
-                     SystemPropertyUtils.getCsvSeparator().charAt(0),
-                     SystemPropertyUtils.getCsvQuoteChar().charAt(0),
-                     SystemPropertyUtils.getCsvEscapeChar().charAt(0), String.format("%n"))) {
-
-            List<String> headers = new ArrayList<>();
-            addFixedColumns(headers);
-            addVariableColumns(headers);
-            writer.writeNext(headers.toArray(new String[0]));
-
-            String prevRowKey = null;
-            List<String> row = null;
-            int colIndex = 0;
-            int propIndex = 0;
-            boolean match;
-
-            // iterate over the rows
-            T entity = iterator.next();
-            while (entity != null) {
-                String rowKey = ClassUtils.getFieldValueAsString(entity, pivotParameters.getRowKeyProperty());
-                if (!Objects.equals(prevRowKey, rowKey)) {
-
-                    // finish up the previous row
-                    row = finishRowAndStartNewOne(writer, row, entity);
-                    colIndex = 0;
-                    propIndex = 0;
-                }
-
-                Object object = pivotParameters.getPossibleColumnKeys().get(colIndex);
-                if (!columnValueMatches(entity, object)) {
-                    // appropriate value is missing, write empty cell
-                    row.add("");
-                    match = false;
-                } else {
-                    // get cell value
-                    String prop = pivotParameters.getPivotedProperties().get(propIndex);
-                    Object value = ClassUtils.getFieldValue(entity, prop);
-
-                    if (value instanceof BigDecimal bd) {
-                        String format = NumberUtils.bigDecimalToString(false, false, false, 2, bd,
-                                VaadinUtils.getLocale(), "");
-                        row.add(format);
-                    } else {
-                        row.add(value == null ? "" : value.toString());
-                    }
-                    match = true;
-                }
-
-                // move to the next property
-                if (propIndex == pivotParameters.getPivotedProperties().size() - 1) {
-                    propIndex = 0;
-                    colIndex = colIndex + 1;
-                } else {
-                    propIndex++;
-                }
-
-                if (match) {
-                    entity = iterator.next();
-                }
-                prevRowKey = rowKey;
+    protected void generate(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException {
+        CSVWriter writer = createWriter(out);
+        writeHeaders(writer);
+
+        String prevRowKey = null;
+        List<String> row = null;
+        int colIndex = 0;
+        int propIndex = 0;
+        boolean match;
+
+        // iterate over the rows
+        T entity = iterator.next();
+        while (entity != null) {
+            String rowKey = ClassUtils.getFieldValueAsString(entity, pivotParameters.getRowKeyProperty());
+            if (!Objects.equals(prevRowKey, rowKey)) {
+
+                // finish up the previous row
+                row = finishRowAndStartNewOne(writer, row, entity);
+                colIndex = 0;
+                propIndex = 0;
             }
 
-            // add last row
-            if (row != null) {
-                addEmptyColumns(row);
-                writer.writeNext(row.toArray(new String[0]));
+            Object object = pivotParameters.getPossibleColumnKeys().get(colIndex);
+            if (!columnValueMatches(entity, object)) {
+                // appropriate value is missing, write empty cell
+                row.add("");
+                match = false;
+            } else {
+                // get cell value
+                String prop = pivotParameters.getPivotedProperties().get(propIndex);
+                Object value = ClassUtils.getFieldValue(entity, prop);
+
+                row.add(formatValue(value));
+                match = true;
             }
 
-            writer.flush();
-            return out.toByteArray();
+            // move to the next property
+            if (propIndex == pivotParameters.getPivotedProperties().size() - 1) {
+                propIndex = 0;
+                colIndex = colIndex + 1;
+            } else {
+                propIndex++;
+            }
+
+            if (match) {
+                entity = iterator.next();
+            }
+            prevRowKey = rowKey;
+        }
+
+        // add last row
+        if (row != null) {
+            addEmptyColumns(row);
+            writer.writeNext(row.toArray(new String[0]));
+        }
+
+        writer.flush();
+    }
+
+    /**
+     * When the data is aggregated in the database, the pivot rows are read directly
+     * instead of retrieving the entities
+     */
+    @Override
+    protected void generate(OutputStream out) throws IOException {
+        if (!pivotParameters.isAggregateInDatabase()) {
+            super.generate(out);
+            return;
+        }
+
+        // the number of entities is only used for reporting progress
+        count();
+        PivotRowIterator<ID> rows = new PivotRowIterator<>(getService(), getFilter(), getSortOrders(),
+                pivotParameters, PAGE_SIZE);
+        rows.setProgressCounter(getJob() == null ? null : getJob().getCounter());
+
+        CSVWriter writer = createWriter(out);
+        writeHeaders(writer);
+
+        // the position of every value is known up front, so the line can be reused
+        int nrOfFixedCols = pivotParameters.getFixedColumnKeys().size();
+        String[] line = new String[nrOfFixedCols + pivotParameters.getTotalNumberOfVariableColumns()];
+
+        PivotRow row = rows.next();
+        while (row != null) {
+            for (int i = 0; i < nrOfFixedCols; i++) {
+                Object value = row.fixedValues()[i];
+                line[i] = value == null ? "" : value.toString();
+            }
+            for (int i = 0; i < row.values().length; i++) {
+                line[nrOfFixedCols + i] = formatValue(row.values()[i]);
+            }
+            writer.writeNext(line);
+            row = rows.next();
         }
+
+        writer.flush();
+    }
+
+    private String formatValue(Object value) {
+        if (value instanceof BigDecimal bd) {
+            return NumberUtils.bigDecimalToString(false, false, false, 2, bd, getLocale(), "");
+        }
+        return value == null ? "" : value.toString();
+    }
+
+    private void writeHeaders(CSVWriter writer) {
+        List<String> headers = new ArrayList<>();
+        addFixedColumns(headers);
+        addVariableColumns(headers);
+        writer.writeNext(headers.toArray(new String[0]));
     }
 
     private List<String> finishRowAndStartNewOne(CSVWriter writer, List<String> row, T entity) {
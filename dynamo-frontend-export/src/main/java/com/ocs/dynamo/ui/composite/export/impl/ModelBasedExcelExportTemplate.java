@@ -13,14 +13,19 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.function.Supplier;
 
+import org.apache.commons.lang3.StringUtils;
 import org.apache.poi.ss.usermodel.Cell;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.util.WorkbookUtil;
 
 import com.ocs.dynamo.dao.FetchJoinInformation;
 import com.ocs.dynamo.dao.SortOrder;
@@ -32,11 +37,16 @@ import com.ocs.dynamo.filter.Filter;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.ui.composite.export.CustomXlsStyleGenerator;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
+import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.ocs.dynamo.utils.ClassUtils;
 
 /**
- * Template for exporting a data set to Excel based on the Entity model
+ * Template for exporting a data set to Excel based on the Entity model. When
+ * the data set contains more rows than fit on a single sheet (see
+ * {@link SystemPropertyUtils#getExportExcelMaxRowsPerSheet()}), the rows are
+ * divided over multiple sheets. The rows can be retrieved and formatted in
+ * parallel, in consecutive ranges that are appended to the workbook in order
+ * (see {@link SystemPropertyUtils#getExportExcelThreads()})
  *
  * @param <ID> the type of the primary key
  * @param <T>  the type of the entity
@@ -45,6 +55,11 @@ import com.ocs.dynamo.utils.ClassUtils;
 public class ModelBasedExcelExportTemplate<ID extends Serializable, T extends AbstractEntity<ID>>
         extends BaseExcelExportTemplate<ID, T> {
 
+    /**
+     * The maximum length of the name of a sheet
+     */
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
+
     /**
      * Constructor
      *
@@ -64,57 +79,237 @@ public class ModelBasedExcelExportTemplate<ID extends Serializable, T extends Ab
     }
 
     @Override
-    protected byte[] generate(DataSetIterator<ID, T> iterator) throws IOException {
-        setWorkbook(createWorkbook(iterator.size()));
-        Sheet sheet = getWorkbook().createSheet(getTitle());
+    protected void generate(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException {
+        List<AttributeModel> models = getExportedAttributeModels();
+        SheetSequence sheets = new SheetSequence(iterator.size(), models);
+
+        // look up the values in parallel (if enabled), but create the cells in order
+        formatRows(iterator, entity -> extractValues(models, entity), sheets::addRow);
+
+        sheets.finish();
+        writeWorkbook(out);
+    }
+
+    /**
+     * Reads only the values of the exported attributes when possible. This is not
+     * done when there is a custom style generator, since such a generator might
+     * need the entity. When enabled, consecutive ranges of entities are retrieved
+     * and formatted in parallel
+     */
+    @Override
+    protected void generate(OutputStream out) throws IOException {
+        List<ID> ids = findIds();
+        boolean projected = getCustomGenerator() == null && canProject();
+
+        int partitionSize = getPartitionSize(ids.size());
+        if (partitionSize > 0) {
+            generatePartitioned(ids, partitionSize, projected, out);
+        } else if (projected) {
+            generateProjected(createProjectionIterator(ids), out);
+        } else {
+            generate(ids, out);
+        }
+    }
+
+    private void generateProjected(ProjectionIterator<ID> rows, OutputStream out) throws IOException {
+        List<AttributeModel> models = getExportedAttributeModels();
+        SheetSequence sheets = new SheetSequence(rows.size(), models);
+
+        Object[] values = rows.next();
+        while (values != null) {
+            sheets.addRow(new RowValues<>(null, values));
+            values = rows.next();
+        }
+
+        sheets.finish();
+        writeWorkbook(out);
+    }
+
+    /**
+     * Retrieves and formats consecutive ranges of entities in parallel. The rows
+     * of every range are then appended to the workbook in order, by the calling
+     * thread only, so the workbook and the style generator are never accessed
+     * concurrently
+     *
+     * @param ids           the IDs of the entities to export
+     * @param partitionSize the number of entities per range
+     * @param projected     whether to read only the values of the exported
+     *                      attributes
+     * @param out           the stream to write the workbook to
+     * @throws IOException when the workbook cannot be written
+     */
+    private void generatePartitioned(List<ID> ids, int partitionSize, boolean projected, OutputStream out)
+            throws IOException {
+        List<AttributeModel> models = getExportedAttributeModels();
+        SheetSequence sheets = new SheetSequence(ids.size(), models);
+
+        Iterator<Supplier<List<RowValues<T>>>> partitions = createPartitionTasks(ids, partitionSize, projected,
+                models).iterator();
+        ExportPipeline<Supplier<List<RowValues<T>>>, List<RowValues<T>>> pipeline = new ExportPipeline<>(
+                SystemPropertyUtils.getExportExcelThreads(), 1);
+        pipeline.run(() -> partitions.hasNext() ? partitions.next() : null, Supplier::get, rows -> {
+            for (RowValues<T> row : rows) {
+                sheets.addRow(row);
+            }
+        });
+
+        sheets.finish();
+        writeWorkbook(out);
+    }
+
+    private List<Supplier<List<RowValues<T>>>> createPartitionTasks(List<ID> ids, int partitionSize,
+            boolean projected, List<AttributeModel> models) {
+        List<Supplier<List<RowValues<T>>>> tasks = new ArrayList<>();
+        if (projected) {
+            for (int start = 0; start < ids.size(); start += partitionSize) {
+                List<ID> range = ids.subList(start, Math.min(start + partitionSize, ids.size()));
+                tasks.add(() -> readProjected(createProjectionIterator(range)));
+            }
+        } else {
+            for (DataSetIterator<ID, T> partition : createPartitions(ids, partitionSize)) {
+                tasks.add(() -> readEntities(partition, models));
+            }
+        }
+        return tasks;
+    }
+
+    private List<RowValues<T>> readProjected(ProjectionIterator<ID> rows) {
+        List<RowValues<T>> result = new ArrayList<>(rows.size());
+        Object[] values = rows.next();
+        while (values != null) {
+            result.add(new RowValues<>(null, values));
+            values = rows.next();
+        }
+        return result;
+    }
+
+    private List<RowValues<T>> readEntities(DataSetIterator<ID, T> partition, List<AttributeModel> models) {
+        List<RowValues<T>> result = new ArrayList<>(partition.size());
+        T entity = partition.next();
+        while (entity != null) {
+            result.add(extractValues(models, entity));
+            entity = partition.next();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of entities per range when the entities must be retrieved
+     * and formatted in parallel. The ranges are at most a page in size, and
+     * smaller for small exports so that every thread gets some work
+     *
+     * @param size the number of entities to export
+     * @return the number of entities per range, or 0 if the entities must not be
+     *         retrieved in parallel
+     */
+    private int getPartitionSize(int size) {
+        int threads = SystemPropertyUtils.getExportExcelThreads();
+        if (threads <= 1) {
+            return 0;
+        }
+        int partitionSize = Math.max(1, Math.min(PAGE_SIZE, Math.ceilDiv(size, threads)));
+        return size > partitionSize ? partitionSize : 0;
+    }
+
+    private void initWorkbook(int size) {
+        setWorkbook(createWorkbook(size));
         setGenerator(createGenerator(getWorkbook()));
+    }
 
-        boolean resize = canResize();
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+    /**
+     * Creates a sheet with a header row. The first sheet is named after the
+     * title, the following sheets get a sequence number
+     *
+     * @param index  the index of the sheet
+     * @param models the attribute models of the columns
+     * @return the sheet
+     */
+    private Sheet createSheet(int index, List<AttributeModel> models) {
+        Sheet sheet = getWorkbook().createSheet(index == 0 ? getTitle() : getSheetName(index));
 
         Row titleRow = sheet.createRow(0);
         titleRow.setHeightInPoints(TITLE_ROW_HEIGHT);
+        addHeaderRow(sheet, canResize(), titleRow, models);
+        return sheet;
+    }
 
-        addHeaderRow(sheet, resize, titleRow);
-        addContentRows(iterator, sheet);
-        resizeColumns(sheet);
-
-        getWorkbook().write(stream);
-        return stream.toByteArray();
-    }
-
-    private void addHeaderRow(Sheet sheet, boolean resize, Row titleRow) {
-        int i = 0;
-        for (AttributeModel am : getEntityModel().getAttributeModelsSortedForGrid()) {
-            if (mustShow(am)) {
-                if (!resize) {
-                    sheet.setColumnWidth(i, FIXED_COLUMN_WIDTH);
-                }
-                Cell cell = titleRow.createCell(i);
-                cell.setCellStyle(getGenerator().getHeaderStyle(i));
-                cell.setCellValue(am.getDisplayName(VaadinUtils.getLocale()));
-                i++;
+    private String getSheetName(int index) {
+        String suffix = " (" + (index + 1) + ")";
+        String title = StringUtils.left(StringUtils.defaultIfBlank(getTitle(), "Sheet"),
+                MAX_SHEET_NAME_LENGTH - suffix.length());
+        return WorkbookUtil.createSafeSheetName(title + suffix);
+    }
+
+    private void addHeaderRow(Sheet sheet, boolean resize, Row titleRow, List<AttributeModel> models) {
+        for (int i = 0; i < models.size(); i++) {
+            if (!resize) {
+                sheet.setColumnWidth(i, FIXED_COLUMN_WIDTH);
             }
+            Cell cell = titleRow.createCell(i);
+            cell.setCellStyle(getGenerator().getHeaderStyle(i));
+            cell.setCellValue(models.get(i).getDisplayName(getLocale()));
         }
     }
 
-    private void addContentRows(DataSetIterator<ID, T> iterator, Sheet sheet) {
-        // iterate over the rows
-        int rowIndex = 1;
-        T entity = iterator.next();
-        while (entity != null) {
-            Row row = sheet.createRow(rowIndex);
-            int colIndex = 0;
-            for (AttributeModel am : getEntityModel().getAttributeModelsSortedForGrid()) {
-                if (am != null && mustShow(am)) {
-                    Object value = ClassUtils.getFieldValue(entity, am.getPath());
-                    Cell cell = createCell(row, colIndex, entity, value, am, null);
-                    writeCellValue(cell, value, getEntityModel(), am, false);
-                    colIndex++;
-                }
+    private void addRow(Sheet sheet, List<AttributeModel> models, RowValues<T> values) {
+        Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+        for (int i = 0; i < models.size(); i++) {
+            AttributeModel am = models.get(i);
+            Object value = values.values()[i];
+            Cell cell = createCell(row, i, values.entity(), value, am, null);
+            writeCellValue(cell, value, getEntityModel(), am, false);
+        }
+    }
+
+    private RowValues<T> extractValues(List<AttributeModel> models, T entity) {
+        Object[] values = new Object[models.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = ClassUtils.getFieldValue(entity, models.get(i).getPath());
+        }
+        return new RowValues<>(entity, values);
+    }
+
+    /**
+     * Adds rows to the current sheet, and moves on to a new sheet when the current
+     * one is full
+     */
+    private class SheetSequence {
+
+        private final List<AttributeModel> models;
+
+        private final int maxRows = SystemPropertyUtils.getExportExcelMaxRowsPerSheet();
+
+        private Sheet sheet;
+
+        private int index;
+
+        SheetSequence(int size, List<AttributeModel> models) {
+            this.models = models;
+            initWorkbook(size);
+            this.sheet = createSheet(0, models);
+        }
+
+        void addRow(RowValues<T> values) {
+            if (sheet.getLastRowNum() >= maxRows) {
+                resizeColumns(sheet);
+                sheet = createSheet(++index, models);
             }
-            rowIndex++;
-            entity = iterator.next();
+            ModelBasedExcelExportTemplate.this.addRow(sheet, models, values);
         }
+
+        void finish() {
+            resizeColumns(sheet);
+        }
+    }
+
+    /**
+     * The values of the visible attributes of an entity
+     *
+     * @param entity the entity (<code>null</code> when the values were retrieved
+     *               using a projection)
+     * @param values the values, in the order of the columns
+     * @param <E>    the type of the entity
+     */
+    private record RowValues<E>(E entity, Object[] values) {
     }
 }
@@ -13,10 +13,11 @@
  */
 package com.ocs.dynamo.ui.composite.export.impl;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Serializable;
 import java.math.BigDecimal;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,9 +41,9 @@ import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.service.ServiceLocatorFactory;
 import com.ocs.dynamo.ui.composite.export.CustomXlsStyleGenerator;
 import com.ocs.dynamo.ui.composite.export.PivotParameters;
+import com.ocs.dynamo.ui.composite.export.impl.PivotRowIterator.PivotRow;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
 import com.ocs.dynamo.ui.provider.PivotAggregationType;
-import com.ocs.dynamo.ui.utils.VaadinUtils;
 import com.ocs.dynamo.utils.ClassUtils;
 
 /**
@@ -146,13 +147,39 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
      * @param entity the entity currently being processed
      */
     private void addFixedColumns(Row row, T entity) {
-        int j = 0;
-        for (String fc : pivotParameters.getFixedColumnKeys()) {
+        Object[] values = pivotParameters.getFixedColumnKeys().stream()
+                .map(fc -> ClassUtils.getFieldValueAsString(entity, fc)).toArray();
+        addFixedColumns(row, entity, values);
+    }
+
+    /**
+     * Adds the fixed columns at the start of a row
+     *
+     * @param row    the row
+     * @param entity the entity currently being processed (<code>null</code> when
+     *               the data has been aggregated by the database)
+     * @param values the values of the fixed columns
+     */
+    private void addFixedColumns(Row row, T entity, Object[] values) {
+        for (int j = 0; j < values.length; j++) {
             Cell cell = row.createCell(j);
-            Object value = ClassUtils.getFieldValueAsString(entity, fc);
-            cell.setCellStyle(getGenerator().getCellStyle(j, entity, value, null));
-            writeCellValue(cell, value, getEntityModel(), null, false);
-            j++;
+            cell.setCellStyle(getGenerator().getCellStyle(j, entity, values[j], null));
+            writeCellValue(cell, values[j], getEntityModel(), null, false);
+        }
+    }
+
+    /**
+     * Adds a value to the running totals of a row
+     *
+     * @param rowTotals the running totals
+     * @param property  the property to which the value belongs
+     * @param value     the value
+     */
+    private void addToRowTotals(Map<String, BigDecimal> rowTotals, String property, Object value) {
+        PivotAggregationType type = pivotParameters.getAggregationMap().get(property);
+        if (type != null) {
+            rowTotals.putIfAbsent(property, BigDecimal.ZERO);
+            rowTotals.put(property, rowTotals.get(property).add(toBigDecimal(value)));
         }
     }
 
@@ -280,22 +307,24 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
         return Objects.equals(actual, expected);
     }
 
-    @Override
-    protected byte[] generate(DataSetIterator<ID, T> iterator) throws IOException {
-        setWorkbook(createWorkbook(iterator.size()));
+    /**
+     * Creates the workbook and a sheet that contains the header rows
+     *
+     * @param size the size of the export
+     * @return the sheet
+     */
+    private Sheet createSheet(int size) {
+        setWorkbook(createWorkbook(size));
         Sheet sheet = getWorkbook().createSheet(getTitle());
         setGenerator(createGenerator(getWorkbook()));
 
         boolean resize = canResize();
-        ByteArrayOutputStream stream = new ByteArrayOutputStream();
-
         Row titleRow = sheet.createRow(0);
         Row subtitleRow = sheet.createRow(1);
 
         titleRow.setHeightInPoints(TITLE_ROW_HEIGHT);
 
         int nrOfPivotProps = pivotParameters.getPivotedProperties().size();
-        int nrOfFixedCols = pivotParameters.getFixedColumnKeys().size();
 
         int i = 0;
         i = addFixedColumnHeaders(sheet, resize, titleRow, i);
@@ -307,6 +336,31 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
         i = addPivotColumnSubHeader(sheet, resize, subtitleRow, i);
 
         addAggregateHeaders(sheet, resize, titleRow, subtitleRow, i);
+        return sheet;
+    }
+
+    /**
+     * Adds the aggregation row (if required) and writes the workbook
+     *
+     * @param sheet the sheet
+     * @param out   the stream to write the workbook to
+     * @throws IOException when the workbook cannot be written
+     */
+    private void finishSheet(Sheet sheet, OutputStream out) throws IOException {
+        // add an aggregation row at the bottom
+        if (pivotParameters.isIncludeAggregateRow()) {
+            writeColumnsAggregate(pivotParameters.getFixedColumnKeys().size(), sheet);
+        }
+
+        resizeColumns(sheet);
+
+        writeWorkbook(out);
+    }
+
+    @Override
+    protected void generate(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException {
+        Sheet sheet = createSheet(iterator.size());
+        int nrOfFixedCols = pivotParameters.getFixedColumnKeys().size();
 
         String prevRowKey = null;
         Row row = null;
@@ -365,24 +419,75 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
         }
 
         // row aggregates for the last row
-        writeRowAggregates(nrOfFixedCols, row, rowTotals);
+        if (row != null) {
+            writeRowAggregates(nrOfFixedCols, row, rowTotals);
+        }
 
-        // add an aggregation row at the bottom
-        if (pivotParameters.isIncludeAggregateRow()) {
-            writeColumnsAggregate(nrOfFixedCols, sheet);
+        finishSheet(sheet, out);
+    }
+
+    /**
+     * When the data is aggregated in the database, the pivot rows are read directly
+     * instead of retrieving the entities
+     */
+    @Override
+    protected void generate(OutputStream out) throws IOException {
+        if (!pivotParameters.isAggregateInDatabase()) {
+            super.generate(out);
+            return;
         }
 
-        resizeColumns(sheet);
+        int size = count();
+        PivotRowIterator<ID> rows = new PivotRowIterator<>(getService(), getFilter(), getSortOrders(),
+                pivotParameters, PAGE_SIZE);
+        rows.setProgressCounter(getJob() == null ? null : getJob().getCounter());
+
+        Sheet sheet = createSheet(size);
+        int nrOfFixedCols = pivotParameters.getFixedColumnKeys().size();
+        List<Object> columnKeys = pivotParameters.getPossibleColumnKeys();
+        List<String> properties = pivotParameters.getPivotedProperties();
+        List<String> hiddenProperties = pivotParameters.getHiddenPivotProperties();
+
+        Map<String, BigDecimal> rowTotals = new HashMap<>();
+        PivotRow pivotRow = rows.next();
+        while (pivotRow != null) {
+            Row row = sheet.createRow(sheet.getLastRowNum() + 1);
+            addFixedColumns(row, null, Arrays.stream(pivotRow.fixedValues())
+                    .map(value -> value == null ? null : value.toString()).toArray());
+            rowTotals.clear();
+
+            // the position of every value is known up front, so no need to look up
+            // the column keys
+            for (int colIndex = 0; colIndex < columnKeys.size(); colIndex++) {
+                Object pivotColumnKey = columnKeys.get(colIndex);
+                for (int propIndex = 0; propIndex < properties.size(); propIndex++) {
+                    int index = colIndex * properties.size() + propIndex;
+                    Object value = pivotRow.values()[index];
+                    if (value == null) {
+                        createCell(row, nrOfFixedCols + index, null, "", null, pivotColumnKey);
+                    } else {
+                        writePivotCell(row, nrOfFixedCols + index, null, value, pivotColumnKey);
+                    }
+                    addToRowTotals(rowTotals, properties.get(propIndex), value);
+                }
+                for (int hiddenIndex = 0; hiddenIndex < hiddenProperties.size(); hiddenIndex++) {
+                    addToRowTotals(rowTotals, hiddenProperties.get(hiddenIndex),
+                            pivotRow.hiddenValues()[colIndex * hiddenProperties.size() + hiddenIndex]);
+                }
+            }
+
+            writeRowAggregates(nrOfFixedCols, row, rowTotals);
+            pivotRow = rows.next();
+        }
 
-        getWorkbook().write(stream);
-        return stream.toByteArray();
+        finishSheet(sheet, out);
     }
 
     private String getAggregateHeader(PivotAggregationType type) {
         return switch (type) {
-            case SUM -> messageService.getMessage("ocs.sum", VaadinUtils.getLocale());
-            case AVERAGE -> messageService.getMessage("ocs.average", VaadinUtils.getLocale());
-            default -> messageService.getMessage("ocs.count", VaadinUtils.getLocale());
+            case SUM -> messageService.getMessage("ocs.sum", getLocale());
+            case AVERAGE -> messageService.getMessage("ocs.average", getLocale());
+            default -> messageService.getMessage("ocs.count", getLocale());
         };
     }
 
@@ -391,6 +496,12 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
             return bd;
         } else if (value instanceof Integer in) {
             return BigDecimal.valueOf(in.longValue());
+        } else if (value instanceof Long lo) {
+            // sums of integer values are returned as longs by the database
+            return BigDecimal.valueOf(lo);
+        } else if (value instanceof Double doub && Double.isFinite(doub)) {
+            // averages are returned as doubles by the database
+            return BigDecimal.valueOf(doub);
         }
         return BigDecimal.ZERO;
     }
@@ -412,12 +523,7 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
     private void updateHiddenPropertyAggregates(Map<String, BigDecimal> rowTotals, T entity) {
         for (String hiddenProperty : pivotParameters.getHiddenPivotedProperties()) {
             Object value = ClassUtils.getFieldValue(entity, hiddenProperty);
-
-            PivotAggregationType type = pivotParameters.getAggregationMap().get(hiddenProperty);
-            if (type != null) {
-                rowTotals.putIfAbsent(hiddenProperty, BigDecimal.ZERO);
-                rowTotals.put(hiddenProperty, rowTotals.get(hiddenProperty).add(toBigDecimal(value)));
-            }
+            addToRowTotals(rowTotals, hiddenProperty, value);
         }
     }
 
@@ -436,16 +542,25 @@ public class ModelBasedExcelPivotExportTemplate<ID extends Serializable, T exten
                                       Map<String, BigDecimal> rowTotals, T entity, Object pivotColumnKey) {
         String prop = pivotParameters.getPivotedProperties().get(propIndex);
         Object value = ClassUtils.getFieldValue(entity, prop);
-        Cell cell = createCell(row, nrOfFixedCols + colsAdded, entity, value, null, pivotColumnKey);
+        writePivotCell(row, nrOfFixedCols + colsAdded, entity, value, pivotColumnKey);
+        addToRowTotals(rowTotals, prop, value);
+    }
+
+    /**
+     * Creates a cell for a pivoted value and writes the value to it
+     *
+     * @param row            the row to which to add the cell
+     * @param colIndex       the column index
+     * @param entity         the current entity (<code>null</code> when the data
+     *                       has been aggregated by the database)
+     * @param value          the value
+     * @param pivotColumnKey the pivot column key
+     */
+    private void writePivotCell(Row row, int colIndex, T entity, Object value, Object pivotColumnKey) {
+        Cell cell = createCell(row, colIndex, entity, value, null, pivotColumnKey);
 
         boolean forcePercentage = cell.getCellStyle() != null && cell.getCellStyle().getDataFormatString().contains("%");
         writeCellValue(cell, value, getEntityModel(), null, forcePercentage);
-
-        PivotAggregationType type = pivotParameters.getAggregationMap().get(prop);
-        if (type != null) {
-            rowTotals.putIfAbsent(prop, BigDecimal.ZERO);
-            rowTotals.put(prop, rowTotals.get(prop).add(toBigDecimal(value)));
-        }
     }
 
     /**
@@ -0,0 +1,235 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.ocs.dynamo.dao.FetchJoinInformation;
+import com.ocs.dynamo.dao.SortOrder;
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.domain.model.AttributeModel;
+import com.ocs.dynamo.domain.model.EntityModel;
+import com.ocs.dynamo.domain.query.DataSetIterator;
+import com.ocs.dynamo.filter.Filter;
+import com.ocs.dynamo.service.BaseService;
+import com.ocs.dynamo.ui.composite.type.ExportMode;
+import com.ocs.dynamo.utils.ClassUtils;
+
+/**
+ * A template for exporting data to JSON. Every entity is written as an object
+ * of which the keys are the paths of the exported attributes. Numbers and
+ * booleans are written as such, dates and times in ISO-8601 format (legacy
+ * dates in the time zone of the user), enumerations by their name, nested
+ * entities by the value of their display property and any other values by
+ * their string representation. The output is either a JSON array or JSON lines
+ * (a single object per line), and is written incrementally so that the export
+ * never has to be kept in memory
+ *
+ * @author bas.rutten
+ *
+ * @param <ID> the type of the primary key of the entity to export
+ * @param <T>  the type of the entity to export
+ */
+public class ModelBasedJsonExportTemplate<ID extends Serializable, T extends AbstractEntity<ID>>
+		extends BaseExportTemplate<ID, T> {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	/**
+	 * Whether to write JSON lines instead of a JSON array
+	 */
+	private final boolean jsonLines;
+
+	/**
+	 * Constructor
+	 *
+	 * @param service     service used for retrieving data from the database
+	 * @param entityModel the entity model of the entities to export
+	 * @param exportMode  the export mode
+	 * @param sortOrders  the sort orders used to order the data
+	 * @param filter      filter to apply to limit the results
+	 * @param jsonLines   whether to write JSON lines instead of a JSON array
+	 * @param joins       fetch joins to use when querying the database
+	 */
+	public ModelBasedJsonExportTemplate(BaseService<ID, T> service, EntityModel<T> entityModel,
+			ExportMode exportMode, SortOrder[] sortOrders, Filter filter, boolean jsonLines,
+			FetchJoinInformation... joins) {
+		super(service, entityModel, exportMode, sortOrders, filter, "", joins);
+		this.jsonLines = jsonLines;
+	}
+
+	@Override
+	protected void generate(DataSetIterator<ID, T> iterator, OutputStream out) throws IOException {
+		generateValues(iterator, out);
+	}
+
+	/**
+	 * Reads only the values of the exported attributes when possible
+	 */
+	@Override
+	protected void generate(OutputStream out) throws IOException {
+		generateValues(out);
+	}
+
+	@Override
+	protected <S> void writeValues(Supplier<S> source, ValueExtractor<S> extractor, OutputStream out)
+			throws IOException {
+		List<JsonColumn> columns = createValueColumns().stream()
+				.map(column -> new JsonColumn(column, new SerializedString(column.am().getPath()))).toList();
+
+		JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+		generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+		generator.setRootValueSeparator(null);
+
+		if (!jsonLines) {
+			generator.writeStartArray();
+		}
+		S row = source.get();
+		while (row != null) {
+			generator.writeStartObject();
+			for (JsonColumn column : columns) {
+				generator.writeFieldName(column.name());
+				writeValue(generator, column.value().am(), extractor.getValue(row, column.value()));
+			}
+			generator.writeEndObject();
+			if (jsonLines) {
+				generator.writeRaw('\n');
+			}
+			row = source.get();
+		}
+		if (!jsonLines) {
+			generator.writeEndArray();
+		}
+		generator.flush();
+	}
+
+	/**
+	 * Writes the value of an attribute. Collections are written as arrays
+	 *
+	 * @param generator the generator
+	 * @param am        the attribute model
+	 * @param value     the value
+	 * @throws IOException when the value cannot be written
+	 */
+	private void writeValue(JsonGenerator generator, AttributeModel am, Object value) throws IOException {
+		if (value instanceof Collection<?> collection) {
+			generator.writeStartArray();
+			for (Object element : collection) {
+				writeScalar(generator, am, element);
+			}
+			generator.writeEndArray();
+		} else {
+			writeScalar(generator, am, value);
+		}
+	}
+
+	private void writeScalar(JsonGenerator generator, AttributeModel am, Object value) throws IOException {
+		if (value == null) {
+			generator.writeNull();
+		} else if (value instanceof String str) {
+			generator.writeString(str);
+		} else if (value instanceof BigDecimal bd) {
+			generator.writeNumber(bd);
+		} else if (value instanceof BigInteger bi) {
+			generator.writeNumber(bi);
+		} else if (value instanceof Double || value instanceof Float) {
+			generator.writeNumber(((Number) value).doubleValue());
+		} else if (value instanceof Number number) {
+			generator.writeNumber(number.longValue());
+		} else if (value instanceof Boolean bool) {
+			generator.writeBoolean(bool);
+		} else if (value instanceof Enum<?> e) {
+			generator.writeString(e.name());
+		} else if (value instanceof ZonedDateTime || value instanceof OffsetDateTime) {
+			generator.writeString(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format((TemporalAccessor) value));
+		} else if (value instanceof LocalDateTime ldt) {
+			generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(ldt));
+		} else if (value instanceof LocalDate ld) {
+			generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE.format(ld));
+		} else if (value instanceof LocalTime lt) {
+			generator.writeString(DateTimeFormatter.ISO_LOCAL_TIME.format(lt));
+		} else if (value instanceof Date date) {
+			writeScalar(generator, am, toTemporal(date));
+		} else if (value instanceof AbstractEntity<?> entity) {
+			writeScalar(generator, am, getDisplayValue(am, entity));
+		} else {
+			generator.writeString(value.toString());
+		}
+	}
+
+	/**
+	 * Converts a legacy date to its java.time counterpart. The SQL date and time
+	 * types do not support toInstant() and have no time zone, all other dates are
+	 * converted using the time zone of the user
+	 *
+	 * @param date the date
+	 * @return the converted date
+	 */
+	private TemporalAccessor toTemporal(Date date) {
+		if (date instanceof java.sql.Date sqlDate) {
+			return sqlDate.toLocalDate();
+		} else if (date instanceof java.sql.Time sqlTime) {
+			return sqlTime.toLocalTime();
+		}
+		return date.toInstant().atZone(getTimeZoneId()).toOffsetDateTime();
+	}
+
+	/**
+	 * Returns the value of the display property of a nested entity, falling back
+	 * to its ID
+	 *
+	 * @param am     the attribute model of the attribute that holds the entity
+	 * @param entity the entity
+	 * @return the value
+	 */
+	private Object getDisplayValue(AttributeModel am, AbstractEntity<?> entity) {
+		EntityModel<?> nested = am.getNestedEntityModel() != null ? am.getNestedEntityModel()
+				: getEntityModelFactory().getModel(entity.getClass());
+		String displayProperty = nested.getDisplayProperty();
+		if (displayProperty == null) {
+			return entity.getId();
+		}
+		Object displayValue = ClassUtils.getFieldValue(entity, displayProperty);
+		return displayValue instanceof AbstractEntity<?> ? displayValue.toString() : displayValue;
+	}
+
+	/**
+	 * The way in which a column is exported. Determined once per export
+	 *
+	 * @param value the column that holds the value
+	 * @param name  the serialized name of the field
+	 */
+	private record JsonColumn(ValueColumn value, SerializedString name) {
+	}
+
+}
@@ -0,0 +1,230 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import com.ocs.dynamo.constants.DynamoConstants;
+import com.ocs.dynamo.dao.QueryFunction;
+import com.ocs.dynamo.dao.SortOrder;
+import com.ocs.dynamo.dao.SortOrders;
+import com.ocs.dynamo.filter.Filter;
+import com.ocs.dynamo.service.BaseService;
+import com.ocs.dynamo.ui.composite.export.PivotParameters;
+import com.ocs.dynamo.util.ProgressCounter;
+
+import lombok.Setter;
+
+/**
+ * Iterates over the rows of a pivot table of which the cells have been
+ * aggregated by the database. The data is retrieved page by page using a query
+ * that groups by row key and column key, so no entities are loaded and only a
+ * single tuple is retrieved per cell
+ *
+ * @author bas.rutten
+ *
+ * @param <ID> the type of the primary key of the entities
+ */
+public class PivotRowIterator<ID extends Serializable> {
+
+	private final BaseService<ID, ?> service;
+
+	private final Filter filter;
+
+	private final String[] selectProperties;
+
+	private final SortOrders sortOrders;
+
+	private final int pageSize;
+
+	private final int nrOfFixedColumns;
+
+	private final int nrOfProperties;
+
+	private final int nrOfHiddenProperties;
+
+	private final int nrOfColumnKeys;
+
+	/**
+	 * The position of every possible column key
+	 */
+	private final Map<Object, Integer> columnIndexes = new HashMap<>();
+
+	private List<?> page = Collections.emptyList();
+
+	private int pageNumber;
+
+	private int indexInPage;
+
+	private boolean lastPage;
+
+	/**
+	 * The first tuple of the next row
+	 */
+	private Object[] pending;
+
+	/**
+	 * Optional counter that keeps track of the number of entities that have been
+	 * processed
+	 */
+	@Setter
+	private ProgressCounter progressCounter;
+
+	/**
+	 * Constructor
+	 *
+	 * @param service         the service used to query the database
+	 * @param filter          the filter to apply
+	 * @param sortOrders      the desired sort orders. Only the sort orders on the
+	 *                        row key and the fixed columns can be applied
+	 * @param pivotParameters the pivot parameters
+	 * @param pageSize        the page size
+	 */
+	public PivotRowIterator(BaseService<ID, ?> service, Filter filter, SortOrder[] sortOrders,
+			PivotParameters pivotParameters, int pageSize) {
+		this.service = service;
+		this.filter = filter;
+		this.pageSize = pageSize;
+
+		List<String> fixedColumns = pivotParameters.getFixedColumnKeys();
+		List<String> properties = pivotParameters.getPivotedProperties();
+		List<String> hiddenProperties = pivotParameters.getHiddenPivotProperties();
+		this.nrOfFixedColumns = fixedColumns.size();
+		this.nrOfProperties = properties.size();
+		this.nrOfHiddenProperties = hiddenProperties.size();
+		this.nrOfColumnKeys = pivotParameters.getPossibleColumnKeys().size();
+
+		for (int i = 0; i < nrOfColumnKeys; i++) {
+			columnIndexes.putIfAbsent(pivotParameters.getPossibleColumnKeys().get(i), i);
+		}
+
+		// the row key, fixed columns and column key are grouped on, the properties are
+		// aggregated. The number of entities per cell is used for progress reporting
+		List<String> select = new ArrayList<>();
+		select.add(pivotParameters.getRowKeyProperty());
+		select.addAll(fixedColumns);
+		select.add(pivotParameters.getColumnKeyProperty());
+		for (String property : properties) {
+			select.add(pivotParameters.getQueryFunction(property).with(property));
+		}
+		for (String property : hiddenProperties) {
+			select.add(pivotParameters.getQueryFunction(property).with(property));
+		}
+		select.add(QueryFunction.AF_COUNT.with(DynamoConstants.ID));
+		this.selectProperties = select.toArray(new String[0]);
+
+		this.sortOrders = createSortOrders(sortOrders, pivotParameters);
+	}
+
+	/**
+	 * Creates the sort orders. The tuples that belong to the same row must be
+	 * adjacent, and the order must be fully determined in order to be able to
+	 * page through the results, so sorting is only possible on grouped properties
+	 *
+	 * @param sortOrders      the desired sort orders
+	 * @param pivotParameters the pivot parameters
+	 * @return the sort orders to apply
+	 */
+	private static SortOrders createSortOrders(SortOrder[] sortOrders, PivotParameters pivotParameters) {
+		List<String> grouped = new ArrayList<>();
+		grouped.add(pivotParameters.getRowKeyProperty());
+		grouped.addAll(pivotParameters.getFixedColumnKeys());
+
+		Map<String, SortOrder> orders = new LinkedHashMap<>();
+		if (sortOrders != null) {
+			for (SortOrder order : sortOrders) {
+				if (order != null && grouped.contains(order.getProperty())) {
+					orders.putIfAbsent(order.getProperty(), order);
+				}
+			}
+		}
+		for (String property : grouped) {
+			orders.putIfAbsent(property, new SortOrder(property));
+		}
+		orders.putIfAbsent(pivotParameters.getColumnKeyProperty(),
+				new SortOrder(pivotParameters.getColumnKeyProperty()));
+		return new SortOrders(orders.values().toArray(new SortOrder[0]));
+	}
+
+	/**
+	 * Returns the next row
+	 *
+	 * @return the row, or <code>null</code> if there are no more rows
+	 */
+	public PivotRow next() {
+		Object[] tuple = pending != null ? pending : nextTuple();
+		pending = null;
+		if (tuple == null) {
+			return null;
+		}
+
+		Object rowKey = tuple[0];
+		PivotRow row = new PivotRow(rowKey, Arrays.copyOfRange(tuple, 1, 1 + nrOfFixedColumns),
+				new Object[nrOfColumnKeys * nrOfProperties], new Object[nrOfColumnKeys * nrOfHiddenProperties]);
+		while (tuple != null && Objects.equals(rowKey, tuple[0])) {
+			addToRow(row, tuple);
+			tuple = nextTuple();
+		}
+		pending = tuple;
+		return row;
+	}
+
+	private void addToRow(PivotRow row, Object[] tuple) {
+		int offset = 1 + nrOfFixedColumns;
+		Integer columnIndex = columnIndexes.get(tuple[offset]);
+		if (columnIndex != null) {
+			System.arraycopy(tuple, offset + 1, row.values(), columnIndex * nrOfProperties, nrOfProperties);
+			System.arraycopy(tuple, offset + 1 + nrOfProperties, row.hiddenValues(),
+					columnIndex * nrOfHiddenProperties, nrOfHiddenProperties);
+		}
+
+		if (progressCounter != null && tuple[tuple.length - 1] instanceof Number count) {
+			progressCounter.incrementBy(count.intValue());
+		}
+	}
+
+	private Object[] nextTuple() {
+		while (indexInPage >= page.size()) {
+			if (lastPage) {
+				return null;
+			}
+			page = service.findProperties(filter, selectProperties, pageNumber++, pageSize, sortOrders);
+			indexInPage = 0;
+			lastPage = page.size() < pageSize;
+		}
+		return (Object[]) page.get(indexInPage++);
+	}
+
+	/**
+	 * A row of the pivot table
+	 *
+	 * @param rowKey       the row key
+	 * @param fixedValues  the values of the fixed columns
+	 * @param values       the aggregated values of the pivoted properties. The
+	 *                     value of property p for column key c is at index c *
+	 *                     (number of properties) + p
+	 * @param hiddenValues the aggregated values of the hidden pivoted properties,
+	 *                     per column key and property
+	 */
+	public record PivotRow(Object rowKey, Object[] fixedValues, Object[] values, Object[] hiddenValues) {
+	}
+}
@@ -0,0 +1,133 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ocs.dynamo.constants.DynamoConstants;
+import com.ocs.dynamo.filter.In;
+import com.ocs.dynamo.service.BaseService;
+import com.ocs.dynamo.util.ProgressCounter;
+
+import lombok.Setter;
+
+/**
+ * Iterates over the values of a limited set of properties of a large number of
+ * entities. The values are retrieved page by page using a tuple query, so no
+ * entities are loaded
+ * 
+ * @author bas.rutten
+ *
+ * @param <ID> the type of the primary key of the entities
+ */
+public class ProjectionIterator<ID extends Serializable> {
+
+	private final BaseService<ID, ?> service;
+
+	private final List<ID> ids;
+
+	private final String[] selectProperties;
+
+	private final int pageSize;
+
+	private List<Object[]> page = Collections.emptyList();
+
+	private int index;
+
+	private int indexInPage;
+
+	/**
+	 * Optional counter that keeps track of the number of rows that have been
+	 * retrieved
+	 */
+	@Setter
+	private ProgressCounter progressCounter;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param service    the service used to query the database
+	 * @param ids        the IDs of the entities, in the desired order
+	 * @param properties the paths of the properties to retrieve
+	 * @param pageSize   the page size
+	 */
+	public ProjectionIterator(BaseService<ID, ?> service, List<ID> ids, List<String> properties, int pageSize) {
+		this.service = service;
+		this.ids = ids;
+		this.pageSize = pageSize;
+
+		// the ID is retrieved as well, in order to restore the order of the rows
+		this.selectProperties = new String[properties.size() + 1];
+		this.selectProperties[0] = DynamoConstants.ID;
+		for (int i = 0; i < properties.size(); i++) {
+			this.selectProperties[i + 1] = properties.get(i);
+		}
+	}
+
+	/**
+	 * Returns the property values of the next entity
+	 * 
+	 * @return the values, in the order of the properties, or <code>null</code> if
+	 *         there are no more entities
+	 */
+	public Object[] next() {
+		while (indexInPage >= page.size()) {
+			if (index >= ids.size()) {
+				return null;
+			}
+			page = fetchPage();
+			indexInPage = 0;
+		}
+		if (progressCounter != null) {
+			progressCounter.increment();
+		}
+		return page.get(indexInPage++);
+	}
+
+	private List<Object[]> fetchPage() {
+		List<ID> pageIds = new ArrayList<>(ids.subList(index, Math.min(index + pageSize, ids.size())));
+		index += pageIds.size();
+
+		Map<Object, Object[]> valuesById = new HashMap<>();
+		for (Object row : service.findProperties(new In(DynamoConstants.ID, pageIds), selectProperties, null)) {
+			Object[] values = (Object[]) row;
+			valuesById.put(values[0], Arrays.copyOfRange(values, 1, values.length));
+		}
+
+		// sort in memory, since sorting in the query could add (inner) joins
+		List<Object[]> result = new ArrayList<>(pageIds.size());
+		for (ID id : pageIds) {
+			Object[] values = valuesById.get(id);
+			if (values != null) {
+				result.add(values);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the total number of entities
+	 * 
+	 * @return the total number of entities
+	 */
+	public int size() {
+		return ids.size();
+	}
+}
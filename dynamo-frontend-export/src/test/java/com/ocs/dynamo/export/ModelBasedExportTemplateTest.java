@@ -1,13 +1,32 @@
 package com.ocs.dynamo.export;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
 
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.dictionary.Dictionary;
+import org.apache.arrow.vector.ipc.ArrowStreamReader;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -16,7 +35,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ocs.dynamo.dao.SortOrder;
 import com.ocs.dynamo.dao.SortOrder.Direction;
 import com.ocs.dynamo.domain.TestEntity;
@@ -26,8 +49,10 @@ import com.ocs.dynamo.domain.model.impl.EntityModelFactoryImpl;
 import com.ocs.dynamo.service.TestEntityService;
 import com.ocs.dynamo.ui.FrontendIntegrationTest;
 import com.ocs.dynamo.ui.FrontendIntegrationTestConfig;
+import com.ocs.dynamo.ui.composite.export.impl.ModelBasedArrowExportTemplate;
 import com.ocs.dynamo.ui.composite.export.impl.ModelBasedCsvExportTemplate;
 import com.ocs.dynamo.ui.composite.export.impl.ModelBasedExcelExportTemplate;
+import com.ocs.dynamo.ui.composite.export.impl.ModelBasedJsonExportTemplate;
 import com.ocs.dynamo.ui.composite.type.ExportMode;
 import com.ocs.dynamo.utils.DateUtils;
 
@@ -144,4 +169,221 @@ public class ModelBasedExportTemplateTest extends FrontendIntegrationTest {
 				"\"11\";\"01/04/2014\";\"2014-14\";\"34,00\";;\"Bob\";\"secret\";\"4,00%\";\"11:12:13\";\"false\";\"On\";\"44,44\";\"Value A\";\"1.234\";\"some\";\"abab\";\"12:13:14\";\"http://www.google.nl\";\"14-08-2015 11:12:13+0200\"",
 				lines[1].trim());
 	}
+
+	@Test
+	public void testCsvToStream() {
+		ModelBasedCsvExportTemplate<Integer, TestEntity> template = new ModelBasedCsvExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class), ExportMode.ONLY_VISIBLE_IN_GRID,
+				new SortOrder[] { new SortOrder("name", Direction.ASC) }, null);
+
+		ClosingAwareOutputStream out = new ClosingAwareOutputStream();
+		template.process(out);
+
+		// the stream must not be closed by the template
+		assertFalse(out.closed);
+		assertArrayEquals(template.process(), out.toByteArray());
+	}
+
+	@Test
+	public void testExcelToStream() throws IOException {
+		ModelBasedExcelExportTemplate<Integer, TestEntity> template = new ModelBasedExcelExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class), ExportMode.ONLY_VISIBLE_IN_GRID,
+				new SortOrder[] { new SortOrder("name", Direction.ASC) }, null, "Sheet name", null);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		template.process(out);
+
+		try (Workbook wb = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+			Sheet sheet = wb.getSheetAt(0);
+			assertEquals("Bob", sheet.getRow(1).getCell(5).getStringCellValue());
+			assertEquals("Harry", sheet.getRow(2).getCell(5).getStringCellValue());
+		}
+	}
+
+	@Test
+	public void testExcelMultipleSheets() throws IOException {
+		ModelBasedExcelExportTemplate<Integer, TestEntity> template = new ModelBasedExcelExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class), ExportMode.ONLY_VISIBLE_IN_GRID,
+				new SortOrder[] { new SortOrder("name", Direction.ASC) }, null, "Sheet name", null);
+
+		System.setProperty("ocs.export.excel.max.rows.per.sheet", "1");
+		try (Workbook wb = new XSSFWorkbook(new ByteArrayInputStream(template.process()))) {
+			// every sheet gets a header row and at most one data row
+			assertEquals(2, wb.getNumberOfSheets());
+			assertEquals("Sheet name", wb.getSheetName(0));
+			assertEquals("Sheet name (2)", wb.getSheetName(1));
+
+			assertEquals("Name", wb.getSheetAt(1).getRow(0).getCell(5).getStringCellValue());
+			assertEquals("Bob", wb.getSheetAt(0).getRow(1).getCell(5).getStringCellValue());
+			assertEquals("Harry", wb.getSheetAt(1).getRow(1).getCell(5).getStringCellValue());
+		} finally {
+			System.clearProperty("ocs.export.excel.max.rows.per.sheet");
+		}
+	}
+
+	/**
+	 * Runs without a test transaction, since the worker threads cannot see
+	 * uncommitted entities
+	 */
+	@Test
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public void testExcelParallel() throws IOException {
+		ModelBasedExcelExportTemplate<Integer, TestEntity> template = new ModelBasedExcelExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class), ExportMode.ONLY_VISIBLE_IN_GRID,
+				new SortOrder[] { new SortOrder("name", Direction.ASC) }, null, "Sheet name", null);
+
+		System.setProperty("ocs.export.excel.threads", "2");
+		try (Workbook wb = new XSSFWorkbook(new ByteArrayInputStream(template.process()))) {
+			// the ranges are formatted in parallel, but end up on a single sheet in order
+			assertEquals(1, wb.getNumberOfSheets());
+			assertEquals("Bob", wb.getSheetAt(0).getRow(1).getCell(5).getStringCellValue());
+			assertEquals("Harry", wb.getSheetAt(0).getRow(2).getCell(5).getStringCellValue());
+		} finally {
+			System.clearProperty("ocs.export.excel.threads");
+			testEntityService.delete(List.of(e1, e2));
+		}
+	}
+
+	@Test
+	public void testCsvProjected() {
+		ModelBasedCsvExportTemplate<Integer, TestEntity> template = new ModelBasedCsvExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class), ExportMode.ONLY_VISIBLE_IN_GRID,
+				new SortOrder[] { new SortOrder("name", Direction.ASC) }, null);
+		byte[] expected = template.process();
+
+		System.setProperty("ocs.export.use.projections", "true");
+		try {
+			// the projection must produce exactly the same output
+			assertArrayEquals(expected, template.process());
+		} finally {
+			System.clearProperty("ocs.export.use.projections");
+		}
+	}
+
+	@Test
+	public void testExcelProjected() throws IOException {
+		ModelBasedExcelExportTemplate<Integer, TestEntity> template = new ModelBasedExcelExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class), ExportMode.ONLY_VISIBLE_IN_GRID,
+				new SortOrder[] { new SortOrder("name", Direction.DESC) }, null, "Sheet name", null);
+
+		System.setProperty("ocs.export.use.projections", "true");
+		try (Workbook wb = new XSSFWorkbook(new ByteArrayInputStream(template.process()))) {
+			// rows must follow the requested sort order
+			Sheet sheet = wb.getSheetAt(0);
+			assertEquals("Harry", sheet.getRow(1).getCell(5).getStringCellValue());
+			assertEquals("Bob", sheet.getRow(2).getCell(5).getStringCellValue());
+			assertEquals(1234, sheet.getRow(2).getCell(13).getNumericCellValue(), 0.001);
+		} finally {
+			System.clearProperty("ocs.export.use.projections");
+		}
+	}
+
+	@Test
+	public void testArrow() throws IOException {
+		ModelBasedArrowExportTemplate<Integer, TestEntity> template = new ModelBasedArrowExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class), ExportMode.ONLY_VISIBLE_IN_GRID,
+				new SortOrder[] { new SortOrder("name", Direction.ASC) }, null);
+
+		ClosingAwareOutputStream out = new ClosingAwareOutputStream();
+		template.process(out);
+		assertFalse(out.closed);
+
+		try (BufferAllocator allocator = new RootAllocator();
+				ArrowStreamReader reader = new ArrowStreamReader(new ByteArrayInputStream(out.toByteArray()),
+						allocator)) {
+			VectorSchemaRoot root = reader.getVectorSchemaRoot();
+			assertEquals("Age", root.getSchema().findField("age").getMetadata()
+					.get(ModelBasedArrowExportTemplate.DISPLAY_NAME));
+
+			assertTrue(reader.loadNextBatch());
+			assertEquals(2, root.getRowCount());
+
+			// the values are typed rather than formatted
+			assertEquals(11L, ((BigIntVector) root.getVector("age")).get(0));
+			assertEquals(DateUtils.createLocalDate("01042014").toEpochDay(),
+					((DateDayVector) root.getVector("birthDate")).get(0));
+			assertEquals(new BigDecimal("4.00"), ((DecimalVector) root.getVector("rate")).getObject(0));
+			assertEquals(0, ((BitVector) root.getVector("someBoolean")).get(0));
+			assertEquals(1234, ((IntVector) root.getVector("someInt")).get(0));
+			assertEquals("Bob", new String(((VarCharVector) root.getVector("name")).get(0), StandardCharsets.UTF_8));
+			assertTrue(root.getVector("someInt").isNull(1));
+
+			// enumerations are dictionary encoded
+			FieldVector someEnum = root.getVector("someEnum");
+			Dictionary dictionary = reader.getDictionaryVectors()
+					.get(someEnum.getField().getDictionary().getId());
+			VarCharVector values = (VarCharVector) dictionary.getVector();
+			assertEquals("Value A",
+					new String(values.get(((IntVector) someEnum).get(0)), StandardCharsets.UTF_8));
+			assertTrue(someEnum.isNull(1));
+
+			assertFalse(reader.loadNextBatch());
+		}
+	}
+
+	@Test
+	public void testArrowProjected() {
+		ModelBasedArrowExportTemplate<Integer, TestEntity> template = new ModelBasedArrowExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class), ExportMode.ONLY_VISIBLE_IN_GRID,
+				new SortOrder[] { new SortOrder("name", Direction.ASC) }, null);
+		byte[] expected = template.process();
+
+		System.setProperty("ocs.export.use.projections", "true");
+		try {
+			assertArrayEquals(expected, template.process());
+		} finally {
+			System.clearProperty("ocs.export.use.projections");
+		}
+	}
+
+	@Test
+	public void testJsonLines() throws IOException {
+		ModelBasedJsonExportTemplate<Integer, TestEntity> template = new ModelBasedJsonExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class), ExportMode.ONLY_VISIBLE_IN_GRID,
+				new SortOrder[] { new SortOrder("name", Direction.ASC) }, null, true);
+
+		ClosingAwareOutputStream out = new ClosingAwareOutputStream();
+		template.process(out);
+		assertFalse(out.closed);
+
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2, lines.length);
+
+		ObjectMapper mapper = new ObjectMapper();
+		JsonNode bob = mapper.readTree(lines[0]);
+		assertEquals(11L, bob.get("age").longValue());
+		assertEquals("2014-04-01", bob.get("birthDate").textValue());
+		assertEquals("Bob", bob.get("name").textValue());
+		assertFalse(bob.get("someBoolean").booleanValue());
+		assertEquals("A", bob.get("someEnum").textValue());
+		assertEquals(1234, bob.get("someInt").intValue());
+		assertTrue(bob.get("lastLogin").isNull());
+
+		JsonNode harry = mapper.readTree(lines[1]);
+		assertEquals("Harry", harry.get("name").textValue());
+		assertNull(harry.get("someEnum").textValue());
+	}
+
+	@Test
+	public void testJsonArray() throws IOException {
+		ModelBasedJsonExportTemplate<Integer, TestEntity> template = new ModelBasedJsonExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class), ExportMode.ONLY_VISIBLE_IN_GRID,
+				new SortOrder[] { new SortOrder("name", Direction.DESC) }, null, false);
+
+		JsonNode array = new ObjectMapper().readTree(template.process());
+		assertEquals(2, array.size());
+		assertEquals("Harry", array.get(0).get("name").textValue());
+		assertEquals("Bob", array.get(1).get("name").textValue());
+	}
+
+	private static class ClosingAwareOutputStream extends ByteArrayOutputStream {
+
+		private boolean closed;
+
+		@Override
+		public void close() throws IOException {
+			closed = true;
+			super.close();
+		}
+	}
 }
@@ -137,6 +137,70 @@ public class ModelBasedPivotExportTemplateTest extends FrontendIntegrationTest {
 		assertEquals("\"Bob\";\"A\";\"B\";\"\"", lines[1].trim());
 	}
 
+	@Test
+	public void testExcelAggregated() throws IOException {
+		addEntity();
+
+		ModelBasedExcelPivotExportTemplate<Integer, TestEntity> template = new ModelBasedExcelPivotExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class),
+				new SortOrder[] { new SortOrder("name", Direction.ASC) }, null, "Sheet name", null,
+				createAggregatedPivotParameters());
+		byte[] bytes = template.process();
+
+		try (Workbook wb = new XSSFWorkbook(new ByteArrayInputStream(bytes))) {
+			Sheet sheet = wb.getSheetAt(0);
+
+			int i = 0;
+			assertEquals("name", sheet.getRow(0).getCell(i++).getStringCellValue());
+			assertEquals("A", sheet.getRow(0).getCell(i++).getStringCellValue());
+			assertEquals("B", sheet.getRow(0).getCell(i++).getStringCellValue());
+			assertEquals("C", sheet.getRow(0).getCell(i++).getStringCellValue());
+
+			// the values for A are summed up by the database
+			Row row = sheet.getRow(2);
+			i = 0;
+			assertEquals("Bob", row.getCell(i++).getStringCellValue());
+			assertEquals(2234, row.getCell(i++).getNumericCellValue(), 0.001);
+			assertEquals(1234, row.getCell(i++).getNumericCellValue(), 0.001);
+			assertEquals("", row.getCell(i++).getStringCellValue());
+			assertNull(sheet.getRow(3));
+		}
+	}
+
+	@Test
+	public void testCsvAggregated() {
+		addEntity();
+
+		ModelBasedCsvPivotExportTemplate<Integer, TestEntity> template = new ModelBasedCsvPivotExportTemplate<Integer, TestEntity>(
+				testEntityService, entityModelFactory.getModel(TestEntity.class),
+				new SortOrder[] { new SortOrder("name", Direction.ASC) }, null, createAggregatedPivotParameters());
+		byte[] bytes = template.process();
+
+		String str = new String(bytes);
+		String[] lines = str.split("\n");
+
+		assertEquals(2, lines.length);
+		assertEquals("\"name\";\"A - someInt\";\"B - someInt\";\"C - someInt\"", lines[0].trim());
+		assertEquals("\"Bob\";\"2234\";\"1234\";\"\"", lines[1].trim());
+	}
+
+	private void addEntity() {
+		TestEntity e3 = new TestEntity("Bob", 11L);
+		e3.setSomeEnum(TestEnum.A);
+		e3.setSomeInt(1000);
+		testEntityService.save(e3);
+	}
+
+	private PivotParameters createAggregatedPivotParameters() {
+		return PivotParameters.builder().fixedColumnKeys(List.of("name")) //
+				.rowKeyProperty("name") //
+				.pivotedProperties(List.of("someInt")) //
+				.columnKeyProperty("someEnum") //
+				.possibleColumnKeys(List.of(TestEnum.values())) //
+				.aggregateInDatabase(true) //
+				.build();
+	}
+
 	private PivotParameters createPivotParameters() {
 		return PivotParameters.builder().fixedColumnKeys(List.of("name")) //
 				.rowKeyProperty("age") //
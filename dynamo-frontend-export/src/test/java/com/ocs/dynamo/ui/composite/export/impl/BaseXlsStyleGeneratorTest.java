@@ -0,0 +1,95 @@
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.Test;
+
+import com.ocs.dynamo.domain.TestEntity;
+import com.ocs.dynamo.domain.model.AttributeModel;
+import com.ocs.dynamo.ui.composite.export.XlsCellStyle;
+import com.ocs.dynamo.ui.composite.export.XlsStyleGenerator;
+
+public class BaseXlsStyleGeneratorTest {
+
+	@Test
+	public void testCustomStylesAreShared() throws IOException {
+		try (Workbook workbook = new XSSFWorkbook()) {
+			BaseXlsStyleGenerator<Integer, TestEntity> generator = new BaseXlsStyleGenerator<>(workbook);
+			CellStyle base = generator.getCellStyle(0, null, 12.5, null);
+			int styles = workbook.getNumCellStyles();
+			int fonts = workbook.getNumberOfFonts();
+
+			CellStyle red = null;
+			for (int i = 0; i < 1000; i++) {
+				CellStyle style = generator.getCustomStyle(workbook, base,
+						XlsCellStyle.builder().bold(true).fontColor(IndexedColors.RED).build());
+				if (red != null) {
+					assertSame(red, style);
+				}
+				red = style;
+			}
+
+			// exactly one style and one font added
+			assertEquals(styles + 1, workbook.getNumCellStyles());
+			assertEquals(fonts + 1, workbook.getNumberOfFonts());
+			assertTrue(workbook.getFontAt(red.getFontIndex()).getBold());
+			assertEquals(IndexedColors.RED.getIndex(), workbook.getFontAt(red.getFontIndex()).getColor());
+
+			// properties that are not set are taken over from the default style
+			assertEquals(base.getDataFormatString(), red.getDataFormatString());
+			assertEquals(base.getAlignment(), red.getAlignment());
+
+			// a different default style results in a different style, but the same font
+			CellStyle other = generator.getCustomStyle(workbook, generator.getCellStyle(0, null, "text", null),
+					XlsCellStyle.builder().bold(true).fontColor(IndexedColors.RED).build());
+			assertNotSame(red, other);
+			assertEquals(red.getFontIndex(), other.getFontIndex());
+			assertEquals(styles + 2, workbook.getNumCellStyles());
+		}
+	}
+
+	@Test
+	public void testDefaultCustomStyle() throws IOException {
+		try (Workbook workbook = new XSSFWorkbook()) {
+			BaseXlsStyleGenerator<Integer, TestEntity> delegate = new BaseXlsStyleGenerator<>(workbook);
+			XlsStyleGenerator<Integer, TestEntity> generator = new XlsStyleGenerator<>() {
+
+				@Override
+				public CellStyle getHeaderStyle(int index) {
+					return delegate.getHeaderStyle(index);
+				}
+
+				@Override
+				public CellStyle getCellStyle(int index, TestEntity entity, Object value, AttributeModel am) {
+					return delegate.getCellStyle(index, entity, value, am);
+				}
+
+				@Override
+				public CellStyle getTotalsStyle(Class<?> type, AttributeModel am) {
+					return delegate.getTotalsStyle(type, am);
+				}
+			};
+
+			CellStyle base = generator.getCellStyle(0, null, 12.5, null);
+			int styles = workbook.getNumCellStyles();
+			XlsCellStyle custom = XlsCellStyle.builder().italic(true).fillColor(IndexedColors.YELLOW).build();
+
+			CellStyle style = generator.getCustomStyle(workbook, base, custom);
+			assertNotSame(style, generator.getCustomStyle(workbook, base, custom));
+			assertEquals(styles + 2, workbook.getNumCellStyles());
+
+			assertTrue(workbook.getFontAt(style.getFontIndex()).getItalic());
+			assertEquals(IndexedColors.YELLOW.getIndex(), style.getFillForegroundColor());
+			assertEquals(base.getDataFormatString(), style.getDataFormatString());
+		}
+	}
+}
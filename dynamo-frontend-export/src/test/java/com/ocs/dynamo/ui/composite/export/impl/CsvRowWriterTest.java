@@ -0,0 +1,77 @@
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.opencsv.CSVWriter;
+import com.opencsv.ICSVWriter;
+
+public class CsvRowWriterTest {
+
+	private static final String[] VALUES = { "plain", "with \"quotes\"", "semi;colon", "new\nline", "", null,
+			"smiley 😀", "back\\slash", "'single'" };
+
+	@Test
+	public void testSameAsOpenCsv() throws IOException {
+		compare(';', '"', '"');
+		compare(',', '\'', '\\');
+		compare(';', ICSVWriter.NO_QUOTE_CHARACTER, '\\');
+		compare(';', '"', ICSVWriter.NO_ESCAPE_CHARACTER);
+	}
+
+	@Test
+	public void testNeedsEscaping() {
+		CsvRowWriter writer = new CsvRowWriter(new ByteArrayOutputStream(), ';', '"', '"', "\n");
+		assertFalse(writer.needsEscaping("1.234,56 %"));
+		assertTrue(writer.needsEscaping("\"quoted\""));
+	}
+
+	@Test
+	public void testSkipCheck() throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		CsvRowWriter writer = new CsvRowWriter(out, ';', '"', '"', "\n");
+		writer.writeField("12", false);
+		writer.writeField("a\"b", true);
+		writer.endRow();
+		writer.flush();
+
+		assertEquals("\"12\";\"a\"\"b\"\n", out.toString(StandardCharsets.UTF_8));
+	}
+
+	private void compare(char separator, char quote, char escape) throws IOException {
+		// enough rows to fill the buffer several times
+		List<String[]> rows = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			String[] row = new String[VALUES.length + 1];
+			row[0] = Integer.toString(i);
+			System.arraycopy(VALUES, 0, row, 1, VALUES.length);
+			rows.add(row);
+		}
+
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		CSVWriter csvWriter = new CSVWriter(new OutputStreamWriter(expected, StandardCharsets.UTF_8), separator,
+				quote, escape, "\r\n");
+		rows.forEach(csvWriter::writeNext);
+		csvWriter.flush();
+
+		ByteArrayOutputStream actual = new ByteArrayOutputStream();
+		CsvRowWriter writer = new CsvRowWriter(actual, separator, quote, escape, "\r\n");
+		for (String[] row : rows) {
+			writer.writeRow(row);
+		}
+		writer.flush();
+
+		assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+	}
+}
@@ -0,0 +1,207 @@
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.service.MessageService;
+import com.ocs.dynamo.ui.composite.export.ExportJob;
+import com.ocs.dynamo.ui.composite.export.ExportJob.Status;
+
+public class ExportJobManagerTest {
+
+	@TempDir
+	private Path directory;
+
+	private ExportJobManager manager;
+
+	private final MessageService messageService = mock(MessageService.class);
+
+	@AfterEach
+	public void cleanup() {
+		if (manager != null) {
+			manager.shutdown();
+		}
+	}
+
+	@Test
+	public void testCompleted() throws Exception {
+		manager = new ExportJobManager(messageService, directory, 1, 5, 2, 60);
+
+		ExportJob job = manager.submit("bob", "export.csv", (j, out) -> {
+			j.setEstimatedSize(2);
+			write(out, "a;b\n");
+			j.getCounter().increment();
+			assertEquals(50, j.getPercentage());
+			write(out, "c;d\n");
+			j.getCounter().increment();
+		});
+		job.getCompletion().get(10, TimeUnit.SECONDS);
+
+		assertEquals(Status.COMPLETED, job.getStatus());
+		assertEquals(100, job.getPercentage());
+		try (InputStream in = manager.openResult(job)) {
+			assertArrayEquals("a;b\nc;d\n".getBytes(StandardCharsets.UTF_8), in.readAllBytes());
+		}
+		assertEquals(1, manager.getJobs("bob").size());
+		assertTrue(manager.getJobs("harry").isEmpty());
+	}
+
+	@Test
+	public void testFailed() throws Exception {
+		manager = new ExportJobManager(messageService, directory, 1, 5, 2, 60);
+
+		ExportJob job = manager.submit("bob", "export.csv", (j, out) -> {
+			write(out, "a;b\n");
+			throw new OCSRuntimeException("Broken");
+		});
+		job.getCompletion().get(10, TimeUnit.SECONDS);
+
+		assertEquals(Status.FAILED, job.getStatus());
+		assertEquals("Broken", job.getErrorMessage());
+		assertThrows(OCSRuntimeException.class, () -> manager.openResult(job));
+
+		// the partial result has been removed
+		try (var files = Files.list(directory)) {
+			assertEquals(0, files.count());
+		}
+	}
+
+	@Test
+	public void testMaxJobsPerUser() throws Exception {
+		manager = new ExportJobManager(messageService, directory, 2, 5, 1, 60);
+		when(messageService.getMessage(eq("ocs.export.job.limit"), any(Locale.class), eq(1L)))
+				.thenReturn("You already have 1 exports in progress");
+
+		CountDownLatch latch = new CountDownLatch(1);
+		ExportJob job = manager.submit("bob", "export.csv", (j, out) -> await(latch));
+
+		OCSRuntimeException ex = assertThrows(OCSRuntimeException.class,
+				() -> manager.submit("bob", "export2.csv", (j, out) -> {
+				}));
+		assertEquals("You already have 1 exports in progress", ex.getMessage());
+
+		// other users are not affected
+		ExportJob other = manager.submit("harry", "export.csv", (j, out) -> {
+		});
+		other.getCompletion().get(10, TimeUnit.SECONDS);
+
+		latch.countDown();
+		job.getCompletion().get(10, TimeUnit.SECONDS);
+
+		// a new job can be submitted once the previous one has finished
+		manager.submit("bob", "export2.csv", (j, out) -> {
+		}).getCompletion().get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testQueueFull() throws Exception {
+		manager = new ExportJobManager(messageService, directory, 1, 1, 5, 60);
+
+		CountDownLatch latch = new CountDownLatch(1);
+		ExportJob running = manager.submit("bob", "export1.csv", (j, out) -> await(latch));
+		ExportJob queued = manager.submit("bob", "export2.csv", (j, out) -> {
+		});
+
+		assertThrows(OCSRuntimeException.class, () -> manager.submit("bob", "export3.csv", (j, out) -> {
+		}));
+		assertEquals(2, manager.getJobs("bob").size());
+
+		latch.countDown();
+		running.getCompletion().get(10, TimeUnit.SECONDS);
+		queued.getCompletion().get(10, TimeUnit.SECONDS);
+	}
+
+	@Test
+	public void testRetention() throws Exception {
+		manager = new ExportJobManager(messageService, directory, 1, 5, 2, 0);
+
+		ExportJob job = manager.submit("bob", "export.csv", (j, out) -> write(out, "a;b\n"));
+		job.getCompletion().get(10, TimeUnit.SECONDS);
+
+		// the result expires immediately
+		manager.purgeExpired();
+		assertTrue(manager.getJobs("bob").isEmpty());
+		assertThrows(OCSRuntimeException.class, () -> manager.openResult(job));
+		try (var files = Files.list(directory)) {
+			assertEquals(0, files.count());
+		}
+	}
+
+	@Test
+	public void testRetentionWhileReading() throws Exception {
+		manager = new ExportJobManager(messageService, directory, 1, 5, 2, 0);
+
+		ExportJob job = manager.submit("bob", "export.csv", (j, out) -> write(out, "a;b\n"));
+		job.getCompletion().get(10, TimeUnit.SECONDS);
+
+		// the result is kept as long as it is being read
+		try (InputStream in = manager.openResult(job)) {
+			manager.purgeExpired();
+			assertEquals(1, manager.getJobs("bob").size());
+			assertArrayEquals("a;b\n".getBytes(StandardCharsets.UTF_8), in.readAllBytes());
+		}
+
+		manager.purgeExpired();
+		assertTrue(manager.getJobs("bob").isEmpty());
+		try (var files = Files.list(directory)) {
+			assertEquals(0, files.count());
+		}
+	}
+
+	@Test
+	public void testPeriodicPurge() throws Exception {
+		manager = new ExportJobManager(messageService, directory, 1, 5, 2, 0);
+
+		ExportJob job = manager.submit("bob", "export.csv", (j, out) -> write(out, "a;b\n"));
+		job.getCompletion().get(10, TimeUnit.SECONDS);
+
+		// the result is removed without any further activity
+		long deadline = System.currentTimeMillis() + 10_000;
+		long count;
+		do {
+			Thread.sleep(100);
+			try (var files = Files.list(directory)) {
+				count = files.count();
+			}
+		} while (count > 0 && System.currentTimeMillis() < deadline);
+		assertEquals(0, count);
+	}
+
+	private static void write(OutputStream out, String value) {
+		try {
+			out.write(value.getBytes(StandardCharsets.UTF_8));
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(10, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,70 @@
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class ExportPipelineTest {
+
+	private final List<Integer> values = IntStream.range(0, 1000).boxed().toList();
+
+	@Test
+	public void testSequential() throws Exception {
+		List<String> rows = new ArrayList<>();
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+
+		new ExportPipeline<Integer, String>(1, 10).run(source(), i -> {
+			threads.add(Thread.currentThread().getName());
+			return "row " + i;
+		}, rows::add);
+
+		assertEquals(1000, rows.size());
+		assertEquals("row 0", rows.get(0));
+		assertEquals("row 999", rows.get(999));
+		assertEquals(Set.of(Thread.currentThread().getName()), threads);
+	}
+
+	@Test
+	public void testParallelKeepsOrder() throws Exception {
+		List<String> rows = new ArrayList<>();
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+
+		new ExportPipeline<Integer, String>(4, 7).run(source(), i -> {
+			threads.add(Thread.currentThread().getName());
+			return "row " + i;
+		}, rows::add);
+
+		assertEquals(1000, rows.size());
+		for (int i = 0; i < 1000; i++) {
+			assertEquals("row " + i, rows.get(i));
+		}
+		assertTrue(threads.stream().allMatch(name -> name.contains("-format-")));
+	}
+
+	@Test
+	public void testParallelFailure() {
+		ExportPipeline<Integer, String> pipeline = new ExportPipeline<>(4, 10);
+		assertThrows(IllegalArgumentException.class, () -> pipeline.run(source(), i -> {
+			if (i == 500) {
+				throw new IllegalArgumentException("Cannot format " + i);
+			}
+			return "row " + i;
+		}, row -> {
+		}));
+	}
+
+	private Supplier<Integer> source() {
+		Iterator<Integer> iterator = values.iterator();
+		return () -> iterator.hasNext() ? iterator.next() : null;
+	}
+}
@@ -0,0 +1,78 @@
+package com.ocs.dynamo.ui.composite.export.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ocs.dynamo.domain.TestEntity;
+import com.ocs.dynamo.domain.TestEntity.TestEnum;
+import com.ocs.dynamo.domain.model.EntityModelFactory;
+import com.ocs.dynamo.domain.model.impl.EntityModelFactoryImpl;
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.filter.And;
+import com.ocs.dynamo.filter.Between;
+import com.ocs.dynamo.filter.Compare;
+import com.ocs.dynamo.filter.Filter;
+import com.ocs.dynamo.filter.In;
+import com.ocs.dynamo.filter.IsNull;
+import com.ocs.dynamo.filter.Like;
+import com.ocs.dynamo.filter.Not;
+import com.ocs.dynamo.filter.Or;
+import com.ocs.dynamo.test.BaseMockitoTest;
+
+public class JsonFilterParserTest extends BaseMockitoTest {
+
+	private EntityModelFactory entityModelFactory = new EntityModelFactoryImpl();
+
+	private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+	@Test
+	public void testParse() throws Exception {
+		Filter filter = parse("""
+				{ "type": "and", "filters": [
+				  { "type": "equal", "property": "name", "value": "Bob" },
+				  { "type": "greaterOrEqual", "property": "age", "value": 11 },
+				  { "type": "between", "property": "birthDate", "from": "2014-01-01", "to": "2014-12-31" },
+				  { "type": "in", "property": "someEnum", "values": [ "A", "B" ] },
+				  { "type": "or", "filters": [
+				    { "type": "like", "property": "someString", "value": "so%" },
+				    { "type": "not", "filter": { "type": "isNull", "property": "someInt" } } ] } ] }
+				""");
+
+		And expected = new And(new Compare.Equal("name", "Bob"), new Compare.GreaterOrEqual("age", 11L),
+				new Between("birthDate", LocalDate.of(2014, 1, 1), LocalDate.of(2014, 12, 31)),
+				new In("someEnum", List.of(TestEnum.A, TestEnum.B)),
+				new Or(new Like("someString", "so%", false), new Not(new IsNull("someInt"))));
+		assertEquals(expected, filter);
+	}
+
+	@Test
+	public void testEmpty() throws Exception {
+		assertNull(new JsonFilterParser(entityModelFactory.getModel(TestEntity.class), objectMapper).parse(null));
+	}
+
+	@Test
+	public void testInvalid() {
+		// unknown filter type
+		assertThrows(OCSRuntimeException.class, () -> parse("{ \"type\": \"unknown\" }"));
+		// unknown property
+		assertThrows(OCSRuntimeException.class,
+				() -> parse("{ \"type\": \"equal\", \"property\": \"unknown\", \"value\": 1 }"));
+		// value that does not match the type of the property
+		assertThrows(OCSRuntimeException.class,
+				() -> parse("{ \"type\": \"equal\", \"property\": \"age\", \"value\": \"abc\" }"));
+		// missing value
+		assertThrows(OCSRuntimeException.class, () -> parse("{ \"type\": \"equal\", \"property\": \"age\" }"));
+	}
+
+	private Filter parse(String json) throws Exception {
+		return new JsonFilterParser(entityModelFactory.getModel(TestEntity.class), objectMapper)
+				.parse(objectMapper.readTree(json));
+	}
+}
@@ -0,0 +1,1616 @@
+import { x as r, f as d, r as p, F as g, t as x } from "./copilot-sWvu6xks.js";
+import { B as w } from "./base-panel-Zq4jKPA_.js";
+const l = {
+  h1: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M13.0295 40.5991H9.07492L15.1005 23.1445H19.8562L25.8732 40.5991H21.9187L17.5465 27.1332H17.4101L13.0295 40.5991ZM12.7823 33.7383H22.1232V36.619H12.7823V33.7383Z"
+      fill="var(--color1)" />
+    <path
+      d="M27.9741 40.5991V23.1445H31.6048V29.707H31.7155C31.8746 29.3548 32.1048 28.9968 32.4059 28.6332C32.7127 28.2638 33.1104 27.957 33.5991 27.7127C34.0934 27.4627 34.707 27.3377 35.44 27.3377C36.3945 27.3377 37.2752 27.5877 38.082 28.0877C38.8888 28.582 39.5337 29.3292 40.0167 30.3292C40.4996 31.3235 40.7411 32.5707 40.7411 34.0707C40.7411 35.5309 40.5053 36.7638 40.0337 37.7695C39.5678 38.7695 38.9315 39.5281 38.1246 40.0451C37.3235 40.5565 36.4258 40.8121 35.4315 40.8121C34.7269 40.8121 34.1275 40.6957 33.6332 40.4627C33.1445 40.2298 32.744 39.9371 32.4315 39.5849C32.119 39.2269 31.8803 38.8661 31.7155 38.5025H31.5536V40.5991H27.9741ZM31.528 34.0536C31.528 34.832 31.636 35.511 31.8519 36.0906C32.0678 36.6701 32.3803 37.1218 32.7894 37.4457C33.1985 37.7638 33.6957 37.9229 34.2809 37.9229C34.8718 37.9229 35.3718 37.761 35.7809 37.4371C36.19 37.1076 36.4996 36.6531 36.7099 36.0735C36.9258 35.4883 37.0337 34.815 37.0337 34.0536C37.0337 33.2979 36.9286 32.6332 36.7184 32.0593C36.5082 31.4854 36.1985 31.0366 35.7894 30.7127C35.3803 30.3888 34.8775 30.2269 34.2809 30.2269C33.69 30.2269 33.19 30.3832 32.7809 30.6957C32.3775 31.0082 32.0678 31.4513 31.8519 32.0252C31.636 32.5991 31.528 33.2752 31.528 34.0536Z"
+      fill="var(--color1)" />
+    <path
+      d="M49.0785 40.8548C47.7376 40.8548 46.5842 40.5707 45.6182 40.0025C44.658 39.4286 43.9194 38.6332 43.4023 37.6161C42.891 36.5991 42.6353 35.4286 42.6353 34.1048C42.6353 32.7639 42.8938 31.5877 43.4109 30.5763C43.9336 29.5593 44.6751 28.7667 45.6353 28.1985C46.5955 27.6246 47.7376 27.3377 49.0614 27.3377C50.2035 27.3377 51.2035 27.5451 52.0614 27.9599C52.9194 28.3746 53.5984 28.957 54.0984 29.707C54.5984 30.457 54.8739 31.3377 54.9251 32.3491H51.4989C51.4023 31.6957 51.1467 31.1701 50.7319 30.7724C50.3228 30.369 49.7859 30.1673 49.1211 30.1673C48.5586 30.1673 48.0671 30.3207 47.6467 30.6275C47.2319 30.9286 46.908 31.369 46.6751 31.9485C46.4421 32.5281 46.3256 33.2298 46.3256 34.0536C46.3256 34.8889 46.4393 35.5991 46.6665 36.1843C46.8995 36.7695 47.2262 37.2156 47.6467 37.5224C48.0671 37.8292 48.5586 37.9826 49.1211 37.9826C49.5359 37.9826 49.908 37.8974 50.2376 37.7269C50.5728 37.5565 50.8484 37.3093 51.0643 36.9854C51.2859 36.6559 51.4307 36.261 51.4989 35.8008H54.9251C54.8682 36.8008 54.5955 37.6815 54.1069 38.4428C53.6239 39.1985 52.9563 39.7894 52.104 40.2156C51.2518 40.6417 50.2432 40.8548 49.0785 40.8548Z"
+      fill="var(--color1)" />
+  </svg>`,
+  h2: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M14.6104 39.8828H10.9854L16.5088 23.8828H20.8682L26.3838 39.8828H22.7588L18.751 27.5391H18.626L14.6104 39.8828ZM14.3838 33.5938H22.9463V36.2344H14.3838V33.5938Z"
+      fill="var(--color1)" />
+    <path
+      d="M28.3096 39.8828V23.8828H31.6377V29.8984H31.7393C31.8851 29.5755 32.096 29.2474 32.3721 28.9141C32.6533 28.5755 33.0179 28.2943 33.4658 28.0703C33.9189 27.8411 34.4814 27.7266 35.1533 27.7266C36.0283 27.7266 36.8356 27.9557 37.5752 28.4141C38.3148 28.8672 38.9059 29.5521 39.3486 30.4688C39.7913 31.3802 40.0127 32.5234 40.0127 33.8984C40.0127 35.237 39.7965 36.3672 39.3643 37.2891C38.9372 38.2057 38.3538 38.901 37.6143 39.375C36.8799 39.8438 36.057 40.0781 35.1455 40.0781C34.4997 40.0781 33.9502 39.9714 33.4971 39.7578C33.0492 39.5443 32.682 39.276 32.3955 38.9531C32.109 38.625 31.8903 38.2943 31.7393 37.9609H31.5908V39.8828H28.3096ZM31.5674 33.8828C31.5674 34.5964 31.6663 35.2187 31.8643 35.75C32.0622 36.2813 32.3486 36.6953 32.7236 36.9922C33.0986 37.2839 33.5544 37.4297 34.0908 37.4297C34.6325 37.4297 35.0908 37.2812 35.4658 36.9844C35.8408 36.6823 36.1247 36.2656 36.3174 35.7344C36.5153 35.1979 36.6143 34.5807 36.6143 33.8828C36.6143 33.1901 36.5179 32.5807 36.3252 32.0547C36.1325 31.5286 35.8486 31.1172 35.4736 30.8203C35.0986 30.5234 34.6377 30.375 34.0908 30.375C33.5492 30.375 33.0908 30.5182 32.7158 30.8047C32.346 31.0911 32.0622 31.4974 31.8643 32.0234C31.6663 32.5495 31.5674 33.1693 31.5674 33.8828Z"
+      fill="var(--color1)" />
+    <path
+      d="M47.6553 40.1172C46.4261 40.1172 45.3688 39.8568 44.4834 39.3359C43.6032 38.8099 42.9261 38.0807 42.4521 37.1484C41.9834 36.2161 41.749 35.1432 41.749 33.9297C41.749 32.7005 41.986 31.6224 42.46 30.6953C42.9391 29.763 43.6188 29.0365 44.499 28.5156C45.3792 27.9896 46.4261 27.7266 47.6396 27.7266C48.6865 27.7266 49.6032 27.9167 50.3896 28.2969C51.1761 28.6771 51.7985 29.2109 52.2568 29.8984C52.7152 30.5859 52.9678 31.3932 53.0146 32.3203H49.874C49.7855 31.7214 49.5511 31.2396 49.1709 30.875C48.7959 30.5052 48.3037 30.3203 47.6943 30.3203C47.1787 30.3203 46.7282 30.4609 46.3428 30.7422C45.9626 31.0182 45.6657 31.4219 45.4521 31.9531C45.2386 32.4844 45.1318 33.1276 45.1318 33.8828C45.1318 34.6484 45.236 35.2995 45.4443 35.8359C45.6579 36.3724 45.9574 36.7813 46.3428 37.0625C46.7282 37.3438 47.1787 37.4844 47.6943 37.4844C48.0745 37.4844 48.4157 37.4062 48.7178 37.25C49.0251 37.0938 49.2777 36.8672 49.4756 36.5703C49.6787 36.2682 49.8115 35.9062 49.874 35.4844H53.0146C52.9626 36.401 52.7126 37.2083 52.2646 37.9062C51.8219 38.599 51.21 39.1406 50.4287 39.5312C49.6475 39.9219 48.723 40.1172 47.6553 40.1172Z"
+      fill="var(--color1)" />
+  </svg>`,
+  h3: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M17.7721 38.4493H14.8062L19.3254 25.3584H22.8921L27.4049 38.4493H24.439L21.1599 28.3499H21.0576L17.7721 38.4493ZM17.5867 33.3037H24.5924V35.4642H17.5867V33.3037Z"
+      fill="var(--color1)" />
+    <path
+      d="M28.9806 38.4493V25.3584H31.7036V30.2803H31.7867C31.906 30.0161 32.0786 29.7476 32.3044 29.4749C32.5345 29.1979 32.8328 28.9678 33.1993 28.7845C33.57 28.597 34.0303 28.5033 34.58 28.5033C35.2959 28.5033 35.9564 28.6908 36.5615 29.0658C37.1666 29.4365 37.6503 29.9969 38.0125 30.7469C38.3747 31.4926 38.5558 32.428 38.5558 33.553C38.5558 34.6482 38.379 35.5729 38.0253 36.3271C37.6759 37.0771 37.1986 37.646 36.5935 38.0338C35.9926 38.4173 35.3193 38.6091 34.5736 38.6091C34.0452 38.6091 33.5956 38.5218 33.2249 38.347C32.8584 38.1723 32.558 37.9529 32.3236 37.6887C32.0892 37.4202 31.9102 37.1496 31.7867 36.8769H31.6652V38.4493H28.9806ZM31.646 33.5402C31.646 34.124 31.727 34.6333 31.8889 35.0679C32.0509 35.5026 32.2852 35.8414 32.5921 36.0843C32.8989 36.3229 33.2718 36.4422 33.7107 36.4422C34.1539 36.4422 34.5289 36.3208 34.8357 36.0779C35.1425 35.8307 35.3747 35.4898 35.5324 35.0551C35.6943 34.6162 35.7753 34.1112 35.7753 33.5402C35.7753 32.9735 35.6965 32.4749 35.5388 32.0445C35.3811 31.6141 35.1489 31.2774 34.8421 31.0345C34.5352 30.7916 34.1581 30.6702 33.7107 30.6702C33.2675 30.6702 32.8925 30.7874 32.5857 31.0218C32.2831 31.2561 32.0509 31.5885 31.8889 32.0189C31.727 32.4493 31.646 32.9564 31.646 33.5402Z"
+      fill="var(--color1)" />
+    <path
+      d="M44.8089 38.6411C43.8032 38.6411 42.9381 38.428 42.2137 38.0019C41.4935 37.5715 40.9395 36.9749 40.5518 36.2121C40.1682 35.4493 39.9765 34.5715 39.9765 33.5786C39.9765 32.5729 40.1704 31.6908 40.5582 30.9323C40.9502 30.1695 41.5063 29.575 42.2265 29.1489C42.9466 28.7185 43.8032 28.5033 44.7961 28.5033C45.6526 28.5033 46.4026 28.6588 47.0461 28.9699C47.6895 29.281 48.1988 29.7178 48.5738 30.2803C48.9488 30.8428 49.1554 31.5033 49.1938 32.2618H46.6242C46.5518 31.7718 46.36 31.3776 46.0489 31.0793C45.7421 30.7767 45.3394 30.6254 44.8408 30.6254C44.4189 30.6254 44.0503 30.7405 43.735 30.9706C43.4239 31.1965 43.181 31.5267 43.0063 31.9614C42.8316 32.396 42.7442 32.9223 42.7442 33.5402C42.7442 34.1666 42.8295 34.6993 42.9999 35.1382C43.1746 35.5771 43.4197 35.9117 43.735 36.1418C44.0503 36.3719 44.4189 36.4869 44.8408 36.4869C45.1519 36.4869 45.431 36.423 45.6782 36.2952C45.9296 36.1673 46.1363 35.982 46.2982 35.7391C46.4644 35.4919 46.5731 35.1958 46.6242 34.8506H49.1938C49.1512 35.6006 48.9466 36.2611 48.5802 36.8321C48.2179 37.3989 47.7172 37.8421 47.078 38.1617C46.4388 38.4813 45.6824 38.6411 44.8089 38.6411Z"
+      fill="var(--color1)" />
+  </svg>`,
+  h4: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M19.353 37.733H16.7166L20.7337 26.0967H23.9041L27.9155 37.733H25.2791L22.3643 28.7558H22.2734L19.353 37.733ZM19.1882 33.1592H25.4155V35.0796H19.1882V33.1592Z"
+      fill="var(--color1)" />
+    <path
+      d="M29.316 37.733V26.0967H31.7365V30.4717H31.8104C31.9164 30.2368 32.0698 29.9982 32.2706 29.7558C32.4751 29.5096 32.7403 29.305 33.066 29.1421C33.3956 28.9755 33.8047 28.8921 34.2933 28.8921C34.9297 28.8921 35.5168 29.0588 36.0547 29.3921C36.5926 29.7217 37.0225 30.2198 37.3445 30.8865C37.6664 31.5493 37.8274 32.3808 37.8274 33.3808C37.8274 34.3543 37.6702 35.1762 37.3558 35.8467C37.0452 36.5133 36.621 37.019 36.0831 37.3637C35.549 37.7046 34.9505 37.8751 34.2876 37.8751C33.8179 37.8751 33.4183 37.7974 33.0888 37.6421C32.763 37.4868 32.496 37.2918 32.2876 37.0569C32.0793 36.8183 31.9202 36.5777 31.8104 36.3353H31.7024V37.733H29.316ZM31.6854 33.3694C31.6854 33.8883 31.7573 34.341 31.9013 34.7274C32.0452 35.1137 32.2535 35.4149 32.5263 35.6308C32.799 35.8429 33.1304 35.949 33.5206 35.949C33.9145 35.949 34.2479 35.841 34.5206 35.6251C34.7933 35.4054 34.9998 35.1024 35.1399 34.716C35.2838 34.3258 35.3558 33.877 35.3558 33.3694C35.3558 32.8656 35.2857 32.4224 35.1456 32.0399C35.0054 31.6573 34.799 31.358 34.5263 31.1421C34.2535 30.9262 33.9183 30.8183 33.5206 30.8183C33.1267 30.8183 32.7933 30.9224 32.5206 31.1308C32.2517 31.3391 32.0452 31.6346 31.9013 32.0171C31.7573 32.3997 31.6854 32.8505 31.6854 33.3694Z"
+      fill="var(--color1)" />
+    <path
+      d="M43.3856 37.9035C42.4917 37.9035 41.7228 37.7141 41.0788 37.3353C40.4387 36.9527 39.9463 36.4224 39.6016 35.7444C39.2606 35.0664 39.0902 34.2861 39.0902 33.4035C39.0902 32.5096 39.2625 31.7255 39.6072 31.0512C39.9557 30.3732 40.45 29.8448 41.0902 29.466C41.7303 29.0834 42.4917 28.8921 43.3743 28.8921C44.1356 28.8921 44.8023 29.0304 45.3743 29.3069C45.9463 29.5834 46.3989 29.9717 46.7322 30.4717C47.0656 30.9717 47.2493 31.5588 47.2834 32.233H44.9993C44.9349 31.7974 44.7644 31.4471 44.4879 31.1819C44.2152 30.913 43.8572 30.7785 43.4141 30.7785C43.0391 30.7785 42.7114 30.8808 42.4311 31.0853C42.1546 31.2861 41.9387 31.5796 41.7834 31.966C41.6281 32.3524 41.5504 32.8202 41.5504 33.3694C41.5504 33.9262 41.6262 34.3997 41.7777 34.7899C41.933 35.18 42.1508 35.4774 42.4311 35.6819C42.7114 35.8865 43.0391 35.9887 43.4141 35.9887C43.6906 35.9887 43.9387 35.9319 44.1584 35.8183C44.3819 35.7046 44.5656 35.5399 44.7095 35.324C44.8572 35.1043 44.9538 34.841 44.9993 34.5342H47.2834C47.2455 35.2008 47.0637 35.788 46.7379 36.2955C46.416 36.7993 45.9709 37.1933 45.4027 37.4774C44.8345 37.7615 44.1622 37.9035 43.3856 37.9035Z"
+      fill="var(--color1)" />
+  </svg>`,
+  h5: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M20.9339 37.0168H18.627L22.142 26.835H24.9161L28.4261 37.0168H26.1192L23.5688 29.1617H23.4893L20.9339 37.0168ZM20.7897 33.0146H26.2386V34.695H20.7897V33.0146Z"
+      fill="var(--color1)" />
+    <path
+      d="M29.6515 37.0168V26.835H31.7694V30.6631H31.8341C31.9269 30.4576 32.0611 30.2488 32.2368 30.0367C32.4158 29.8212 32.6478 29.6423 32.9328 29.4997C33.2211 29.3539 33.5791 29.281 34.0067 29.281C34.5635 29.281 35.0772 29.4268 35.5479 29.7185C36.0185 30.0068 36.3947 30.4427 36.6764 31.026C36.9581 31.606 37.099 32.3335 37.099 33.2085C37.099 34.0603 36.9614 34.7796 36.6863 35.3662C36.4146 35.9495 36.0434 36.392 35.5727 36.6936C35.1054 36.9919 34.5817 37.1411 34.0017 37.1411C33.5907 37.1411 33.241 37.0731 32.9527 36.9372C32.6676 36.8013 32.434 36.6307 32.2517 36.4252C32.0694 36.2164 31.9302 36.0059 31.8341 35.7938H31.7396V37.0168H29.6515ZM31.7247 33.1986C31.7247 33.6527 31.7877 34.0487 31.9136 34.3868C32.0396 34.7249 32.2219 34.9884 32.4605 35.1773C32.6991 35.3629 32.9891 35.4557 33.3305 35.4557C33.6752 35.4557 33.9669 35.3612 34.2055 35.1723C34.4442 34.9801 34.6248 34.7149 34.7474 34.3769C34.8734 34.0355 34.9363 33.6427 34.9363 33.1986C34.9363 32.7578 34.875 32.37 34.7524 32.0352C34.6298 31.7005 34.4491 31.4387 34.2105 31.2497C33.9719 31.0608 33.6785 30.9664 33.3305 30.9664C32.9858 30.9664 32.6942 31.0575 32.4555 31.2398C32.2202 31.4221 32.0396 31.6806 31.9136 32.0154C31.7877 32.3501 31.7247 32.7445 31.7247 33.1986Z"
+      fill="var(--color1)" />
+    <path
+      d="M41.9624 37.1659C41.1803 37.1659 40.5074 37.0002 39.944 36.6688C39.3839 36.334 38.953 35.87 38.6514 35.2767C38.3531 34.6834 38.2039 34.0007 38.2039 33.2284C38.2039 32.4462 38.3547 31.7602 38.6563 31.1702C38.9613 30.5769 39.3938 30.1146 39.9539 29.7831C40.5141 29.4484 41.1803 29.281 41.9525 29.281C42.6187 29.281 43.202 29.402 43.7025 29.6439C44.203 29.8859 44.599 30.2256 44.8907 30.6631C45.1824 31.1006 45.3431 31.6143 45.373 32.2043H43.3744C43.318 31.8231 43.1689 31.5165 42.9269 31.2845C42.6883 31.0492 42.3751 30.9316 41.9873 30.9316C41.6592 30.9316 41.3725 31.021 41.1272 31.2C40.8853 31.3757 40.6963 31.6325 40.5605 31.9706C40.4246 32.3087 40.3566 32.718 40.3566 33.1986C40.3566 33.6858 40.4229 34.1001 40.5555 34.4415C40.6914 34.7829 40.882 35.0431 41.1272 35.222C41.3725 35.401 41.6592 35.4905 41.9873 35.4905C42.2293 35.4905 42.4464 35.4408 42.6386 35.3414C42.8341 35.2419 42.9949 35.0977 43.1208 34.9088C43.2501 34.7166 43.3346 34.4862 43.3744 34.2178H45.373C45.3398 34.8011 45.1807 35.3148 44.8957 35.759C44.614 36.1998 44.2245 36.5445 43.7274 36.7931C43.2302 37.0416 42.6419 37.1659 41.9624 37.1659Z"
+      fill="var(--color1)" />
+  </svg>`,
+  h6: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M21.7243 36.6577H19.5823L22.8461 27.2031H25.4221L28.6813 36.6577H26.5393L24.171 29.3636H24.0972L21.7243 36.6577ZM21.5904 32.9414H26.6501V34.5018H21.5904V32.9414Z"
+      fill="var(--color1)" />
+    <path
+      d="M29.8193 36.6577V27.2031H31.7859V30.7578H31.8459C31.9321 30.567 32.0567 30.3731 32.2199 30.1761C32.3861 29.9761 32.6015 29.8099 32.8662 29.6776C33.1339 29.5421 33.4663 29.4744 33.8633 29.4744C34.3804 29.4744 34.8574 29.6098 35.2944 29.8807C35.7315 30.1484 36.0808 30.5531 36.3424 31.0948C36.604 31.6334 36.7348 32.3089 36.7348 33.1214C36.7348 33.9124 36.6071 34.5803 36.3516 35.125C36.0992 35.6667 35.7545 36.0775 35.3175 36.3576C34.8836 36.6346 34.3973 36.7731 33.8587 36.7731C33.4771 36.7731 33.1524 36.71 32.8846 36.5838C32.62 36.4576 32.403 36.2991 32.2337 36.1083C32.0644 35.9144 31.9352 35.719 31.8459 35.522H31.7582V36.6577H29.8193ZM31.7444 33.1122C31.7444 33.5339 31.8028 33.9016 31.9198 34.2156C32.0367 34.5295 32.206 34.7741 32.4276 34.9496C32.6492 35.1219 32.9185 35.2081 33.2355 35.2081C33.5556 35.2081 33.8264 35.1204 34.048 34.945C34.2696 34.7665 34.4373 34.5202 34.5512 34.2063C34.6681 33.8893 34.7266 33.5246 34.7266 33.1122C34.7266 32.7029 34.6697 32.3428 34.5558 32.032C34.4419 31.7211 34.2742 31.478 34.0526 31.3026C33.831 31.1271 33.5586 31.0394 33.2355 31.0394C32.9154 31.0394 32.6446 31.1241 32.423 31.2933C32.2045 31.4626 32.0367 31.7027 31.9198 32.0135C31.8028 32.3243 31.7444 32.6906 31.7444 33.1122Z"
+      fill="var(--color1)" />
+    <path
+      d="M41.2508 36.7962C40.5245 36.7962 39.8998 36.6423 39.3766 36.3345C38.8564 36.0237 38.4563 35.5928 38.1763 35.0419C37.8993 34.491 37.7608 33.857 37.7608 33.1399C37.7608 32.4136 37.9008 31.7765 38.1809 31.2287C38.464 30.6778 38.8657 30.2485 39.3858 29.9407C39.9059 29.6299 40.5245 29.4744 41.2416 29.4744C41.8602 29.4744 42.4019 29.5868 42.8666 29.8114C43.3313 30.0361 43.6991 30.3516 43.9699 30.7578C44.2408 31.1641 44.39 31.6411 44.4177 32.1889H42.5619C42.5096 31.835 42.3711 31.5503 42.1464 31.3349C41.9248 31.1164 41.634 31.0071 41.2739 31.0071C40.9692 31.0071 40.703 31.0902 40.4753 31.2564C40.2506 31.4195 40.0752 31.658 39.949 31.9719C39.8228 32.2859 39.7597 32.666 39.7597 33.1122C39.7597 33.5646 39.8213 33.9493 39.9444 34.2663C40.0706 34.5833 40.2475 34.8249 40.4753 34.9911C40.703 35.1573 40.9692 35.2404 41.2739 35.2404C41.4986 35.2404 41.7002 35.1942 41.8787 35.1019C42.0603 35.0096 42.2095 34.8757 42.3265 34.7003C42.4465 34.5218 42.525 34.3079 42.5619 34.0586H44.4177C44.387 34.6003 44.2392 35.0773 43.9746 35.4897C43.713 35.899 43.3513 36.2191 42.8897 36.4499C42.428 36.6808 41.8818 36.7962 41.2508 36.7962Z"
+      fill="var(--color1)" />
+  </svg>`,
+  textLarge: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="31" y="23" width="13" height="4" fill="var(--color1)" />
+    <rect x="29" y="30" width="15" height="4" fill="var(--color1)" />
+    <rect x="23" y="37" width="16" height="4" fill="var(--color1)" />
+    <path
+      d="M28.4165 25.436H27.9785C27.9404 25.2837 27.8706 25.1038 27.769 24.8965C27.6717 24.6849 27.5617 24.486 27.439 24.2998C27.312 24.1051 27.1724 23.9359 27.02 23.792C26.8719 23.6439 26.728 23.5592 26.5884 23.5381C26.4572 23.5212 26.2922 23.5085 26.0933 23.5C25.8944 23.4915 25.7103 23.4873 25.541 23.4873H25.1729V30.6919C25.1729 30.8315 25.2025 30.9606 25.2617 31.0791C25.321 31.1934 25.4246 31.2822 25.5728 31.3457C25.6489 31.3753 25.8076 31.4155 26.0488 31.4663C26.2943 31.5171 26.4847 31.5446 26.6201 31.5488V31.9995H22.3672V31.5488C22.4857 31.5404 22.6655 31.5234 22.9067 31.498C23.1522 31.4727 23.3215 31.4409 23.4146 31.4028C23.5542 31.3478 23.6558 31.2695 23.7192 31.168C23.7869 31.0622 23.8208 30.9225 23.8208 30.749V23.4873H23.4526C23.3215 23.4873 23.1585 23.4915 22.9639 23.5C22.7692 23.5042 22.583 23.5169 22.4053 23.5381C22.2656 23.555 22.1196 23.6396 21.9673 23.792C21.8192 23.9401 21.6816 24.1094 21.5547 24.2998C21.4277 24.4902 21.3156 24.6934 21.2183 24.9092C21.1209 25.1208 21.0532 25.2964 21.0151 25.436H20.5708V22.9922H28.4165V25.436Z"
+      fill="var(--color1)" />
+  </svg>`,
+  textMedium: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="30" y="27" width="12" height="2" fill="var(--color1)" />
+    <rect x="28" y="32" width="14" height="2" fill="var(--color1)" />
+    <rect x="23" y="37" width="14" height="2" fill="var(--color1)" />
+    <path
+      d="M27.6152 28.9414H27.2109C27.1758 28.8008 27.1113 28.6348 27.0176 28.4434C26.9277 28.248 26.8262 28.0645 26.7129 27.8926C26.5957 27.7129 26.4668 27.5566 26.3262 27.4238C26.1895 27.2871 26.0566 27.209 25.9277 27.1895C25.8066 27.1738 25.6543 27.1621 25.4707 27.1543C25.2871 27.1465 25.1172 27.1426 24.9609 27.1426H24.6211V33.793C24.6211 33.9219 24.6484 34.041 24.7031 34.1504C24.7578 34.2559 24.8535 34.3379 24.9902 34.3965C25.0605 34.4238 25.207 34.4609 25.4297 34.5078C25.6562 34.5547 25.832 34.5801 25.957 34.584V35H22.0312V34.584C22.1406 34.5762 22.3066 34.5605 22.5293 34.5371C22.7559 34.5137 22.9121 34.4844 22.998 34.4492C23.127 34.3984 23.2207 34.3262 23.2793 34.2324C23.3418 34.1348 23.373 34.0059 23.373 33.8457V27.1426H23.0332C22.9121 27.1426 22.7617 27.1465 22.582 27.1543C22.4023 27.1582 22.2305 27.1699 22.0664 27.1895C21.9375 27.2051 21.8027 27.2832 21.6621 27.4238C21.5254 27.5605 21.3984 27.7168 21.2812 27.8926C21.1641 28.0684 21.0605 28.2559 20.9707 28.4551C20.8809 28.6504 20.8184 28.8125 20.7832 28.9414H20.373V26.6855H27.6152V28.9414Z"
+      fill="var(--color1)" />
+  </svg>`,
+  textSmall: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="30" y="29" width="11" height="1" fill="var(--color1)" />
+    <rect x="29" y="33" width="12" height="1" fill="var(--color1)" />
+    <rect x="25" y="37" width="11" height="1" fill="var(--color1)" />
+    <path
+      d="M27.7114 30.4556H27.4082C27.3818 30.3501 27.3335 30.2256 27.2632 30.082C27.1958 29.9355 27.1196 29.7979 27.0347 29.6689C26.9468 29.5342 26.8501 29.417 26.7446 29.3174C26.6421 29.2148 26.5425 29.1562 26.4458 29.1416C26.355 29.1299 26.2407 29.1211 26.103 29.1152C25.9653 29.1094 25.8379 29.1064 25.7207 29.1064H25.4658V34.0942C25.4658 34.1909 25.4863 34.2803 25.5273 34.3623C25.5684 34.4414 25.6401 34.5029 25.7427 34.5469C25.7954 34.5674 25.9053 34.5952 26.0723 34.6304C26.2422 34.6655 26.374 34.6846 26.4678 34.6875V34.9995H23.5234V34.6875C23.6055 34.6816 23.73 34.6699 23.897 34.6523C24.0669 34.6348 24.1841 34.6128 24.2485 34.5864C24.3452 34.5483 24.4155 34.4941 24.4595 34.4238C24.5063 34.3506 24.5298 34.2539 24.5298 34.1338V29.1064H24.2749C24.1841 29.1064 24.0713 29.1094 23.9365 29.1152C23.8018 29.1182 23.6729 29.127 23.5498 29.1416C23.4531 29.1533 23.3521 29.2119 23.2466 29.3174C23.144 29.4199 23.0488 29.5371 22.9609 29.6689C22.873 29.8008 22.7954 29.9414 22.728 30.0908C22.6606 30.2373 22.6138 30.3589 22.5874 30.4556H22.2798V28.7637H27.7114V30.4556Z"
+      fill="var(--color1)" />
+  </svg>`,
+  avatar: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <circle cx="32" cy="32" r="13" fill="var(--color3)" />
+    <path
+      d="M32 31C30.3459 31 29.0034 29.656 29.0034 28C29.0034 26.344 30.3459 25 32 25C33.6541 25 34.9966 26.344 34.9966 28C34.9966 29.656 33.6541 31 32 31ZM25 38.008C25 35.248 28.1404 32.992 32 32.992C35.8596 32.992 39 35.248 39 38.008C32 38.008 32 38.008 25 38.008Z"
+      fill="var(--color1)" />
+  </svg>`,
+  avatarGroup: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M23 24.509C21.2359 22.9477 18.9163 22 16.3753 22C10.8524 22 6.37526 26.4772 6.37526 32C6.37526 37.5228 10.8524 42 16.3753 42C18.9163 42 21.2359 41.0523 23 39.491C21.3575 37.438 20.3753 34.8337 20.3753 32C20.3753 29.1663 21.3575 26.562 23 24.509Z"
+      fill="var(--color3)" />
+    <path
+      d="M20.5727 34.1797C19.6762 33.2255 18.1338 32.5929 16.3853 32.5929C13.6229 32.5929 11.3753 34.1717 11.3753 36.1031H21.0951C20.8699 35.4842 20.6942 34.8414 20.5727 34.1797Z"
+      fill="var(--color1)" />
+    <path
+      d="M14.2406 29.0994C14.2406 30.2583 15.2014 31.1989 16.3853 31.1989C17.5691 31.1989 18.53 30.2583 18.53 29.0994C18.53 27.9405 17.5691 27 16.3853 27C15.2014 27 14.2406 27.9405 14.2406 29.0994Z"
+      fill="var(--color1)" />
+    <path
+      d="M38.6247 24.509C36.8606 22.9477 34.541 22 32 22C26.4772 22 22 26.4772 22 32C22 37.5228 26.4772 42 32 42C34.541 42 36.8606 41.0523 38.6247 39.491C36.9822 37.438 36 34.8337 36 32C36 29.1663 36.9822 26.562 38.6247 24.509Z"
+      fill="var(--color3)" />
+    <path
+      d="M36.1975 34.1797C35.3009 33.2255 33.7586 32.5929 32.01 32.5929C29.2476 32.5929 27 34.1717 27 36.1031H36.7198C36.4946 35.4842 36.3189 34.8414 36.1975 34.1797Z"
+      fill="var(--color1)" />
+    <path
+      d="M29.8653 29.0994C29.8653 30.2583 30.8261 31.1989 32.01 31.1989C33.1939 31.1989 34.1547 30.2583 34.1547 29.0994C34.1547 27.9405 33.1939 27 32.01 27C30.8261 27 29.8653 27.9405 29.8653 29.0994Z"
+      fill="var(--color1)" />
+    <path
+      d="M57.6247 32C57.6247 37.5228 53.1476 42 47.6247 42C42.1019 42 37.6247 37.5228 37.6247 32C37.6247 26.4772 42.1019 22 47.6247 22C53.1476 22 57.6247 26.4772 57.6247 32Z"
+      fill="var(--color3)" />
+    <path
+      d="M47.6347 31.1989C46.4509 31.1989 45.49 30.2583 45.49 29.0994C45.49 27.9405 46.4509 27 47.6347 27C48.8186 27 49.7794 27.9405 49.7794 29.0994C49.7794 30.2583 48.8186 31.1989 47.6347 31.1989ZM42.6247 36.1031C42.6247 34.1717 44.8724 32.5929 47.6347 32.5929C50.3971 32.5929 52.6447 34.1717 52.6447 36.1031C47.6347 36.1031 47.6347 36.1031 42.6247 36.1031Z"
+      fill="var(--color1)" />
+  </svg>`,
+  avatarItem: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <circle cx="21.5" cy="32" r="5.5" fill="var(--color2)" />
+    <rect x="30" y="28" width="18" height="3" fill="var(--color1)" />
+    <rect x="30" y="34" width="18" height="2" fill="var(--color2)" />
+  </svg>`,
+  badge: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="13" y="24" width="38" height="16" rx="2" fill="var(--color3)" />
+    <path
+      d="M17 35.2727V28H19.7841C20.3097 28 20.7464 28.0829 21.0945 28.2486C21.4448 28.4119 21.7064 28.6357 21.8793 28.9197C22.0545 29.2038 22.142 29.5258 22.142 29.8857C22.142 30.1816 22.0852 30.4349 21.9716 30.6456C21.858 30.8539 21.7053 31.0232 21.5135 31.1534C21.3217 31.2836 21.1075 31.3771 20.8707 31.4339V31.505C21.1288 31.5192 21.3762 31.5985 21.6129 31.7429C21.852 31.8849 22.0473 32.0862 22.1989 32.3466C22.3504 32.607 22.4261 32.9219 22.4261 33.2912C22.4261 33.6676 22.335 34.0062 22.1527 34.3068C21.9704 34.6051 21.6958 34.8407 21.3288 35.0135C20.9619 35.1863 20.5002 35.2727 19.9439 35.2727H17ZM18.3175 34.1719H19.7344C20.2126 34.1719 20.5571 34.0807 20.7678 33.8984C20.9808 33.7138 21.0874 33.477 21.0874 33.1882C21.0874 32.9728 21.0341 32.7786 20.9276 32.6058C20.821 32.4306 20.6695 32.2933 20.473 32.1939C20.2765 32.0921 20.0421 32.0412 19.7699 32.0412H18.3175V34.1719ZM18.3175 31.093H19.6207C19.848 31.093 20.0528 31.0516 20.2351 30.9688C20.4174 30.8835 20.5606 30.764 20.6648 30.6101C20.7713 30.4538 20.8246 30.2692 20.8246 30.0561C20.8246 29.7744 20.7251 29.5424 20.5263 29.3601C20.3298 29.1778 20.0374 29.0866 19.6491 29.0866H18.3175V31.093Z"
+      fill="var(--color1)" />
+    <path
+      d="M25.0851 35.3828C24.7394 35.3828 24.4281 35.3213 24.1511 35.1982C23.8765 35.0727 23.6587 34.888 23.4977 34.6442C23.3391 34.4003 23.2598 34.0997 23.2598 33.7422C23.2598 33.4344 23.3166 33.1799 23.4302 32.9787C23.5439 32.7775 23.6989 32.6165 23.8954 32.4957C24.0919 32.375 24.3133 32.2839 24.5595 32.2223C24.8081 32.1584 25.0649 32.1122 25.3301 32.0838C25.6497 32.0507 25.9089 32.0211 26.1078 31.995C26.3066 31.9666 26.4511 31.924 26.541 31.8672C26.6333 31.808 26.6795 31.7169 26.6795 31.5937V31.5724C26.6795 31.3049 26.6002 31.0978 26.4416 30.951C26.283 30.8042 26.0545 30.7308 25.7562 30.7308C25.4413 30.7308 25.1916 30.7995 25.0069 30.9368C24.8246 31.0741 24.7015 31.2363 24.6376 31.4233L23.4373 31.2528C23.532 30.9214 23.6883 30.6444 23.9061 30.4219C24.1239 30.197 24.3902 30.0289 24.7051 29.9176C25.0199 29.804 25.368 29.7472 25.7491 29.7472C26.0119 29.7472 26.2735 29.7779 26.5339 29.8395C26.7943 29.901 27.0323 30.0028 27.2477 30.1449C27.4631 30.2846 27.6359 30.4751 27.7662 30.7166C27.8987 30.9581 27.965 31.2599 27.965 31.6222V35.2727H26.7292V34.5234H26.6866C26.6085 34.675 26.4984 34.817 26.3564 34.9496C26.2167 35.0798 26.0403 35.1851 25.8272 35.2656C25.6165 35.3438 25.3691 35.3828 25.0851 35.3828ZM25.4189 34.4382C25.6769 34.4382 25.9006 34.3873 26.09 34.2855C26.2794 34.1813 26.425 34.044 26.5268 33.8736C26.631 33.7031 26.6831 33.5173 26.6831 33.3161V32.6733C26.6428 32.7064 26.5742 32.7372 26.4771 32.7656C26.3824 32.794 26.2759 32.8189 26.1575 32.8402C26.0391 32.8615 25.9219 32.8804 25.8059 32.897C25.6899 32.9136 25.5893 32.9278 25.5041 32.9396C25.3123 32.9657 25.1407 33.0083 24.9892 33.0675C24.8377 33.1267 24.7181 33.2095 24.6305 33.3161C24.5429 33.4202 24.4991 33.5552 24.4991 33.7209C24.4991 33.9576 24.5855 34.1364 24.7583 34.2571C24.9312 34.3778 25.1513 34.4382 25.4189 34.4382Z"
+      fill="var(--color1)" />
+    <path
+      d="M31.2818 35.3686C30.8533 35.3686 30.4698 35.2585 30.1312 35.0384C29.7927 34.8182 29.5252 34.4986 29.3287 34.0795C29.1322 33.6605 29.0339 33.1515 29.0339 32.5526C29.0339 31.9465 29.1333 31.4351 29.3322 31.0185C29.5334 30.5994 29.8045 30.2834 30.1454 30.0703C30.4863 29.8549 30.8663 29.7472 31.2853 29.7472C31.6049 29.7472 31.8677 29.8016 32.0737 29.9105C32.2797 30.017 32.443 30.1461 32.5637 30.2976C32.6845 30.4467 32.778 30.5876 32.8443 30.7202H32.8976V28H34.1866V35.2727H32.9224V34.4134H32.8443C32.778 34.5459 32.6821 34.6868 32.5566 34.8359C32.4312 34.9827 32.2654 35.1082 32.0595 35.2124C31.8535 35.3165 31.5943 35.3686 31.2818 35.3686ZM31.6404 34.3139C31.9127 34.3139 32.1447 34.2405 32.3365 34.0938C32.5282 33.9446 32.6738 33.7375 32.7733 33.4723C32.8727 33.2071 32.9224 32.8982 32.9224 32.5455C32.9224 32.1927 32.8727 31.8861 32.7733 31.6257C32.6762 31.3653 32.5318 31.1629 32.34 31.0185C32.1506 30.8741 31.9174 30.8018 31.6404 30.8018C31.354 30.8018 31.1149 30.8764 30.9231 31.0256C30.7314 31.1747 30.5869 31.3807 30.4899 31.6435C30.3928 31.9062 30.3443 32.2069 30.3443 32.5455C30.3443 32.8864 30.3928 33.1906 30.4899 33.4581C30.5893 33.7232 30.7349 33.9328 30.9267 34.0866C31.1208 34.2382 31.3587 34.3139 31.6404 34.3139Z"
+      fill="var(--color1)" />
+    <path
+      d="M37.9286 37.4318C37.467 37.4318 37.0704 37.3691 36.739 37.2436C36.4076 37.1205 36.1412 36.9548 35.94 36.7464C35.7388 36.5381 35.5991 36.3073 35.521 36.054L36.6786 35.7734C36.7307 35.88 36.8065 35.9853 36.9059 36.0895C37.0053 36.196 37.1391 36.2836 37.3072 36.3523C37.4776 36.4233 37.6919 36.4588 37.9499 36.4588C38.3145 36.4588 38.6164 36.37 38.8555 36.1925C39.0946 36.0173 39.2141 35.7285 39.2141 35.326V34.2926H39.1502C39.0839 34.4252 38.9869 34.5613 38.859 34.701C38.7335 34.8407 38.5666 34.9579 38.3583 35.0526C38.1523 35.1473 37.8931 35.1946 37.5806 35.1946C37.1616 35.1946 36.7816 35.0964 36.4407 34.8999C36.1022 34.701 35.8323 34.4051 35.631 34.0121C35.4322 33.6167 35.3327 33.1219 35.3327 32.5277C35.3327 31.9287 35.4322 31.4233 35.631 31.0114C35.8323 30.5971 36.1033 30.2834 36.4442 30.0703C36.7852 29.8549 37.1651 29.7472 37.5842 29.7472C37.9038 29.7472 38.1665 29.8016 38.3725 29.9105C38.5808 30.017 38.7466 30.1461 38.8697 30.2976C38.9928 30.4467 39.0863 30.5876 39.1502 30.7202H39.2212V29.8182H40.489V35.3615C40.489 35.8279 40.3777 36.2138 40.1552 36.5192C39.9326 36.8246 39.6284 37.053 39.2425 37.2045C38.8567 37.3561 38.4187 37.4318 37.9286 37.4318ZM37.9393 34.1861C38.2115 34.1861 38.4435 34.1198 38.6353 33.9872C38.8271 33.8546 38.9727 33.6641 39.0721 33.4155C39.1715 33.1669 39.2212 32.8686 39.2212 32.5206C39.2212 32.1773 39.1715 31.8767 39.0721 31.6186C38.975 31.3606 38.8306 31.1605 38.6388 31.0185C38.4495 30.8741 38.2163 30.8018 37.9393 30.8018C37.6528 30.8018 37.4137 30.8764 37.2219 31.0256C37.0302 31.1747 36.8858 31.3795 36.7887 31.6399C36.6916 31.898 36.6431 32.1915 36.6431 32.5206C36.6431 32.8544 36.6916 33.1468 36.7887 33.3977C36.8881 33.6463 37.0337 33.8404 37.2255 33.9801C37.4196 34.1174 37.6576 34.1861 37.9393 34.1861Z"
+      fill="var(--color1)" />
+    <path
+      d="M44.2212 35.3793C43.6744 35.3793 43.2021 35.2656 42.8043 35.0384C42.409 34.8087 42.1048 34.4844 41.8917 34.0653C41.6786 33.6439 41.5721 33.148 41.5721 32.5774C41.5721 32.0163 41.6786 31.5239 41.8917 31.1001C42.1071 30.674 42.4078 30.3426 42.7937 30.1058C43.1796 29.8667 43.6329 29.7472 44.1538 29.7472C44.4899 29.7472 44.8072 29.8016 45.1055 29.9105C45.4061 30.017 45.6713 30.1828 45.9009 30.4077C46.1329 30.6326 46.3152 30.919 46.4478 31.267C46.5804 31.6127 46.6467 32.0246 46.6467 32.5028V32.897H42.1758V32.0305H45.4144C45.4121 31.7843 45.3588 31.5653 45.2546 31.3736C45.1505 31.1795 45.0049 31.0268 44.8178 30.9155C44.6332 30.8042 44.4177 30.7486 44.1715 30.7486C43.9087 30.7486 43.6779 30.8125 43.479 30.9403C43.2802 31.0658 43.1251 31.2315 43.0138 31.4375C42.9049 31.6411 42.8493 31.8648 42.8469 32.1087V32.8651C42.8469 33.1823 42.9049 33.4545 43.021 33.6818C43.137 33.9067 43.2991 34.0795 43.5075 34.2003C43.7158 34.3187 43.9596 34.3778 44.239 34.3778C44.426 34.3778 44.5953 34.3518 44.7468 34.2997C44.8983 34.2453 45.0297 34.166 45.141 34.0618C45.2522 33.9576 45.3363 33.8286 45.3931 33.6747L46.5934 33.8097C46.5176 34.1269 46.3732 34.4039 46.1602 34.6406C45.9495 34.875 45.6796 35.0573 45.3505 35.1875C45.0214 35.3153 44.645 35.3793 44.2212 35.3793Z"
+      fill="var(--color1)" />
+  </svg>`,
+  icon: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M32 20C25.3828 20 20 25.3828 20 32C20 38.6172 25.3828 44 32 44C38.6172 44 44 38.6172 44 32C44 25.3828 38.6172 20 32 20ZM32 22C37.5352 22 42 26.4648 42 32C42 37.5352 37.5352 42 32 42C26.4648 42 22 37.5352 22 32C22 26.4648 26.4648 22 32 22ZM27.5 28C26.6719 28 26 28.6719 26 29.5C26 30.3281 26.6719 31 27.5 31C28.3281 31 29 30.3281 29 29.5C29 28.6719 28.3281 28 27.5 28ZM36.5 28C35.6719 28 35 28.6719 35 29.5C35 30.3281 35.6719 31 36.5 31C37.3281 31 38 30.3281 38 29.5C38 28.6719 37.3281 28 36.5 28ZM26.8125 35L25.0938 36C26.4766 38.3867 29.0469 40 32 40C34.9531 40 37.5234 38.3867 38.9062 36L37.1875 35C36.1484 36.793 34.2266 38 32 38C29.7734 38 27.8516 36.793 26.8125 35Z"
+      fill="var(--color1)" />
+  </svg>`,
+  buttonPrimary: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="4" y="21" width="56" height="22" rx="4" fill="var(--color1)" />
+    <path
+      d="M14 36.7273V28H17.3409C17.9716 28 18.4957 28.0994 18.9134 28.2983C19.3338 28.4943 19.6477 28.7628 19.8551 29.1037C20.0653 29.4446 20.1705 29.831 20.1705 30.2628C20.1705 30.6179 20.1023 30.9219 19.9659 31.1747C19.8295 31.4247 19.6463 31.6278 19.4162 31.7841C19.1861 31.9403 18.929 32.0526 18.6449 32.1207V32.206C18.9545 32.223 19.2514 32.3182 19.5355 32.4915C19.8224 32.6619 20.0568 32.9034 20.2386 33.2159C20.4205 33.5284 20.5114 33.9063 20.5114 34.3494C20.5114 34.8011 20.402 35.2074 20.1832 35.5682C19.9645 35.9261 19.6349 36.2088 19.1946 36.4162C18.7543 36.6236 18.2003 36.7273 17.5327 36.7273H14ZM15.581 35.4062H17.2812C17.8551 35.4062 18.2685 35.2969 18.5213 35.0781C18.777 34.8565 18.9048 34.5724 18.9048 34.2259C18.9048 33.9673 18.8409 33.7344 18.7131 33.527C18.5852 33.3168 18.4034 33.152 18.1676 33.0327C17.9318 32.9105 17.6506 32.8494 17.3239 32.8494H15.581V35.4062ZM15.581 31.7116H17.1449C17.4176 31.7116 17.6634 31.6619 17.8821 31.5625C18.1009 31.4602 18.2727 31.3168 18.3977 31.1321C18.5256 30.9446 18.5895 30.723 18.5895 30.4673C18.5895 30.1293 18.4702 29.8509 18.2315 29.6321C17.9957 29.4134 17.6449 29.304 17.179 29.304H15.581V31.7116Z"
+      fill="var(--color3)" />
+    <path
+      d="M25.9904 33.9744V30.1818H27.533V36.7273H26.0373V35.5639H25.9691C25.8214 35.9304 25.5785 36.2301 25.2404 36.4631C24.9052 36.696 24.4918 36.8125 24.0004 36.8125C23.5714 36.8125 23.1921 36.7173 22.8626 36.527C22.5359 36.3338 22.2802 36.054 22.0955 35.6875C21.9109 35.3182 21.8185 34.8722 21.8185 34.3494V30.1818H23.3612V34.1108C23.3612 34.5256 23.4748 34.8551 23.7021 35.0994C23.9293 35.3438 24.2276 35.4659 24.5969 35.4659C24.8242 35.4659 25.0444 35.4105 25.2575 35.2997C25.4705 35.1889 25.6452 35.0241 25.7816 34.8054C25.9208 34.5838 25.9904 34.3068 25.9904 33.9744Z"
+      fill="var(--color3)" />
+    <path
+      d="M32.3878 30.1818V31.375H28.625V30.1818H32.3878ZM29.554 28.6136H31.0966V34.7585C31.0966 34.9659 31.1278 35.125 31.1903 35.2358C31.2557 35.3438 31.3409 35.4176 31.446 35.4574C31.5511 35.4972 31.6676 35.517 31.7955 35.517C31.892 35.517 31.9801 35.5099 32.0597 35.4957C32.142 35.4815 32.2045 35.4688 32.2472 35.4574L32.5071 36.6634C32.4247 36.6918 32.3068 36.723 32.1534 36.7571C32.0028 36.7912 31.8182 36.8111 31.5994 36.8168C31.2131 36.8281 30.8651 36.7699 30.5554 36.642C30.2457 36.5114 30 36.3097 29.8182 36.0369C29.6392 35.7642 29.5511 35.4233 29.554 35.0142V28.6136Z"
+      fill="var(--color3)" />
+    <path
+      d="M36.9464 30.1818V31.375H33.1836V30.1818H36.9464ZM34.1126 28.6136H35.6552V34.7585C35.6552 34.9659 35.6864 35.125 35.7489 35.2358C35.8143 35.3438 35.8995 35.4176 36.0046 35.4574C36.1097 35.4972 36.2262 35.517 36.354 35.517C36.4506 35.517 36.5387 35.5099 36.6183 35.4957C36.7006 35.4815 36.7631 35.4688 36.8058 35.4574L37.0657 36.6634C36.9833 36.6918 36.8654 36.723 36.712 36.7571C36.5614 36.7912 36.3768 36.8111 36.158 36.8168C35.7717 36.8281 35.4236 36.7699 35.114 36.642C34.8043 36.5114 34.5586 36.3097 34.3768 36.0369C34.1978 35.7642 34.1097 35.4233 34.1126 35.0142V28.6136Z"
+      fill="var(--color3)" />
+    <path
+      d="M41.0213 36.8551C40.3821 36.8551 39.8281 36.7145 39.3594 36.4332C38.8906 36.152 38.527 35.7585 38.2685 35.2528C38.0128 34.7472 37.8849 34.1563 37.8849 33.4801C37.8849 32.804 38.0128 32.2116 38.2685 31.7031C38.527 31.1946 38.8906 30.7997 39.3594 30.5185C39.8281 30.2372 40.3821 30.0966 41.0213 30.0966C41.6605 30.0966 42.2145 30.2372 42.6832 30.5185C43.152 30.7997 43.5142 31.1946 43.7699 31.7031C44.0284 32.2116 44.1577 32.804 44.1577 33.4801C44.1577 34.1563 44.0284 34.7472 43.7699 35.2528C43.5142 35.7585 43.152 36.152 42.6832 36.4332C42.2145 36.7145 41.6605 36.8551 41.0213 36.8551ZM41.0298 35.6193C41.3764 35.6193 41.6662 35.5241 41.8991 35.3338C42.1321 35.1406 42.3054 34.8821 42.419 34.5582C42.5355 34.2344 42.5938 33.8736 42.5938 33.4759C42.5938 33.0753 42.5355 32.7131 42.419 32.3892C42.3054 32.0625 42.1321 31.8026 41.8991 31.6094C41.6662 31.4162 41.3764 31.3196 41.0298 31.3196C40.6747 31.3196 40.3793 31.4162 40.1435 31.6094C39.9105 31.8026 39.7358 32.0625 39.6193 32.3892C39.5057 32.7131 39.4489 33.0753 39.4489 33.4759C39.4489 33.8736 39.5057 34.2344 39.6193 34.5582C39.7358 34.8821 39.9105 35.1406 40.1435 35.3338C40.3793 35.5241 40.6747 35.6193 41.0298 35.6193Z"
+      fill="var(--color3)" />
+    <path
+      d="M47.0096 32.892V36.7273H45.467V30.1818H46.9414V31.294H47.0181C47.1687 30.9276 47.4087 30.6364 47.7383 30.4205C48.0707 30.2045 48.4812 30.0966 48.9698 30.0966C49.4215 30.0966 49.815 30.1932 50.1502 30.3864C50.4883 30.5795 50.7496 30.8594 50.9343 31.2259C51.1218 31.5923 51.2141 32.0369 51.2113 32.5597V36.7273H49.6687V32.7983C49.6687 32.3608 49.555 32.0185 49.3278 31.7713C49.1033 31.5241 48.7923 31.4006 48.3945 31.4006C48.1246 31.4006 47.8846 31.4602 47.6744 31.5795C47.467 31.696 47.3036 31.8651 47.1843 32.0866C47.0678 32.3082 47.0096 32.5767 47.0096 32.892Z"
+      fill="var(--color3)" />
+  </svg>`,
+  buttonSecondary: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="4" y="21" width="56" height="22" rx="4" fill="var(--color3)" />
+    <path
+      d="M14 36.7273V28H17.3409C17.9716 28 18.4957 28.0994 18.9134 28.2983C19.3338 28.4943 19.6477 28.7628 19.8551 29.1037C20.0653 29.4446 20.1705 29.831 20.1705 30.2628C20.1705 30.6179 20.1023 30.9219 19.9659 31.1747C19.8295 31.4247 19.6463 31.6278 19.4162 31.7841C19.1861 31.9403 18.929 32.0526 18.6449 32.1207V32.206C18.9545 32.223 19.2514 32.3182 19.5355 32.4915C19.8224 32.6619 20.0568 32.9034 20.2386 33.2159C20.4205 33.5284 20.5114 33.9063 20.5114 34.3494C20.5114 34.8011 20.402 35.2074 20.1832 35.5682C19.9645 35.9261 19.6349 36.2088 19.1946 36.4162C18.7543 36.6236 18.2003 36.7273 17.5327 36.7273H14ZM15.581 35.4062H17.2812C17.8551 35.4062 18.2685 35.2969 18.5213 35.0781C18.777 34.8565 18.9048 34.5724 18.9048 34.2259C18.9048 33.9673 18.8409 33.7344 18.7131 33.527C18.5852 33.3168 18.4034 33.152 18.1676 33.0327C17.9318 32.9105 17.6506 32.8494 17.3239 32.8494H15.581V35.4062ZM15.581 31.7116H17.1449C17.4176 31.7116 17.6634 31.6619 17.8821 31.5625C18.1009 31.4602 18.2727 31.3168 18.3977 31.1321C18.5256 30.9446 18.5895 30.723 18.5895 30.4673C18.5895 30.1293 18.4702 29.8509 18.2315 29.6321C17.9957 29.4134 17.6449 29.304 17.179 29.304H15.581V31.7116Z"
+      fill="var(--color1)" />
+    <path
+      d="M25.9904 33.9744V30.1818H27.533V36.7273H26.0373V35.5639H25.9691C25.8214 35.9304 25.5785 36.2301 25.2404 36.4631C24.9052 36.696 24.4918 36.8125 24.0004 36.8125C23.5714 36.8125 23.1921 36.7173 22.8626 36.527C22.5359 36.3338 22.2802 36.054 22.0955 35.6875C21.9109 35.3182 21.8185 34.8722 21.8185 34.3494V30.1818H23.3612V34.1108C23.3612 34.5256 23.4748 34.8551 23.7021 35.0994C23.9293 35.3438 24.2276 35.4659 24.5969 35.4659C24.8242 35.4659 25.0444 35.4105 25.2575 35.2997C25.4705 35.1889 25.6452 35.0241 25.7816 34.8054C25.9208 34.5838 25.9904 34.3068 25.9904 33.9744Z"
+      fill="var(--color1)" />
+    <path
+      d="M32.3878 30.1818V31.375H28.625V30.1818H32.3878ZM29.554 28.6136H31.0966V34.7585C31.0966 34.9659 31.1278 35.125 31.1903 35.2358C31.2557 35.3438 31.3409 35.4176 31.446 35.4574C31.5511 35.4972 31.6676 35.517 31.7955 35.517C31.892 35.517 31.9801 35.5099 32.0597 35.4957C32.142 35.4815 32.2045 35.4688 32.2472 35.4574L32.5071 36.6634C32.4247 36.6918 32.3068 36.723 32.1534 36.7571C32.0028 36.7912 31.8182 36.8111 31.5994 36.8168C31.2131 36.8281 30.8651 36.7699 30.5554 36.642C30.2457 36.5114 30 36.3097 29.8182 36.0369C29.6392 35.7642 29.5511 35.4233 29.554 35.0142V28.6136Z"
+      fill="var(--color1)" />
+    <path
+      d="M36.9464 30.1818V31.375H33.1836V30.1818H36.9464ZM34.1126 28.6136H35.6552V34.7585C35.6552 34.9659 35.6864 35.125 35.7489 35.2358C35.8143 35.3438 35.8995 35.4176 36.0046 35.4574C36.1097 35.4972 36.2262 35.517 36.354 35.517C36.4506 35.517 36.5387 35.5099 36.6183 35.4957C36.7006 35.4815 36.7631 35.4688 36.8058 35.4574L37.0657 36.6634C36.9833 36.6918 36.8654 36.723 36.712 36.7571C36.5614 36.7912 36.3768 36.8111 36.158 36.8168C35.7717 36.8281 35.4236 36.7699 35.114 36.642C34.8043 36.5114 34.5586 36.3097 34.3768 36.0369C34.1978 35.7642 34.1097 35.4233 34.1126 35.0142V28.6136Z"
+      fill="var(--color1)" />
+    <path
+      d="M41.0213 36.8551C40.3821 36.8551 39.8281 36.7145 39.3594 36.4332C38.8906 36.152 38.527 35.7585 38.2685 35.2528C38.0128 34.7472 37.8849 34.1563 37.8849 33.4801C37.8849 32.804 38.0128 32.2116 38.2685 31.7031C38.527 31.1946 38.8906 30.7997 39.3594 30.5185C39.8281 30.2372 40.3821 30.0966 41.0213 30.0966C41.6605 30.0966 42.2145 30.2372 42.6832 30.5185C43.152 30.7997 43.5142 31.1946 43.7699 31.7031C44.0284 32.2116 44.1577 32.804 44.1577 33.4801C44.1577 34.1563 44.0284 34.7472 43.7699 35.2528C43.5142 35.7585 43.152 36.152 42.6832 36.4332C42.2145 36.7145 41.6605 36.8551 41.0213 36.8551ZM41.0298 35.6193C41.3764 35.6193 41.6662 35.5241 41.8991 35.3338C42.1321 35.1406 42.3054 34.8821 42.419 34.5582C42.5355 34.2344 42.5938 33.8736 42.5938 33.4759C42.5938 33.0753 42.5355 32.7131 42.419 32.3892C42.3054 32.0625 42.1321 31.8026 41.8991 31.6094C41.6662 31.4162 41.3764 31.3196 41.0298 31.3196C40.6747 31.3196 40.3793 31.4162 40.1435 31.6094C39.9105 31.8026 39.7358 32.0625 39.6193 32.3892C39.5057 32.7131 39.4489 33.0753 39.4489 33.4759C39.4489 33.8736 39.5057 34.2344 39.6193 34.5582C39.7358 34.8821 39.9105 35.1406 40.1435 35.3338C40.3793 35.5241 40.6747 35.6193 41.0298 35.6193Z"
+      fill="var(--color1)" />
+    <path
+      d="M47.0096 32.892V36.7273H45.467V30.1818H46.9414V31.294H47.0181C47.1687 30.9276 47.4087 30.6364 47.7383 30.4205C48.0707 30.2045 48.4812 30.0966 48.9698 30.0966C49.4215 30.0966 49.815 30.1932 50.1502 30.3864C50.4883 30.5795 50.7496 30.8594 50.9343 31.2259C51.1218 31.5923 51.2141 32.0369 51.2113 32.5597V36.7273H49.6687V32.7983C49.6687 32.3608 49.555 32.0185 49.3278 31.7713C49.1033 31.5241 48.7923 31.4006 48.3945 31.4006C48.1246 31.4006 47.8846 31.4602 47.6744 31.5795C47.467 31.696 47.3036 31.8651 47.1843 32.0866C47.0678 32.3082 47.0096 32.5767 47.0096 32.892Z"
+      fill="var(--color1)" />
+  </svg>`,
+  buttonTertiary: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M13.3943 36.2995V27.5723H16.7352C17.3659 27.5723 17.8901 27.6717 18.3077 27.8706C18.7281 28.0666 19.0421 28.335 19.2494 28.676C19.4597 29.0169 19.5648 29.4032 19.5648 29.8351C19.5648 30.1902 19.4966 30.4941 19.3602 30.747C19.2239 30.997 19.0406 31.2001 18.8105 31.3564C18.5804 31.5126 18.3233 31.6248 18.0392 31.693V31.7782C18.3489 31.7953 18.6457 31.8904 18.9298 32.0637C19.2168 32.2342 19.4511 32.4757 19.633 32.7882C19.8148 33.1007 19.9057 33.4785 19.9057 33.9217C19.9057 34.3734 19.7963 34.7797 19.5776 35.1404C19.3588 35.4984 19.0293 35.7811 18.5889 35.9885C18.1486 36.1958 17.5946 36.2995 16.927 36.2995H13.3943ZM14.9753 34.9785H16.6756C17.2494 34.9785 17.6628 34.8691 17.9156 34.6504C18.1713 34.4288 18.2992 34.1447 18.2992 33.7981C18.2992 33.5396 18.2352 33.3066 18.1074 33.0993C17.9796 32.889 17.7977 32.7243 17.5619 32.6049C17.3261 32.4828 17.0449 32.4217 16.7182 32.4217H14.9753V34.9785ZM14.9753 31.2839H16.5392C16.8119 31.2839 17.0577 31.2342 17.2764 31.1348C17.4952 31.0325 17.6671 30.889 17.7921 30.7044C17.9199 30.5169 17.9838 30.2953 17.9838 30.0396C17.9838 29.7015 17.8645 29.4231 17.6259 29.2044C17.3901 28.9856 17.0392 28.8762 16.5733 28.8762H14.9753V31.2839Z"
+      fill="var(--color1)" />
+    <path
+      d="M25.3847 33.5467V29.7541H26.9274V36.2995H25.4316V35.1362H25.3634C25.2157 35.5027 24.9728 35.8024 24.6347 36.0353C24.2995 36.2683 23.8862 36.3848 23.3947 36.3848C22.9657 36.3848 22.5864 36.2896 22.2569 36.0993C21.9302 35.9061 21.6745 35.6262 21.4899 35.2598C21.3052 34.8904 21.2129 34.4444 21.2129 33.9217V29.7541H22.7555V33.6831C22.7555 34.0978 22.8691 34.4274 23.0964 34.6717C23.3237 34.916 23.622 35.0382 23.9913 35.0382C24.2185 35.0382 24.4387 34.9828 24.6518 34.872C24.8649 34.7612 25.0396 34.5964 25.1759 34.3777C25.3151 34.1561 25.3847 33.8791 25.3847 33.5467Z"
+      fill="var(--color1)" />
+    <path
+      d="M31.7821 29.7541V30.9473H28.0193V29.7541H31.7821ZM28.9483 28.1859H30.4909V34.3308C30.4909 34.5382 30.5222 34.6973 30.5847 34.8081C30.65 34.916 30.7352 34.9899 30.8403 35.0297C30.9455 35.0694 31.0619 35.0893 31.1898 35.0893C31.2864 35.0893 31.3744 35.0822 31.454 35.068C31.5364 35.0538 31.5989 35.041 31.6415 35.0297L31.9014 36.2356C31.819 36.264 31.7011 36.2953 31.5477 36.3294C31.3972 36.3635 31.2125 36.3833 30.9938 36.389C30.6074 36.4004 30.2594 36.3422 29.9497 36.2143C29.6401 36.0836 29.3943 35.8819 29.2125 35.6092C29.0335 35.3365 28.9455 34.9956 28.9483 34.5865V28.1859Z"
+      fill="var(--color1)" />
+    <path
+      d="M36.3407 29.7541V30.9473H32.5779V29.7541H36.3407ZM33.5069 28.1859H35.0495V34.3308C35.0495 34.5382 35.0808 34.6973 35.1433 34.8081C35.2086 34.916 35.2938 34.9899 35.3989 35.0297C35.5041 35.0694 35.6205 35.0893 35.7484 35.0893C35.845 35.0893 35.933 35.0822 36.0126 35.068C36.095 35.0538 36.1575 35.041 36.2001 35.0297L36.46 36.2356C36.3776 36.264 36.2597 36.2953 36.1063 36.3294C35.9558 36.3635 35.7711 36.3833 35.5524 36.389C35.166 36.4004 34.818 36.3422 34.5083 36.2143C34.1987 36.0836 33.9529 35.8819 33.7711 35.6092C33.5921 35.3365 33.5041 34.9956 33.5069 34.5865V28.1859Z"
+      fill="var(--color1)" />
+    <path
+      d="M40.4156 36.4274C39.7764 36.4274 39.2225 36.2868 38.7537 36.0055C38.285 35.7243 37.9213 35.3308 37.6628 34.8251C37.4071 34.3194 37.2793 33.7285 37.2793 33.0524C37.2793 32.3762 37.4071 31.7839 37.6628 31.2754C37.9213 30.7669 38.285 30.372 38.7537 30.0907C39.2225 29.8095 39.7764 29.6689 40.4156 29.6689C41.0548 29.6689 41.6088 29.8095 42.0776 30.0907C42.5463 30.372 42.9085 30.7669 43.1642 31.2754C43.4227 31.7839 43.552 32.3762 43.552 33.0524C43.552 33.7285 43.4227 34.3194 43.1642 34.8251C42.9085 35.3308 42.5463 35.7243 42.0776 36.0055C41.6088 36.2868 41.0548 36.4274 40.4156 36.4274ZM40.4242 35.1916C40.7707 35.1916 41.0605 35.0964 41.2935 34.9061C41.5264 34.7129 41.6997 34.4544 41.8134 34.1305C41.9298 33.8066 41.9881 33.4458 41.9881 33.0481C41.9881 32.6475 41.9298 32.2853 41.8134 31.9615C41.6997 31.6348 41.5264 31.3748 41.2935 31.1816C41.0605 30.9885 40.7707 30.8919 40.4242 30.8919C40.069 30.8919 39.7736 30.9885 39.5378 31.1816C39.3048 31.3748 39.1301 31.6348 39.0136 31.9615C38.9 32.2853 38.8432 32.6475 38.8432 33.0481C38.8432 33.4458 38.9 33.8066 39.0136 34.1305C39.1301 34.4544 39.3048 34.7129 39.5378 34.9061C39.7736 35.0964 40.069 35.1916 40.4242 35.1916Z"
+      fill="var(--color1)" />
+    <path
+      d="M46.4039 32.4643V36.2995H44.8613V29.7541H46.3357V30.8663H46.4124C46.563 30.4998 46.8031 30.2086 47.1326 29.9927C47.465 29.7768 47.8755 29.6689 48.3641 29.6689C48.8158 29.6689 49.2093 29.7654 49.5445 29.9586C49.8826 30.1518 50.144 30.4316 50.3286 30.7981C50.5161 31.1646 50.6085 31.6092 50.6056 32.1319V36.2995H49.063V32.3706C49.063 31.9331 48.9494 31.5907 48.7221 31.3436C48.4977 31.0964 48.1866 30.9728 47.7889 30.9728C47.519 30.9728 47.2789 31.0325 47.0687 31.1518C46.8613 31.2683 46.698 31.4373 46.5786 31.6589C46.4622 31.8805 46.4039 32.149 46.4039 32.4643Z"
+      fill="var(--color1)" />
+  </svg>`,
+  menuBar: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path d="M1 27C1 25.8954 1.89543 25 3 25H21V38H3C1.89543 38 1 37.1046 1 36V27Z" fill="var(--color3)" />
+    <rect x="6" y="30" width="10" height="3" rx="1" fill="var(--color1)" />
+    <rect width="20" height="13" transform="translate(22 25)" fill="var(--color3)" />
+    <rect x="27" y="30" width="10" height="3" rx="1" fill="var(--color1)" />
+    <path d="M43 25H61C62.1046 25 63 25.8954 63 27V36C63 37.1046 62.1046 38 61 38H43V25Z" fill="var(--color3)" />
+    <rect x="48" y="30" width="10" height="3" rx="1" fill="var(--color1)" />
+  </svg>`,
+  menu: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="4" y="22" width="56" height="20" rx="4" fill="var(--color3)" />
+    <path
+      d="M12 28H13.9347L16.5256 34.3239H16.6278L19.2188 28H21.1534V36.7273H19.6364V30.7315H19.5554L17.1435 36.7017H16.0099L13.598 30.7188H13.517V36.7273H12V28Z"
+      fill="var(--color1)" />
+    <path
+      d="M25.7045 36.8551C25.0483 36.8551 24.4815 36.7188 24.0043 36.446C23.5298 36.1705 23.1648 35.7812 22.9091 35.2784C22.6534 34.7727 22.5256 34.1776 22.5256 33.4929C22.5256 32.8196 22.6534 32.2287 22.9091 31.7202C23.1676 31.2088 23.5284 30.8111 23.9915 30.527C24.4545 30.2401 24.9986 30.0966 25.6236 30.0966C26.027 30.0966 26.4077 30.1619 26.7656 30.2926C27.1264 30.4205 27.4446 30.6193 27.7202 30.8892C27.9986 31.1591 28.2173 31.5028 28.3764 31.9205C28.5355 32.3352 28.6151 32.8295 28.6151 33.4034V33.8764H23.25V32.8366H27.1364C27.1335 32.5412 27.0696 32.2784 26.9446 32.0483C26.8196 31.8153 26.6449 31.6321 26.4205 31.4986C26.1989 31.3651 25.9403 31.2983 25.6449 31.2983C25.3295 31.2983 25.0526 31.375 24.8139 31.5284C24.5753 31.679 24.3892 31.8778 24.2557 32.125C24.125 32.3693 24.0582 32.6378 24.0554 32.9304V33.8381C24.0554 34.2188 24.125 34.5455 24.2642 34.8182C24.4034 35.0881 24.598 35.2955 24.848 35.4403C25.098 35.5824 25.3906 35.6534 25.7259 35.6534C25.9503 35.6534 26.1534 35.6222 26.3352 35.5597C26.517 35.4943 26.6747 35.3991 26.8082 35.2741C26.9418 35.1491 27.0426 34.9943 27.1108 34.8097L28.5511 34.9716C28.4602 35.3523 28.2869 35.6847 28.0312 35.9688C27.7784 36.25 27.4545 36.4688 27.0597 36.625C26.6648 36.7784 26.2131 36.8551 25.7045 36.8551Z"
+      fill="var(--color1)" />
+    <path
+      d="M31.4627 32.892V36.7273H29.9201V30.1818H31.3945V31.294H31.4712C31.6218 30.9276 31.8619 30.6364 32.1914 30.4205C32.5238 30.2045 32.9343 30.0966 33.4229 30.0966C33.8746 30.0966 34.2681 30.1932 34.6033 30.3864C34.9414 30.5795 35.2028 30.8594 35.3874 31.2259C35.5749 31.5923 35.6673 32.0369 35.6644 32.5597V36.7273H34.1218V32.7983C34.1218 32.3608 34.0082 32.0185 33.7809 31.7713C33.5565 31.5241 33.2454 31.4006 32.8477 31.4006C32.5778 31.4006 32.3377 31.4602 32.1275 31.5795C31.9201 31.696 31.7567 31.8651 31.6374 32.0866C31.521 32.3082 31.4627 32.5767 31.4627 32.892Z"
+      fill="var(--color1)" />
+    <path
+      d="M41.4045 33.9744V30.1818H42.9471V36.7273H41.4513V35.5639H41.3832C41.2354 35.9304 40.9925 36.2301 40.6545 36.4631C40.3192 36.696 39.9059 36.8125 39.4144 36.8125C38.9854 36.8125 38.6062 36.7173 38.2766 36.527C37.9499 36.3338 37.6942 36.054 37.5096 35.6875C37.3249 35.3182 37.2326 34.8722 37.2326 34.3494V30.1818H38.7752V34.1108C38.7752 34.5256 38.8888 34.8551 39.1161 35.0994C39.3434 35.3438 39.6417 35.4659 40.011 35.4659C40.2383 35.4659 40.4585 35.4105 40.6715 35.2997C40.8846 35.1889 41.0593 35.0241 41.1957 34.8054C41.3349 34.5838 41.4045 34.3068 41.4045 33.9744Z"
+      fill="var(--color1)" />
+    <path
+      d="M47.7598 30.85C47.5594 30.6685 47.2513 30.6855 47.0716 30.8878C46.8919 31.0901 46.9087 31.4012 47.1091 31.5826L49.7856 34.0623C49.9707 34.2299 50.2512 34.2299 50.4363 34.0623L53.1749 31.5263C53.3753 31.3449 53.3921 31.0338 53.2124 30.8315C53.0327 30.6292 52.7246 30.6123 52.5242 30.7937L50.1109 33.035L47.7598 30.85Z"
+      fill="var(--color1)" />
+  </svg>`,
+  link: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path d="M20.8283 34.9714V26.2441H22.4093V33.6461H26.253V34.9714H20.8283Z" fill="var(--color1)" />
+    <path
+      d="M27.557 34.9714V28.426H29.0996V34.9714H27.557ZM28.3326 27.497C28.0882 27.497 27.878 27.416 27.7019 27.2541C27.5257 27.0893 27.4377 26.8919 27.4377 26.6618C27.4377 26.4288 27.5257 26.2314 27.7019 26.0694C27.878 25.9047 28.0882 25.8223 28.3326 25.8223C28.5797 25.8223 28.7899 25.9047 28.9632 26.0694C29.1394 26.2314 29.2274 26.4288 29.2274 26.6618C29.2274 26.8919 29.1394 27.0893 28.9632 27.2541C28.7899 27.416 28.5797 27.497 28.3326 27.497Z"
+      fill="var(--color1)" />
+    <path
+      d="M32.2285 31.1362V34.9714H30.6859V28.426H32.1603V29.5382H32.237C32.3876 29.1717 32.6277 28.8805 32.9572 28.6646C33.2896 28.4487 33.7001 28.3407 34.1887 28.3407C34.6404 28.3407 35.0339 28.4373 35.3691 28.6305C35.7072 28.8237 35.9686 29.1035 36.1532 29.47C36.3407 29.8365 36.4331 30.2811 36.4302 30.8038V34.9714H34.8876V31.0424C34.8876 30.6049 34.774 30.2626 34.5467 30.0154C34.3223 29.7683 34.0112 29.6447 33.6135 29.6447C33.3436 29.6447 33.1035 29.7044 32.8933 29.8237C32.6859 29.9402 32.5225 30.1092 32.4032 30.3308C32.2868 30.5524 32.2285 30.8208 32.2285 31.1362Z"
+      fill="var(--color1)" />
+    <path
+      d="M39.4047 32.9174L39.4004 31.0552H39.6475L41.9998 28.426H43.8024L40.9089 31.6475H40.5893L39.4047 32.9174ZM37.9984 34.9714V26.2441H39.541V34.9714H37.9984ZM42.1064 34.9714L39.9757 31.9927L41.0154 30.9061L43.9515 34.9714H42.1064Z"
+      fill="var(--color1)" />
+    <path d="M19.9675 37.3578H44.0325V38.176H19.9675V37.3578Z" fill="var(--color1)" />
+  </svg>`,
+  textField: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="5" y="21" width="16" height="3" rx="1" fill="var(--color2)" />
+    <rect x="5" y="27" width="54" height="16" rx="3" fill="var(--color3)" />
+    <path
+      d="M10.0483 38.2232H9L11.3555 31.6777H12.4964L14.8519 38.2232H13.8036L11.9531 32.8667H11.902L10.0483 38.2232ZM10.2241 35.66H13.6246V36.4909H10.2241V35.66Z"
+      fill="var(--color1)" />
+    <path
+      d="M15.7971 38.2232V31.6777H16.7528V34.1099H16.8103C16.8657 34.0076 16.9456 33.8894 17.05 33.7551C17.1544 33.6209 17.2993 33.5037 17.4846 33.4036C17.67 33.3013 17.915 33.2502 18.2197 33.2502C18.616 33.2502 18.9697 33.3503 19.2808 33.5506C19.5919 33.7509 19.8358 34.0396 20.0127 34.4167C20.1917 34.7939 20.2812 35.2477 20.2812 35.7782C20.2812 36.3088 20.1927 36.7637 20.0159 37.1429C19.839 37.5201 19.5961 37.8109 19.2872 38.0154C18.9782 38.2179 18.6256 38.3191 18.2293 38.3191C17.931 38.3191 17.6871 38.269 17.4974 38.1689C17.3099 38.0687 17.1629 37.9515 17.0564 37.8173C16.9498 37.6831 16.8678 37.5637 16.8103 37.4593H16.7304V38.2232H15.7971ZM16.7336 35.7686C16.7336 36.1138 16.7836 36.4164 16.8838 36.6763C16.9839 36.9363 17.1288 37.1397 17.3184 37.2868C17.5081 37.4316 17.7403 37.5041 18.0152 37.5041C18.3007 37.5041 18.5393 37.4284 18.7311 37.2772C18.9229 37.1238 19.0677 36.916 19.1657 36.6539C19.2659 36.3919 19.316 36.0968 19.316 35.7686C19.316 35.4448 19.267 35.1539 19.1689 34.8961C19.0731 34.6383 18.9282 34.4348 18.7343 34.2857C18.5425 34.1365 18.3028 34.062 18.0152 34.062C17.7382 34.062 17.5038 34.1333 17.3121 34.2761C17.1224 34.4189 16.9786 34.6181 16.8806 34.8738C16.7826 35.1294 16.7336 35.4277 16.7336 35.7686Z"
+      fill="var(--color1)" />
+    <path
+      d="M23.4221 38.3223C22.9469 38.3223 22.5378 38.2147 22.1948 37.9995C21.8539 37.7821 21.5918 37.4828 21.4086 37.1014C21.2253 36.72 21.1337 36.2832 21.1337 35.791C21.1337 35.2924 21.2275 34.8525 21.415 34.4711C21.6025 34.0875 21.8667 33.7882 22.2076 33.573C22.5485 33.3578 22.9501 33.2502 23.4125 33.2502C23.7853 33.2502 24.1177 33.3194 24.4096 33.4579C24.7015 33.5943 24.937 33.786 25.1159 34.0332C25.2971 34.2804 25.4047 34.5691 25.4387 34.8993H24.5087C24.4576 34.6692 24.3404 34.4711 24.1571 34.3049C23.976 34.1387 23.7331 34.0556 23.4284 34.0556C23.1621 34.0556 22.9288 34.1259 22.7285 34.2665C22.5304 34.405 22.3759 34.6032 22.2651 34.861C22.1543 35.1167 22.0989 35.4192 22.0989 35.7686C22.0989 36.1266 22.1532 36.4355 22.2619 36.6955C22.3706 36.9554 22.524 37.1568 22.7221 37.2995C22.9224 37.4423 23.1578 37.5137 23.4284 37.5137C23.6096 37.5137 23.7736 37.4806 23.9206 37.4146C24.0698 37.3464 24.1944 37.2495 24.2946 37.1238C24.3968 36.998 24.4682 36.8468 24.5087 36.6699H25.4387C25.4047 36.9874 25.3013 37.2708 25.1287 37.5201C24.9561 37.7694 24.725 37.9654 24.4352 38.1081C24.1475 38.2509 23.8098 38.3223 23.4221 38.3223Z"
+      fill="var(--color1)" />
+  </svg>`,
+  emailField: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="5" y="21" width="16" height="3" rx="1" fill="var(--color2)" />
+    <rect x="5" y="27" width="54" height="16" rx="3" fill="var(--color3)" />
+    <path
+      d="M13.1133 39.0769C12.4528 39.0769 11.8668 38.9863 11.3555 38.8052C10.8462 38.6262 10.4169 38.362 10.0675 38.0126C9.71804 37.6653 9.45277 37.2392 9.27166 36.7342C9.09055 36.2292 9 35.6529 9 35.0051C9 34.3745 9.09162 33.8077 9.27486 33.3049C9.4581 32.802 9.72443 32.3738 10.0739 32.0201C10.4254 31.6642 10.8526 31.3926 11.3555 31.2051C11.8583 31.0176 12.4293 30.9238 13.0685 30.9238C13.68 30.9238 14.2191 31.0197 14.6857 31.2115C15.1523 31.4032 15.5444 31.6664 15.8619 32.0009C16.1815 32.3354 16.4222 32.7189 16.5842 33.1515C16.7461 33.584 16.8271 34.041 16.8271 34.5225C16.8271 34.8592 16.8058 35.1884 16.7631 35.5101C16.7205 35.8297 16.6417 36.1195 16.5266 36.3794C16.4137 36.6373 16.2496 36.8439 16.0344 36.9995C15.8214 37.1529 15.5444 37.2328 15.2035 37.2392C15.0224 37.2456 14.8466 37.2243 14.6761 37.1752C14.5057 37.1262 14.3608 37.0474 14.2415 36.9387C14.1222 36.8279 14.0497 36.6873 14.0241 36.5169H13.9858C13.9347 36.6426 13.8494 36.7598 13.7301 36.8684C13.6108 36.975 13.4585 37.0602 13.2731 37.1241C13.0898 37.1859 12.8768 37.2115 12.6339 37.2008C12.3654 37.1902 12.1236 37.1294 11.9084 37.0186C11.6932 36.9078 11.5089 36.7544 11.3555 36.5584C11.2042 36.3624 11.0881 36.1301 11.0071 35.8617C10.9261 35.5932 10.8857 35.2949 10.8857 34.9668C10.8857 34.6515 10.9315 34.3691 11.0231 34.1199C11.1147 33.8684 11.2393 33.6522 11.397 33.4711C11.5568 33.2878 11.7401 33.1429 11.9467 33.0364C12.1534 32.9299 12.3718 32.8627 12.6019 32.835C12.8256 32.8095 13.0313 32.8159 13.2188 32.8542C13.4063 32.8926 13.5618 32.9512 13.6854 33.03C13.8111 33.1088 13.8899 33.1951 13.9219 33.2889H13.9634V32.9309H14.7496V35.8968C14.7496 36.0652 14.7933 36.2079 14.8807 36.3251C14.9702 36.4423 15.0969 36.5009 15.261 36.5009C15.4549 36.5009 15.6062 36.4295 15.7148 36.2868C15.8256 36.144 15.9034 35.9245 15.9482 35.6284C15.995 35.3322 16.0185 34.9529 16.0185 34.4906C16.0185 34.1667 15.9748 33.862 15.8874 33.5765C15.8022 33.2889 15.6754 33.0289 15.5071 32.7967C15.3409 32.5623 15.1364 32.361 14.8935 32.1926C14.6506 32.0243 14.3736 31.8944 14.0625 31.8027C13.7536 31.7111 13.4116 31.6653 13.0366 31.6653C12.5273 31.6653 12.0746 31.7441 11.6783 31.9018C11.282 32.0574 10.9474 32.2821 10.6747 32.5762C10.4041 32.8702 10.1985 33.2228 10.0579 33.6341C9.91939 34.0431 9.85014 34.5023 9.85014 35.0115C9.85014 35.5421 9.92152 36.013 10.0643 36.4242C10.207 36.8333 10.418 37.1784 10.6971 37.4597C10.9762 37.7409 11.3214 37.954 11.7326 38.0989C12.1438 38.2459 12.6179 38.3194 13.1548 38.3194C13.3935 38.3194 13.6278 38.2981 13.858 38.2555C14.0881 38.215 14.2926 38.1681 14.4716 38.1149C14.6527 38.0637 14.788 38.0222 14.8775 37.9902L15.1012 38.6902C14.9691 38.752 14.7933 38.8127 14.5739 38.8723C14.3565 38.932 14.12 38.981 13.8643 39.0194C13.6108 39.0577 13.3604 39.0769 13.1133 39.0769ZM12.8192 36.4178C13.0962 36.4178 13.3189 36.3624 13.4872 36.2516C13.6577 36.1408 13.7802 35.9757 13.8548 35.7562C13.9315 35.5346 13.9698 35.2576 13.9698 34.9252C13.9677 34.6014 13.9261 34.3436 13.8452 34.1518C13.7663 33.9579 13.6428 33.8194 13.4744 33.7363C13.3082 33.6511 13.0941 33.6085 12.832 33.6085C12.5913 33.6085 12.3857 33.6671 12.2152 33.7843C12.0469 33.9015 11.918 34.0602 11.8285 34.2605C11.7411 34.4608 11.6964 34.6834 11.6942 34.9284C11.6964 35.1863 11.7326 35.4292 11.8029 35.6571C11.8754 35.883 11.9925 36.0662 12.1545 36.2069C12.3185 36.3475 12.5401 36.4178 12.8192 36.4178Z"
+      fill="var(--color1)" />
+  </svg>`,
+  numberField: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="5" y="21" width="16" height="3" rx="1" fill="var(--color2)" />
+    <rect x="5" y="27" width="54" height="16" rx="3" fill="var(--color3)" />
+    <path d="m13.5 34.5859v.8278h-4.5v-.8278z" fill="var(--color1)" />
+    <path d="m33.387 31.7266v6.5454h-.9907v-5.5547h-.0384l-1.566 1.0228v-.9461l1.6331-1.0674z" fill="var(--color1)" />
+    <path d="m52.408 37.1609v-4.3211h.8597v4.3211zm-1.729-1.7323v-.8597h4.321v.8597z" fill="var(--color1)" />
+  </svg>`,
+  passwordField: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="5" y="21" width="16" height="3" rx="1" fill="var(--color2)" />
+    <rect x="5" y="27" width="54" height="16" rx="3" fill="var(--color3)" />
+    <path
+      d="M10.4062 36.4062C10.1484 36.4062 9.913 36.3434 9.69993 36.2177C9.48686 36.0898 9.31641 35.9194 9.18857 35.7063C9.06286 35.4933 9 35.2578 9 35C9 34.7401 9.06286 34.5046 9.18857 34.2937C9.31641 34.0806 9.48686 33.9112 9.69993 33.7855C9.913 33.6577 10.1484 33.5938 10.4062 33.5938C10.6662 33.5938 10.9016 33.6577 11.1126 33.7855C11.3256 33.9112 11.495 34.0806 11.6207 34.2937C11.7486 34.5046 11.8125 34.7401 11.8125 35C11.8125 35.2578 11.7486 35.4933 11.6207 35.7063C11.495 35.9194 11.3256 36.0898 11.1126 36.2177C10.9016 36.3434 10.6662 36.4062 10.4062 36.4062Z"
+      fill="var(--color1)" />
+    <path
+      d="M15.1699 36.4062C14.9121 36.4062 14.6767 36.3434 14.4636 36.2177C14.2505 36.0898 14.0801 35.9194 13.9522 35.7063C13.8265 35.4933 13.7637 35.2578 13.7637 35C13.7637 34.7401 13.8265 34.5046 13.9522 34.2937C14.0801 34.0806 14.2505 33.9112 14.4636 33.7855C14.6767 33.6577 14.9121 33.5938 15.1699 33.5938C15.4299 33.5938 15.6653 33.6577 15.8762 33.7855C16.0893 33.9112 16.2587 34.0806 16.3844 34.2937C16.5123 34.5046 16.5762 34.7401 16.5762 35C16.5762 35.2578 16.5123 35.4933 16.3844 35.7063C16.2587 35.9194 16.0893 36.0898 15.8762 36.2177C15.6653 36.3434 15.4299 36.4062 15.1699 36.4062Z"
+      fill="var(--color1)" />
+    <path
+      d="M19.9336 36.4062C19.6758 36.4062 19.4403 36.3434 19.2273 36.2177C19.0142 36.0898 18.8438 35.9194 18.7159 35.7063C18.5902 35.4933 18.5273 35.2578 18.5273 35C18.5273 34.7401 18.5902 34.5046 18.7159 34.2937C18.8438 34.0806 19.0142 33.9112 19.2273 33.7855C19.4403 33.6577 19.6758 33.5938 19.9336 33.5938C20.1935 33.5938 20.429 33.6577 20.6399 33.7855C20.853 33.9112 21.0224 34.0806 21.1481 34.2937C21.2759 34.5046 21.3398 34.7401 21.3398 35C21.3398 35.2578 21.2759 35.4933 21.1481 35.7063C21.0224 35.9194 20.853 36.0898 20.6399 36.2177C20.429 36.3434 20.1935 36.4062 19.9336 36.4062Z"
+      fill="var(--color1)" />
+    <path
+      d="M24.6973 36.4062C24.4395 36.4062 24.204 36.3434 23.9909 36.2177C23.7779 36.0898 23.6074 35.9194 23.4796 35.7063C23.3539 35.4933 23.291 35.2578 23.291 35C23.291 34.7401 23.3539 34.5046 23.4796 34.2937C23.6074 34.0806 23.7779 33.9112 23.9909 33.7855C24.204 33.6577 24.4395 33.5938 24.6973 33.5938C24.9572 33.5938 25.1926 33.6577 25.4036 33.7855C25.6167 33.9112 25.786 34.0806 25.9118 34.2937C26.0396 34.5046 26.1035 34.7401 26.1035 35C26.1035 35.2578 26.0396 35.4933 25.9118 35.7063C25.786 35.9194 25.6167 36.0898 25.4036 36.2177C25.1926 36.3434 24.9572 36.4062 24.6973 36.4062Z"
+      fill="var(--color1)" />
+    <path
+      d="M29.4609 36.4062C29.2031 36.4062 28.9677 36.3434 28.7546 36.2177C28.5415 36.0898 28.3711 35.9194 28.2433 35.7063C28.1175 35.4933 28.0547 35.2578 28.0547 35C28.0547 34.7401 28.1175 34.5046 28.2433 34.2937C28.3711 34.0806 28.5415 33.9112 28.7546 33.7855C28.9677 33.6577 29.2031 33.5938 29.4609 33.5938C29.7209 33.5938 29.9563 33.6577 30.1673 33.7855C30.3803 33.9112 30.5497 34.0806 30.6754 34.2937C30.8033 34.5046 30.8672 34.7401 30.8672 35C30.8672 35.2578 30.8033 35.4933 30.6754 35.7063C30.5497 35.9194 30.3803 36.0898 30.1673 36.2177C29.9563 36.3434 29.7209 36.4062 29.4609 36.4062Z"
+      fill="var(--color1)" />
+  </svg>`,
+  textArea: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="3" y="15" width="16" height="3" rx="1" fill="var(--color2)" />
+    <rect x="3" y="21" width="58" height="28" rx="3" fill="var(--color3)" />
+    <path
+      d="M8.0483 32.5455H7L9.35547 26H10.4964L12.8519 32.5455H11.8036L9.95312 27.1889H9.90199L8.0483 32.5455ZM8.22408 29.9822H11.6246V30.8132H8.22408V29.9822Z"
+      fill="var(--color1)" />
+    <path
+      d="M13.7971 32.5455V26H14.7528V28.4322H14.8103C14.8657 28.3299 14.9456 28.2116 15.05 28.0774C15.1544 27.9432 15.2993 27.826 15.4846 27.7259C15.67 27.6236 15.915 27.5724 16.2197 27.5724C16.616 27.5724 16.9697 27.6726 17.2808 27.8729C17.5919 28.0732 17.8358 28.3619 18.0127 28.739C18.1917 29.1161 18.2812 29.57 18.2812 30.1005C18.2812 30.631 18.1927 31.0859 18.0159 31.4652C17.839 31.8423 17.5961 32.1332 17.2872 32.3377C16.9782 32.5401 16.6256 32.6413 16.2293 32.6413C15.931 32.6413 15.6871 32.5913 15.4974 32.4911C15.3099 32.391 15.1629 32.2738 15.0564 32.1396C14.9498 32.0053 14.8678 31.886 14.8103 31.7816H14.7304V32.5455H13.7971ZM14.7336 30.0909C14.7336 30.4361 14.7836 30.7386 14.8838 30.9986C14.9839 31.2585 15.1288 31.462 15.3184 31.609C15.5081 31.7539 15.7403 31.8264 16.0152 31.8264C16.3007 31.8264 16.5393 31.7507 16.7311 31.5994C16.9229 31.446 17.0677 31.2383 17.1657 30.9762C17.2659 30.7141 17.316 30.419 17.316 30.0909C17.316 29.767 17.267 29.4762 17.1689 29.2184C17.0731 28.9606 16.9282 28.7571 16.7343 28.608C16.5425 28.4588 16.3028 28.3842 16.0152 28.3842C15.7382 28.3842 15.5038 28.4556 15.3121 28.5984C15.1224 28.7411 14.9786 28.9403 14.8806 29.196C14.7826 29.4517 14.7336 29.75 14.7336 30.0909Z"
+      fill="var(--color1)" />
+    <path
+      d="M21.4221 32.6445C20.9469 32.6445 20.5378 32.5369 20.1948 32.3217C19.8539 32.1044 19.5918 31.805 19.4086 31.4237C19.2253 31.0423 19.1337 30.6055 19.1337 30.1133C19.1337 29.6147 19.2275 29.1747 19.415 28.7933C19.6025 28.4098 19.8667 28.1104 20.2076 27.8952C20.5485 27.68 20.9501 27.5724 21.4125 27.5724C21.7853 27.5724 22.1177 27.6417 22.4096 27.7802C22.7015 27.9165 22.937 28.1083 23.1159 28.3555C23.2971 28.6026 23.4047 28.8913 23.4387 29.2216H22.5087C22.4576 28.9915 22.3404 28.7933 22.1571 28.6271C21.976 28.4609 21.7331 28.3778 21.4284 28.3778C21.1621 28.3778 20.9288 28.4482 20.7285 28.5888C20.5304 28.7273 20.3759 28.9254 20.2651 29.1832C20.1543 29.4389 20.0989 29.7415 20.0989 30.0909C20.0989 30.4489 20.1532 30.7578 20.2619 31.0178C20.3706 31.2777 20.524 31.479 20.7221 31.6218C20.9224 31.7646 21.1578 31.8359 21.4284 31.8359C21.6096 31.8359 21.7736 31.8029 21.9206 31.7369C22.0698 31.6687 22.1944 31.5717 22.2946 31.446C22.3968 31.3203 22.4682 31.169 22.5087 30.9922H23.4387C23.4047 31.3097 23.3013 31.593 23.1287 31.8423C22.9561 32.0916 22.725 32.2876 22.4352 32.4304C22.1475 32.5732 21.8098 32.6445 21.4221 32.6445Z"
+      fill="var(--color1)" />
+  </svg>`,
+  select: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="5" y="21" width="16" height="3" rx="1" fill="var(--color2)" />
+    <rect x="5" y="27" width="54" height="16" rx="3" fill="var(--color3)" />
+    <path
+      d="M14.8967 34.2106C14.8967 34.9094 14.7688 35.5103 14.5131 36.0131C14.2575 36.5138 13.907 36.8995 13.4616 37.1701C13.0185 37.4386 12.5146 37.5728 11.9499 37.5728C11.3832 37.5728 10.8771 37.4386 10.4318 37.1701C9.98864 36.8995 9.6392 36.5128 9.38352 36.0099C9.12784 35.5071 9 34.9073 9 34.2106C9 33.5117 9.12784 32.9119 9.38352 32.4112C9.6392 31.9084 9.98864 31.5227 10.4318 31.2543C10.8771 30.9837 11.3832 30.8484 11.9499 30.8484C12.5146 30.8484 13.0185 30.9837 13.4616 31.2543C13.907 31.5227 14.2575 31.9084 14.5131 32.4112C14.7688 32.9119 14.8967 33.5117 14.8967 34.2106ZM13.9187 34.2106C13.9187 33.6779 13.8324 33.2294 13.6598 32.8651C13.4893 32.4986 13.255 32.2216 12.9567 32.0341C12.6605 31.8445 12.3249 31.7496 11.9499 31.7496C11.5728 31.7496 11.2362 31.8445 10.94 32.0341C10.6438 32.2216 10.4094 32.4986 10.2369 32.8651C10.0664 33.2294 9.98118 33.6779 9.98118 34.2106C9.98118 34.7433 10.0664 35.1928 10.2369 35.5593C10.4094 35.9237 10.6438 36.2006 10.94 36.3903C11.2362 36.5778 11.5728 36.6715 11.9499 36.6715C12.3249 36.6715 12.6605 36.5778 12.9567 36.3903C13.255 36.2006 13.4893 35.9237 13.6598 35.5593C13.8324 35.1928 13.9187 34.7433 13.9187 34.2106Z"
+      fill="var(--color1)" />
+    <path
+      d="M16.0512 39.3242V32.5742H16.9845V33.37H17.0644C17.1198 33.2678 17.1997 33.1495 17.3041 33.0153C17.4085 32.881 17.5534 32.7638 17.7387 32.6637C17.9241 32.5614 18.1691 32.5103 18.4738 32.5103C18.8701 32.5103 19.2238 32.6104 19.5349 32.8107C19.846 33.011 20.0899 33.2997 20.2668 33.6768C20.4458 34.054 20.5352 34.5078 20.5352 35.0384C20.5352 35.5689 20.4468 36.0238 20.27 36.4031C20.0931 36.7802 19.8502 37.071 19.5413 37.2756C19.2323 37.478 18.8797 37.5792 18.4834 37.5792C18.1851 37.5792 17.9411 37.5291 17.7515 37.429C17.564 37.3288 17.417 37.2116 17.3105 37.0774C17.2039 36.9432 17.1219 36.8239 17.0644 36.7195H17.0068V39.3242H16.0512ZM16.9877 35.0288C16.9877 35.3739 17.0377 35.6765 17.1379 35.9364C17.238 36.1964 17.3829 36.3999 17.5725 36.5469C17.7622 36.6918 17.9944 36.7642 18.2693 36.7642C18.5548 36.7642 18.7934 36.6886 18.9852 36.5373C19.1769 36.3839 19.3218 36.1761 19.4198 35.9141C19.52 35.652 19.57 35.3569 19.57 35.0288C19.57 34.7049 19.521 34.4141 19.423 34.1562C19.3271 33.8984 19.1823 33.695 18.9884 33.5458C18.7966 33.3967 18.5569 33.3221 18.2693 33.3221C17.9923 33.3221 17.7579 33.3935 17.5661 33.5362C17.3765 33.679 17.2327 33.8782 17.1347 34.1339C17.0367 34.3896 16.9877 34.6879 16.9877 35.0288Z"
+      fill="var(--color1)" />
+    <path
+      d="M23.8975 32.5742V33.3413H21.216V32.5742H23.8975ZM21.9351 31.3981H22.8907V36.0419C22.8907 36.2273 22.9184 36.3668 22.9738 36.4606C23.0292 36.5522 23.1006 36.6151 23.1879 36.6491C23.2774 36.6811 23.3744 36.6971 23.4788 36.6971C23.5555 36.6971 23.6226 36.6918 23.6801 36.6811C23.7377 36.6705 23.7824 36.6619 23.8144 36.6555L23.9869 37.445C23.9316 37.4663 23.8527 37.4876 23.7504 37.5089C23.6482 37.5323 23.5203 37.5451 23.3669 37.5472C23.1155 37.5515 22.8811 37.5067 22.6638 37.413C22.4465 37.3192 22.2707 37.1744 22.1365 36.9783C22.0022 36.7823 21.9351 36.5362 21.9351 36.2401V31.3981Z"
+      fill="var(--color1)" />
+    <path
+      d="M24.9545 37.4833V32.5742H25.9102V37.4833H24.9545ZM25.4371 31.8168C25.271 31.8168 25.1282 31.7614 25.0089 31.6506C24.8917 31.5376 24.8331 31.4034 24.8331 31.2479C24.8331 31.0902 24.8917 30.956 25.0089 30.8452C25.1282 30.7322 25.271 30.6758 25.4371 30.6758C25.6033 30.6758 25.745 30.7322 25.8622 30.8452C25.9815 30.956 26.0412 31.0902 26.0412 31.2479C26.0412 31.4034 25.9815 31.5376 25.8622 31.6506C25.745 31.7614 25.6033 31.8168 25.4371 31.8168Z"
+      fill="var(--color1)" />
+    <path
+      d="M29.2636 37.5824C28.8034 37.5824 28.4017 37.4769 28.0587 37.266C27.7156 37.055 27.4493 36.7599 27.2597 36.3807C27.07 36.0014 26.9752 35.5582 26.9752 35.0511C26.9752 34.5419 27.07 34.0966 27.2597 33.7152C27.4493 33.3338 27.7156 33.0376 28.0587 32.8267C28.4017 32.6158 28.8034 32.5103 29.2636 32.5103C29.7238 32.5103 30.1254 32.6158 30.4685 32.8267C30.8115 33.0376 31.0779 33.3338 31.2675 33.7152C31.4571 34.0966 31.5519 34.5419 31.5519 35.0511C31.5519 35.5582 31.4571 36.0014 31.2675 36.3807C31.0779 36.7599 30.8115 37.055 30.4685 37.266C30.1254 37.4769 29.7238 37.5824 29.2636 37.5824ZM29.2668 36.7802C29.5651 36.7802 29.8122 36.7013 30.0083 36.5437C30.2043 36.386 30.3492 36.1761 30.4429 35.9141C30.5388 35.652 30.5867 35.3633 30.5867 35.0479C30.5867 34.7347 30.5388 34.4471 30.4429 34.185C30.3492 33.9208 30.2043 33.7088 30.0083 33.549C29.8122 33.3892 29.5651 33.3093 29.2668 33.3093C28.9664 33.3093 28.7171 33.3892 28.5189 33.549C28.3229 33.7088 28.1769 33.9208 28.0811 34.185C27.9873 34.4471 27.9404 34.7347 27.9404 35.0479C27.9404 35.3633 27.9873 35.652 28.0811 35.9141C28.1769 36.1761 28.3229 36.386 28.5189 36.5437C28.7171 36.7013 28.9664 36.7802 29.2668 36.7802Z"
+      fill="var(--color1)" />
+    <path
+      d="M33.5742 34.5685V37.4833H32.6186V32.5742H33.5359V33.3732H33.5966C33.7095 33.1133 33.8864 32.9045 34.1271 32.7468C34.37 32.5891 34.6758 32.5103 35.0444 32.5103C35.3789 32.5103 35.6719 32.5806 35.9233 32.7212C36.1747 32.8597 36.3697 33.0664 36.5082 33.3413C36.6467 33.6161 36.7159 33.956 36.7159 34.3608V37.4833H35.7603V34.4759C35.7603 34.12 35.6676 33.842 35.4822 33.6417C35.2969 33.4393 35.0423 33.3381 34.7184 33.3381C34.4968 33.3381 34.2997 33.386 34.1271 33.4819C33.9567 33.5778 33.8214 33.7184 33.7212 33.9038C33.6232 34.087 33.5742 34.3086 33.5742 34.5685Z"
+      fill="var(--color1)" />
+    <path
+      d="M49.4229 33.4222C49.2225 33.2408 48.9144 33.2577 48.7347 33.46C48.555 33.6624 48.5717 33.9734 48.7721 34.1549L51.4486 36.6345C51.6338 36.8021 51.9142 36.8021 52.0994 36.6345L54.838 34.0986C55.0384 33.9172 55.0552 33.6061 54.8755 33.4038C54.6958 33.2015 54.3877 33.1845 54.1873 33.366L51.774 35.6073L49.4229 33.4222Z"
+      fill="var(--color1)" />
+  </svg>`,
+  comboBox: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="5" y="21" width="16" height="3" rx="1" fill="var(--color2)" />
+    <rect x="5" y="27" width="54" height="16" rx="3" fill="var(--color3)" />
+    <path
+      d="M49.4228 33.4222C49.2225 33.2408 48.9143 33.2577 48.7346 33.46C48.5549 33.6624 48.5717 33.9734 48.7721 34.1549L51.4486 36.6345C51.6337 36.8021 51.9142 36.8021 52.0993 36.6345L54.838 34.0986C55.0384 33.9172 55.0551 33.6061 54.8754 33.4038C54.6957 33.2015 54.3876 33.1845 54.1872 33.366L51.774 35.6073L49.4228 33.4222Z"
+      fill="var(--color1)" />
+  </svg>`,
+  multiSelectComboBox: r`<svg
+    width="64"
+    height="64"
+    viewBox="0 0 64 64"
+    fill="none"
+    xmlns="http://www.w3.org/2000/svg">
+    <rect x="5" y="21" width="16" height="3" rx="1" fill="var(--color2)" />
+    <rect x="5" y="27" width="54" height="16" rx="3" fill="var(--color3)" />
+    <path
+      d="M10 31C9.44772 31 9 31.4884 9 32.0909V37.9091C9 38.5116 9.44772 39 10 39C9.78657 38.7672 9.66667 38.4514 9.66667 38.1221V31.8779C9.66667 31.5486 9.78657 31.2328 10 31Z"
+      fill="var(--color2)" />
+    <rect x="11" y="31" width="8" height="8" rx="1.14286" fill="var(--color2)" />
+    <rect x="14" y="34" width="2" height="2" rx="0.5" fill="var(--color3)" />
+    <rect x="20" y="31" width="25" height="8" rx="1" fill="var(--color2)" />
+    <rect x="23" y="34" width="16" height="2" rx="0.5" fill="var(--color3)" />
+    <path
+      d="M49.4228 33.4222C49.2225 33.2408 48.9143 33.2577 48.7346 33.46C48.5549 33.6624 48.5717 33.9734 48.7721 34.1549L51.4486 36.6345C51.6337 36.8021 51.9142 36.8021 52.0993 36.6345L54.838 34.0986C55.0384 33.9172 55.0551 33.6061 54.8754 33.4038C54.6957 33.2015 54.3876 33.1845 54.1872 33.366L51.774 35.6073L49.4228 33.4222Z"
+      fill="var(--color1)" />
+  </svg>`,
+  checkbox: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="10" y="25" width="14" height="14" rx="3" fill="var(--color1)" />
+    <path
+      d="M12.4528 32.1639L13.353 31.2452L15.6889 33.5488L20.6332 28.623L21.5472 29.5417L15.6889 35.377L12.4528 32.1639Z"
+      fill="var(--color3)" />
+    <rect x="28" y="29" width="26" height="6" rx="1" fill="var(--color2)" />
+  </svg>`,
+  checkboxGroup: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="16.0021" y="18" width="7.99574" height="8" rx="2" fill="var(--color1)" />
+    <path
+      fill-rule="evenodd"
+      clip-rule="evenodd"
+      d="M17.5915 21.2179L16.7181 22.1092L19.1353 24.5091L23.2828 20.3779L22.3976 19.4883L19.1343 22.7394L17.5915 21.2179Z"
+      fill="var(--color3)" />
+    <rect x="27.9979" y="20" width="20" height="4" rx="1" fill="var(--color2)" />
+    <rect x="16" y="28" width="8" height="8" rx="2" fill="var(--color3)" />
+    <rect x="28" y="30" width="20" height="4" rx="1" fill="var(--color2)" />
+    <rect x="16" y="38" width="8" height="8" rx="2" fill="var(--color3)" />
+    <rect x="28" y="40" width="20" height="4" rx="1" fill="var(--color2)" />
+  </svg>`,
+  radioGroup: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="16" y="17" width="8" height="8" rx="4" fill="var(--color1)" />
+    <path
+      d="M20 23C19.6333 23 19.2985 22.9106 18.9955 22.7318C18.6924 22.55 18.45 22.3076 18.2682 22.0045C18.0894 21.7015 18 21.3667 18 21C18 20.6303 18.0894 20.2955 18.2682 19.9955C18.45 19.6924 18.6924 19.4515 18.9955 19.2727C19.2985 19.0909 19.6333 19 20 19C20.3697 19 20.7045 19.0909 21.0045 19.2727C21.3076 19.4515 21.5485 19.6924 21.7273 19.9955C21.9091 20.2955 22 20.6303 22 21C22 21.3667 21.9091 21.7015 21.7273 22.0045C21.5485 22.3076 21.3076 22.55 21.0045 22.7318C20.7045 22.9106 20.3697 23 20 23Z"
+      fill="var(--color3)" />
+    <rect x="28" y="19" width="20" height="4" rx="1" fill="var(--color2)" />
+    <rect x="16" y="27" width="8" height="8" rx="4" fill="var(--color3)" />
+    <rect x="28" y="29" width="20" height="4" rx="1" fill="var(--color2)" />
+    <rect x="16" y="38" width="8" height="8" rx="4" fill="var(--color3)" />
+    <rect x="28" y="40" width="20" height="4" rx="1" fill="var(--color2)" />
+  </svg> `,
+  details: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M25.7022 24.2475C25.4304 23.9415 24.9629 23.9155 24.6593 24.1904L22.4139 26.2758L20.2329 24.2488L20.2305 24.2467C19.9269 23.9718 19.4595 23.9977 19.1876 24.3038C18.9173 24.6081 18.9419 25.0751 19.243 25.3489L21.9186 27.8277L21.9207 27.8296C22.2011 28.0835 22.6266 28.0835 22.907 27.8296L25.6468 25.2927C25.948 25.0189 25.9725 24.5518 25.7022 24.2475Z"
+      fill="var(--color1)" />
+    <rect x="28" y="24" width="17" height="4" rx="1" fill="var(--color1)" />
+    <rect x="20" y="33" width="25" height="2" rx="1" fill="var(--color2)" />
+    <rect x="20" y="38" width="25" height="2" rx="1" fill="var(--color2)" />
+  </svg>`,
+  accordion: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M23.8638 17.1847C23.6666 16.9563 23.3273 16.937 23.107 17.1421L21.4775 18.6984L19.8948 17.1857L19.893 17.1841C19.6727 16.9789 19.3334 16.9983 19.1362 17.2267C18.94 17.4538 18.9578 17.8023 19.1764 18.0066L21.118 19.8565L21.1196 19.8579C21.323 20.0474 21.6319 20.0474 21.8354 19.8579L23.8236 17.9647C24.0422 17.7604 24.06 17.4118 23.8638 17.1847Z"
+      fill="var(--color1)" />
+    <path
+      d="M20.1847 34.1362C19.9563 34.3334 19.937 34.6727 20.1421 34.893L21.6984 36.5225L20.1857 38.1052L20.1841 38.107C19.9789 38.3273 19.9983 38.6666 20.2267 38.8638C20.4538 39.06 20.8023 39.0422 21.0066 38.8236L22.8565 36.882L22.8579 36.8804C23.0474 36.677 23.0474 36.3681 22.8579 36.1646L20.9647 34.1764C20.7604 33.9578 20.4118 33.94 20.1847 34.1362Z"
+      fill="var(--color1)" />
+    <path
+      d="M20.1847 42.1362C19.9563 42.3334 19.937 42.6727 20.1421 42.893L21.6984 44.5225L20.1857 46.1052L20.1841 46.107C19.9789 46.3273 19.9983 46.6666 20.2267 46.8638C20.4538 47.06 20.8023 47.0422 21.0066 46.8236L22.8565 44.882L22.8579 44.8804C23.0474 44.677 23.0474 44.3681 22.8579 44.1646L20.9647 42.1764C20.7604 41.9578 20.4118 41.94 20.1847 42.1362Z"
+      fill="var(--color1)" />
+    <rect x="28" y="17" width="17" height="3" rx="1" fill="var(--color1)" />
+    <rect x="28" y="35" width="17" height="3" rx="1" fill="var(--color1)" />
+    <rect x="28" y="43" width="17" height="3" rx="1" fill="var(--color1)" />
+    <rect x="20" y="24" width="25" height="2" rx="1" fill="var(--color2)" />
+    <rect x="20" y="28" width="25" height="2" rx="1" fill="var(--color2)" />
+  </svg>`,
+  tabs: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="46" y="28" width="16" height="4" rx="1" fill="var(--color2)" />
+    <rect x="24" y="28" width="16" height="4" rx="1" fill="var(--color2)" />
+    <rect x="2" y="28" width="16" height="4" rx="1" fill="var(--color1)" />
+    <rect y="35" width="64" height="1" fill="var(--color3)" />
+    <path d="M6 35C6 34.4477 6.44772 34 7 34H13C13.5523 34 14 34.4477 14 35V36H6V35Z" fill="var(--color2)" />
+  </svg>`,
+  tabSheet: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="46" y="28" width="16" height="4" rx="1" fill="var(--color2)" />
+    <rect x="24" y="28" width="16" height="4" rx="1" fill="var(--color2)" />
+    <rect x="2" y="28" width="16" height="4" rx="1" fill="var(--color1)" />
+    <rect y="35" width="64" height="1" fill="var(--color3)" />
+    <path d="M6 35C6 34.4477 6.44772 34 7 34H13C13.5523 34 14 34.4477 14 35V36H6V35Z" fill="var(--color2)" />
+  </svg>`,
+  textItems: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="7" y="17" width="50" height="9" rx="2" fill="var(--color3)" />
+    <rect x="11" y="20" width="16" height="3" rx="1" fill="var(--color1)" />
+    <rect x="11" y="30" width="16" height="3" rx="1" fill="var(--color1)" />
+    <rect x="11" y="40" width="16" height="3" rx="1" fill="var(--color1)" />
+  </svg>`,
+  avatarItems: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="13" y="17" width="38" height="9" rx="2" fill="var(--color3)" />
+    <circle cx="18" cy="21.5" r="2" fill="var(--color2)" />
+    <rect x="23" y="20" width="15" height="1" fill="var(--color1)" />
+    <rect x="23" y="22" width="15" height="1" fill="var(--color2)" />
+    <circle cx="18" cy="31.5" r="2" fill="var(--color2)" />
+    <rect x="23" y="30" width="15" height="1" fill="var(--color1)" />
+    <rect x="23" y="32" width="15" height="1" fill="var(--color2)" />
+    <circle cx="18" cy="41.5" r="2" fill="var(--color2)" />
+    <rect x="23" y="40" width="15" height="1" fill="var(--color1)" />
+    <rect x="23" y="42" width="15" height="1" fill="var(--color2)" />
+  </svg>`,
+  layoutRow: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M5.9 24H5C4.72882 24 4.47024 24.054 4.23442 24.1518L4.61748 25.0755C4.734 25.0272 4.86257 25 5 25H5.9V24Z"
+      fill="var(--color1)" />
+    <path
+      d="M3 37H4V38C4 38.1374 4.02717 38.266 4.07549 38.3825L3.15176 38.7656C3.05397 38.5298 3 38.2712 3 38V37Z"
+      fill="var(--color1)" />
+    <path d="M20.3 39V40H18.5V39H20.3Z" fill="var(--color1)" />
+    <path d="M16.7 40V39H14.9V40H16.7Z" fill="var(--color1)" />
+    <path d="M13.1 39V40H11.3V39H13.1Z" fill="var(--color1)" />
+    <path d="M9.5 40V39H7.7V40H9.5Z" fill="var(--color1)" />
+    <path
+      d="M5.9 39V40H5C4.72882 40 4.47024 39.946 4.23443 39.8482L4.61748 38.9245C4.734 38.9728 4.86257 39 5 39H5.9Z"
+      fill="var(--color1)" />
+    <path d="M3 35H4V33H3V35Z" fill="var(--color1)" />
+    <path d="M4 31H3V29H4V31Z" fill="var(--color1)" />
+    <path
+      d="M3 27H4V26C4 25.8626 4.02717 25.734 4.07549 25.6175L3.15176 25.2344C3.05397 25.4702 3 25.7288 3 26V27Z"
+      fill="var(--color1)" />
+    <path d="M7.7 25V24H9.5V25H7.7Z" fill="var(--color1)" />
+    <path d="M11.3 24V25H13.1V24H11.3Z" fill="var(--color1)" />
+    <path d="M14.9 25V24H16.7V25H14.9Z" fill="var(--color1)" />
+    <path d="M18.5 24V25H20.3V24H18.5Z" fill="var(--color1)" />
+    <path d="M22 27V29H23V27H22Z" fill="var(--color1)" />
+    <path d="M22 25V24H23V25H22Z" fill="var(--color1)" />
+    <path d="M25 24H27V25H25V24Z" fill="var(--color1)" />
+    <path d="M29 25V24H31V25H29Z" fill="var(--color1)" />
+    <path d="M33 24V25H35V24H33Z" fill="var(--color1)" />
+    <path d="M37 25V24H39V25H37Z" fill="var(--color1)" />
+    <path d="M39 40V39H37V40H39Z" fill="var(--color1)" />
+    <path d="M35 39V40H33V39H35Z" fill="var(--color1)" />
+    <path d="M31 40V39H29V40H31Z" fill="var(--color1)" />
+    <path d="M27 39V40H25V39H27Z" fill="var(--color1)" />
+    <path d="M23 40V39H22V40H23Z" fill="var(--color1)" />
+    <path d="M23 37H22V35H23V37Z" fill="var(--color1)" />
+    <path d="M22 33H23V31H22V33Z" fill="var(--color1)" />
+    <path d="M41 27V29H42V27H41Z" fill="var(--color1)" />
+    <path d="M41 24V25H42V24H41Z" fill="var(--color1)" />
+    <path d="M43.7 25V24H45.5V25H43.7Z" fill="var(--color1)" />
+    <path d="M47.3 25V24H49.1V25H47.3Z" fill="var(--color1)" />
+    <path d="M50.9 25V24H52.7V25H50.9Z" fill="var(--color1)" />
+    <path d="M52.7 39V40H50.9V39H52.7Z" fill="var(--color1)" />
+    <path d="M49.1 39V40H47.3V39H49.1Z" fill="var(--color1)" />
+    <path d="M45.5 39V40H43.7V39H45.5Z" fill="var(--color1)" />
+    <path d="M42 39V40H41V39H42Z" fill="var(--color1)" />
+    <path d="M42 37H41V35H42V37Z" fill="var(--color1)" />
+    <path d="M42 33H41V31H42V33Z" fill="var(--color1)" />
+    <path d="M56.3 25H54.5V24H56.3V25Z" fill="var(--color2)" />
+    <path d="M54.5 39H56.3V40H54.5V39Z" fill="var(--color2)" />
+    <path d="M60 25H58V24H60V25Z" fill="var(--color3)" />
+    <path d="M58 39H60V40H58V39Z" fill="var(--color3)" />
+  </svg>`,
+  layoutColumn: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path d="M8 47V49H9V47H8Z" fill="var(--color3)" />
+    <path d="M56 49V47H55V49H56Z" fill="var(--color3)" />
+    <path d="M9 26L9 25H8V26H9Z" fill="var(--color1)" />
+    <path d="M8 23.5H9V21.8333H8V23.5Z" fill="var(--color1)" />
+    <path d="M8 20.1667H9V18.5H8V20.1667Z" fill="var(--color1)" />
+    <path
+      d="M8 16.8333H9V16C9 15.8626 9.02717 15.734 9.07549 15.6175L8.15176 15.2344C8.05397 15.4702 8 15.7288 8 16V16.8333Z"
+      fill="var(--color1)" />
+    <path
+      d="M9.23442 14.1518L9.61748 15.0755C9.734 15.0272 9.86257 15 10 15H11V14H10C9.72882 14 9.47024 14.054 9.23442 14.1518Z"
+      fill="var(--color1)" />
+    <path d="M13 14V15H15V14H13Z" fill="var(--color1)" />
+    <path d="M17 14V15H19V14H17Z" fill="var(--color1)" />
+    <path d="M21 14V15H23V14H21Z" fill="var(--color1)" />
+    <path d="M25 14V15H27V14H25Z" fill="var(--color1)" />
+    <path d="M29 14V15H31V14H29Z" fill="var(--color1)" />
+    <path d="M33 14V15H35V14H33Z" fill="var(--color1)" />
+    <path d="M37 14V15H39V14H37Z" fill="var(--color1)" />
+    <path d="M41 14V15H43V14H41Z" fill="var(--color1)" />
+    <path d="M45 14V15H47V14H45Z" fill="var(--color1)" />
+    <path d="M49 14V15H51V14H49Z" fill="var(--color1)" />
+    <path
+      d="M53 14V15H54C54.1374 15 54.266 15.0272 54.3825 15.0755L54.7656 14.1518C54.5298 14.054 54.2712 14 54 14H53Z"
+      fill="var(--color1)" />
+    <path
+      d="M56 16.8333V16C56 15.7288 55.946 15.4702 55.8482 15.2344L54.9245 15.6175C54.9728 15.734 55 15.8626 55 16V16.8333H56Z"
+      fill="var(--color1)" />
+    <path d="M56 18.5H55V20.1667H56V18.5Z" fill="var(--color1)" />
+    <path d="M56 21.8333H55V23.5H56V21.8333Z" fill="var(--color1)" />
+    <path d="M8 30V28H9V30H8Z" fill="var(--color1)" />
+    <path d="M13 25H11V26H13V25Z" fill="var(--color1)" />
+    <path d="M56 26V25H55V26H56Z" fill="var(--color1)" />
+    <path d="M15 25V26H17V25H15Z" fill="var(--color1)" />
+    <path d="M19 25V26H21V25H19Z" fill="var(--color1)" />
+    <path d="M23 25V26H25V25H23Z" fill="var(--color1)" />
+    <path d="M27 25V26H29V25H27Z" fill="var(--color1)" />
+    <path d="M31 25V26H33V25H31Z" fill="var(--color1)" />
+    <path d="M35 25V26H37V25H35Z" fill="var(--color1)" />
+    <path d="M39 25V26H41V25H39Z" fill="var(--color1)" />
+    <path d="M43 25V26H45V25H43Z" fill="var(--color1)" />
+    <path d="M47 25V26H49V25H47Z" fill="var(--color1)" />
+    <path d="M51 25V26H53V25H51Z" fill="var(--color1)" />
+    <path d="M56 28H55V30H56V28Z" fill="var(--color1)" />
+    <path d="M56 32H55V34H56V32Z" fill="var(--color1)" />
+    <path d="M8 34H9V32H8V34Z" fill="var(--color1)" />
+    <path d="M8 39V41H9V39H8Z" fill="var(--color1)" />
+    <path d="M8 36V37H9V36H8Z" fill="var(--color1)" />
+    <path d="M11 36H13V37H11V36Z" fill="var(--color1)" />
+    <path d="M15 37V36H17V37H15Z" fill="var(--color1)" />
+    <path d="M19 37V36H21V37H19Z" fill="var(--color1)" />
+    <path d="M23 37V36H25V37H23Z" fill="var(--color1)" />
+    <path d="M27 37V36H29V37H27Z" fill="var(--color1)" />
+    <path d="M31 37V36H33V37H31Z" fill="var(--color1)" />
+    <path d="M35 37V36H37V37H35Z" fill="var(--color1)" />
+    <path d="M39 37V36H41V37H39Z" fill="var(--color1)" />
+    <path d="M43 37V36H45V37H43Z" fill="var(--color1)" />
+    <path d="M47 37V36H49V37H47Z" fill="var(--color1)" />
+    <path d="M51 37V36H53V37H51Z" fill="var(--color1)" />
+    <path d="M55 37V36H56V37H55Z" fill="var(--color1)" />
+    <path d="M55 39H56V41H55V39Z" fill="var(--color1)" />
+    <path d="M55 45V43H56V45H55Z" fill="var(--color2)" />
+    <path d="M9 43V45H8V43H9Z" fill="var(--color2)" />
+  </svg>`,
+  hr: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="15" y="17" width="34" height="4" rx="1" fill="var(--color3)" />
+    <rect width="56" height="1" transform="translate(4 24)" fill="var(--color1)" />
+    <rect x="15" y="28" width="34" height="4" rx="1" fill="var(--color3)" />
+  </svg>`,
+  timePicker: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="5" y="21" width="16" height="3" rx="1" fill="var(--color2)" />
+    <rect x="5" y="27" width="54" height="16" rx="3" fill="var(--color3)" />
+    <path
+      d="M50.925 30.9248C48.6779 30.9248 46.85 32.7527 46.85 34.9998C46.85 37.2469 48.6779 39.0748 50.925 39.0748C53.1721 39.0748 55 37.2469 55 34.9998C55 32.7527 53.1721 30.9248 50.925 30.9248ZM50.925 31.604C52.8046 31.604 54.3208 33.1202 54.3208 34.9998C54.3208 36.8795 52.8046 38.3956 50.925 38.3956C49.0453 38.3956 47.5291 36.8795 47.5291 34.9998C47.5291 33.1202 49.0453 31.604 50.925 31.604ZM50.5854 32.2831V35.3394H52.9625V34.6602H51.2646V32.2831H50.5854Z"
+      fill="var(--color1)" />
+  </svg>`,
+  datePicker: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="5" y="21" width="16" height="3" rx="1" fill="var(--color2)" />
+    <rect x="5" y="27" width="54" height="16" rx="3" fill="var(--color3)" />
+    <path
+      fill-rule="evenodd"
+      clip-rule="evenodd"
+      d="M49.5243 31.4342H52.5805V31.1819C52.5805 31.0338 52.6956 30.9248 52.8376 30.9248H53.3422C53.4902 30.9248 53.5993 31.0399 53.5993 31.1819V31.4342H54.4942C54.7723 31.4342 55 31.662 55 31.943V32.4535C55 32.7368 54.7736 32.9623 54.4942 32.9623H47.6106C47.3325 32.9623 47.1047 32.7345 47.1047 32.4535V31.943C47.1047 31.6597 47.3312 31.4342 47.6106 31.4342H48.5055V31.1819C48.5055 31.0338 48.6206 30.9248 48.7626 30.9248H49.2672C49.4152 30.9248 49.5243 31.0399 49.5243 31.1819V31.4342ZM47.7438 33.4717H48.2484C48.3965 33.4717 48.5055 33.5868 48.5055 33.7288V34.2334C48.5055 34.3814 48.3904 34.4904 48.2484 34.4904H47.7438C47.5958 34.4904 47.4868 34.3753 47.4868 34.2334V33.7288C47.4868 33.5807 47.6019 33.4717 47.7438 33.4717ZM49.272 33.4717H49.7766C49.9246 33.4717 50.0336 33.5868 50.0336 33.7288V34.2334C50.0336 34.3814 49.9185 34.4904 49.7766 34.4904H49.272C49.1239 34.4904 49.0149 34.3753 49.0149 34.2334V33.7288C49.0149 33.5807 49.13 33.4717 49.272 33.4717ZM50.8001 33.4717H51.3047C51.4527 33.4717 51.5618 33.5868 51.5618 33.7288V34.2334C51.5618 34.3814 51.4467 34.4904 51.3047 34.4904H50.8001C50.652 34.4904 50.543 34.3753 50.543 34.2334V33.7288C50.543 33.5807 50.6581 33.4717 50.8001 33.4717ZM47.7438 34.9998H48.2484C48.3965 34.9998 48.5055 35.1149 48.5055 35.2569V35.7615C48.5055 35.9095 48.3904 36.0186 48.2484 36.0186H47.7438C47.5958 36.0186 47.4868 35.9035 47.4868 35.7615V35.2569C47.4868 35.1088 47.6019 34.9998 47.7438 34.9998ZM49.272 34.9998H49.7766C49.9246 34.9998 50.0336 35.1149 50.0336 35.2569V35.7615C50.0336 35.9095 49.9185 36.0186 49.7766 36.0186H49.272C49.1239 36.0186 49.0149 35.9035 49.0149 35.7615V35.2569C49.0149 35.1088 49.13 34.9998 49.272 34.9998ZM50.8001 34.9998H51.3047C51.4527 34.9998 51.5618 35.1149 51.5618 35.2569V35.7615C51.5618 35.9095 51.4467 36.0186 51.3047 36.0186H50.8001C50.652 36.0186 50.543 35.9035 50.543 35.7615V35.2569C50.543 35.1088 50.6581 34.9998 50.8001 34.9998ZM47.7438 36.5279H48.2484C48.3965 36.5279 48.5055 36.643 48.5055 36.785V37.2896C48.5055 37.4377 48.3904 37.5467 48.2484 37.5467H47.7438C47.5958 37.5467 47.4868 37.4316 47.4868 37.2896V36.785C47.4868 36.637 47.6019 36.5279 47.7438 36.5279ZM49.272 36.5279H49.7766C49.9246 36.5279 50.0336 36.643 50.0336 36.785V37.2896C50.0336 37.4377 49.9185 37.5467 49.7766 37.5467H49.272C49.1239 37.5467 49.0149 37.4316 49.0149 37.2896V36.785C49.0149 36.637 49.13 36.5279 49.272 36.5279ZM50.8001 36.5279H51.3047C51.4527 36.5279 51.5618 36.643 51.5618 36.785V37.2896C51.5618 37.4377 51.4467 37.5467 51.3047 37.5467H50.8001C50.652 37.5467 50.543 37.4316 50.543 37.2896V36.785C50.543 36.637 50.6581 36.5279 50.8001 36.5279ZM52.3282 33.4717H52.8328C52.9809 33.4717 53.0899 33.5868 53.0899 33.7288V34.2334C53.0899 34.3814 52.9748 34.4904 52.8328 34.4904H52.3282C52.1802 34.4904 52.0711 34.3753 52.0711 34.2334V33.7288C52.0711 33.5807 52.1862 33.4717 52.3282 33.4717ZM52.3282 34.9998H52.8328C52.9809 34.9998 53.0899 35.1149 53.0899 35.2569V35.7615C53.0899 35.9095 52.9748 36.0186 52.8328 36.0186H52.3282C52.1802 36.0186 52.0711 35.9035 52.0711 35.7615V35.2569C52.0711 35.1088 52.1862 34.9998 52.3282 34.9998ZM52.3282 36.5279H52.8328C52.9809 36.5279 53.0899 36.643 53.0899 36.785V37.2896C53.0899 37.4377 52.9748 37.5467 52.8328 37.5467H52.3282C52.1802 37.5467 52.0711 37.4316 52.0711 37.2896V36.785C52.0711 36.637 52.1862 36.5279 52.3282 36.5279ZM53.8563 36.5279H54.3609C54.509 36.5279 54.618 36.643 54.618 36.785V37.2896C54.618 37.4377 54.5029 37.5467 54.3609 37.5467H53.8563C53.7083 37.5467 53.5993 37.4316 53.5993 37.2896V36.785C53.5993 36.637 53.7144 36.5279 53.8563 36.5279ZM47.7438 38.0561H48.2484C48.3965 38.0561 48.5055 38.1712 48.5055 38.3131V38.8177C48.5055 38.9658 48.3904 39.0748 48.2484 39.0748H47.7438C47.5958 39.0748 47.4868 38.9597 47.4868 38.8177V38.3131C47.4868 38.1651 47.6019 38.0561 47.7438 38.0561ZM49.272 38.0561H49.7766C49.9246 38.0561 50.0336 38.1712 50.0336 38.3131V38.8177C50.0336 38.9658 49.9185 39.0748 49.7766 39.0748H49.272C49.1239 39.0748 49.0149 38.9597 49.0149 38.8177V38.3131C49.0149 38.1651 49.13 38.0561 49.272 38.0561ZM50.8001 38.0561H51.3047C51.4527 38.0561 51.5618 38.1712 51.5618 38.3131V38.8177C51.5618 38.9658 51.4467 39.0748 51.3047 39.0748H50.8001C50.652 39.0748 50.543 38.9597 50.543 38.8177V38.3131C50.543 38.1651 50.6581 38.0561 50.8001 38.0561ZM52.3282 38.0561H52.8328C52.9809 38.0561 53.0899 38.1712 53.0899 38.3131V38.8177C53.0899 38.9658 52.9748 39.0748 52.8328 39.0748H52.3282C52.1802 39.0748 52.0711 38.9597 52.0711 38.8177V38.3131C52.0711 38.1651 52.1862 38.0561 52.3282 38.0561ZM53.8563 38.0561H54.3609C54.509 38.0561 54.618 38.1712 54.618 38.3131V38.8177C54.618 38.9658 54.5029 39.0748 54.3609 39.0748H53.8563C53.7083 39.0748 53.5993 38.9597 53.5993 38.8177V38.3131C53.5993 38.1651 53.7144 38.0561 53.8563 38.0561ZM53.8563 34.9998H54.3609C54.509 34.9998 54.618 35.1149 54.618 35.2569V35.7615C54.618 35.9095 54.5029 36.0186 54.3609 36.0186H53.8563C53.7083 36.0186 53.5993 35.9035 53.5993 35.7615V35.2569C53.5993 35.1088 53.7144 34.9998 53.8563 34.9998ZM53.8563 33.4717H54.3609C54.509 33.4717 54.618 33.5868 54.618 33.7288V34.2334C54.618 34.3814 54.5029 34.4904 54.3609 34.4904H53.8563C53.7083 34.4904 53.5993 34.3753 53.5993 34.2334V33.7288C53.5993 33.5807 53.7144 33.4717 53.8563 33.4717Z"
+      fill="var(--color1)" />
+  </svg>`,
+  dateTimePicker: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="1" y="21" width="16" height="3" rx="1" fill="var(--color2)" />
+    <path d="M1 30C1 28.3431 2.34315 27 4 27H34V43H4C2.34314 43 1 41.6569 1 40V30Z" fill="var(--color3)" />
+    <path
+      fill-rule="evenodd"
+      clip-rule="evenodd"
+      d="M24.5243 31.4342H27.5805V31.1819C27.5805 31.0338 27.6956 30.9248 27.8376 30.9248H28.3422C28.4902 30.9248 28.5993 31.0399 28.5993 31.1819V31.4342H29.4942C29.7723 31.4342 30 31.662 30 31.943V32.4535C30 32.7368 29.7736 32.9623 29.4942 32.9623H22.6106C22.3325 32.9623 22.1047 32.7345 22.1047 32.4535V31.943C22.1047 31.6597 22.3312 31.4342 22.6106 31.4342H23.5055V31.1819C23.5055 31.0338 23.6206 30.9248 23.7626 30.9248H24.2672C24.4152 30.9248 24.5243 31.0399 24.5243 31.1819V31.4342ZM22.7438 33.4717H23.2484C23.3965 33.4717 23.5055 33.5868 23.5055 33.7288V34.2334C23.5055 34.3814 23.3904 34.4904 23.2484 34.4904H22.7438C22.5958 34.4904 22.4868 34.3753 22.4868 34.2334V33.7288C22.4868 33.5807 22.6019 33.4717 22.7438 33.4717ZM24.272 33.4717H24.7766C24.9246 33.4717 25.0336 33.5868 25.0336 33.7288V34.2334C25.0336 34.3814 24.9185 34.4904 24.7766 34.4904H24.272C24.1239 34.4904 24.0149 34.3753 24.0149 34.2334V33.7288C24.0149 33.5807 24.13 33.4717 24.272 33.4717ZM25.8001 33.4717H26.3047C26.4527 33.4717 26.5618 33.5868 26.5618 33.7288V34.2334C26.5618 34.3814 26.4467 34.4904 26.3047 34.4904H25.8001C25.652 34.4904 25.543 34.3753 25.543 34.2334V33.7288C25.543 33.5807 25.6581 33.4717 25.8001 33.4717ZM22.7438 34.9998H23.2484C23.3965 34.9998 23.5055 35.1149 23.5055 35.2569V35.7615C23.5055 35.9095 23.3904 36.0186 23.2484 36.0186H22.7438C22.5958 36.0186 22.4868 35.9035 22.4868 35.7615V35.2569C22.4868 35.1088 22.6019 34.9998 22.7438 34.9998ZM24.272 34.9998H24.7766C24.9246 34.9998 25.0336 35.1149 25.0336 35.2569V35.7615C25.0336 35.9095 24.9185 36.0186 24.7766 36.0186H24.272C24.1239 36.0186 24.0149 35.9035 24.0149 35.7615V35.2569C24.0149 35.1088 24.13 34.9998 24.272 34.9998ZM25.8001 34.9998H26.3047C26.4527 34.9998 26.5618 35.1149 26.5618 35.2569V35.7615C26.5618 35.9095 26.4467 36.0186 26.3047 36.0186H25.8001C25.652 36.0186 25.543 35.9035 25.543 35.7615V35.2569C25.543 35.1088 25.6581 34.9998 25.8001 34.9998ZM22.7438 36.5279H23.2484C23.3965 36.5279 23.5055 36.643 23.5055 36.785V37.2896C23.5055 37.4377 23.3904 37.5467 23.2484 37.5467H22.7438C22.5958 37.5467 22.4868 37.4316 22.4868 37.2896V36.785C22.4868 36.637 22.6019 36.5279 22.7438 36.5279ZM24.272 36.5279H24.7766C24.9246 36.5279 25.0336 36.643 25.0336 36.785V37.2896C25.0336 37.4377 24.9185 37.5467 24.7766 37.5467H24.272C24.1239 37.5467 24.0149 37.4316 24.0149 37.2896V36.785C24.0149 36.637 24.13 36.5279 24.272 36.5279ZM25.8001 36.5279H26.3047C26.4527 36.5279 26.5618 36.643 26.5618 36.785V37.2896C26.5618 37.4377 26.4467 37.5467 26.3047 37.5467H25.8001C25.652 37.5467 25.543 37.4316 25.543 37.2896V36.785C25.543 36.637 25.6581 36.5279 25.8001 36.5279ZM27.3282 33.4717H27.8328C27.9809 33.4717 28.0899 33.5868 28.0899 33.7288V34.2334C28.0899 34.3814 27.9748 34.4904 27.8328 34.4904H27.3282C27.1802 34.4904 27.0711 34.3753 27.0711 34.2334V33.7288C27.0711 33.5807 27.1862 33.4717 27.3282 33.4717ZM27.3282 34.9998H27.8328C27.9809 34.9998 28.0899 35.1149 28.0899 35.2569V35.7615C28.0899 35.9095 27.9748 36.0186 27.8328 36.0186H27.3282C27.1802 36.0186 27.0711 35.9035 27.0711 35.7615V35.2569C27.0711 35.1088 27.1862 34.9998 27.3282 34.9998ZM27.3282 36.5279H27.8328C27.9809 36.5279 28.0899 36.643 28.0899 36.785V37.2896C28.0899 37.4377 27.9748 37.5467 27.8328 37.5467H27.3282C27.1802 37.5467 27.0711 37.4316 27.0711 37.2896V36.785C27.0711 36.637 27.1862 36.5279 27.3282 36.5279ZM28.8563 36.5279H29.3609C29.509 36.5279 29.618 36.643 29.618 36.785V37.2896C29.618 37.4377 29.5029 37.5467 29.3609 37.5467H28.8563C28.7083 37.5467 28.5993 37.4316 28.5993 37.2896V36.785C28.5993 36.637 28.7144 36.5279 28.8563 36.5279ZM22.7438 38.0561H23.2484C23.3965 38.0561 23.5055 38.1712 23.5055 38.3131V38.8177C23.5055 38.9658 23.3904 39.0748 23.2484 39.0748H22.7438C22.5958 39.0748 22.4868 38.9597 22.4868 38.8177V38.3131C22.4868 38.1651 22.6019 38.0561 22.7438 38.0561ZM24.272 38.0561H24.7766C24.9246 38.0561 25.0336 38.1712 25.0336 38.3131V38.8177C25.0336 38.9658 24.9185 39.0748 24.7766 39.0748H24.272C24.1239 39.0748 24.0149 38.9597 24.0149 38.8177V38.3131C24.0149 38.1651 24.13 38.0561 24.272 38.0561ZM25.8001 38.0561H26.3047C26.4527 38.0561 26.5618 38.1712 26.5618 38.3131V38.8177C26.5618 38.9658 26.4467 39.0748 26.3047 39.0748H25.8001C25.652 39.0748 25.543 38.9597 25.543 38.8177V38.3131C25.543 38.1651 25.6581 38.0561 25.8001 38.0561ZM27.3282 38.0561H27.8328C27.9809 38.0561 28.0899 38.1712 28.0899 38.3131V38.8177C28.0899 38.9658 27.9748 39.0748 27.8328 39.0748H27.3282C27.1802 39.0748 27.0711 38.9597 27.0711 38.8177V38.3131C27.0711 38.1651 27.1862 38.0561 27.3282 38.0561ZM28.8563 38.0561H29.3609C29.509 38.0561 29.618 38.1712 29.618 38.3131V38.8177C29.618 38.9658 29.5029 39.0748 29.3609 39.0748H28.8563C28.7083 39.0748 28.5993 38.9597 28.5993 38.8177V38.3131C28.5993 38.1651 28.7144 38.0561 28.8563 38.0561ZM28.8563 34.9998H29.3609C29.509 34.9998 29.618 35.1149 29.618 35.2569V35.7615C29.618 35.9095 29.5029 36.0186 29.3609 36.0186H28.8563C28.7083 36.0186 28.5993 35.9035 28.5993 35.7615V35.2569C28.5993 35.1088 28.7144 34.9998 28.8563 34.9998ZM28.8563 33.4717H29.3609C29.509 33.4717 29.618 33.5868 29.618 33.7288V34.2334C29.618 34.3814 29.5029 34.4904 29.3609 34.4904H28.8563C28.7083 34.4904 28.5993 34.3753 28.5993 34.2334V33.7288C28.5993 33.5807 28.7144 33.4717 28.8563 33.4717Z"
+      fill="var(--color1)" />
+    <path d="M35 27H60C61.6569 27 63 28.3431 63 30V40C63 41.6569 61.6569 43 60 43H35V27Z" fill="var(--color3)" />
+    <path
+      d="M54.925 30.9248C52.6779 30.9248 50.85 32.7527 50.85 34.9998C50.85 37.2469 52.6779 39.0748 54.925 39.0748C57.1721 39.0748 59 37.2469 59 34.9998C59 32.7527 57.1721 30.9248 54.925 30.9248ZM54.925 31.604C56.8046 31.604 58.3208 33.1202 58.3208 34.9998C58.3208 36.8795 56.8046 38.3956 54.925 38.3956C53.0453 38.3956 51.5291 36.8795 51.5291 34.9998C51.5291 33.1202 53.0453 31.604 54.925 31.604ZM54.5854 32.2831V35.3394H56.9625V34.6602H55.2646V32.2831H54.5854Z"
+      fill="var(--color1)" />
+  </svg>`,
+  richTextEditor: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="2" y="17" width="60" height="30" rx="2" fill="var(--color3)" />
+    <rect width="60" height="8" transform="translate(2 17)" fill="var(--color2)" />
+    <rect x="4" y="19" width="4" height="4" rx="1" fill="var(--color1)" />
+    <rect x="9.5" y="19" width="4" height="4" rx="1" fill="var(--color1)" />
+    <rect x="18.5" y="19" width="4" height="4" rx="1" fill="var(--color1)" />
+    <rect x="24" y="19" width="4" height="4" rx="1" fill="var(--color1)" />
+    <rect x="29.5" y="19" width="4" height="4" rx="1" fill="var(--color1)" />
+    <rect x="38.5" y="19" width="4" height="4" rx="1" fill="var(--color1)" />
+    <rect x="44" y="19" width="4" height="4" rx="1" fill="var(--color1)" />
+    <rect x="6" y="28" width="44" height="3" rx="1" fill="var(--color2)" />
+    <rect x="6" y="33" width="28" height="5" rx="1" fill="var(--color2)" />
+    <rect x="6" y="40" width="36" height="3" rx="1" fill="var(--color2)" />
+  </svg>`,
+  progressBar: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="5" y="29" width="54" height="6" rx="3" fill="var(--color3)" />
+    <rect x="5" y="29" width="40" height="6" rx="3" fill="var(--color1)" />
+  </svg>`,
+  loginForm: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="4" y="11" width="16" height="3" rx="1" fill="var(--color2)" />
+    <rect x="4" y="17" width="56" height="8" rx="1.8" fill="var(--color3)" />
+    <path
+      d="M10.1021 23.0836C9.76453 23.0836 9.46509 23.0373 9.20376 22.9448C8.94351 22.8533 8.72411 22.7183 8.54553 22.5397C8.36695 22.3622 8.23139 22.1444 8.13883 21.8864C8.04628 21.6283 8 21.3338 8 21.0027C8 20.6804 8.04682 20.3908 8.14047 20.1338C8.23411 19.8768 8.37022 19.658 8.5488 19.4772C8.72846 19.2954 8.94678 19.1565 9.20376 19.0607C9.46073 18.9649 9.75255 18.917 10.0792 18.917C10.3917 18.917 10.6672 18.966 10.9057 19.064C11.1441 19.162 11.3445 19.2965 11.5067 19.4674C11.6701 19.6384 11.7931 19.8344 11.8759 20.0554C11.9586 20.2765 12 20.51 12 20.7561C12 20.9282 11.9891 21.0964 11.9673 21.2608C11.9456 21.4241 11.9053 21.5722 11.8465 21.7051C11.7888 21.8368 11.7049 21.9424 11.5949 22.0219C11.486 22.1003 11.3445 22.1412 11.1703 22.1444C11.0777 22.1477 10.9879 22.1368 10.9008 22.1118C10.8137 22.0867 10.7396 22.0464 10.6786 21.9909C10.6177 21.9343 10.5806 21.8624 10.5676 21.7753H10.548C10.5218 21.8395 10.4783 21.8994 10.4173 21.955C10.3563 22.0094 10.2785 22.053 10.1837 22.0856C10.0901 22.1172 9.98122 22.1303 9.85708 22.1248C9.71989 22.1194 9.5963 22.0884 9.48632 22.0317C9.37634 21.9751 9.28216 21.8967 9.20376 21.7965C9.12645 21.6964 9.0671 21.5777 9.02572 21.4405C8.98435 21.3033 8.96366 21.1508 8.96366 20.9831C8.96366 20.822 8.98707 20.6777 9.03389 20.5503C9.08071 20.4218 9.14441 20.3113 9.22499 20.2187C9.30666 20.1251 9.4003 20.0511 9.50592 19.9966C9.61154 19.9422 9.72315 19.9079 9.84075 19.8937C9.95508 19.8807 10.0602 19.8839 10.156 19.9035C10.2518 19.9231 10.3313 19.9531 10.3944 19.9933C10.4587 20.0336 10.499 20.0777 10.5153 20.1256H10.5365V19.9427H10.9383V21.4584C10.9383 21.5445 10.9607 21.6174 11.0053 21.6773C11.051 21.7372 11.1158 21.7671 11.1997 21.7671C11.2988 21.7671 11.3761 21.7307 11.4316 21.6577C11.4882 21.5847 11.528 21.4726 11.5508 21.3212C11.5748 21.1699 11.5868 20.9761 11.5868 20.7398C11.5868 20.5743 11.5644 20.4186 11.5198 20.2726C11.4762 20.1256 11.4115 19.9928 11.3254 19.8741C11.2405 19.7543 11.136 19.6514 11.0118 19.5654C10.8877 19.4794 10.7462 19.413 10.5872 19.3662C10.4293 19.3193 10.2545 19.2959 10.0629 19.2959C9.80264 19.2959 9.57125 19.3362 9.36872 19.4168C9.16619 19.4963 8.99524 19.6112 8.85586 19.7614C8.71757 19.9117 8.61249 20.0919 8.54063 20.302C8.46985 20.5111 8.43446 20.7458 8.43446 21.006C8.43446 21.2771 8.47094 21.5178 8.5439 21.7279C8.61685 21.937 8.72465 22.1134 8.86729 22.2571C9.00994 22.4009 9.18633 22.5098 9.39649 22.5838C9.60664 22.6589 9.84892 22.6965 10.1233 22.6965C10.2453 22.6965 10.365 22.6856 10.4826 22.6638C10.6002 22.6431 10.7048 22.6192 10.7962 22.592C10.8888 22.5658 10.9579 22.5446 11.0037 22.5283L11.118 22.886C11.0505 22.9175 10.9607 22.9486 10.8485 22.9791C10.7374 23.0095 10.6166 23.0346 10.4859 23.0542C10.3563 23.0738 10.2284 23.0836 10.1021 23.0836ZM9.95182 21.7247C10.0934 21.7247 10.2072 21.6964 10.2932 21.6397C10.3803 21.5831 10.4429 21.4987 10.481 21.3866C10.5202 21.2733 10.5398 21.1318 10.5398 20.9619C10.5387 20.7964 10.5175 20.6646 10.4761 20.5666C10.4358 20.4676 10.3727 20.3968 10.2866 20.3543C10.2017 20.3108 10.0923 20.289 9.95835 20.289C9.83531 20.289 9.73023 20.3189 9.64312 20.3788C9.5571 20.4387 9.49122 20.5198 9.44549 20.6222C9.40084 20.7245 9.37798 20.8383 9.37689 20.9635C9.37798 21.0953 9.39649 21.2194 9.43242 21.3359C9.46944 21.4514 9.52933 21.545 9.61209 21.6169C9.69593 21.6887 9.80917 21.7247 9.95182 21.7247Z"
+      fill="var(--color1)" />
+    <rect x="4" y="28" width="56" height="10" rx="1.8" fill="var(--color3)" />
+    <path
+      d="M9.09325 34.0937C8.89282 34.0937 8.70978 34.0449 8.54414 33.9471C8.3785 33.8477 8.24598 33.7152 8.14659 33.5496C8.04886 33.3839 8 33.2009 8 33.0005C8 32.7984 8.04886 32.6154 8.14659 32.4514C8.24598 32.2857 8.3785 32.154 8.54414 32.0563C8.70978 31.9569 8.89282 31.9072 9.09325 31.9072C9.29533 31.9072 9.47837 31.9569 9.64236 32.0563C9.808 32.154 9.93969 32.2857 10.0374 32.4514C10.1368 32.6154 10.1865 32.7984 10.1865 33.0005C10.1865 33.2009 10.1368 33.3839 10.0374 33.5496C9.93969 33.7152 9.808 33.8477 9.64236 33.9471C9.47837 34.0449 9.29533 34.0937 9.09325 34.0937Z"
+      fill="var(--color1)" />
+    <path
+      d="M12.7966 34.0937C12.5962 34.0937 12.4132 34.0449 12.2475 33.9471C12.0819 33.8477 11.9494 33.7152 11.85 33.5496C11.7522 33.3839 11.7034 33.2009 11.7034 33.0005C11.7034 32.7984 11.7522 32.6154 11.85 32.4514C11.9494 32.2857 12.0819 32.154 12.2475 32.0563C12.4132 31.9569 12.5962 31.9072 12.7966 31.9072C12.9987 31.9072 13.1817 31.9569 13.3457 32.0563C13.5114 32.154 13.6431 32.2857 13.7408 32.4514C13.8402 32.6154 13.8899 32.7984 13.8899 33.0005C13.8899 33.2009 13.8402 33.3839 13.7408 33.5496C13.6431 33.7152 13.5114 33.8477 13.3457 33.9471C13.1817 34.0449 12.9987 34.0937 12.7966 34.0937Z"
+      fill="var(--color1)" />
+    <path
+      d="M16.5 34.0937C16.2996 34.0937 16.1165 34.0449 15.9509 33.9471C15.7852 33.8477 15.6527 33.7152 15.5533 33.5496C15.4556 33.3839 15.4068 33.2009 15.4068 33.0005C15.4068 32.7984 15.4556 32.6154 15.5533 32.4514C15.6527 32.2857 15.7852 32.154 15.9509 32.0563C16.1165 31.9569 16.2996 31.9072 16.5 31.9072C16.7021 31.9072 16.8851 31.9569 17.0491 32.0563C17.2148 32.154 17.3464 32.2857 17.4442 32.4514C17.5436 32.6154 17.5932 32.7984 17.5932 33.0005C17.5932 33.2009 17.5436 33.3839 17.4442 33.5496C17.3464 33.7152 17.2148 33.8477 17.0491 33.9471C16.8851 34.0449 16.7021 34.0937 16.5 34.0937Z"
+      fill="var(--color1)" />
+    <path
+      d="M20.2034 34.0937C20.0029 34.0937 19.8199 34.0449 19.6543 33.9471C19.4886 33.8477 19.3561 33.7152 19.2567 33.5496C19.159 33.3839 19.1101 33.2009 19.1101 33.0005C19.1101 32.7984 19.159 32.6154 19.2567 32.4514C19.3561 32.2857 19.4886 32.154 19.6543 32.0563C19.8199 31.9569 20.0029 31.9072 20.2034 31.9072C20.4055 31.9072 20.5885 31.9569 20.7525 32.0563C20.9181 32.154 21.0498 32.2857 21.1475 32.4514C21.2469 32.6154 21.2966 32.7984 21.2966 33.0005C21.2966 33.2009 21.2469 33.3839 21.1475 33.5496C21.0498 33.7152 20.9181 33.8477 20.7525 33.9471C20.5885 34.0449 20.4055 34.0937 20.2034 34.0937Z"
+      fill="var(--color1)" />
+    <path
+      d="M23.9068 34.0937C23.7063 34.0937 23.5233 34.0449 23.3576 33.9471C23.192 33.8477 23.0595 33.7152 22.9601 33.5496C22.8624 33.3839 22.8135 33.2009 22.8135 33.0005C22.8135 32.7984 22.8624 32.6154 22.9601 32.4514C23.0595 32.2857 23.192 32.154 23.3576 32.0563C23.5233 31.9569 23.7063 31.9072 23.9068 31.9072C24.1088 31.9072 24.2919 31.9569 24.4559 32.0563C24.6215 32.154 24.7532 32.2857 24.8509 32.4514C24.9503 32.6154 25 32.7984 25 33.0005C25 33.2009 24.9503 33.3839 24.8509 33.5496C24.7532 33.7152 24.6215 33.8477 24.4559 33.9471C24.2919 34.0449 24.1088 34.0937 23.9068 34.0937Z"
+      fill="var(--color1)" />
+    <rect x="4" y="41" width="56" height="5" rx="1" fill="var(--color1)" />
+    <rect x="24" y="42.5" width="16" height="2" rx="0.5" fill="var(--color2)" />
+  </svg>`,
+  messageInput: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect y="24" width="43" height="16" rx="3" fill="var(--color3)" />
+    <rect x="4" y="30" width="16" height="4" rx="1" fill="var(--color2)" />
+    <rect x="45" y="24" width="19" height="16" rx="2" fill="var(--color1)" />
+    <rect x="49" y="30" width="11" height="4" rx="1" fill="var(--color2)" />
+  </svg>`,
+  messageList: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <circle cx="11" cy="22" r="3" fill="var(--color2)" />
+    <g clip-path="url(#clip0_4023_21831)">
+      <rect x="17" y="19" width="16" height="2" rx="1" fill="var(--color1)" />
+      <rect x="35" y="19" width="6" height="2" rx="1" fill="var(--color3)" />
+    </g>
+    <rect x="17" y="23" width="39" height="2" rx="1" fill="var(--color2)" />
+    <rect x="17" y="27" width="30" height="2" rx="1" fill="var(--color2)" />
+    <circle cx="11" cy="38" r="3" fill="var(--color2)" />
+    <g clip-path="url(#clip1_4023_21831)">
+      <rect x="17" y="35" width="16" height="2" rx="1" fill="var(--color1)" />
+      <rect x="35" y="35" width="6" height="2" rx="1" fill="var(--color3)" />
+    </g>
+    <rect x="17" y="39" width="39" height="2" rx="1" fill="var(--color2)" />
+    <rect x="17" y="43" width="23" height="2" rx="1" fill="var(--color2)" />
+    <defs>
+      <clipPath id="clip0_4023_21831">
+        <rect width="24" height="2" fill="var(--color1)" transform="translate(17 19)" />
+      </clipPath>
+      <clipPath id="clip1_4023_21831">
+        <rect width="24" height="2" fill="var(--color1)" transform="translate(17 35)" />
+      </clipPath>
+    </defs>
+  </svg>`,
+  routerLink: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <path
+      d="M19.5589 26.2441L21.8302 33.1135H21.9197L24.1868 26.2441H25.9254L22.8487 34.9714H20.897L17.8246 26.2441H19.5589Z"
+      fill="var(--color1)" />
+    <path
+      d="M27.0067 34.9714V28.426H28.5493V34.9714H27.0067ZM27.7823 27.497C27.538 27.497 27.3277 27.416 27.1516 27.2541C26.9755 27.0893 26.8874 26.8919 26.8874 26.6618C26.8874 26.4288 26.9755 26.2314 27.1516 26.0694C27.3277 25.9047 27.538 25.8223 27.7823 25.8223C28.0295 25.8223 28.2397 25.9047 28.413 26.0694C28.5891 26.2314 28.6772 26.4288 28.6772 26.6618C28.6772 26.8919 28.5891 27.0893 28.413 27.2541C28.2397 27.416 28.0295 27.497 27.7823 27.497Z"
+      fill="var(--color1)" />
+    <path
+      d="M33.0334 35.0993C32.3771 35.0993 31.8103 34.9629 31.3331 34.6902C30.8586 34.4146 30.4936 34.0254 30.2379 33.5225C29.9822 33.0169 29.8544 32.4217 29.8544 31.737C29.8544 31.0637 29.9822 30.4728 30.2379 29.9643C30.4964 29.4529 30.8572 29.0552 31.3203 28.7711C31.7834 28.4842 32.3274 28.3407 32.9524 28.3407C33.3558 28.3407 33.7365 28.4061 34.0944 28.5368C34.4552 28.6646 34.7734 28.8635 35.049 29.1333C35.3274 29.4032 35.5461 29.747 35.7052 30.1646C35.8643 30.5794 35.9439 31.0737 35.9439 31.6475V32.1206H30.5788V31.0808H34.4652C34.4623 30.7853 34.3984 30.5225 34.2734 30.2924C34.1484 30.0595 33.9737 29.8762 33.7493 29.7427C33.5277 29.6092 33.2692 29.5424 32.9737 29.5424C32.6584 29.5424 32.3814 29.6191 32.1427 29.7725C31.9041 29.9231 31.718 30.122 31.5845 30.3691C31.4538 30.6135 31.3871 30.8819 31.3842 31.1745V32.0822C31.3842 32.4629 31.4538 32.7896 31.593 33.0623C31.7322 33.3322 31.9268 33.5396 32.1768 33.6845C32.4268 33.8265 32.7194 33.8975 33.0547 33.8975C33.2791 33.8975 33.4822 33.8663 33.664 33.8038C33.8459 33.7385 34.0035 33.6433 34.1371 33.5183C34.2706 33.3933 34.3714 33.2385 34.4396 33.0538L35.8799 33.2157C35.789 33.5964 35.6157 33.9288 35.3601 34.2129C35.1072 34.4941 34.7834 34.7129 34.3885 34.8691C33.9936 35.0225 33.5419 35.0993 33.0334 35.0993Z"
+      fill="var(--color1)" />
+    <path
+      d="M38.5646 34.9714L36.7152 28.426H38.2876L39.4382 33.0282H39.4978L40.674 28.426H42.2294L43.4055 33.0027H43.4694L44.603 28.426H46.1797L44.326 34.9714H42.7194L41.4922 30.5481H41.4027L40.1754 34.9714H38.5646Z"
+      fill="var(--color1)" />
+    <path d="M17.5305 37.3578H46.4694V38.176H17.5305V37.3578Z" fill="var(--color1)" />
+  </svg>`,
+  basicGrid: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="4" y="21" width="16" height="2" rx="1" fill="var(--color2)" />
+    <rect x="26" y="21" width="10" height="2" rx="1" fill="var(--color2)" />
+    <rect x="42" y="21" width="12" height="2" rx="1" fill="var(--color2)" />
+    <rect x="2" y="26" width="60" height="1" fill="var(--color3)" />
+    <rect x="4" y="29" width="18" height="2" rx="1" fill="var(--color1)" />
+    <rect x="26" y="29" width="12" height="2" rx="1" fill="var(--color1)" />
+    <rect x="42" y="29" width="16" height="2" rx="1" fill="var(--color1)" />
+    <rect x="2" y="33" width="60" height="1" fill="var(--color3)" />
+    <rect x="4" y="36" width="16" height="2" rx="1" fill="var(--color1)" />
+    <rect x="26" y="36" width="12" height="2" rx="1" fill="var(--color1)" />
+    <rect x="42" y="36" width="14" height="2" rx="1" fill="var(--color1)" />
+    <rect x="2" y="40" width="60" height="1" fill="var(--color3)" />
+    <rect x="4" y="43" width="16" height="2" rx="1" fill="var(--color1)" />
+    <rect x="26" y="43" width="10" height="2" rx="1" fill="var(--color1)" />
+    <rect x="42" y="43" width="14" height="2" rx="1" fill="var(--color1)" />
+    <rect x="1.5" y="16.5" width="61" height="31" stroke="var(--color3)" />
+  </svg>`,
+  minimalistGrid: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="4" y="23" width="16" height="2" rx="1" fill="var(--color2)" />
+    <rect x="26" y="23" width="10" height="2" rx="1" fill="var(--color2)" />
+    <rect x="42" y="23" width="12" height="2" rx="1" fill="var(--color2)" />
+    <rect x="4" y="28" width="18" height="2" rx="1" fill="var(--color1)" />
+    <rect x="26" y="28" width="12" height="2" rx="1" fill="var(--color1)" />
+    <rect x="42" y="28" width="16" height="2" rx="1" fill="var(--color1)" />
+    <rect x="4" y="33" width="16" height="2" rx="1" fill="var(--color1)" />
+    <rect x="26" y="33" width="12" height="2" rx="1" fill="var(--color1)" />
+    <rect x="42" y="33" width="14" height="2" rx="1" fill="var(--color1)" />
+    <rect x="4" y="38" width="16" height="2" rx="1" fill="var(--color1)" />
+    <rect x="26" y="38" width="10" height="2" rx="1" fill="var(--color1)" />
+    <rect x="42" y="38" width="14" height="2" rx="1" fill="var(--color1)" />
+  </svg>`,
+  multiSelectGrid: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="12" y="21" width="12" height="2" rx="1" fill="var(--color2)" />
+    <rect x="3" y="20" width="4" height="4" rx="1" fill="var(--color2)" />
+    <rect x="30" y="21" width="10" height="2" rx="1" fill="var(--color2)" />
+    <rect x="46" y="21" width="12" height="2" rx="1" fill="var(--color2)" />
+    <rect x="1" y="26" width="62" height="1" fill="var(--color3)" />
+    <rect x="12" y="29" width="14" height="2" rx="1" fill="var(--color1)" />
+    <rect x="3" y="28" width="4" height="4" rx="1" fill="var(--color2)" />
+    <rect x="30" y="29" width="12" height="2" rx="1" fill="var(--color1)" />
+    <rect x="46" y="29" width="16" height="2" rx="1" fill="var(--color1)" />
+    <rect x="1" y="33" width="62" height="1" fill="var(--color3)" />
+    <rect x="12" y="36" width="12" height="2" rx="1" fill="var(--color1)" />
+    <rect x="3" y="35" width="4" height="4" rx="1" fill="var(--color2)" />
+    <rect x="30" y="36" width="12" height="2" rx="1" fill="var(--color1)" />
+    <rect x="46" y="36" width="14" height="2" rx="1" fill="var(--color1)" />
+    <rect x="1" y="40" width="62" height="1" fill="var(--color3)" />
+    <rect x="12" y="43" width="12" height="2" rx="1" fill="var(--color1)" />
+    <rect x="3" y="42" width="4" height="4" rx="1" fill="var(--color2)" />
+    <rect x="30" y="43" width="10" height="2" rx="1" fill="var(--color1)" />
+    <rect x="46" y="43" width="14" height="2" rx="1" fill="var(--color1)" />
+    <rect x="0.5" y="16.5" width="63" height="31" stroke="var(--color3)" />
+  </svg>`,
+  stripedGrid: r`<svg width="64" height="64" viewBox="0 0 64 64" fill="none" xmlns="http://www.w3.org/2000/svg">
+    <rect x="4" y="21" width="16" height="2" rx="1" fill="var(--color2)" />
+    <rect x="26" y="21" width="10" height="2" rx="1" fill="var(--color2)" />
+    <rect x="42" y="21" width="12" height="2" rx="1" fill="var(--color2)" />
+    <rect width="60" height="6" transform="translate(2 26)" fill="var(--color3)" />
+    <rect x="4" y="28" width="18" height="2" rx="1" fill="var(--color1)" />
+    <rect x="26" y="28" width="12" height="2" rx="1" fill="var(--color1)" />
+    <rect x="42" y="28" width="16" height="2" rx="1" fill="var(--color1)" />
+    <rect x="2" y="30" width="60" height="1" fill="var(--color3)" />
+    <rect x="4" y="35" width="16" height="2" rx="1" fill="var(--color1)" />
+    <rect x="26" y="35" width="12" height="2" rx="1" fill="var(--color1)" />
+    <rect x="42" y="35" width="14" height="2" rx="1" fill="var(--color1)" />
+    <rect width="60" height="6" transform="translate(2 40)" fill="var(--color3)" />
+    <rect x="4" y="42" width="16" height="2" rx="1" fill="var(--color1)" />
+    <rect x="26" y="42" width="10" height="2" rx="1" fill="var(--color1)" />
+    <rect x="42" y="42" width="14" height="2" rx="1" fill="var(--color1)" />
+    <rect x="1.5" y="17.5" width="61" height="29" stroke="var(--color3)" stroke-opacity="0.98" />
+  </svg>`,
+  formLayout2Columns: r`<svg
+    fill="none"
+    height="64"
+    viewBox="0 0 64 64"
+    width="64"
+    xmlns="http://www.w3.org/2000/svg">
+    <rect height="33" rx="1.5" stroke="var(--color1)" stroke-dasharray="2 2" width="42" x="10.5" y="15.5" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="15" y="22" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="15" y="20" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="36" y="22" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="36" y="20" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="15" y="31" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="15" y="29" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="36" y="31" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="36" y="29" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="15" y="40" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="15" y="38" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="36" y="40" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="36" y="38" />
+    <g fill="var(--color1)">
+      <path d="m31 45h1v-2h-1z" />
+      <path d="m31 41h1v-2h-1z" />
+      <path d="m31 37h1v-2h-1z" />
+      <path d="m31 33h1v-2h-1z" />
+      <path d="m31 29h1v-2h-1z" />
+      <path d="m31 25h1v-2h-1z" />
+      <path d="m31 21h1v-2h-1z" />
+    </g>
+  </svg>`,
+  formLayout3Columns: r`<svg
+    fill="none"
+    height="64"
+    viewBox="0 0 64 64"
+    width="64"
+    xmlns="http://www.w3.org/2000/svg">
+    <rect height="33" rx="1.5" stroke="var(--color1)" stroke-dasharray="2 2" width="62" x=".5" y="15.5" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="5" y="22" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="5" y="20" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="26" y="22" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="26" y="20" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="47" y="22" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="47" y="20" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="5" y="31" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="5" y="29" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="26" y="31" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="26" y="29" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="47" y="31" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="47" y="29" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="5" y="40" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="5" y="38" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="26" y="40" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="26" y="38" />
+    <rect fill="var(--color3)" height="4" rx="1" width="12" x="47" y="40" />
+    <rect fill="var(--color2)" height="1" rx=".5" width="5.14286" x="47" y="38" />
+    <g fill="var(--color1)">
+      <path d="m21 45h1v-2h-1z" />
+      <path d="m21 41h1v-2h-1z" />
+      <path d="m21 37h1v-2h-1z" />
+      <path d="m21 33h1v-2h-1z" />
+      <path d="m21 29h1v-2h-1z" />
+      <path d="m21 25h1v-2h-1z" />
+      <path d="m21 21h1v-2h-1z" />
+      <path d="m42 45h1v-2h-1z" />
+      <path d="m42 41h1v-2h-1z" />
+      <path d="m42 37h1v-2h-1z" />
+      <path d="m42 33h1v-2h-1z" />
+      <path d="m42 29h1v-2h-1z" />
+      <path d="m42 25h1v-2h-1z" />
+      <path d="m42 21h1v-2h-1z" />
+    </g>
+  </svg> `,
+  price: r`<svg fill="none" height="64" viewBox="0 0 64 64" width="64" xmlns="http://www.w3.org/2000/svg">
+    <rect fill="var(--color2)" height="3" rx="1" width="16" x="5" y="21" />
+    <rect fill="var(--color3)" height="16" rx="3" width="54" x="5" y="27" />
+    <path
+      d="m11.6758 40v-10h.6406v10zm2.0039-6.8984c-.0417-.3698-.2136-.6563-.5156-.8594-.3021-.2057-.6823-.3086-1.1407-.3086-.3281 0-.6119.0521-.8515.1562-.2396.1016-.4258.2422-.5586.4219-.1302.1771-.1953.3789-.1953.6055 0 .1901.0442.3542.1328.4922.0911.138.2096.2539.3554.3476.1485.0912.3073.168.4766.2305.1693.0599.332.1094.4883.1484l.7812.2032c.2553.0625.517.1471.7852.2539.2682.1067.5169.2474.7461.4218.2292.1745.4141.3907.5547.6485.1432.2578.2148.5664.2148.9258 0 .4531-.1172.8554-.3515 1.207-.2318.3516-.569.6289-1.0118.832-.4401.2032-.9726.3047-1.5976.3047-.599 0-1.1172-.095-1.5547-.2851s-.77995-.4597-1.02734-.8086c-.2474-.3516-.38412-.7683-.41016-1.25h1.2109c.0235.289.1172.5299.2813.7226.1667.1901.3789.3321.6367.4258.2604.0911.5456.1367.8555.1367.3411 0 .6445-.0534.9101-.1601.2683-.1094.4792-.2605.6328-.4532.1537-.1953.2305-.4231.2305-.6836 0-.2369-.0677-.4309-.2031-.582-.1328-.151-.3138-.276-.543-.375-.2265-.0989-.4831-.1862-.7695-.2617l-.9453-.2578c-.6407-.1745-1.1485-.431-1.52346-.7695-.3724-.3386-.5586-.7865-.5586-1.3438 0-.4609.125-.8633.375-1.207.25-.3438.58856-.6107 1.01566-.8008.4271-.1927.9088-.2891 1.4453-.2891.5416 0 1.0195.0951 1.4336.2852.4166.1901.7448.4518.9844.7851.2395.3308.3645.711.375 1.1407z"
+      fill="var(--color1)" />
+  </svg>`,
+  phoneNumber: r`<svg fill="none" height="64" viewBox="0 0 64 64" width="64" xmlns="http://www.w3.org/2000/svg">
+    <rect fill="var(--color2)" height="3" rx="1" width="16" x="5" y="21" />
+    <rect fill="var(--color3)" height="16" rx="3" width="54" x="5" y="27" />
+    <path
+      d="m17.1009 35.9869c-.55-.05-.85.7-1.25.9-.65.35-1.85-.9-1.85-.9s-1.25-1.2-.95-1.85c.25-.4 1-.7.95-1.25-.05-.5-1.15-2.3-1.7-1.8-1.2 1.1-1.3 1.55-1.3 2.45-.05 1.55 1.95 3.5 1.95 3.5.2.2 1.95 2 3.5 1.95.9 0 1.35-.1 2.45-1.3.5-.55-1.25-1.65-1.8-1.7z"
+      fill="var(--color1)" />
+  </svg>`
+}, t = {
+  Avatar: { Avatar: "@hilla/react-components/Avatar" },
+  AvatarGroup: { AvatarGroup: "@hilla/react-components/AvatarGroup" },
+  HorizontalLayout: { HorizontalLayout: "@hilla/react-components/HorizontalLayout" },
+  VerticalLayout: { VerticalLayout: "@hilla/react-components/VerticalLayout" },
+  Icon: { Icon: "@hilla/react-components/Icon" },
+  Button: { Button: "@hilla/react-components/Button" },
+  MenuBar: { MenuBar: "@hilla/react-components/MenuBar" },
+  LoginForm: { LoginForm: "@hilla/react-components/LoginForm" },
+  TextField: { TextField: "@hilla/react-components/TextField" },
+  EmailField: { EmailField: "@hilla/react-components/EmailField" },
+  CustomField: { CustomField: "@hilla/react-components/CustomField" },
+  ComboBox: { ComboBox: "@hilla/react-components/ComboBox" },
+  IntegerField: { IntegerField: "@hilla/react-components/IntegerField" },
+  NumberField: { NumberField: "@hilla/react-components/NumberField" },
+  PasswordField: { PasswordField: "@hilla/react-components/PasswordField" },
+  TextArea: { TextArea: "@hilla/react-components/TextArea" },
+  Select: { Select: "@hilla/react-components/Select" },
+  MultiSelectComboBox: { MultiSelectComboBox: "@hilla/react-components/MultiSelectComboBox" },
+  Checkbox: { Checkbox: "@hilla/react-components/Checkbox" },
+  CheckboxGroup: { CheckboxGroup: "@hilla/react-components/CheckboxGroup" },
+  RadioGroup: { RadioGroup: "@hilla/react-components/RadioGroup" },
+  TimePicker: { TimePicker: "@hilla/react-components/TimePicker" },
+  DatePicker: { DatePicker: "@hilla/react-components/DatePicker" },
+  DateTimePicker: { DateTimePicker: "@hilla/react-components/DateTimePicker" },
+  RichTextEditor: { RichTextEditor: "@hilla/react-components/RichTextEditor" },
+  ProgressBar: { ProgressBar: "@hilla/react-components/ProgressBar" },
+  MessageInput: { MessageInput: "@hilla/react-components/MessageInput" },
+  MessageList: { MessageList: "@hilla/react-components/MessageList" },
+  Details: { Details: "@hilla/react-components/Details" },
+  Accordion: { Accordion: "@hilla/react-components/Accordion" },
+  Tabs: { Tabs: "@hilla/react-components/Tabs" },
+  Tab: { Tab: "@hilla/react-components/Tab" },
+  TabSheet: { TabSheet: "@hilla/react-components/TabSheet" },
+  FormLayout: { FormLayout: "@hilla/react-components/FormLayout" },
+  ListBox: { ListBox: "@hilla/react-components/ListBox" },
+  Item: { Item: "@hilla/react-components/Item" },
+  RadioButton: { RadioButton: "@hilla/react-components/RadioButton" },
+  Grid: { Grid: "@hilla/react-components/Grid" },
+  GridSortColumn: { GridSortColumn: "@hilla/react-components/GridSortColumn" }
+}, n = {
+  commonlyUsed: "Commonly Used",
+  layouts: "Layouts",
+  content: "Content",
+  actions: "Actions",
+  inputFields: "Input Fields",
+  containers: "Containers",
+  lists: "Lists"
+}, H = [
+  // Layouts
+  {
+    icon: l.layoutRow,
+    title: "Horizontal",
+    keywords: ["arrange", "panel", "row"],
+    group: "layouts",
+    reactTemplate: "<HorizontalLayout></HorizontalLayout>",
+    reactImports: t.HorizontalLayout
+  },
+  {
+    icon: l.layoutColumn,
+    title: "Vertical",
+    keywords: ["arrange", "column", "panel"],
+    group: "layouts",
+    reactTemplate: "<VerticalLayout></VerticalLayout>",
+    reactImports: t.VerticalLayout
+  },
+  // Content
+  {
+    icon: l.h1,
+    title: "Heading 1",
+    keywords: ["text", "h1"],
+    group: "content",
+    reactTemplate: "<h1>H1</h1>"
+  },
+  {
+    icon: l.h2,
+    title: "Heading 2",
+    keywords: ["text", "h2"],
+    group: "content",
+    reactTemplate: "<h2>Heading</h2>"
+  },
+  {
+    icon: l.h3,
+    title: "Heading 3",
+    keywords: ["text", "h3"],
+    group: "content",
+    reactTemplate: "<h3>Heading</h3>"
+  },
+  {
+    icon: l.h4,
+    title: "Heading 4",
+    keywords: ["text", "h4"],
+    group: "content",
+    reactTemplate: "<h4>Heading</h4>"
+  },
+  {
+    icon: l.h5,
+    title: "Heading 5",
+    keywords: ["text", "h5"],
+    group: "content",
+    reactTemplate: "<h5>Heading</h5>"
+  },
+  {
+    icon: l.h6,
+    title: "Heading 6",
+    keywords: ["text", "h6"],
+    group: "content",
+    reactTemplate: "<h6>Heading</h6>"
+  },
+  {
+    icon: l.textLarge,
+    title: "Large Text",
+    keywords: [],
+    group: "content",
+    reactTemplate: '<p className="text-l">Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua.</p>'
+  },
+  {
+    icon: l.textMedium,
+    title: "Medium Text",
+    keywords: [],
+    group: "content",
+    reactTemplate: "<p>Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua.</p>"
+  },
+  {
+    icon: l.textSmall,
+    title: "Small Text",
+    keywords: [],
+    group: "content",
+    reactTemplate: '<p className="text-s">Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do eiusmod tempor incididunt ut labore et dolore magna aliqua.</p>'
+  },
+  {
+    icon: l.avatar,
+    title: "Avatar",
+    keywords: ["person", "user"],
+    group: "content",
+    reactTemplate: "<Avatar></Avatar>",
+    reactImports: t.Avatar
+  },
+  {
+    icon: l.avatarGroup,
+    title: "Avatar Group",
+    keywords: ["people", "person", "users"],
+    group: "content",
+    reactImports: t.AvatarGroup,
+    reactTemplate: "<AvatarGroup maxItemsVisible={3} items={[{ name: 'Alex Johnson' }, { name: 'Jordan Smith' }, { name: 'Taylor Lee' }, { name: 'Casey Garcia' }, { name: 'Morgan Patel' }]}></AvatarGroup>"
+  },
+  {
+    icon: l.avatarItem,
+    title: "Avatar Item",
+    keywords: ["person", "user"],
+    group: "content",
+    reactImports: [t.Avatar, t.HorizontalLayout, t.VerticalLayout],
+    reactTemplate: '<HorizontalLayout theme={"spacing"}><Avatar name="Aria Bailey" /><VerticalLayout><span>Aria Bailey</span><span style="color: var(--lumo-secondary-text-color); font-size: var(--lumo-font-size-s);">Endocrinologist</span></VerticalLayout></HorizontalLayout>'
+  },
+  {
+    icon: l.badge,
+    title: "Badge",
+    keywords: [],
+    group: "content",
+    reactTemplate: '<span {...{ theme: "badge success" }}>Badge</span>'
+  },
+  {
+    icon: l.icon,
+    title: "Icon",
+    keywords: [],
+    group: "content",
+    reactImports: t.Icon,
+    reactTemplate: '<Icon icon="vaadin:user"></Icon>'
+  },
+  {
+    icon: l.hr,
+    title: "Horizontal Divider",
+    keywords: ["hr", "separator"],
+    group: "content",
+    reactTemplate: "<hr />"
+  },
+  // Actions
+  {
+    icon: l.buttonPrimary,
+    title: "Button",
+    keywords: ["button"],
+    group: "actions",
+    reactTemplate: "<Button>Button</Button>",
+    reactImports: t.Button
+  },
+  {
+    icon: l.buttonPrimary,
+    title: "Primary Button",
+    keywords: ["button"],
+    group: "actions",
+    reactTemplate: '<Button theme="primary">Button</Button>',
+    reactImports: t.Button
+  },
+  {
+    icon: l.buttonSecondary,
+    title: "Button",
+    keywords: ["button"],
+    group: "actions",
+    reactTemplate: "<Button>Button</Button>",
+    reactImports: t.Button
+  },
+  {
+    icon: l.buttonTertiary,
+    title: "Tertiary Button",
+    keywords: ["button"],
+    group: "actions",
+    reactTemplate: '<Button theme="tertiary">Button</Button>',
+    reactImports: t.Button
+  },
+  {
+    icon: l.menuBar,
+    title: "Menu Bar",
+    keywords: [],
+    group: "actions",
+    reactImports: t.MenuBar,
+    reactTemplate: "<MenuBar items={[{ text: 'View' }, { text: 'Edit' }, { text: 'Share' }, { text: 'Move' }]}></MenuBar>"
+  },
+  {
+    icon: l.menu,
+    title: "Menu",
+    keywords: [],
+    group: "actions",
+    reactImports: t.MenuBar,
+    reactTemplate: "<MenuBar items={[{text: 'Share', children: [{text: 'On social media', children: [{text: 'Facebook'}, {text: 'Twitter'}, {text: 'Instagram'}]}, {text: 'By email'}, {text: 'Get link'}]}]}></MenuBar>"
+  },
+  {
+    icon: l.link,
+    title: "Link",
+    keywords: ["anchor", "url"],
+    group: "actions",
+    reactTemplate: '<a href="/">Frontpage</a>'
+  },
+  {
+    icon: l.loginForm,
+    title: "Login Form",
+    keywords: ["username", "password"],
+    group: "actions",
+    reactImports: t.LoginForm,
+    reactTemplate: "<LoginForm></LoginForm>"
+  },
+  // Input Fields
+  {
+    icon: l.textField,
+    title: "Text",
+    keywords: [],
+    group: "inputFields",
+    reactImports: t.TextField,
+    reactTemplate: '<TextField label="Text field"></TextField>'
+  },
+  {
+    icon: l.emailField,
+    title: "Email",
+    keywords: [],
+    group: "inputFields",
+    reactImports: t.EmailField,
+    reactTemplate: '<EmailField label="Email"></EmailField>'
+  },
+  {
+    icon: l.phoneNumber,
+    title: "Phone Number",
+    keywords: ["code", "country", "area", "subscriber"],
+    group: "inputFields",
+    reactImports: [t.CustomField, t.HorizontalLayout, t.ComboBox, t.IntegerField],
+    reactTemplate: `<CustomField label="Phone number">
+        <HorizontalLayout>
+          <ComboBox
+            placeholder="Country"
+            items={['+354', '+91', '+62', '+98', '+964', '+353', '+44', '+972', '+39', '+225']}
+          />
+          <IntegerField placeholder="Area" style={{ width: '120px' }} />
+          <IntegerField placeholder="Subscriber" style={{ flex: '1' }} />
+        </HorizontalLayout>
+      </CustomField>`
+  },
+  {
+    icon: l.numberField,
+    title: "Number",
+    keywords: [],
+    group: "inputFields",
+    reactImports: t.NumberField,
+    reactTemplate: '<NumberField label="Number" />'
+  },
+  {
+    icon: l.passwordField,
+    title: "Password",
+    keywords: [],
+    group: "inputFields",
+    reactImports: t.PasswordField,
+    reactTemplate: '<PasswordField label="Password" />'
+  },
+  {
+    icon: l.price,
+    title: "Price",
+    keywords: ["amount", "currency"],
+    group: "inputFields",
+    reactImports: [t.CustomField, t.HorizontalLayout, t.ComboBox, t.NumberField],
+    reactTemplate: `<CustomField label="Price">
+      <HorizontalLayout>
+        <NumberField style={{flex: "1"}} placeholder="Amount" />
+        <ComboBox items={['EUR', 'USD', 'PLN']} style={{width: "100px"}} value="EUR" />
+      </HorizontalLayout>
+    </CustomField>`
+  },
+  {
+    icon: l.textArea,
+    title: "Multiline",
+    keywords: ["area", "text"],
+    group: "inputFields",
+    reactImports: t.TextArea,
+    reactTemplate: '<TextArea label="Text area" />'
+  },
+  {
+    icon: l.select,
+    title: "Select",
+    keywords: ["combobox", "list", "dropdown"],
+    group: "inputFields",
+    reactImports: t.Select,
+    reactTemplate: `<Select label="Select" items={ [ { label: 'First', value: 'first' },
+  { label: 'Second', value: 'second' },
+  { label: 'Third', value: 'third', disabled: true },
+  { label: 'Fourth', value: 'fourth' }]} />`
+  },
+  {
+    icon: l.comboBox,
+    title: "Combo Box",
+    keywords: ["select", "list", "dropdown"],
+    group: "inputFields",
+    reactImports: t.ComboBox,
+    reactTemplate: `<ComboBox label="Combo Box" items={[{ label: 'First', value: 'first' },
+      { label: 'Second', value: 'second' },
+      { label: 'Third', value: 'third', disabled: true },
+      { label: 'Fourth', value: 'fourth' }]} />`
+  },
+  {
+    icon: l.multiSelectComboBox,
+    title: "Multi-Select Combo Box",
+    keywords: ["multiselect", "list", "dropdown"],
+    group: "inputFields",
+    reactImports: t.MultiSelectComboBox,
+    reactTemplate: `<MultiSelectComboBox label="Multi select" items={[  { label: 'First', value: 'first' },
+    { label: 'Second', value: 'second' },
+    { label: 'Third', value: 'third', disabled: true },
+    { label: 'Fourth', value: 'fourth' }]} />`
+  },
+  {
+    icon: l.checkbox,
+    title: "Checkbox",
+    keywords: ["select"],
+    group: "inputFields",
+    reactImports: t.Checkbox,
+    reactTemplate: '<Checkbox label="Checkbox" />'
+  },
+  {
+    icon: l.checkboxGroup,
+    title: "Checkbox Group",
+    keywords: ["select"],
+    group: "inputFields",
+    reactImports: [t.Checkbox, t.CheckboxGroup],
+    reactTemplate: `<CheckboxGroup theme="vertical" label="Checkbox group">
+      <Checkbox value={"0"} label="Order ID" />
+        <Checkbox value={"1"} label="Product name" />
+        <Checkbox value={"2"} label="Customer" />
+        <Checkbox value={"3"} label="Status" />
+    </CheckboxGroup>`
+  },
+  {
+    icon: l.radioGroup,
+    title: "Radio Group",
+    keywords: ["button", "select"],
+    group: "inputFields",
+    reactImports: [t.RadioGroup, t.RadioButton],
+    reactTemplate: `<RadioGroup theme="vertical" label="Radio group">
+        <RadioButton value={"0"} label="Order ID" />
+            <RadioButton value={"1"} label="Product name" />
+            <RadioButton value={"2"} label="Customer" />
+            <RadioButton value={"3"} label="Status" />
+    </RadioGroup>`
+  },
+  {
+    icon: l.timePicker,
+    title: "Time Picker",
+    keywords: [],
+    group: "inputFields",
+    reactImports: t.TimePicker,
+    reactTemplate: '<TimePicker label="Time" />'
+  },
+  {
+    icon: l.datePicker,
+    title: "Date Picker",
+    keywords: [],
+    group: "inputFields",
+    reactImports: t.DatePicker,
+    reactTemplate: '<DatePicker label="Date" />'
+  },
+  {
+    icon: l.dateTimePicker,
+    title: "Date Time Picker",
+    keywords: [],
+    group: "inputFields",
+    reactImports: t.DateTimePicker,
+    reactTemplate: '<DateTimePicker label="Date and time" />'
+  },
+  {
+    icon: l.richTextEditor,
+    title: "Rich Text Editor",
+    keywords: ["word", "formatting", "font", "bold", "italic", "underline"],
+    group: "inputFields",
+    reactImports: t.RichTextEditor,
+    reactTemplate: "<RichTextEditor />"
+  },
+  {
+    icon: l.progressBar,
+    title: "Progress Bar",
+    keywords: ["loader", "spinner", "waiting"],
+    group: "inputFields",
+    reactImports: t.ProgressBar,
+    reactTemplate: "<ProgressBar value={0.75} />"
+  },
+  {
+    icon: l.messageInput,
+    title: "Message Input",
+    keywords: ["chat", "text"],
+    group: "inputFields",
+    reactImports: t.MessageInput,
+    reactTemplate: "<MessageInput />"
+  },
+  {
+    icon: l.messageList,
+    title: "Message List",
+    keywords: ["chat", "text"],
+    group: "inputFields",
+    reactImports: t.MessageList,
+    reactTemplate: `<MessageList items={[
+    {
+      text: 'Nature does not hurry, yet everything gets accomplished.',
+      time: 'yesterday',
+      userName: 'Matt Mambo',
+      userColorIndex: 1,
+    },
+    {
+      text: 'Using your talent, hobby or profession in a way that makes you contribute with something good to this world is truly the way to go.',
+      time: 'right now',
+      userName: 'Linsey Listy',
+      userColorIndex: 2,
+     },
+    ]} />`
+  },
+  // Containers
+  {
+    icon: l.details,
+    title: "Details",
+    keywords: ["collapse", "expand", "summary"],
+    group: "containers",
+    reactImports: [t.Details, t.VerticalLayout],
+    reactTemplate: `<Details opened={true}><VerticalLayout>
+        <span>Sophia Williams</span>
+      <span>sophia.williams@company.com</span>
+      <span>(501) 555-9128</span>
+    </VerticalLayout></Details>`
+  },
+  {
+    icon: l.accordion,
+    title: "Accordion",
+    keywords: ["collapse", "expand"],
+    group: "containers",
+    reactImports: [t.Accordion, t.VerticalLayout],
+    reactTemplate: `<Accordion>
+      <AccordionPanel summary="Personal information">
+        <VerticalLayout>
+          <span>Sophia Williams</span>
+          <span>sophia.williams@company.com</span>
+          <span>(501) 555-9128</span>
+        </VerticalLayout>
+      </AccordionPanel>
+      <AccordionPanel summary="Billing address">
+        <VerticalLayout>
+          <span>4027 Amber Lake Canyon</span>
+          <span>72333-5884 Cozy Nook</span>
+          <span>Arkansas</span>
+        </VerticalLayout>
+
+      </AccordionPanel>
+      <AccordionPanel summary="Payment">
+        <VerticalLayout>
+          <span>MasterCard</span>
+          <span>1234 5678 9012 3456</span>
+          <span>Expires 06/21</span>
+        </VerticalLayout>
+      </AccordionPanel>
+    </Accordion>`
+  },
+  {
+    icon: l.tabs,
+    title: "Tabs",
+    keywords: ["select"],
+    group: "containers",
+    reactImports: [t.Tabs, t.Tab],
+    reactTemplate: `<Tabs>
+      <Tab id="dashboard-tab">Dashboard</Tab>
+        <Tab id="payment-tab">Payment</Tab>
+        <Tab id="shipping-tab">Shipping</Tab>
+    </Tabs>`
+  },
+  {
+    icon: l.tabSheet,
+    title: "Tab Sheet",
+    keywords: ["select"],
+    group: "containers",
+    reactImports: t.TabSheet,
+    reactTemplate: `<TabSheet><Tabs>
+      <Tab id="dashboard-tab">Dashboard</Tab>
+      <Tab id="payment-tab">Payment</Tab>
+      <Tab id="shipping-tab">Shipping</Tab>
+
+    </Tabs>
+      <div tab="dashboard-tab">This is the Dashboard tab content</div>
+      <div tab="payment-tab">This is the Payment tab content</div>
+      <div tab="shipping-tab">This is the Shipping tab content</div>
+    </TabSheet>`
+  },
+  /* These make no sense before https://github.com/vaadin/copilot-internal/issues/518 is fixed
+    {
+      icon: componentIcons.formLayout2Columns,
+      title: '2 Column Form',
+      keywords: ['form'],
+      group: 'layouts',
+      reactImports: Imports.FormLayout,
+      reactTemplate: `<FormLayout></FormLayout>`,
+    },
+    {
+      icon: componentIcons.formLayout3Columns,
+      title: '3 Column Form',
+      keywords: ['form'],
+      group: 'layouts',
+  
+      reactImports: Imports.FormLayout,
+      reactTemplate: `<FormLayout responsiveSteps={[
+            { minWidth: 0, columns: 1 },
+            { minWidth: '320px', columns: 2 },
+            { minWidth: '500px', columns: 3 },
+      ]}></FormLayout>`,
+    },
+  
+   */
+  // Lists
+  {
+    icon: l.textItems,
+    title: "Text Items",
+    keywords: ["list", "box"],
+    group: "lists",
+    reactImports: [t.ListBox, t.Item],
+    reactTemplate: `<ListBox>
+<Item>First</Item>
+<Item>Second</Item>
+<Item disabled={true}>Third</Item>
+<Item>Fourth</Item>
+  </ListBox>`
+  },
+  {
+    // FIXME, this one should be a loop over items
+    icon: l.avatarItems,
+    title: "Avatar Items",
+    keywords: ["people", "person", "user", "list", "box"],
+    group: "lists",
+    reactImports: [t.ListBox, t.Item, t.Avatar, t.VerticalLayout, t.HorizontalLayout],
+    reactTemplate: `<ListBox>
+      <Item style={"line-height":"var(--lumo-line-height-m)"}>
+        <HorizontalLayout>
+          <Avatar name="Aria Bailey" />
+          <VerticalLayout>
+            <span>Aria Bailey</span>
+            <span style="color: var(--lumo-secondary-text-color); font-size: var(--lumo-font-size-s);">Endocrinologist</span>
+          </VerticalLayout>
+
+        </HorizontalLayout>
+      </Item>
+      <Item style={"line-height":"var(--lumo-line-height-m)"}>
+        <HorizontalLayout>
+          <Avatar name="Aaliyah Butler" />
+          <VerticalLayout>
+            <span>Aaliyah Butler</span>
+            <span style="color: var(--lumo-secondary-text-color); font-size: var(--lumo-font-size-s);">Nephrologist</span>
+          </VerticalLayout>
+
+        </HorizontalLayout>
+      </Item>
+    </ListBox>`
+  },
+  {
+    icon: l.basicGrid,
+    title: "Basic Grid",
+    keywords: ["select", "list", "table"],
+    group: "lists",
+    reactImports: [t.Grid, t.GridSortColumn],
+    reactTemplate: `<Grid
+        items={[
+          { firstName: 'John', lastName: 'Doe', email: 'john.doe@gmail.com', profession: 'Gardener' },
+          { firstName: 'Jane', lastName: 'Doe', email: 'jane.doe@gmail.com', profession: 'Engineer' },
+          { firstName: 'Bob', lastName: 'Smith', email: 'bob.smith@gmail.com', profession: 'Doctor' },
+        ]}>
+      <GridSortColumn path="firstName" />
+      <GridSortColumn path="lastName" />
+      <GridSortColumn path="email" />
+      <GridSortColumn path="profession" />
+    </Grid>`
+  },
+  {
+    icon: l.multiSelectGrid,
+    title: "Multi-Select Grid",
+    keywords: ["select", "list", "table"],
+    group: "lists",
+    reactImports: [t.Grid, t.GridSortColumn],
+    reactTemplate: `<Grid
+        items={[
+          { firstName: 'John', lastName: 'Doe', email: 'john.doe@gmail.com', profession: 'Gardener' },
+          { firstName: 'Jane', lastName: 'Doe', email: 'jane.doe@gmail.com', profession: 'Engineer' },
+          { firstName: 'Bob', lastName: 'Smith', email: 'bob.smith@gmail.com', profession: 'Doctor' },
+        ]}>
+        <GridSelectionColumn/>
+      <GridSortColumn path="firstName" />
+      <GridSortColumn path="lastName" />
+      <GridSortColumn path="email" />
+      <GridSortColumn path="profession" />
+    </Grid>`
+  },
+  {
+    icon: l.stripedGrid,
+    title: "Striped Grid",
+    keywords: ["select", "list", "table", "stripe", "sort", "resize", "order"],
+    group: "lists",
+    reactImports: [t.Grid, t.GridSortColumn],
+    reactTemplate: `<Grid theme="row-stripes"
+        items={[
+          { firstName: 'John', lastName: 'Doe', email: 'john.doe@gmail.com', profession: 'Gardener' },
+          { firstName: 'Jane', lastName: 'Doe', email: 'jane.doe@gmail.com', profession: 'Engineer' },
+          { firstName: 'Bob', lastName: 'Smith', email: 'bob.smith@gmail.com', profession: 'Doctor' },
+        ]}>
+      <GridSortColumn path="firstName" />
+      <GridSortColumn path="lastName" />
+      <GridSortColumn path="email" />
+      <GridSortColumn path="profession" />
+    </Grid>`
+  }
+];
+var f = Object.defineProperty, m = Object.getOwnPropertyDescriptor, v = (o, e, C, a) => {
+  for (var i = a > 1 ? void 0 : a ? m(e, C) : e, h = o.length - 1, c; h >= 0; h--)
+    (c = o[h]) && (i = (a ? c(e, C, i) : c(i)) || i);
+  return a && i && f(e, C, i), i;
+};
+let s = class extends w {
+  constructor() {
+    super(), this.filterText = "";
+  }
+  /**
+   * Tests to see if filterText is contained in the group title, component title, or any keyword of the supplied component.
+   *
+   * @param component a CustomViewComponent to test against
+   * @private
+   * @returns true if filterText is contained anywhere in component; false otherwise
+   */
+  matchesFilter(o) {
+    return [...o.keywords, o.title, n[o.group]].some(
+      (e) => e.toLowerCase().includes(this.filterText.trim().toLowerCase())
+    );
+  }
+  render() {
+    const o = Object.entries(n).flatMap(([e, C]) => {
+      const a = H.filter((i) => i.group === e && this.matchesFilter(i)).map((i) => this.renderComponentHandle(i));
+      return a.length ? r` <vaadin-details id="${e}-details" .summary=${C} opened>${a} </vaadin-details>` : [];
+    });
+    return r`
+      <style>
+        copilot-palette {
+          --search-field-height: calc((var(--lumo-size-m) + var(--lumo-space-xs) * 2));
+          --palette-fallback-height: calc(100% - var(--search-field-height));
+          height: var(--default-content-height, var(--palette-fallback-height));
+        }
+
+        .icon {
+          --color1: var(--gray-200);
+          --color2: var(--gray-400);
+          --color3: var(--gray-600);
+        }
+
+        .component-handle {
+          max-width: 100px;
+          cursor: move;
+        }
+
+        vaadin-details[opened]::part(content) {
+          display: grid;
+          grid-template-columns: 1fr 1fr 1fr;
+          gap: var(--lumo-space-xs);
+          padding: var(--lumo-space-s) var(--lumo-space-m) var(--lumo-space-l);
+        }
+
+        .palette-filter {
+          display: flex;
+          margin: 1px;
+          flex: none;
+          position: sticky;
+          position: -webkit-sticky;
+          top: 0;
+        }
+
+        .palette-groups {
+          position: sticky;
+          position: -webkit-sticky;
+          top: var(--search-field-height);
+          height: calc(100% - var(--search-field-height));
+          overflow: auto;
+        }
+      </style>
+      <vaadin-text-field
+        class="palette-filter"
+        placeholder="Search components…"
+        clear-button-visible
+        .value="${this.filterText}"
+        @value-changed=${(e) => {
+      this.filterText = e.detail.value;
+    }}>
+        <vaadin-icon slot="prefix" icon="vaadin:search"></vaadin-icon>
+      </vaadin-text-field>
+      <div class="palette-groups">
+        ${o.length ? o : r` <div class="text-center text-xs text-secondary p-m">No components match your search.</div>`}
+      </div>
+    `;
+  }
+  /**
+   * Render a component handle / icon
+   */
+  renderComponentHandle(o) {
+    return r` <div
+      class="component-handle"
+      draggable="true"
+      @dragend=${() => {
+      d.endDrag();
+    }}
+      @dragstart=${(e) => {
+      e.dataTransfer.setData("text/plain", o.reactTemplate), o.reactImports && e.dataTransfer.setData("application/imports", JSON.stringify(o.reactImports)), d.dragSourceCandidate = void 0, d.startDrag();
+    }}>
+      <div class="icon">${o.icon}</div>
+      <div class="title">${o.title}</div>
+    </div>`;
+  }
+};
+v([
+  p()
+], s.prototype, "filterText", 2);
+s = v([
+  x("copilot-palette")
+], s);
+const V = {
+  header: "Palette",
+  expanded: !0,
+  draggable: !0,
+  panelOrder: 0,
+  panel: "left",
+  floating: !1,
+  tag: "copilot-palette",
+  showOn: [g.HillaReact]
+}, u = {
+  init(o) {
+    o.addPanel(V);
+  }
+};
+window.Vaadin.copilotPlugins.push(u);
+export {
+  s as CopilotPalette
+};
@@ -0,0 +1,24 @@
+import { x as o, O as e } from "./copilot-sWvu6xks.js";
+const i = {
+  tagName: "vaadin-accordion-panel",
+  displayName: "Accordion Panel",
+  description: o`You are styling selected panel only, if you wish to style all panel of given accordion please pick
+    <code>vaadin-accordion</code> instead.`,
+  notAccessibleDescription: o`If you wish to style all panels of current accordion please pick
+    <code>vaadin-accordion</code> instead.`,
+  elements: [
+    {
+      selector: "vaadin-accordion-panel",
+      displayName: "Panel",
+      properties: [
+        e.backgroundColor,
+        e.borderColor,
+        e.borderWidth,
+        e.borderRadius
+      ]
+    }
+  ]
+};
+export {
+  i as default
+};
@@ -0,0 +1,71 @@
+import { S as a, H as o } from "./copilot-sWvu6xks.js";
+const e = {
+  tagName: "vaadin-chart",
+  displayName: "Chart",
+  elements: [
+    {
+      selector: "vaadin-chart",
+      displayName: "Root element",
+      properties: a
+    },
+    {
+      selector: "vaadin-chart",
+      displayName: "Data series",
+      properties: [
+        {
+          propertyName: "--vaadin-charts-color-0",
+          displayName: "Color 0",
+          editorType: o.color
+        },
+        {
+          propertyName: "--vaadin-charts-color-1",
+          displayName: "Color 1",
+          editorType: o.color
+        },
+        {
+          propertyName: "--vaadin-charts-color-2",
+          displayName: "Color 2",
+          editorType: o.color
+        },
+        {
+          propertyName: "--vaadin-charts-color-3",
+          displayName: "Color 3",
+          editorType: o.color
+        },
+        {
+          propertyName: "--vaadin-charts-color-4",
+          displayName: "Color 4",
+          editorType: o.color
+        },
+        {
+          propertyName: "--vaadin-charts-color-5",
+          displayName: "Color 5",
+          editorType: o.color
+        },
+        {
+          propertyName: "--vaadin-charts-color-6",
+          displayName: "Color 6",
+          editorType: o.color
+        },
+        {
+          propertyName: "--vaadin-charts-color-7",
+          displayName: "Color 7",
+          editorType: o.color
+        },
+        {
+          propertyName: "--vaadin-charts-color-8",
+          displayName: "Color 8",
+          editorType: o.color
+        },
+        {
+          propertyName: "--vaadin-charts-color-9",
+          displayName: "Color 9",
+          editorType: o.color
+        }
+      ]
+    }
+  ]
+};
+export {
+  e as default
+};
@@ -0,0 +1,26 @@
+import { labelProperties as e, helperTextProperties as r, errorMessageProperties as a } from "./vaadin-text-field-ku8iHk7Q.js";
+import "./copilot-sWvu6xks.js";
+const i = {
+  tagName: "vaadin-custom-field",
+  displayName: "Custom Field",
+  elements: [
+    {
+      selector: "vaadin-custom-field::part(label)",
+      displayName: "Label",
+      properties: e
+    },
+    {
+      selector: "vaadin-custom-field::part(helper-text)",
+      displayName: "Helper text",
+      properties: r
+    },
+    {
+      selector: "vaadin-custom-field::part(error-message)",
+      displayName: "Error message",
+      properties: a
+    }
+  ]
+};
+export {
+  i as default
+};
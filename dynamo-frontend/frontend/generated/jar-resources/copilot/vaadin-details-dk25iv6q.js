@@ -0,0 +1,15 @@
+import { S as a } from "./copilot-sWvu6xks.js";
+const t = {
+  tagName: "vaadin-details",
+  displayName: "Details",
+  elements: [
+    {
+      selector: "vaadin-details",
+      displayName: "Root element",
+      properties: a
+    }
+  ]
+};
+export {
+  t as default
+};
@@ -0,0 +1,21 @@
+import { O as a } from "./copilot-sWvu6xks.js";
+const r = {
+  tagName: "vaadin-form-layout",
+  displayName: "Form Layout",
+  elements: [
+    {
+      selector: "vaadin-form-layout",
+      displayName: "Layout",
+      properties: [
+        a.backgroundColor,
+        a.borderColor,
+        a.borderWidth,
+        a.borderRadius,
+        a.padding
+      ]
+    }
+  ]
+};
+export {
+  r as default
+};
@@ -0,0 +1,22 @@
+import { O as a } from "./copilot-sWvu6xks.js";
+const r = {
+  tagName: "vaadin-horizontal-layout",
+  displayName: "Horizontal Layout",
+  elements: [
+    {
+      selector: "vaadin-horizontal-layout",
+      displayName: "Layout",
+      properties: [
+        a.backgroundColor,
+        a.borderColor,
+        a.borderWidth,
+        a.borderRadius,
+        a.padding,
+        a.gap
+      ]
+    }
+  ]
+};
+export {
+  r as default
+};
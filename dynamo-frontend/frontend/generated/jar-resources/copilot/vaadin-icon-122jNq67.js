@@ -0,0 +1,22 @@
+import { Q as e, O as o } from "./copilot-sWvu6xks.js";
+const a = {
+  tagName: "vaadin-icon",
+  displayName: "Icon",
+  elements: [
+    {
+      selector: "vaadin-icon",
+      displayName: "Icon",
+      properties: [
+        e.iconColor,
+        e.iconSize,
+        o.backgroundColor,
+        o.borderColor,
+        o.borderWidth,
+        o.borderRadius
+      ]
+    }
+  ]
+};
+export {
+  a as default
+};
@@ -0,0 +1,37 @@
+import { O as e, W as o } from "./copilot-sWvu6xks.js";
+const a = {
+  tagName: "vaadin-list-box",
+  displayName: "List Box",
+  elements: [
+    {
+      selector: "vaadin-list-box",
+      displayName: "Root element",
+      properties: [
+        e.backgroundColor,
+        e.borderColor,
+        e.borderWidth,
+        e.borderRadius,
+        o.paddingInline
+      ]
+    },
+    {
+      selector: "vaadin-list-box > hr",
+      displayName: "Divider",
+      properties: [e.backgroundColor]
+    },
+    {
+      selector: "vaadin-list-box > vaadin-item",
+      displayName: "Item",
+      properties: [
+        e.backgroundColor,
+        e.borderColor,
+        e.borderWidth,
+        e.borderRadius,
+        o.paddingInline
+      ]
+    }
+  ]
+};
+export {
+  a as default
+};
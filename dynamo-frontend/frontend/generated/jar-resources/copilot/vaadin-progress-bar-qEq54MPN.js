@@ -0,0 +1,20 @@
+import { O as r } from "./copilot-sWvu6xks.js";
+const e = {
+  tagName: "vaadin-progress-bar",
+  displayName: "Progress Bar",
+  elements: [
+    {
+      selector: "vaadin-progress-bar::part(bar)",
+      displayName: "Bar",
+      properties: [r.backgroundColor]
+    },
+    {
+      selector: "vaadin-progress-bar::part(value)",
+      displayName: "Value",
+      properties: [r.backgroundColor]
+    }
+  ]
+};
+export {
+  e as default
+};
@@ -0,0 +1,21 @@
+import { O as r } from "./copilot-sWvu6xks.js";
+const o = {
+  tagName: "vaadin-scroller",
+  displayName: "Scroller",
+  elements: [
+    {
+      selector: "vaadin-scroller",
+      displayName: "Scroller",
+      properties: [
+        r.backgroundColor,
+        r.borderColor,
+        r.borderWidth,
+        r.borderRadius,
+        r.padding
+      ]
+    }
+  ]
+};
+export {
+  o as default
+};
@@ -0,0 +1,21 @@
+import { O as e } from "./copilot-sWvu6xks.js";
+const r = {
+  tagName: "vaadin-tabsheet",
+  displayName: "Tab Sheet",
+  elements: [
+    {
+      selector: "vaadin-tabsheet",
+      displayName: "TabSheet",
+      properties: [
+        e.padding,
+        e.backgroundColor,
+        e.borderWidth,
+        e.borderColor,
+        e.borderRadius
+      ]
+    }
+  ]
+};
+export {
+  r as default
+};
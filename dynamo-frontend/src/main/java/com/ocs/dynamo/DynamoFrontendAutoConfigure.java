@@ -234,8 +234,9 @@ public class DynamoFrontendAutoConfigure {
 	@Bean
 	@ConditionalOnMissingBean(value = PermissionChecker.class)
 	@ConditionalOnProperty(name = DynamoConstants.SP_ENABLE_VIEW_AUTHORIZATION, havingValue = "true")
-	public PermissionChecker permissionChecker(@Value("${ocs.view.package:}") String basePackage) {
-		return new DefaultPermissionCheckerImpl(basePackage);
+	public PermissionChecker permissionChecker(@Value("${ocs.view.package:}") String basePackage,
+			@Value("${" + DynamoConstants.SP_USE_VIEW_PERMISSION_INDEX + ":false}") boolean useIndex) {
+		return new DefaultPermissionCheckerImpl(basePackage, useIndex);
 	}
 
 	@Bean
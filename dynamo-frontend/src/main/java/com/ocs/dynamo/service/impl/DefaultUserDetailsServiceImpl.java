@@ -41,6 +41,16 @@ public class DefaultUserDetailsServiceImpl implements UserDetailsService {
 		}
 	}
 
+	@Override
+	public Object getRolesVersion() {
+		try {
+			SecurityContext ctx = SecurityContextHolder.getContext();
+			return ctx.getAuthentication().getAuthorities();
+		} catch (Exception ex) {
+			return null;
+		}
+	}
+
 	@Override
 	public boolean isUserInRole(String... roles) {
 		try {
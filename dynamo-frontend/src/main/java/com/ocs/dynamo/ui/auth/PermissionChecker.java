@@ -43,4 +43,13 @@ public interface PermissionChecker {
      * @return true if the view is edit only, false otherwise
      */
     boolean isEditOnly(String viewName);
+
+    /**
+     * Removes any access decisions that are cached for the current session. Call
+     * this when the roles of the user change in a way that cannot be detected
+     * automatically
+     */
+    default void clearSessionCache() {
+        // no caching by default
+    }
 }
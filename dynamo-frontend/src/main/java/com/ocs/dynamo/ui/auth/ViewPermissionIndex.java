@@ -0,0 +1,117 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.auth;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Properties;
+
+import com.ocs.dynamo.exception.OCSRuntimeException;
+
+/**
+ * Reads and writes the entries of the view permission index that is generated
+ * at build time by the {@link ViewPermissionIndexProcessor}. Every entry maps
+ * the fully qualified name of a view class to its route, "edit only" setting and
+ * roles
+ *
+ * @author bas.rutten
+ */
+public final class ViewPermissionIndex {
+
+	/**
+	 * The location of the index on the class path
+	 */
+	public static final String LOCATION = "META-INF/dynamo/view-permissions.properties";
+
+	private static final String SEPARATOR = ";";
+
+	private static final String ROLE_SEPARATOR = ",";
+
+	private ViewPermissionIndex() {
+		// hidden constructor
+	}
+
+	/**
+	 * An entry in the index
+	 *
+	 * @param className the fully qualified name of the view class
+	 * @param route     the route of the view
+	 * @param editOnly  whether the view is an "edit only" view
+	 * @param roles     the roles that are allowed to access the view
+	 */
+	public record Entry(String className, String route, boolean editOnly, String[] roles) {
+	}
+
+	/**
+	 * Formats the value of an index entry
+	 *
+	 * @param route    the route
+	 * @param editOnly whether the view is an "edit only" view
+	 * @param roles    the roles
+	 * @return the formatted value
+	 */
+	static String format(String route, boolean editOnly, String[] roles) {
+		return editOnly + SEPARATOR + String.join(ROLE_SEPARATOR, roles) + SEPARATOR + route;
+	}
+
+	/**
+	 * Reads all indexes (one per jar or class folder) that can be found on the
+	 * class path
+	 *
+	 * @param classLoader the class loader to use
+	 * @param basePackage the base package. Only views inside this package are
+	 *                    returned
+	 * @return the entries, or null if no index can be found
+	 */
+	public static List<Entry> read(ClassLoader classLoader, String basePackage) {
+		try {
+			Enumeration<URL> resources = classLoader.getResources(LOCATION);
+			if (!resources.hasMoreElements()) {
+				return null;
+			}
+
+			List<Entry> result = new ArrayList<>();
+			while (resources.hasMoreElements()) {
+				Properties properties = new Properties();
+				try (InputStream is = resources.nextElement().openStream();
+						Reader reader = new InputStreamReader(is, StandardCharsets.UTF_8)) {
+					properties.load(reader);
+				}
+				for (String className : properties.stringPropertyNames()) {
+					if (className.startsWith(basePackage + ".")) {
+						result.add(parse(className, properties.getProperty(className)));
+					}
+				}
+			}
+			return result;
+		} catch (IOException ex) {
+			throw new OCSRuntimeException("Could not read view permission index: " + ex.getMessage(), ex);
+		}
+	}
+
+	private static Entry parse(String className, String value) {
+		String[] parts = value.split(SEPARATOR, 3);
+		if (parts.length != 3) {
+			throw new OCSRuntimeException("Invalid view permission index entry for " + className);
+		}
+		return new Entry(className, parts[2], Boolean.parseBoolean(parts[0]), parts[1].split(ROLE_SEPARATOR));
+	}
+}
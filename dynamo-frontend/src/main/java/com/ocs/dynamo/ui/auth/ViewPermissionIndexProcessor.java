@@ -0,0 +1,111 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.auth;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import com.vaadin.flow.router.Route;
+
+/**
+ * Annotation processor that writes an index of all views that are annotated
+ * with both {@link Route} and {@link Authorized} to
+ * {@link ViewPermissionIndex#LOCATION}. The permission checker can read this
+ * index instead of scanning the class path at startup.
+ *
+ * The processor is not registered automatically, add it to the annotation
+ * processors of the compiler plugin of the application that contains the views.
+ * Note that the index only contains the views that are part of the compilation,
+ * so it must be generated using a full (non-incremental) build
+ *
+ * @author bas.rutten
+ */
+@SupportedAnnotationTypes("com.vaadin.flow.router.Route")
+public class ViewPermissionIndexProcessor extends AbstractProcessor {
+
+	private final Map<String, String> entries = new TreeMap<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(Route.class)) {
+			if (isCandidate(element)) {
+				TypeElement type = (TypeElement) element;
+				Authorized authorized = type.getAnnotation(Authorized.class);
+				if (authorized != null && authorized.roles().length > 0) {
+					String className = processingEnv.getElementUtils().getBinaryName(type).toString();
+					entries.put(className, ViewPermissionIndex.format(type.getAnnotation(Route.class).value(),
+							authorized.editOnly(), authorized.roles()));
+				}
+			}
+		}
+
+		if (roundEnv.processingOver()) {
+			writeIndex();
+		}
+		return false;
+	}
+
+	/**
+	 * Checks whether an element is a view class that would also be found by
+	 * class path scanning (a concrete, independent class)
+	 *
+	 * @param element the element to check
+	 * @return true if this is the case, false otherwise
+	 */
+	private boolean isCandidate(Element element) {
+		if (element.getKind() != ElementKind.CLASS || element.getModifiers().contains(Modifier.ABSTRACT)) {
+			return false;
+		}
+		Element enclosing = element.getEnclosingElement();
+		return enclosing.getKind() == ElementKind.PACKAGE || element.getModifiers().contains(Modifier.STATIC);
+	}
+
+	private void writeIndex() {
+		Properties properties = new Properties();
+		properties.putAll(entries);
+		try {
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+					ViewPermissionIndex.LOCATION);
+			try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+				properties.store(writer, "Generated by " + getClass().getName());
+			}
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+					"Could not write view permission index: " + ex.getMessage());
+		}
+	}
+}
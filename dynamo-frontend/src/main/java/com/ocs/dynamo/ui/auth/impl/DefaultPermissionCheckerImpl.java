@@ -17,7 +17,9 @@ import com.ocs.dynamo.exception.OCSRuntimeException;
 import com.ocs.dynamo.service.UserDetailsService;
 import com.ocs.dynamo.ui.auth.Authorized;
 import com.ocs.dynamo.ui.auth.PermissionChecker;
+import com.ocs.dynamo.ui.auth.ViewPermissionIndex;
 import com.vaadin.flow.router.Route;
+import com.vaadin.flow.server.VaadinSession;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -26,11 +28,16 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 
+import java.io.Serializable;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Default permission checker - checks if the user has the correct role to
- * access a view
+ * access a view. The views are either found by scanning the class path or by
+ * reading the index that is generated at build time by the
+ * {@link com.ocs.dynamo.ui.auth.ViewPermissionIndexProcessor}. Access decisions
+ * are cached in the Vaadin session until the roles of the user change
  * 
  * @author bas.rutten
  */
@@ -41,9 +48,9 @@ public class DefaultPermissionCheckerImpl implements PermissionChecker {
 	private UserDetailsService userDetailsService;
 
 	/**
-	 * Map from view name to list of roles that are allowed to access the view
+	 * Map from view name to the roles that are allowed to access the view
 	 */
-	private final Map<String, List<String>> permissions = new HashMap<>();
+	private final Map<String, String[]> permissions = new HashMap<>();
 
 	/**
 	 * Map indicating whether a certain view is an "edit only" view that may be
@@ -56,17 +63,36 @@ public class DefaultPermissionCheckerImpl implements PermissionChecker {
 	 */
 	private final String basePackage;
 
+	/**
+	 * Whether to read the views from the generated index rather than scanning the
+	 * class path
+	 */
+	private final boolean useIndex;
+
 	/**
 	 * Constructor
 	 * 
 	 * @param basePackage the base package to scan for views
 	 */
 	public DefaultPermissionCheckerImpl(String basePackage) {
+		this(basePackage, false);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param basePackage the base package to scan for views
+	 * @param useIndex    whether to read the views from the index that is
+	 *                    generated at build time. When no index can be found,
+	 *                    the class path is scanned instead
+	 */
+	public DefaultPermissionCheckerImpl(String basePackage, boolean useIndex) {
 		if (StringUtils.isEmpty(basePackage)) {
 			throw new OCSRuntimeException(
 					"No base package configure. Please configure it using the ocs.view.package application property");
 		}
 		this.basePackage = basePackage;
+		this.useIndex = useIndex;
 	}
 
 	/**
@@ -85,8 +111,16 @@ public class DefaultPermissionCheckerImpl implements PermissionChecker {
 	 */
 	@Override
 	public boolean isAccessAllowed(String viewName) {
-		List<String> roles = permissions.get(viewName);
-		return roles == null || userDetailsService.isUserInRole(roles.toArray(new String[0]));
+		String[] roles = permissions.get(viewName);
+		if (roles == null) {
+			return true;
+		}
+
+		SessionPermissionCache cache = getSessionCache();
+		if (cache == null) {
+			return userDetailsService.isUserInRole(roles);
+		}
+		return cache.decisions.computeIfAbsent(viewName, name -> userDetailsService.isUserInRole(roles));
 	}
 
 	/**
@@ -104,10 +138,53 @@ public class DefaultPermissionCheckerImpl implements PermissionChecker {
 		return editOnly.get(viewName);
 	}
 
+	@Override
+	public void clearSessionCache() {
+		VaadinSession session = VaadinSession.getCurrent();
+		if (session != null) {
+			session.setAttribute(SessionPermissionCache.class, null);
+		}
+	}
+
+	/**
+	 * Returns the cache of access decisions for the current session. The cache is
+	 * replaced when the roles of the user have changed since it was created
+	 * 
+	 * @return the cache, or null if there is no session or role changes cannot be
+	 *         detected
+	 */
+	private SessionPermissionCache getSessionCache() {
+		VaadinSession session = VaadinSession.getCurrent();
+		if (session == null) {
+			return null;
+		}
+		Object rolesVersion = userDetailsService.getRolesVersion();
+		if (rolesVersion == null) {
+			return null;
+		}
+
+		SessionPermissionCache cache = session.getAttribute(SessionPermissionCache.class);
+		if (cache == null || !Objects.equals(cache.rolesVersion, rolesVersion)) {
+			cache = new SessionPermissionCache(rolesVersion);
+			session.setAttribute(SessionPermissionCache.class, cache);
+		}
+		return cache;
+	}
+
 	@PostConstruct
 	public void postConstruct() {
+		if (useIndex) {
+			List<ViewPermissionIndex.Entry> entries = ViewPermissionIndex.read(getClass().getClassLoader(),
+					basePackage);
+			if (entries != null) {
+				entries.forEach(e -> register(e.className(), e.route(), e.roles(), e.editOnly()));
+				return;
+			}
+			log.warn("No view permission index found at {}, scanning package {} instead",
+					ViewPermissionIndex.LOCATION, basePackage);
+		}
 
-		// scan the class path for all classes annotated with @SpringView
+		// scan the class path for all classes annotated with @Route
 		ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(true);
 		provider.addIncludeFilter(new AnnotationTypeFilter(Route.class));
 
@@ -118,24 +195,52 @@ public class DefaultPermissionCheckerImpl implements PermissionChecker {
 				Class<?> clazz = Class.forName(beanClassName);
 
 				Route route = clazz.getAnnotation(Route.class);
-
-				// store the permissions both under the bean name and the view
-				// name - unfortunately these
-				// don't always have to match but there is no way to tell this
-				// to the authentication framework!
 				Authorized auth = clazz.getAnnotation(Authorized.class);
 				if (auth != null && auth.roles().length > 0) {
-					if (beanClassName != null) {
-						int p = beanClassName.lastIndexOf('.');
-						permissions.put(beanClassName.substring(p + 1), List.of(auth.roles()));
-						editOnly.put(beanClassName.substring(p + 1), auth.editOnly());
-					}
-					permissions.put(route.value(), List.of(auth.roles()));
-					editOnly.put(route.value(), auth.editOnly());
+					register(beanClassName, route.value(), auth.roles(), auth.editOnly());
 				}
 			} catch (ClassNotFoundException e) {
 				log.error(e.getMessage(), e);
 			}
 		}
 	}
+
+	/**
+	 * Registers the permissions for a view
+	 * 
+	 * @param className the fully qualified class name of the view
+	 * @param route     the route of the view
+	 * @param roles     the roles that are allowed to access the view
+	 * @param edit      whether the view is an "edit only" view
+	 */
+	private void register(String className, String route, String[] roles, boolean edit) {
+		// store the permissions both under the bean name and the view
+		// name - unfortunately these
+		// don't always have to match but there is no way to tell this
+		// to the authentication framework!
+		String[] copy = roles.clone();
+		if (className != null) {
+			int p = className.lastIndexOf('.');
+			permissions.put(className.substring(p + 1), copy);
+			editOnly.put(className.substring(p + 1), edit);
+		}
+		permissions.put(route, copy);
+		editOnly.put(route, edit);
+	}
+
+	/**
+	 * The access decisions for a single session, valid for a certain set of roles
+	 */
+	private static final class SessionPermissionCache implements Serializable {
+
+		private static final long serialVersionUID = 3650464410183412817L;
+
+		private final transient Object rolesVersion;
+
+		private final Map<String, Boolean> decisions = new ConcurrentHashMap<>();
+
+		SessionPermissionCache(Object rolesVersion) {
+			this.rolesVersion = rolesVersion;
+		}
+	}
 }
@@ -24,11 +24,16 @@ import com.vaadin.flow.component.icon.VaadinIcon;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.progressbar.ProgressBar;
 import com.vaadin.flow.server.StreamResource;
+import com.vaadin.flow.server.StreamResourceWriter;
 
 import lombok.Getter;
 
 /**
- * A button that starts a file download when clicked.
+ * A button that starts a file download when clicked. The contents of the file
+ * can either be provided as an input stream, or be written directly to the
+ * response by a {@link StreamResourceWriter}. The latter avoids having to keep
+ * the complete file in memory. Note that the writer is called without holding
+ * the session lock.
  *
  * @author bas.rutten
  */
@@ -58,6 +63,11 @@ public class DownloadButton extends HorizontalLayout {
 	 */
 	private final Supplier<InputStream> createContents;
 
+	/**
+	 * Writer for writing the file content directly to the response
+	 */
+	private final StreamResourceWriter writeContents;
+
 	/**
 	 * Constructor
 	 * @param caption the caption to display on the button
@@ -77,9 +87,28 @@ public class DownloadButton extends HorizontalLayout {
 	 */
 	public DownloadButton(String caption, ProgressBar progressBar, Supplier<InputStream> createContents,
 			Supplier<String> createFileName) {
+		this(caption, progressBar, createContents, null, createFileName);
+	}
+
+	/**
+	 * Constructor for a button that streams the file contents directly to the
+	 * response
+	 * @param caption the caption to display on the button
+	 * @param progressBar optional progress bar to keep track of the download process
+	 * @param writeContents code to carry out to write the file contents
+	 * @param createFileName code to carry out to construct the file name
+	 */
+	public DownloadButton(String caption, ProgressBar progressBar, StreamResourceWriter writeContents,
+			Supplier<String> createFileName) {
+		this(caption, progressBar, null, writeContents, createFileName);
+	}
+
+	private DownloadButton(String caption, ProgressBar progressBar, Supplier<InputStream> createContents,
+			StreamResourceWriter writeContents, Supplier<String> createFileName) {
 		setMargin(false);
 		this.createFileName = createFileName;
 		this.createContents = createContents;
+		this.writeContents = writeContents;
 
 		anchor = new Anchor();
 		update();
@@ -100,6 +129,14 @@ public class DownloadButton extends HorizontalLayout {
 	 * Updates the component after the contents that can be downloaded has changed
 	 */
 	public final void update() {
+		if (writeContents != null) {
+			// the writer is called without holding the session lock, so that the
+			// user can keep working while the file is being written. The writer
+			// must therefore lock the session (or use UI.access) for any access to
+			// the session or the UI
+			anchor.setHref(new StreamResource(this.createFileName.get(), writeContents));
+			return;
+		}
 		anchor.setHref(new StreamResource(this.createFileName.get(), () -> {
 			InputStream inputStream = this.createContents.get();
 			if (inputStream == null) {
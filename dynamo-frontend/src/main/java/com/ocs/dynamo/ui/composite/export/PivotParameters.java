@@ -21,6 +21,7 @@ import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import com.ocs.dynamo.dao.QueryFunction;
 import com.ocs.dynamo.ui.provider.PivotAggregationType;
 
 import lombok.Builder;
@@ -69,6 +70,22 @@ public class PivotParameters {
 	@Builder.Default
 	private final Map<String, Class<?>> aggregationClassMap = new HashMap<>();
 
+	/**
+	 * Whether to let the database group the data by row key and column key. The
+	 * values of the pivoted properties are then aggregated by the database (using
+	 * the functions from the query function map) and only a single tuple is
+	 * retrieved per cell of the pivot table. This requires all pivoted properties
+	 * to be numeric and the fixed columns to depend on the row key only
+	 */
+	private final boolean aggregateInDatabase;
+
+	/**
+	 * The function used to aggregate the values of a pivoted property when
+	 * aggregating in the database
+	 */
+	@Builder.Default
+	private final Map<String, QueryFunction> queryFunctionMap = new HashMap<>();
+
 	public List<String> getShownAndHiddenProperties() {
 		List<String> allProps = new ArrayList<>();
 		allProps.addAll(getPivotedProperties());
@@ -82,6 +99,28 @@ public class PivotParameters {
 		return possibleColumnKeys.size() * pivotedProperties.size();
 	}
 
+	/**
+	 * Returns the function used to aggregate the values of a pivoted property in
+	 * the database. Falls back to the aggregation type of the property, and to a
+	 * sum when no aggregation type is specified either
+	 * 
+	 * @param property the property
+	 * @return the function
+	 */
+	public QueryFunction getQueryFunction(String property) {
+		QueryFunction function = queryFunctionMap == null ? null : queryFunctionMap.get(property);
+		if (function != null) {
+			return function;
+		}
+		PivotAggregationType type = aggregationMap == null ? null : aggregationMap.get(property);
+		if (PivotAggregationType.AVERAGE.equals(type)) {
+			return QueryFunction.AF_AVG;
+		} else if (PivotAggregationType.COUNT.equals(type)) {
+			return QueryFunction.AF_COUNT;
+		}
+		return QueryFunction.AF_SUM;
+	}
+
 	public List<String> getHiddenPivotProperties() {
 		return hiddenPivotedProperties == null ? Collections.emptyList() : hiddenPivotedProperties;
 	}
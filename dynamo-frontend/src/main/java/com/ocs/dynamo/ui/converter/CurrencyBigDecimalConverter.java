@@ -14,9 +14,6 @@
 package com.ocs.dynamo.ui.converter;
 
 import java.math.BigDecimal;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.Locale;
 
 import org.apache.commons.lang3.StringUtils;
 
@@ -32,6 +29,8 @@ public class CurrencyBigDecimalConverter extends BigDecimalConverter {
 
 	private static final long serialVersionUID = -8785156070280947096L;
 
+	private static final String PATTERN = "¤####,###,###,###.##;¤-####,###,###,###.##";
+
 	/**
 	 * The currency symbol
 	 */
@@ -65,14 +64,13 @@ public class CurrencyBigDecimalConverter extends BigDecimalConverter {
 	}
 
 	@Override
-	protected DecimalFormat constructFormat(Locale locale) {
-		DecimalFormat nf = (DecimalFormat) DecimalFormat.getCurrencyInstance(locale);
-		nf.applyPattern("¤####,###,###,###.##;¤-####,###,###,###.##");
-
-		DecimalFormatSymbols s = nf.getDecimalFormatSymbols();
-		s.setCurrencySymbol(currencySymbol);
-		nf.setDecimalFormatSymbols(s);
-		return nf;
+	protected String getPattern() {
+		return PATTERN;
+	}
+
+	@Override
+	protected String getFormatCurrencySymbol() {
+		return currencySymbol;
 	}
 
 	public String getCurrencySymbol() {
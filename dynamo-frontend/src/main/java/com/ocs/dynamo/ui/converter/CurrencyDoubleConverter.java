@@ -13,10 +13,6 @@
  */
 package com.ocs.dynamo.ui.converter;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.Locale;
-
 import org.apache.commons.lang3.StringUtils;
 
 import com.vaadin.flow.data.binder.Result;
@@ -31,6 +27,8 @@ public class CurrencyDoubleConverter extends GroupingStringToDoubleConverter {
 
     private static final long serialVersionUID = -8785156070280947096L;
 
+    private static final String PATTERN = "¤####,###,###,###.##";
+
     private String currencySymbol;
 
     /**
@@ -61,14 +59,13 @@ public class CurrencyDoubleConverter extends GroupingStringToDoubleConverter {
     }
 
     @Override
-    protected DecimalFormat constructFormat(Locale locale) {
-        DecimalFormat nf = (DecimalFormat) DecimalFormat.getCurrencyInstance(locale);
-        nf.applyPattern("¤####,###,###,###.##");
+    protected String getPattern() {
+        return PATTERN;
+    }
 
-        DecimalFormatSymbols s = nf.getDecimalFormatSymbols();
-        s.setCurrencySymbol(currencySymbol);
-        nf.setDecimalFormatSymbols(s);
-        return nf;
+    @Override
+    protected String getFormatCurrencySymbol() {
+        return currencySymbol;
     }
 
     public String getCurrencySymbol() {
@@ -18,6 +18,8 @@ import java.text.NumberFormat;
 import java.util.Locale;
 
 import com.ocs.dynamo.ui.utils.VaadinUtils;
+import com.ocs.dynamo.utils.ClassUtils;
+import com.ocs.dynamo.utils.FormatterCache;
 import com.vaadin.flow.data.binder.Result;
 import com.vaadin.flow.data.binder.ValueContext;
 import com.vaadin.flow.data.converter.StringToDoubleConverter;
@@ -41,6 +43,13 @@ public class GroupingStringToDoubleConverter extends StringToDoubleConverter {
 	 */
 	private int precision;
 
+	/**
+	 * Whether a subclass constructs its own format, in which case the cached
+	 * formats cannot be used
+	 */
+	private final boolean customFormat = ClassUtils.isOverridden(getClass(), GroupingStringToDoubleConverter.class,
+			"constructFormat", Locale.class);
+
 	/**
 	 * Constructor - for use with a precision and grouping setting
 	 * 
@@ -66,33 +75,65 @@ public class GroupingStringToDoubleConverter extends StringToDoubleConverter {
 		});
 	}
 
+	/**
+	 * Returns the format used by this converter. Unless a subclass constructs its
+	 * own format, this is a format that is shared (per thread), so it must not be
+	 * handed out
+	 */
 	@Override
 	protected NumberFormat getFormat(Locale locale) {
-		return getDecimalFormat(locale);
+		locale = locale != null ? locale : VaadinUtils.getLocale();
+		if (!customFormat) {
+			return FormatterCache.getDecimalFormat(locale, getPattern(), getFormatCurrencySymbol(), useGrouping,
+					precision);
+		}
+		DecimalFormat decimalFormat = constructFormat(locale);
+		decimalFormat.setGroupingUsed(useGrouping);
+		decimalFormat.setMaximumFractionDigits(precision);
+		decimalFormat.setMinimumFractionDigits(precision);
+		return decimalFormat;
 	}
 
 	/**
-	 * Constructs the DecimalFormat to use for formatting the values
+	 * Returns the DecimalFormat to use for formatting the values. This is a copy
+	 * that can safely be modified
 	 * 
 	 * @param locale the desired locale to use for the formatting
-	 * @return
+	 * @return the format
 	 */
 	public DecimalFormat getDecimalFormat(Locale locale) {
-		locale = locale != null ? locale : VaadinUtils.getLocale();
-		DecimalFormat decimalFormat = constructFormat(locale);
-		decimalFormat.setGroupingUsed(useGrouping);
-		decimalFormat.setMaximumFractionDigits(precision);
-		decimalFormat.setMinimumFractionDigits(precision);
-		return decimalFormat;
+		return (DecimalFormat) getFormat(locale).clone();
 	}
 
 	/**
-	 * Constructs the number format - overwrite in subclasses if needed
+	 * Constructs the number format - overwrite in subclasses if needed. By default
+	 * this creates a format based on {@link #getPattern()} and
+	 * {@link #getFormatCurrencySymbol()}. Overriding this method disables the
+	 * caching of the format
 	 * 
-	 * @param locale
-	 * @return
+	 * @param locale the locale
+	 * @return the format
 	 */
 	protected DecimalFormat constructFormat(Locale locale) {
-		return (DecimalFormat) DecimalFormat.getInstance(locale);
+		return FormatterCache.createDecimalFormat(locale, getPattern(), getFormatCurrencySymbol());
+	}
+
+	/**
+	 * Returns the pattern to apply to the format - overwrite in subclasses if needed
+	 * 
+	 * @return the pattern, or null if the default pattern for the locale must be used
+	 */
+	protected String getPattern() {
+		return null;
+	}
+
+	/**
+	 * Returns the currency symbol to use in the format - overwrite in subclasses if
+	 * needed
+	 * 
+	 * @return the currency symbol, or null when the value is not a currency
+	 */
+	protected String getFormatCurrencySymbol() {
+		return null;
 	}
 }
@@ -13,11 +13,14 @@
  */
 package com.ocs.dynamo.ui.menu;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -30,7 +33,9 @@ import com.vaadin.flow.component.Component;
 import lombok.Getter;
 
 /**
- * Base class for declarative menus
+ * Base class for declarative menus. The structure of the menu is read from the
+ * message bundle once per locale and cached, only the permission checks and
+ * visibility are applied whenever a menu is constructed
  *
  * @param <T> the type of the component that can be clicked to navigate to a
  *            view
@@ -82,10 +87,36 @@ public abstract class BaseMenuService<T extends Component, U> {
      */
     private final Map<String, T> destinationMap = new HashMap<>();
 
+    /**
+     * The cached menu definitions, by root name and locale
+     */
+    private final Map<DefinitionKey, List<MenuItemDefinition>> definitions = new ConcurrentHashMap<>();
+
     @Autowired
     @Getter
     private MessageService messageService;
 
+    /**
+     * Immutable definition of a menu item, as read from the message bundle
+     *
+     * @param displayName the caption of the item
+     * @param destination the destination (view name) to navigate to
+     * @param tabIndex    the tab index to select
+     * @param mode        the screen mode to select
+     * @param description the tool tip
+     * @param children    the definitions of the child items
+     */
+    protected record MenuItemDefinition(String displayName, String destination, String tabIndex, String mode,
+                                        String description, List<MenuItemDefinition> children) {
+
+        public boolean hasChildren() {
+            return !children.isEmpty();
+        }
+    }
+
+    private record DefinitionKey(String rootName, Locale locale) {
+    }
+
     /**
      * Adds a destination to the map
      *
@@ -114,6 +145,14 @@ public abstract class BaseMenuService<T extends Component, U> {
         return command;
     }
 
+    /**
+     * Removes all cached menu definitions, e.g. after the message bundles have
+     * been reloaded
+     */
+    public void clearMenuDefinitions() {
+        definitions.clear();
+    }
+
     protected Set<Entry<String, T>> findDestinations(String destination) {
         return destinationMap.entrySet().stream().filter(e -> e.getKey().startsWith(destination))
                 .collect(Collectors.toSet());
@@ -123,6 +162,68 @@ public abstract class BaseMenuService<T extends Component, U> {
         return destinationMap.get(destination + "#" + (mode != null ? mode : "nomode"));
     }
 
+    /**
+     * Returns the definitions of the top level items of a menu
+     *
+     * @param rootName the root name (prefix) of the messages that are used to
+     *                 populate the menu
+     * @param locale   the locale
+     * @return the definitions
+     */
+    protected List<MenuItemDefinition> getMenuDefinition(String rootName, Locale locale) {
+        return definitions.computeIfAbsent(new DefinitionKey(rootName, locale),
+                k -> readTopLevelItems(k.rootName(), k.locale()));
+    }
+
+    /**
+     * Reads the top level items of a menu. These are read until the first message
+     * of the form "rootName.i.displayName" that is missing or empty
+     *
+     * @param rootName the root name
+     * @param locale   the locale
+     * @return the definitions
+     */
+    private List<MenuItemDefinition> readTopLevelItems(String rootName, Locale locale) {
+        List<MenuItemDefinition> items = new ArrayList<>();
+        int i = 1;
+        String caption = getMessage(rootName + "." + i, DISPLAY_NAME, locale);
+        while (!StringUtils.isEmpty(caption)) {
+            items.add(readItem(rootName + "." + i, caption, locale));
+            i++;
+            caption = getMessage(rootName + "." + i, DISPLAY_NAME, locale);
+        }
+        return List.copyOf(items);
+    }
+
+    /**
+     * Reads a menu item and its children
+     *
+     * @param key     the message key of the item
+     * @param caption the caption of the item
+     * @param locale  the locale
+     * @return the definition
+     */
+    private MenuItemDefinition readItem(String key, String caption, Locale locale) {
+        List<MenuItemDefinition> children = new ArrayList<>();
+        int index = 1;
+        String childCaption = getMessage(key + "." + index, DISPLAY_NAME, locale);
+        while (childCaption != null) {
+            if (!StringUtils.isEmpty(childCaption)) {
+                children.add(readItem(key + "." + index, childCaption, locale));
+            }
+            index++;
+            childCaption = getMessage(key + "." + index, DISPLAY_NAME, locale);
+        }
+
+        return new MenuItemDefinition(caption, getMessage(key, DESTINATION, locale),
+                getMessage(key, TAB_INDEX, locale), getMessage(key, MODE, locale),
+                getMessage(key, DESCRIPTION, locale), List.copyOf(children));
+    }
+
+    private String getMessage(String key, String property, Locale locale) {
+        return messageService.getMessageNoDefault(key + "." + property, locale);
+    }
+
     /**
      * Returns the children of the root element of the menu
      *
@@ -33,26 +33,6 @@ import java.util.Set;
  */
 public class MenuService extends BaseMenuService<MenuItem, MenuBar> {
 
-	/**
-	 * Adds the child items for the specified key
-	 * @param bar the menu bar (root)
-	 * @param menuItem the menu item to add the children to
-	 * @param key the key of the menu item
-	 */
-	private void addChildItems(MenuBar bar, HasMenuItems menuItem, String key) {
-		// add the child items
-		int index = 1;
-		String childKey = getMessageService().getMessageNoDefault(key + "." + index + "." + DISPLAY_NAME,
-				VaadinUtils.getLocale());
-
-		while (childKey != null) {
-			constructMenu(bar, menuItem, key + "." + index);
-			index++;
-			childKey = getMessageService().getMessageNoDefault(key + "." + index + "." + DISPLAY_NAME,
-					VaadinUtils.getLocale());
-		}
-	}
-
 	/**
 	 * Adds a menu item
 	 * 
@@ -75,44 +55,36 @@ public class MenuService extends BaseMenuService<MenuItem, MenuBar> {
 	/**
 	 * Constructs a menu item and its children
 	 * 
-	 * @param root   the root component
-	 * @param parent the parent component (either a menu bar or menu item) to add
-	 *               the menu to
-	 * @param key    the message key
+	 * @param root       the root component
+	 * @param parent     the parent component (either a menu bar or menu item) to
+	 *                   add the menu to
+	 * @param definition the definition of the menu item
 	 * @return the constructed menu item
 	 */
-	private MenuItem constructMenu(MenuBar root, HasMenuItems parent, String key) {
-		String caption = getMessageService().getMessageNoDefault(key + "." + DISPLAY_NAME, VaadinUtils.getLocale());
-
-		MenuItem menuItem = null;
-		if (!StringUtils.isEmpty(caption)) {
-			// look up the messages
-			String destination = getMessageService().getMessageNoDefault(key + "." + DESTINATION,
-					VaadinUtils.getLocale());
-			String tabIndex = getMessageService().getMessageNoDefault(key + "." + TAB_INDEX, VaadinUtils.getLocale());
-			String mode = getMessageService().getMessageNoDefault(key + "." + MODE, VaadinUtils.getLocale());
-			String description = getMessageService().getMessageNoDefault(key + "." + DESCRIPTION,
-					VaadinUtils.getLocale());
-
-			// create navigation command
-			NavigateCommand<MenuItem, MenuBar> command = createNavigationCommand(root, destination, tabIndex, mode);
-			menuItem = addMenuItem(parent, caption, command);
-
-			// set description
-			if (description != null) {
-				VaadinUtils.setTooltip(menuItem, description);
-			}
-
-			if (!StringUtils.isEmpty(destination)) {
-				addDestination(destination, mode, menuItem);
-			}
+	private MenuItem constructMenu(MenuBar root, HasMenuItems parent, MenuItemDefinition definition) {
+		String destination = definition.destination();
+		String mode = definition.mode();
+
+		// create navigation command
+		NavigateCommand<MenuItem, MenuBar> command = createNavigationCommand(root, destination,
+				definition.tabIndex(), mode);
+		MenuItem menuItem = addMenuItem(parent, definition.displayName(), command);
+
+		// set description
+		if (definition.description() != null) {
+			VaadinUtils.setTooltip(menuItem, definition.description());
+		}
 
-			parent = menuItem.getSubMenu();
-			addChildItems(root, parent, key);
+		if (!StringUtils.isEmpty(destination)) {
+			addDestination(destination, mode, menuItem);
+		}
 
-			// hide menu item if user does not have permissions
-			hideIfNoPermission(menuItem, destination);
+		for (MenuItemDefinition child : definition.children()) {
+			constructMenu(root, menuItem.getSubMenu(), child);
 		}
+
+		// hide menu item if user does not have permissions
+		hideIfNoPermission(menuItem, destination);
 		return menuItem;
 	}
 
@@ -126,13 +98,8 @@ public class MenuService extends BaseMenuService<MenuItem, MenuBar> {
 	public MenuBar constructMenu(String rootName) {
 		MenuBar mainMenu = new MenuBar();
 
-		// look up any messages of the form "rootName.i"
-		int i = 1;
-		while (true) {
-			if (constructMenu(mainMenu, mainMenu, rootName + "." + i) == null) {
-				break;
-			}
-			i++;
+		for (MenuItemDefinition definition : getMenuDefinition(rootName, VaadinUtils.getLocale())) {
+			constructMenu(mainMenu, mainMenu, definition);
 		}
 
 		// hide any menu items for which the user has no access rights
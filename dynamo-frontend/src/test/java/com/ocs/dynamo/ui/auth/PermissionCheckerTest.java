@@ -14,9 +14,18 @@
 package com.ocs.dynamo.ui.auth;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,6 +35,7 @@ import org.mockito.Mock;
 import com.ocs.dynamo.service.UserDetailsService;
 import com.ocs.dynamo.test.BaseMockitoTest;
 import com.ocs.dynamo.ui.auth.impl.DefaultPermissionCheckerImpl;
+import com.vaadin.flow.server.VaadinSession;
 
 public class PermissionCheckerTest extends BaseMockitoTest {
 
@@ -49,6 +59,69 @@ public class PermissionCheckerTest extends BaseMockitoTest {
         assertTrue(viewNames.contains("Destination 1.1"));
     }
 
+    /**
+     * Test that the views can be read from the index that is generated at build
+     * time (views outside the base package are ignored)
+     */
+    @Test
+    public void testFindViewsFromIndex() {
+        DefaultPermissionCheckerImpl indexChecker = new DefaultPermissionCheckerImpl("com.ocs.dynamo", true);
+        indexChecker.postConstruct();
+
+        List<String> viewNames = indexChecker.getViewNames();
+        assertEquals(2, viewNames.size());
+        assertTrue(viewNames.contains("TestView"));
+        assertTrue(viewNames.contains("Destination 1.1"));
+        assertTrue(indexChecker.isEditOnly("TestView"));
+    }
+
+    @Test
+    public void testIsAccessAllowed() {
+        when(userDetailsService.isUserInRole("someRole")).thenReturn(true);
+        assertTrue(checker.isAccessAllowed("TestView"));
+        assertTrue(checker.isAccessAllowed("UnknownView"));
+
+        when(userDetailsService.isUserInRole("someRole")).thenReturn(false);
+        assertFalse(checker.isAccessAllowed("Destination 1.1"));
+    }
+
+    /**
+     * Test that access decisions are cached in the session until the roles of the
+     * user change
+     */
+    @Test
+    public void testSessionCache() {
+        Map<Class<?>, Object> attributes = new HashMap<>();
+        VaadinSession session = mock(VaadinSession.class);
+        when(session.getAttribute(any(Class.class))).thenAnswer(invocation -> attributes.get(invocation.getArgument(0)));
+        doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1))).when(session)
+                .setAttribute(any(Class.class), any());
+
+        VaadinSession.setCurrent(session);
+        try {
+            when(userDetailsService.getRolesVersion()).thenReturn(1);
+            when(userDetailsService.isUserInRole("someRole")).thenReturn(true);
+            assertTrue(checker.isAccessAllowed("TestView"));
+            assertTrue(checker.isAccessAllowed("TestView"));
+            assertTrue(checker.isAccessAllowed("Destination 1.1"));
+            verify(userDetailsService, times(2)).isUserInRole("someRole");
+            assertEquals(1, attributes.size());
+
+            // the roles of the user change, so the decisions are made again
+            when(userDetailsService.getRolesVersion()).thenReturn(2);
+            when(userDetailsService.isUserInRole("someRole")).thenReturn(false);
+            assertFalse(checker.isAccessAllowed("TestView"));
+            verify(userDetailsService, times(3)).isUserInRole("someRole");
+
+            // clearing the cache also forces new decisions
+            checker.clearSessionCache();
+            assertFalse(checker.isAccessAllowed("TestView"));
+            verify(userDetailsService, times(4)).isUserInRole("someRole");
+        } finally {
+            VaadinSession.setCurrent(null);
+        }
+    }
+
     /**
      * Test that the "edit only" setting is correctly set
      */
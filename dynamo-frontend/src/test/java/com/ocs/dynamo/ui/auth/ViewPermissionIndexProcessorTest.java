@@ -0,0 +1,168 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.ui.auth;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.vaadin.flow.router.Route;
+
+/**
+ * Runs the annotation processor over a couple of views and checks the index
+ * that it generates
+ */
+public class ViewPermissionIndexProcessorTest {
+
+	@TempDir
+	private Path directory;
+
+	@Test
+	public void testGenerateIndex() throws IOException {
+		writeSource("com/example/views/OrderView.java", """
+				package com.example.views;
+
+				@com.vaadin.flow.router.Route("orders")
+				@com.ocs.dynamo.ui.auth.Authorized(roles = { "admin", "user" })
+				public class OrderView {
+				}
+				""");
+		writeSource("com/example/views/Views.java", """
+				package com.example.views;
+
+				public class Views {
+
+					@com.vaadin.flow.router.Route("edit")
+					@com.ocs.dynamo.ui.auth.Authorized(roles = "admin", editOnly = true)
+					public static class EditView {
+					}
+				}
+				""");
+		// abstract views, views without roles and views without a route are ignored
+		writeSource("com/example/views/AbstractOrderView.java", """
+				package com.example.views;
+
+				@com.vaadin.flow.router.Route("abstract")
+				@com.ocs.dynamo.ui.auth.Authorized(roles = "admin")
+				public abstract class AbstractOrderView {
+				}
+				""");
+		writeSource("com/example/views/PublicView.java", """
+				package com.example.views;
+
+				@com.vaadin.flow.router.Route("public")
+				public class PublicView {
+				}
+				""");
+		writeSource("com/example/views/Dialog.java", """
+				package com.example.views;
+
+				@com.ocs.dynamo.ui.auth.Authorized(roles = "admin")
+				public class Dialog {
+				}
+				""");
+
+		Path output = compile();
+
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(output.resolve(ViewPermissionIndex.LOCATION),
+				StandardCharsets.UTF_8)) {
+			properties.load(reader);
+		}
+		assertEquals(2, properties.size());
+		assertEquals("false;admin,user;orders", properties.getProperty("com.example.views.OrderView"));
+		assertEquals("true;admin;edit", properties.getProperty("com.example.views.Views$EditView"));
+
+		// the generated index can be read back by the permission checker
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { output.toUri().toURL() }, null)) {
+			List<ViewPermissionIndex.Entry> entries = new ArrayList<>(
+					ViewPermissionIndex.read(classLoader, "com.example"));
+			entries.sort((a, b) -> a.route().compareTo(b.route()));
+			assertEquals(2, entries.size());
+
+			assertEquals("com.example.views.Views$EditView", entries.get(0).className());
+			assertTrue(entries.get(0).editOnly());
+			assertArrayEquals(new String[] { "admin" }, entries.get(0).roles());
+
+			assertEquals("orders", entries.get(1).route());
+			assertArrayEquals(new String[] { "admin", "user" }, entries.get(1).roles());
+		}
+	}
+
+	private void writeSource(String path, String source) throws IOException {
+		Path file = directory.resolve("src").resolve(path);
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, source);
+	}
+
+	private Path compile() throws IOException {
+		Path output = Files.createDirectories(directory.resolve("classes"));
+		List<Path> sources;
+		try (var files = Files.walk(directory.resolve("src"))) {
+			sources = files.filter(Files::isRegularFile).toList();
+		}
+
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+		try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null,
+				StandardCharsets.UTF_8)) {
+			JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics,
+					List.of("-proc:only", "-classpath", getClassPath(Route.class, Authorized.class), "-d",
+							output.toString()),
+					null, fileManager.getJavaFileObjectsFromPaths(sources));
+			task.setProcessors(List.of(new ViewPermissionIndexProcessor()));
+			assertTrue(task.call(), diagnostics.getDiagnostics().toString());
+		}
+		return output;
+	}
+
+	/**
+	 * Returns the class path for the annotations that are used by the views. The
+	 * class path of the test JVM cannot be used, since it might only consist of a
+	 * manifest jar
+	 */
+	private String getClassPath(Class<?>... classes) {
+		return Arrays.stream(classes).map(clazz -> {
+			try {
+				return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+			} catch (URISyntaxException ex) {
+				throw new IllegalStateException(ex);
+			}
+		}).distinct().collect(Collectors.joining(File.pathSeparator));
+	}
+}
@@ -14,9 +14,12 @@
 package com.ocs.dynamo.ui.converter;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.util.Locale;
 
 import org.junit.jupiter.api.Test;
 
@@ -76,4 +79,39 @@ public class BigDecimalConverterTest extends BaseConverterTest {
 		assertEquals("3.140", result);
 	}
 
+	/**
+	 * The format that is handed out is a copy, so modifying it does not affect the
+	 * converter
+	 */
+	@Test
+	public void testGetDecimalFormatReturnsCopy() {
+		BigDecimalConverter converter = new BigDecimalConverter("message", 2, false);
+		DecimalFormat format = converter.getDecimalFormat(Locale.US);
+		assertNotSame(format, converter.getDecimalFormat(Locale.US));
+
+		format.setMaximumFractionDigits(0);
+		assertEquals("3.14", converter.convertToPresentation(BigDecimal.valueOf(3.14), createUsContext()));
+	}
+
+	/**
+	 * A subclass that constructs its own format does not use the cached format
+	 */
+	@Test
+	public void testConstructFormat() {
+		BigDecimalConverter converter = new BigDecimalConverter("message", 2, false) {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected DecimalFormat constructFormat(Locale locale) {
+				DecimalFormat format = super.constructFormat(locale);
+				format.setPositivePrefix("+");
+				return format;
+			}
+		};
+		assertEquals("+3.14", converter.convertToPresentation(BigDecimal.valueOf(3.14), createUsContext()));
+		assertEquals("3.14", new BigDecimalConverter("message", 2, false)
+				.convertToPresentation(BigDecimal.valueOf(3.14), createUsContext()));
+	}
+
 }
@@ -15,8 +15,12 @@ package com.ocs.dynamo.ui.menu;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Locale;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -85,6 +89,21 @@ public class MenuServiceTest extends FrontendIntegrationTest {
         assertFalse(first.isVisible());
     }
 
+    /**
+     * Test that the menu definition is read only once per locale, while every
+     * constructed menu still gets its own components
+     */
+    @Test
+    public void testDefinitionCached() {
+        assertSame(menuService.getMenuDefinition("ocs.menu", Locale.ENGLISH),
+                menuService.getMenuDefinition("ocs.menu", Locale.ENGLISH));
+
+        MenuBar bar = menuService.constructMenu("ocs.menu");
+        MenuBar other = menuService.constructMenu("ocs.menu");
+        assertNotSame(bar.getItems().get(0), other.getItems().get(0));
+        assertEquals(2, other.getItems().get(0).getSubMenu().getItems().size());
+    }
+
     @Test
     public void testSetVisible() {
         MenuBar bar = menuService.constructMenu("ocs.menu");
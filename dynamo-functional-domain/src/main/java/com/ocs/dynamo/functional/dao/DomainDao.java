@@ -13,6 +13,7 @@
  */
 package com.ocs.dynamo.functional.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import com.ocs.dynamo.dao.BaseDao;
@@ -55,4 +56,15 @@ public interface DomainDao extends BaseDao<Integer, Domain> {
      */
     <D extends Domain> D findByTypeAndUniqueProperty(Class<D> type, String propertyName, Object value, boolean caseSensitive);
 
+    /**
+     * Finds all entities of a certain type of which the name is one of the
+     * specified names
+     * 
+     * @param type          the type
+     * @param names         the names
+     * @param caseSensitive whether the match is case-sensitive
+     * @return the matching entities
+     */
+    <D extends Domain> List<D> findByTypeAndNames(Class<D> type, Collection<String> names, boolean caseSensitive);
+
 }
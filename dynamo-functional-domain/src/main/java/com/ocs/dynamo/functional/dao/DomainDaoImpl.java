@@ -13,12 +13,17 @@
  */
 package com.ocs.dynamo.functional.dao;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.NonUniqueResultException;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Root;
 
 import org.springframework.stereotype.Repository;
 
@@ -42,6 +47,11 @@ import com.querydsl.jpa.impl.JPAQuery;
 @Repository("domainDao")
 public class DomainDaoImpl extends DefaultDaoImpl<Integer, Domain> implements DomainDao {
 
+    /**
+     * The maximum number of values in a single "IN" clause
+     */
+    private static final int MAX_IN_SIZE = 1000;
+
     public DomainDaoImpl() {
         super(QDomain.domain, Domain.class);
     }
@@ -70,6 +80,24 @@ public class DomainDaoImpl extends DefaultDaoImpl<Integer, Domain> implements Do
         }
     }
 
+    @Override
+    public <D extends Domain> List<D> findByTypeAndNames(Class<D> type, Collection<String> names, boolean caseSensitive) {
+        List<String> values = names.stream().map(name -> caseSensitive ? name : name.toUpperCase()).distinct()
+                .toList();
+
+        List<D> result = new ArrayList<>();
+        for (int i = 0; i < values.size(); i += MAX_IN_SIZE) {
+            CriteriaBuilder builder = getEntityManager().getCriteriaBuilder();
+            CriteriaQuery<D> cq = builder.createQuery(type);
+            Root<D> root = cq.from(type);
+            Expression<String> name = root.get(Domain.ATTRIBUTE_NAME);
+            cq.where((caseSensitive ? name : builder.upper(name))
+                    .in(values.subList(i, Math.min(i + MAX_IN_SIZE, values.size()))));
+            result.addAll(getEntityManager().createQuery(cq).getResultList());
+        }
+        return result;
+    }
+
     @SuppressWarnings({ "rawtypes", "unchecked" })
     @Override
     public <C extends DomainChild<C, P>, P extends DomainParent<C, P>> List<C> findChildren(P parent) {
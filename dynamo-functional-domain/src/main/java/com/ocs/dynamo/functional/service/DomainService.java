@@ -13,7 +13,9 @@
  */
 package com.ocs.dynamo.functional.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import com.ocs.dynamo.functional.domain.Domain;
 import com.ocs.dynamo.functional.domain.DomainChild;
@@ -47,6 +49,20 @@ public interface DomainService extends BaseService<Integer, Domain> {
      */
     <D extends Domain> D findByTypeAndUniqueProperty(Class<D> clazz, String propertyName, Object value, boolean caseSensitive);
 
+    /**
+     * Looks up the entities of a certain type by name, and creates the ones that
+     * do not exist yet. The existing entities are retrieved using a single query
+     * (per 1000 names) and the new ones are saved in a single batch
+     * 
+     * @param type          the type
+     * @param names         the names. Duplicate names (ignoring the case when
+     *                      the comparison is not case-sensitive) and
+     *                      <code>null</code> values are skipped
+     * @param caseSensitive whether the comparison is case-sensitive
+     * @return the entities, by name (as specified in the names)
+     */
+    <D extends Domain> Map<String, D> findOrCreateByNames(Class<D> type, Collection<String> names, boolean caseSensitive);
+
     /**
      * Query the children for a given parent
      * 
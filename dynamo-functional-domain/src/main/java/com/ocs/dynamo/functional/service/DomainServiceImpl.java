@@ -19,13 +19,20 @@ import com.ocs.dynamo.functional.domain.Domain;
 import com.ocs.dynamo.functional.domain.DomainChild;
 import com.ocs.dynamo.functional.domain.DomainParent;
 import com.ocs.dynamo.service.impl.DefaultServiceImpl;
+import com.ocs.dynamo.utils.ClassUtils;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.inject.Inject;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Service for working with reference information.
@@ -73,4 +80,40 @@ public class DomainServiceImpl extends DefaultServiceImpl<Integer, Domain> imple
         return domainDao.findByTypeAndUniqueProperty(type, propertyName, value, caseSensitive);
     }
 
+	@Override
+	public <D extends Domain> Map<String, D> findOrCreateByNames(Class<D> type, Collection<String> names,
+			boolean caseSensitive) {
+		// the distinct names, by the key used for comparison
+		Map<String, String> distinct = new LinkedHashMap<>();
+		names.stream().filter(Objects::nonNull)
+				.forEach(name -> distinct.putIfAbsent(caseSensitive ? name : name.toUpperCase(), name));
+		if (distinct.isEmpty()) {
+			return new HashMap<>();
+		}
+
+		Map<String, D> entities = new HashMap<>();
+		for (D entity : domainDao.findByTypeAndNames(type, distinct.values(), caseSensitive)) {
+			entities.put(caseSensitive ? entity.getName() : entity.getName().toUpperCase(), entity);
+		}
+
+		List<D> created = new ArrayList<>();
+		distinct.forEach((key, name) -> {
+			if (!entities.containsKey(key)) {
+				D entity = ClassUtils.instantiateClass(type);
+				entity.setName(name);
+				created.add(entity);
+			}
+		});
+		if (!created.isEmpty()) {
+			for (Domain entity : save(new ArrayList<>(created))) {
+				entities.put(caseSensitive ? entity.getName() : entity.getName().toUpperCase(), type.cast(entity));
+			}
+		}
+
+		Map<String, D> result = new HashMap<>();
+		names.stream().filter(Objects::nonNull).forEach(
+				name -> result.put(name, entities.get(caseSensitive ? name : name.toUpperCase())));
+		return result;
+	}
+
 }
@@ -16,11 +16,13 @@ package com.ocs.dynamo.functional.util;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.ocs.dynamo.functional.domain.Domain;
+import com.ocs.dynamo.functional.service.DomainService;
 import com.ocs.dynamo.service.BaseService;
 import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.utils.ClassUtils;
@@ -58,6 +60,23 @@ public final class DomainUtil {
 		return entity;
 	}
 
+	/**
+	 * Creates the entities that do not exist yet for a number of values, and
+	 * returns the existing entities for the other values. Uses a single query to
+	 * look up the existing entities and a single batch to save the new ones. Use a
+	 * {@link DomainValueCache} to also avoid looking up the same values again
+	 * 
+	 * @param service       the domain service
+	 * @param clazz         the domain class
+	 * @param values        the values of the "name" attribute
+	 * @param caseSensitive whether to check for case-sensitive values
+	 * @return the existing or newly created entities, by value
+	 */
+	public static <T extends Domain> Map<String, T> createIfNotExists(DomainService service, Class<T> clazz,
+			Collection<String> values, boolean caseSensitive) {
+		return service.findOrCreateByNames(clazz, values, caseSensitive);
+	}
+
 	/**
 	 * Returns all domain entities that match the specified type
 	 * 
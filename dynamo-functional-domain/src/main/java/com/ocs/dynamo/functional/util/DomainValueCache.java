@@ -0,0 +1,108 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.functional.util;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import com.ocs.dynamo.functional.domain.Domain;
+import com.ocs.dynamo.functional.service.DomainService;
+
+/**
+ * Cache of the domain entities of a certain type by name, meant to be used for
+ * the duration of an import that maps text values to domain entities. Call
+ * {@link #resolve(Collection)} with the values of a chunk of rows to look up
+ * (and create) all values that are not cached yet at once, after which
+ * {@link #get(String)} returns the entities without querying the database.
+ * Instances are not thread-safe
+ * 
+ * @author bas.rutten
+ *
+ * @param <T> the type of the domain entities
+ */
+public class DomainValueCache<T extends Domain> {
+
+	private final DomainService service;
+
+	private final Class<T> clazz;
+
+	private final boolean caseSensitive;
+
+	private final Map<String, T> entities;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param service       the domain service
+	 * @param clazz         the domain class
+	 * @param caseSensitive whether the values are case-sensitive
+	 */
+	public DomainValueCache(DomainService service, Class<T> clazz, boolean caseSensitive) {
+		this.service = service;
+		this.clazz = clazz;
+		this.caseSensitive = caseSensitive;
+		this.entities = caseSensitive ? new HashMap<>() : new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+	}
+
+	/**
+	 * Looks up (or creates) the entities for the values that are not cached yet
+	 * 
+	 * @param values the values, <code>null</code> values are ignored
+	 * @return the entities for the values, by value
+	 */
+	public Map<String, T> resolve(Collection<String> values) {
+		List<String> missing = values.stream().filter(value -> value != null && !entities.containsKey(value))
+				.toList();
+		if (!missing.isEmpty()) {
+			entities.putAll(DomainUtil.createIfNotExists(service, clazz, missing, caseSensitive));
+		}
+
+		Map<String, T> result = new HashMap<>();
+		values.stream().filter(Objects::nonNull).forEach(value -> result.put(value, entities.get(value)));
+		return result;
+	}
+
+	/**
+	 * Returns the entity for a value, looking it up (or creating it) if it is not
+	 * cached yet
+	 * 
+	 * @param value the value
+	 * @return the entity, or <code>null</code> if the value is <code>null</code>
+	 */
+	public T get(String value) {
+		if (value == null) {
+			return null;
+		}
+		T entity = entities.get(value);
+		return entity != null ? entity : resolve(List.of(value)).get(value);
+	}
+
+	/**
+	 * @return the number of cached entities
+	 */
+	public int size() {
+		return entities.size();
+	}
+
+	/**
+	 * Removes all cached entities
+	 */
+	public void clear() {
+		entities.clear();
+	}
+}
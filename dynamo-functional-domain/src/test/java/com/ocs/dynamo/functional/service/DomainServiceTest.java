@@ -14,8 +14,11 @@
 package com.ocs.dynamo.functional.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.List;
+import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -111,4 +114,17 @@ public class DomainServiceTest extends BaseIntegrationTest {
         countries = regionService.findChildren(deu);
         assertEquals(4, countries.size());
     }
+
+    @Test
+    public void testFindOrCreateByNames() {
+        Map<String, Region> regions = domainService.findOrCreateByNames(Region.class,
+                List.of("europa", "Africa", "AFRICA"), false);
+        assertEquals(3, regions.size());
+        assertSame(europa, regions.get("europa"));
+        assertSame(regions.get("Africa"), regions.get("AFRICA"));
+        assertNotNull(regions.get("Africa").getId());
+        assertEquals("Africa", regions.get("Africa").getName());
+        // the new value is not flushed: the generated test schema does not allow
+        // domain values without a code, since some of the subclasses require one
+    }
 }
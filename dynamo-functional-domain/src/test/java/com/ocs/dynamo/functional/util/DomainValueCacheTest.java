@@ -0,0 +1,54 @@
+package com.ocs.dynamo.functional.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+
+import com.ocs.dynamo.functional.domain.Region;
+import com.ocs.dynamo.functional.service.DomainService;
+import com.ocs.dynamo.test.BaseMockitoTest;
+
+public class DomainValueCacheTest extends BaseMockitoTest {
+
+	@Mock
+	private DomainService domainService;
+
+	@Test
+	public void testResolve() {
+		when(domainService.findOrCreateByNames(eq(Region.class), anyCollection(), eq(false))).thenAnswer(invocation -> {
+			Map<String, Region> result = new HashMap<>();
+			for (String name : invocation.<Collection<String>>getArgument(1)) {
+				result.put(name, new Region(null, name));
+			}
+			return result;
+		});
+
+		DomainValueCache<Region> cache = new DomainValueCache<>(domainService, Region.class, false);
+		Map<String, Region> regions = cache.resolve(List.of("Europa", "Asia"));
+		assertEquals(2, regions.size());
+		assertEquals(2, cache.size());
+
+		// cached values are not looked up again, also when the case differs
+		assertSame(regions.get("Europa"), cache.get("EUROPA"));
+		cache.resolve(List.of("asia", "Africa"));
+		assertEquals(3, cache.size());
+		assertNull(cache.get(null));
+
+		verify(domainService).findOrCreateByNames(Region.class, List.of("Europa", "Asia"), false);
+		verify(domainService).findOrCreateByNames(Region.class, List.of("Africa"), false);
+		verify(domainService, times(2)).findOrCreateByNames(eq(Region.class), anyCollection(), eq(false));
+	}
+}
@@ -0,0 +1,148 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.domain.query;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Function;
+
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.exception.OCSRuntimeException;
+
+/**
+ * An iterator for traversing large data sets that fetches the next pages on a
+ * background thread while the caller is processing the current page. The number
+ * of pages that are fetched ahead is bounded, so that the memory use stays
+ * limited when the caller is slower than the database.
+ * 
+ * Note that the pages are fetched on a different thread, so the mapper must not
+ * depend on thread bound state (e.g. a transaction or security context of the
+ * calling thread). The iterator must be closed when it is no longer needed
+ * 
+ * @author bas.rutten
+ * @param <ID> the type of the primary key of the entity
+ * @param <T>  the type of the entity
+ */
+public class PrefetchingDataSetIterator<ID extends Serializable, T extends AbstractEntity<ID>>
+		implements DataSetIterator<ID, T>, AutoCloseable {
+
+	private final List<ID> idList;
+
+	private final BlockingQueue<List<T>> queue;
+
+	/**
+	 * Marker that is added to the queue after the last page
+	 */
+	private final List<T> end = new ArrayList<>();
+
+	private volatile Throwable failure;
+
+	private volatile boolean closed;
+
+	private boolean finished;
+
+	private List<T> page = Collections.emptyList();
+
+	private int indexInPage;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param idList     the IDs of the relevant records
+	 * @param mapper     the function used to fetch the entities for a page of IDs
+	 * @param pageSize   the page size
+	 * @param pagesAhead the maximum number of pages to fetch ahead
+	 */
+	public PrefetchingDataSetIterator(List<ID> idList, Function<List<ID>, List<T>> mapper, int pageSize,
+			int pagesAhead) {
+		this.idList = idList;
+		this.queue = new ArrayBlockingQueue<>(Math.max(1, pagesAhead));
+
+		Thread producer = new Thread(() -> produce(mapper, pageSize), "dynamo-prefetch");
+		producer.setDaemon(true);
+		producer.start();
+	}
+
+	private void produce(Function<List<ID>, List<T>> mapper, int pageSize) {
+		try {
+			for (int start = 0; start < idList.size() && !closed; start += pageSize) {
+				List<ID> ids = new ArrayList<>(idList.subList(start, Math.min(start + pageSize, idList.size())));
+				queue.put(mapper.apply(ids));
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return;
+		} catch (RuntimeException | Error ex) {
+			failure = ex;
+		}
+
+		if (!closed) {
+			try {
+				queue.put(end);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public T next() {
+		while (indexInPage >= page.size()) {
+			if (finished) {
+				return null;
+			}
+			page = takePage();
+			indexInPage = 0;
+		}
+		return page.get(indexInPage++);
+	}
+
+	private List<T> takePage() {
+		try {
+			List<T> next = queue.take();
+			if (next != end) {
+				return next;
+			}
+			finished = true;
+			if (failure instanceof RuntimeException re) {
+				throw re;
+			} else if (failure != null) {
+				throw new OCSRuntimeException("Could not fetch page: " + failure.getMessage(), failure);
+			}
+			return Collections.emptyList();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new OCSRuntimeException("Interrupted while waiting for the next page", ex);
+		}
+	}
+
+	@Override
+	public int size() {
+		return idList.size();
+	}
+
+	/**
+	 * Stops fetching pages and releases the pages that were fetched ahead
+	 */
+	@Override
+	public void close() {
+		closed = true;
+		queue.clear();
+	}
+
+}
@@ -221,6 +221,12 @@ public abstract class BaseServiceImpl<ID, T extends AbstractEntity<ID>> implemen
 		return getDao().findProperties(filter, selectProperties, sortOrders);
 	}
 
+	@Override
+	@Transactional
+	public void flushAndClear() {
+		getDao().flushAndClear();
+	}
+
 	protected abstract BaseDao<ID, T> getDao();
 
 	@Override
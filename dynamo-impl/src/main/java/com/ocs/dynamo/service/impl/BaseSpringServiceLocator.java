@@ -13,10 +13,16 @@
  */
 package com.ocs.dynamo.service.impl;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.Lifecycle;
+import org.springframework.context.event.ContextRefreshedEvent;
 
 import com.ocs.dynamo.domain.model.EntityModelFactory;
 import com.ocs.dynamo.service.BaseService;
@@ -24,7 +30,12 @@ import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.service.ServiceLocator;
 
 /**
- * Static class for accessing the Spring container
+ * Static class for accessing the Spring container. Lookups of singleton beans
+ * are cached in a registry that is built once the context has been refreshed,
+ * and rebuilt whenever the context is replaced or refreshed again. Lookups
+ * that are performed while the context is being refreshed (e.g. from a
+ * <code>PostConstruct</code> method) are not cached, since not all beans are
+ * available yet
  * 
  * @author bas.rutten
  */
@@ -32,15 +43,70 @@ public abstract class BaseSpringServiceLocator implements ServiceLocator {
 
 	protected ApplicationContext ctx;
 
+	private volatile ServiceRegistry registry;
+
 	protected abstract ApplicationContext loadCtx();
 
 	private ApplicationContext getContext() {
 		if (ctx == null) {
 			ctx = loadCtx();
+			if (ctx instanceof ConfigurableApplicationContext configurable) {
+				configurable.addApplicationListener(new RefreshListener());
+			}
 		}
 		return ctx;
 	}
 
+	/**
+	 * Returns the registry for the current application context. When the
+	 * context was already refreshed before the locator got hold of it (so that
+	 * the refresh event has been missed), the registry is built on the first
+	 * lookup
+	 * 
+	 * @return the registry, or <code>null</code> when the context has not been
+	 *         refreshed yet
+	 */
+	private ServiceRegistry getRegistry() {
+		ApplicationContext context = getContext();
+		ServiceRegistry current = registry;
+		if (current != null && current.isValidFor(context)) {
+			return current;
+		}
+		if (!isRefreshed(context)) {
+			return null;
+		}
+		synchronized (this) {
+			current = registry;
+			if (current == null || !current.isValidFor(context)) {
+				current = new ServiceRegistry(context);
+				registry = current;
+			}
+		}
+		return current;
+	}
+
+	/**
+	 * Checks whether the refresh of a context has completed. The lifecycle of a
+	 * context is only started at the end of the refresh, after all singletons
+	 * have been created
+	 * 
+	 * @param context the context
+	 * @return true if this is the case
+	 */
+	private static boolean isRefreshed(ApplicationContext context) {
+		return !(context instanceof Lifecycle lifecycle) || lifecycle.isRunning();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> Map<String, T> getBeansOfType(Class<T> clazz) {
+		ServiceRegistry current = getRegistry();
+		if (current != null) {
+			return current.getBeansOfType(clazz);
+		}
+		ApplicationContext context = getContext();
+		return context == null ? Collections.emptyMap() : context.getBeansOfType(clazz);
+	}
+
 	/**
 	 * Retrieves a service of a certain type
 	 * 
@@ -49,7 +115,7 @@ public abstract class BaseSpringServiceLocator implements ServiceLocator {
 	 */
 	@Override
 	public <T> T getService(Class<T> clazz) {
-		Map<String, T> beansOfType = getContext().getBeansOfType(clazz);
+		Map<String, T> beansOfType = getBeansOfType(clazz);
 		if (!beansOfType.isEmpty()) {
 			return beansOfType.values().iterator().next();
 		}
@@ -58,15 +124,7 @@ public abstract class BaseSpringServiceLocator implements ServiceLocator {
 
 	@Override
 	public <T> T getServiceByName(String name, Class<T> clazz) {
-		Map<String, T> beansOfType = getContext().getBeansOfType(clazz);
-		if (!beansOfType.isEmpty()) {
-			for (Entry<String, T> entry : beansOfType.entrySet()) {
-				if (entry.getKey().equals(name)) {
-					return entry.getValue();
-				}
-			}
-		}
-		return null;
+		return getBeansOfType(clazz).get(name);
 	}
 
 	/**
@@ -96,15 +154,106 @@ public abstract class BaseSpringServiceLocator implements ServiceLocator {
 	 * @return the service
 	 */
 	@Override
-	@SuppressWarnings("rawtypes")
 	public BaseService<?, ?> getServiceForEntity(Class<?> entityClass) {
-		Map<String, BaseService> services = getContext().getBeansOfType(BaseService.class, false, true);
-		for (Entry<String, BaseService> e : services.entrySet()) {
-			if (e.getValue().getEntityClass() != null && e.getValue().getEntityClass().equals(entityClass)) {
-				return e.getValue();
+		ServiceRegistry current = getRegistry();
+		if (current != null) {
+			return current.getServiceForEntity(entityClass);
+		}
+		return ServiceRegistry.findServicesByEntity(getContext()).get(entityClass);
+	}
+
+	/**
+	 * Rebuilds the registry when the context has been refreshed
+	 */
+	private final class RefreshListener implements ApplicationListener<ContextRefreshedEvent> {
+
+		@Override
+		public void onApplicationEvent(ContextRefreshedEvent event) {
+			ApplicationContext context = event.getApplicationContext();
+			if (context == ctx) {
+				synchronized (BaseSpringServiceLocator.this) {
+					registry = new ServiceRegistry(context);
+				}
 			}
 		}
-		return null;
+	}
+
+	/**
+	 * Immutable snapshot of the lookups performed against a single (refreshed)
+	 * application context
+	 */
+	private static final class ServiceRegistry {
+
+		private final ApplicationContext context;
+
+		private final long startupDate;
+
+		private final Map<Class<?>, BaseService<?, ?>> servicesByEntity;
+
+		private final Map<Class<?>, Map<String, ?>> beansByType = new ConcurrentHashMap<>();
+
+		ServiceRegistry(ApplicationContext context) {
+			this.context = context;
+			this.startupDate = context == null ? 0L : context.getStartupDate();
+			this.servicesByEntity = Collections.unmodifiableMap(findServicesByEntity(context));
+		}
+
+		/**
+		 * Looks up the services that manage the entities
+		 * 
+		 * @param context the context
+		 * @return the services, by entity class
+		 */
+		@SuppressWarnings("rawtypes")
+		static Map<Class<?>, BaseService<?, ?>> findServicesByEntity(ApplicationContext context) {
+			Map<Class<?>, BaseService<?, ?>> services = new LinkedHashMap<>();
+			if (context != null) {
+				Map<String, BaseService> beans = context.getBeansOfType(BaseService.class, false, true);
+				for (BaseService<?, ?> service : beans.values()) {
+					if (service.getEntityClass() != null) {
+						services.putIfAbsent(service.getEntityClass(), service);
+					}
+				}
+			}
+			return services;
+		}
+
+		boolean isValidFor(ApplicationContext other) {
+			return context == other && (other == null || startupDate == other.getStartupDate());
+		}
+
+		BaseService<?, ?> getServiceForEntity(Class<?> entityClass) {
+			return servicesByEntity.get(entityClass);
+		}
+
+		/**
+		 * Looks up the beans of a certain type. The result is only cached when all
+		 * matching beans are singletons, so that prototype beans are still created
+		 * on every lookup
+		 * 
+		 * @param clazz the type of the beans
+		 * @return the beans, by name
+		 */
+		@SuppressWarnings("unchecked")
+		<T> Map<String, T> getBeansOfType(Class<T> clazz) {
+			if (context == null) {
+				return Collections.emptyMap();
+			}
+
+			Map<String, T> beans = (Map<String, T>) beansByType.get(clazz);
+			if (beans == null) {
+				beans = context.getBeansOfType(clazz);
+				boolean singletons = true;
+				for (String name : beans.keySet()) {
+					singletons &= context.isSingleton(name);
+				}
+				if (singletons) {
+					beans = Collections.unmodifiableMap(new LinkedHashMap<>(beans));
+					beansByType.put(clazz, beans);
+				}
+			}
+			return beans;
+		}
 	}
 
 }
@@ -28,6 +28,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.*;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * @author Bas Rutten
@@ -343,6 +344,49 @@ public final class ClassUtils {
         return temp == null ? defValue : temp.toString();
     }
 
+    /**
+     * Creates a function that returns the value of a (nested) field of objects of
+     * the provided class. The getter methods are looked up only once, which makes
+     * this a lot faster than calling {@link #getFieldValue(Object, String)} for
+     * every object. Falls back to {@link #getFieldValue(Object, String)} when the
+     * getters cannot be determined based on the declared types
+     *
+     * @param clazz     the class of the objects
+     * @param fieldName the name of the field
+     * @return the function
+     */
+    public static Function<Object, Object> getFieldValueFunction(Class<?> clazz, String fieldName) {
+        String[] parts = fieldName.split("\\.");
+        Method[] getters = new Method[parts.length];
+        Class<?> current = clazz;
+        for (int i = 0; i < parts.length; i++) {
+            String name = StringUtils.capitalize(parts[i]);
+            getters[i] = MethodUtils.getAccessibleMethod(current, GET + name);
+            if (getters[i] == null) {
+                getters[i] = MethodUtils.getAccessibleMethod(current, IS + name);
+            }
+            if (getters[i] == null) {
+                return obj -> getFieldValue(obj, fieldName);
+            }
+            current = getters[i].getReturnType();
+        }
+
+        return obj -> {
+            Object result = obj;
+            try {
+                for (int i = 0; i < getters.length && result != null; i++) {
+                    result = getters[i].invoke(result);
+                }
+                return result;
+            } catch (IllegalArgumentException e) {
+                // object of an unexpected type, look up the getters again
+                return getFieldValue(obj, fieldName);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new OCSRuntimeException("Error getting of " + obj + ":" + e.getMessage(), e);
+            }
+        };
+    }
+
     /**
      * Retrieves the getter method for a certain property
      *
@@ -475,6 +519,30 @@ public final class ClassUtils {
         return null;
     }
 
+    /**
+     * Checks whether a method of a base class is overridden by a class or one of
+     * its superclasses (below the base class)
+     *
+     * @param clazz the class to check
+     * @param baseClass the class that declares the method
+     * @param methodName the name of the method
+     * @param parameterTypes the parameter types of the method
+     * @return true if this is the case, false otherwise
+     */
+    public static boolean isOverridden(Class<?> clazz, Class<?> baseClass, String methodName,
+            Class<?>... parameterTypes) {
+        for (Class<?> current = clazz; current != null && !current.equals(baseClass); current = current
+                .getSuperclass()) {
+            try {
+                current.getDeclaredMethod(methodName, parameterTypes);
+                return true;
+            } catch (NoSuchMethodException ex) {
+                // check the superclass
+            }
+        }
+        return false;
+    }
+
     public static void setBytes(byte[] bytes, Object obj, String fieldName) {
         if (bytes != null) {
             setFieldValue(obj, fieldName, bytes);
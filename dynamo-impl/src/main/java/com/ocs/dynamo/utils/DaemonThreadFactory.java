@@ -0,0 +1,49 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.utils;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread factory that creates daemon threads, so that background work never
+ * keeps the JVM from shutting down. The threads are named after the factory,
+ * followed by a sequence number of the factory and of the thread
+ *
+ * @author bas.rutten
+ */
+public class DaemonThreadFactory implements ThreadFactory {
+
+	private static final AtomicInteger POOL_NUMBER = new AtomicInteger();
+
+	private final String prefix;
+
+	private final AtomicInteger threadNumber = new AtomicInteger();
+
+	/**
+	 * Constructor
+	 *
+	 * @param name the name of the threads, e.g. "dynamo-export-job"
+	 */
+	public DaemonThreadFactory(String name) {
+		this.prefix = name + "-" + POOL_NUMBER.incrementAndGet() + "-";
+	}
+
+	@Override
+	public Thread newThread(Runnable runnable) {
+		Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+		thread.setDaemon(true);
+		return thread;
+	}
+}
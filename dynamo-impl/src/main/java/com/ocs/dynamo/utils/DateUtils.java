@@ -21,7 +21,6 @@ import java.time.Month;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeFormatterBuilder;
 import java.time.temporal.TemporalAdjusters;
 import java.time.temporal.WeekFields;
 import java.util.Date;
@@ -91,7 +90,7 @@ public final class DateUtils {
 		if (dateStr == null) {
 			return null;
 		}
-		DateTimeFormatter fmt = new DateTimeFormatterBuilder().appendPattern(format).parseStrict().toFormatter();
+		DateTimeFormatter fmt = FormatterCache.getDateTimeFormatter(format);
 		return LocalDate.from(fmt.parse(dateStr));
 	}
 
@@ -116,7 +115,7 @@ public final class DateUtils {
 		if (dateTimeStr == null) {
 			return null;
 		}
-		DateTimeFormatter fmt = new DateTimeFormatterBuilder().appendPattern(format).parseStrict().toFormatter();
+		DateTimeFormatter fmt = FormatterCache.getDateTimeFormatter(format);
 		return LocalDateTime.from(fmt.parse(dateTimeStr));
 	}
 
@@ -141,7 +140,7 @@ public final class DateUtils {
 		if (timeStr == null) {
 			return null;
 		}
-		DateTimeFormatter fmt = new DateTimeFormatterBuilder().appendPattern(format).parseStrict().toFormatter();
+		DateTimeFormatter fmt = FormatterCache.getDateTimeFormatter(format);
 		return LocalTime.from(fmt.parse(timeStr));
 	}
 
@@ -166,7 +165,7 @@ public final class DateUtils {
 		if (dateTimeStr == null) {
 			return null;
 		}
-		DateTimeFormatter fmt = DateTimeFormatter.ofPattern(format);
+		DateTimeFormatter fmt = FormatterCache.getDateTimeFormatter(format);
 		return ZonedDateTime.from(fmt.parse(dateTimeStr));
 	}
 
@@ -181,7 +180,7 @@ public final class DateUtils {
 		if (date == null || format == null) {
 			return null;
 		}
-		DateTimeFormatter fmt = new DateTimeFormatterBuilder().appendPattern(format).toFormatter();
+		DateTimeFormatter fmt = FormatterCache.getDateTimeFormatter(format);
 		return date.format(fmt);
 	}
 
@@ -196,7 +195,7 @@ public final class DateUtils {
 		if (dateTime == null || format == null) {
 			return null;
 		}
-		DateTimeFormatter fmt = new DateTimeFormatterBuilder().appendPattern(format).toFormatter();
+		DateTimeFormatter fmt = FormatterCache.getDateTimeFormatter(format);
 		return dateTime.format(fmt);
 	}
 
@@ -232,7 +231,7 @@ public final class DateUtils {
 		if (time == null || format == null) {
 			return null;
 		}
-		DateTimeFormatter fmt = DateTimeFormatter.ofPattern(format);
+		DateTimeFormatter fmt = FormatterCache.getDateTimeFormatter(format);
 		return time.format(fmt);
 	}
 
@@ -247,7 +246,7 @@ public final class DateUtils {
 		if (dateTime == null || format == null) {
 			return null;
 		}
-		DateTimeFormatter fmt = DateTimeFormatter.ofPattern(format).withZone(zoneId);
+		DateTimeFormatter fmt = FormatterCache.getDateTimeFormatter(format, zoneId);
 		return dateTime.format(fmt);
 	}
 
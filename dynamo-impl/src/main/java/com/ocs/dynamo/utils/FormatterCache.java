@@ -0,0 +1,296 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache for the formatters that are used when converting dates and numbers to
+ * Strings. Since a DateTimeFormatter is immutable, a single instance is shared
+ * between all threads. A DecimalFormat is not thread safe, so these are cached
+ * per thread. Formats returned by this class are shared and must never be
+ * modified by the caller
+ *
+ * @author bas.rutten
+ */
+public final class FormatterCache {
+
+	/**
+	 * The maximum number of entries to keep in a single cache. When this number
+	 * is exceeded the cache is simply cleared
+	 */
+	private static final int MAX_CACHE_SIZE = 512;
+
+	private static final Map<DateTimeFormatterKey, DateTimeFormatter> DATE_TIME_FORMATTERS = new ConcurrentHashMap<>();
+
+	private static final ThreadLocal<Map<DecimalFormatKey, DecimalFormat>> DECIMAL_FORMATS = ThreadLocal
+			.withInitial(HashMap::new);
+
+	private static final Map<Locale, FixedPrecisionSymbols> FIXED_PRECISION_SYMBOLS = new ConcurrentHashMap<>();
+
+	/**
+	 * Value that is used to check whether the fast formatting path produces the
+	 * same results as a DecimalFormat for a certain locale
+	 */
+	private static final BigDecimal PROBE_VALUE = new BigDecimal("1234567.891");
+
+	private record DateTimeFormatterKey(String pattern, Locale locale, ZoneId zoneId) {
+	}
+
+	private record DecimalFormatKey(Locale locale, String pattern, String currencySymbol, boolean grouping,
+			int precision) {
+	}
+
+	/**
+	 * The locale specific symbols that are used by the fast formatting path
+	 */
+	private record FixedPrecisionSymbols(boolean supported, char zeroDigit, char groupingSeparator,
+			char decimalSeparator, String minusSign) {
+	}
+
+	private FormatterCache() {
+		// hidden constructor
+	}
+
+	/**
+	 * Clears all caches
+	 */
+	public static void clear() {
+		DATE_TIME_FORMATTERS.clear();
+		FIXED_PRECISION_SYMBOLS.clear();
+		DECIMAL_FORMATS.remove();
+	}
+
+	/**
+	 * Returns a (shared) DateTimeFormatter for the provided pattern, using the
+	 * default format locale
+	 *
+	 * @param pattern the pattern
+	 * @return the formatter
+	 */
+	public static DateTimeFormatter getDateTimeFormatter(String pattern) {
+		return getDateTimeFormatter(pattern, null);
+	}
+
+	/**
+	 * Returns a (shared) DateTimeFormatter for the provided pattern and time zone,
+	 * using the default format locale
+	 *
+	 * @param pattern the pattern
+	 * @param zoneId  the zone ID to use. Can be null
+	 * @return the formatter
+	 */
+	public static DateTimeFormatter getDateTimeFormatter(String pattern, ZoneId zoneId) {
+		DateTimeFormatterKey key = new DateTimeFormatterKey(pattern, Locale.getDefault(Locale.Category.FORMAT),
+				zoneId);
+		DateTimeFormatter formatter = DATE_TIME_FORMATTERS.get(key);
+		if (formatter == null) {
+			if (DATE_TIME_FORMATTERS.size() >= MAX_CACHE_SIZE) {
+				DATE_TIME_FORMATTERS.clear();
+			}
+			formatter = DATE_TIME_FORMATTERS.computeIfAbsent(key, k -> {
+				DateTimeFormatter result = DateTimeFormatter.ofPattern(k.pattern(), k.locale());
+				return k.zoneId() == null ? result : result.withZone(k.zoneId());
+			});
+		}
+		return formatter;
+	}
+
+	/**
+	 * Returns a DecimalFormat for the provided settings. The format is cached for
+	 * the current thread and must not be modified
+	 *
+	 * @param locale         the locale
+	 * @param pattern        the pattern to apply. Use null for the default
+	 *                       pattern of the locale
+	 * @param currencySymbol the currency symbol. When this is not null, a currency
+	 *                       format is created
+	 * @param grouping       whether to use a thousands grouping separator
+	 * @param precision      the number of fraction digits
+	 * @return the format
+	 */
+	public static DecimalFormat getDecimalFormat(Locale locale, String pattern, String currencySymbol,
+			boolean grouping, int precision) {
+		Map<DecimalFormatKey, DecimalFormat> formats = DECIMAL_FORMATS.get();
+		DecimalFormatKey key = new DecimalFormatKey(locale, pattern, currencySymbol, grouping, precision);
+		DecimalFormat format = formats.get(key);
+		if (format == null) {
+			if (formats.size() >= MAX_CACHE_SIZE) {
+				formats.clear();
+			}
+			format = createDecimalFormat(key);
+			formats.put(key, format);
+		}
+		return format;
+	}
+
+	/**
+	 * Formats a number using a fixed precision. For BigDecimal and Double values
+	 * this avoids using a DecimalFormat altogether, for other values (or locales
+	 * with non-standard number formatting) it falls back to a cached DecimalFormat.
+	 * The result is identical to that of a DecimalFormat for the same locale
+	 *
+	 * @param value     the value to format
+	 * @param locale    the locale
+	 * @param grouping  whether to use a thousands grouping separator
+	 * @param precision the number of fraction digits
+	 * @return the result of the formatting
+	 */
+	public static String formatFixedPrecision(Number value, Locale locale, boolean grouping, int precision) {
+		if (value == null) {
+			return null;
+		}
+
+		BigDecimal decimal = null;
+		boolean negative = false;
+		if (value instanceof BigDecimal bd) {
+			decimal = bd;
+			negative = bd.signum() < 0;
+		} else if (value instanceof Double d && Double.isFinite(d)) {
+			decimal = new BigDecimal(d);
+			negative = Double.doubleToRawLongBits(d) < 0;
+		}
+
+		if (decimal != null && precision >= 0) {
+			FixedPrecisionSymbols symbols = getFixedPrecisionSymbols(locale);
+			if (symbols.supported()) {
+				return formatFixedPrecision(decimal, negative, grouping, precision, symbols);
+			}
+		}
+		return getDecimalFormat(locale, null, null, grouping, precision).format(value);
+	}
+
+	/**
+	 * Creates a new (uncached) DecimalFormat. The grouping and precision are left
+	 * at the defaults of the locale
+	 *
+	 * @param locale         the locale
+	 * @param pattern        the pattern to apply. Use null for the default
+	 *                       pattern of the locale
+	 * @param currencySymbol the currency symbol. When this is not null, a currency
+	 *                       format is created
+	 * @return the format
+	 */
+	public static DecimalFormat createDecimalFormat(Locale locale, String pattern, String currencySymbol) {
+		DecimalFormat format;
+		if (currencySymbol != null) {
+			format = (DecimalFormat) DecimalFormat.getCurrencyInstance(locale);
+			if (pattern != null) {
+				format.applyPattern(pattern);
+			}
+			DecimalFormatSymbols s = format.getDecimalFormatSymbols();
+			s.setCurrencySymbol(currencySymbol);
+			format.setDecimalFormatSymbols(s);
+		} else {
+			format = (DecimalFormat) DecimalFormat.getInstance(locale);
+			if (pattern != null) {
+				format.applyPattern(pattern);
+			}
+		}
+		return format;
+	}
+
+	private static DecimalFormat createDecimalFormat(DecimalFormatKey key) {
+		DecimalFormat format = createDecimalFormat(key.locale(), key.pattern(), key.currencySymbol());
+		format.setGroupingUsed(key.grouping());
+		format.setMaximumFractionDigits(key.precision());
+		format.setMinimumFractionDigits(key.precision());
+		return format;
+	}
+
+	/**
+	 * Formats a decimal value without the use of a DecimalFormat
+	 *
+	 * @param value     the value to format
+	 * @param negative  whether the original value was negative
+	 * @param grouping  whether to use a thousands grouping separator
+	 * @param precision the number of fraction digits
+	 * @param symbols   the symbols to use
+	 * @return the result of the formatting
+	 */
+	private static String formatFixedPrecision(BigDecimal value, boolean negative, boolean grouping, int precision,
+			FixedPrecisionSymbols symbols) {
+		String digits = value.setScale(precision, RoundingMode.HALF_EVEN).unscaledValue().abs().toString();
+		int integerDigits = digits.length() - precision;
+		int offset = symbols.zeroDigit() - '0';
+
+		StringBuilder builder = new StringBuilder(digits.length() + digits.length() / 3 + 3);
+		if (negative) {
+			builder.append(symbols.minusSign());
+		}
+
+		if (integerDigits <= 0) {
+			builder.append(symbols.zeroDigit());
+		} else {
+			for (int i = 0; i < integerDigits; i++) {
+				if (grouping && i > 0 && (integerDigits - i) % 3 == 0) {
+					builder.append(symbols.groupingSeparator());
+				}
+				builder.append((char) (digits.charAt(i) + offset));
+			}
+		}
+
+		if (precision > 0) {
+			builder.append(symbols.decimalSeparator());
+			for (int i = integerDigits; i < 0; i++) {
+				builder.append(symbols.zeroDigit());
+			}
+			for (int i = Math.max(0, integerDigits); i < digits.length(); i++) {
+				builder.append((char) (digits.charAt(i) + offset));
+			}
+		}
+		return builder.toString();
+	}
+
+	/**
+	 * Looks up the symbols to use for fast formatting for a locale. The fast path
+	 * is only enabled when it produces the same results as the DecimalFormat for
+	 * that locale
+	 *
+	 * @param locale the locale
+	 * @return the symbols
+	 */
+	private static FixedPrecisionSymbols getFixedPrecisionSymbols(Locale locale) {
+		return FIXED_PRECISION_SYMBOLS.computeIfAbsent(locale, loc -> {
+			DecimalFormat format = (DecimalFormat) DecimalFormat.getInstance(loc);
+			DecimalFormatSymbols dfs = format.getDecimalFormatSymbols();
+			FixedPrecisionSymbols symbols = new FixedPrecisionSymbols(true, dfs.getZeroDigit(),
+					dfs.getGroupingSeparator(), dfs.getDecimalSeparator(), format.getNegativePrefix());
+
+			boolean supported = format.getPositivePrefix().isEmpty() && format.getPositiveSuffix().isEmpty()
+					&& format.getNegativeSuffix().isEmpty();
+			for (int precision = 0; supported && precision <= 2; precision += 2) {
+				for (boolean grouping : new boolean[] { true, false }) {
+					DecimalFormat probe = createDecimalFormat(
+							new DecimalFormatKey(loc, null, null, grouping, precision));
+					supported = supported
+							&& probe.format(PROBE_VALUE).equals(
+									formatFixedPrecision(PROBE_VALUE, false, grouping, precision, symbols))
+							&& probe.format(PROBE_VALUE.negate()).equals(
+									formatFixedPrecision(PROBE_VALUE.negate(), true, grouping, precision, symbols));
+				}
+			}
+			return supported ? symbols : new FixedPrecisionSymbols(false, '0', ',', '.', "-");
+		});
+	}
+}
@@ -14,9 +14,6 @@
 package com.ocs.dynamo.utils;
 
 import java.math.BigDecimal;
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.text.NumberFormat;
 import java.util.Locale;
 
 import com.ocs.dynamo.domain.model.AttributeModel;
@@ -115,20 +112,12 @@ public final class NumberUtils {
             return null;
         }
 
-        DecimalFormat df;
+        String s;
         if (currency) {
-            df = (DecimalFormat) DecimalFormat.getCurrencyInstance(locale);
-            DecimalFormatSymbols s = df.getDecimalFormatSymbols();
-            s.setCurrencySymbol(currencySymbol);
-            df.setDecimalFormatSymbols(s);
+            s = FormatterCache.getDecimalFormat(locale, null, currencySymbol, useGrouping, precision).format(value);
         } else {
-            df = (DecimalFormat) DecimalFormat.getInstance(locale);
+            s = FormatterCache.formatFixedPrecision(value, locale, useGrouping, precision);
         }
-        df.setGroupingUsed(useGrouping);
-        df.setMaximumFractionDigits(precision);
-        df.setMinimumFractionDigits(precision);
-
-        String s = df.format(value);
         return appendPercentage(s, percentage);
     }
 
@@ -144,9 +133,7 @@ public final class NumberUtils {
         if (value == null) {
             return null;
         }
-        NumberFormat format = NumberFormat.getInstance(locale);
-        format.setGroupingUsed(grouping);
-        String s = format.format(value);
+        String s = FormatterCache.getDecimalFormat(locale, null, null, grouping, 0).format(value);
         return appendPercentage(s, percentage);
     }
 
@@ -255,9 +242,7 @@ public final class NumberUtils {
             return null;
         }
 
-        NumberFormat format = NumberFormat.getInstance(locale);
-        format.setGroupingUsed(grouping);
-        String s = format.format(value);
+        String s = FormatterCache.getDecimalFormat(locale, null, null, grouping, 0).format(value);
         return appendPercentage(s, percentage);
     }
 
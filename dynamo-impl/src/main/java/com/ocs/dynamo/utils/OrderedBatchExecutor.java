@@ -0,0 +1,176 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.utils;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.ocs.dynamo.exception.OCSRuntimeException;
+
+/**
+ * Applies a function to a sequence of items in batches on a number of worker
+ * threads, while the calling thread supplies the items and consumes the results
+ * in the original order of the items. The number of batches that are being
+ * processed at the same time is bounded, so the memory use stays limited when
+ * the consumer cannot keep up.
+ * 
+ * The function is called from multiple threads and must therefore be
+ * thread-safe. When only a single thread is configured, every item is
+ * processed by the calling thread
+ * 
+ * @author bas.rutten
+ *
+ * @param <S> the type of the items
+ * @param <R> the type of the results
+ */
+public class OrderedBatchExecutor<S, R> {
+
+	/**
+	 * Consumes the result for an item
+	 *
+	 * @param <S> the type of the item
+	 * @param <R> the type of the result
+	 * @param <E> the type of the exception that the consumer can throw
+	 */
+	@FunctionalInterface
+	public interface ResultConsumer<S, R, E extends Exception> {
+
+		/**
+		 * Consumes the result
+		 * 
+		 * @param item   the item
+		 * @param result the result for the item
+		 * @throws E when the result cannot be consumed
+		 */
+		void accept(S item, R result) throws E;
+	}
+
+	private final String name;
+
+	private final int threads;
+
+	private final int batchSize;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param name      the name of the worker threads, e.g. "dynamo-export-format"
+	 * @param threads   the number of worker threads
+	 * @param batchSize the number of items that are processed together
+	 */
+	public OrderedBatchExecutor(String name, int threads, int batchSize) {
+		this.name = name;
+		this.threads = threads;
+		this.batchSize = Math.max(1, batchSize);
+	}
+
+	/**
+	 * Processes all items and consumes the results
+	 * 
+	 * @param source   supplies the items, returns <code>null</code> when there are
+	 *                 no more items
+	 * @param function the function that is applied to every item
+	 * @param consumer the consumer of the results
+	 * @throws E when a result cannot be consumed
+	 */
+	public <E extends Exception> void run(Supplier<S> source, Function<S, R> function,
+			ResultConsumer<S, R, E> consumer) throws E {
+		if (threads <= 1) {
+			S item = source.get();
+			while (item != null) {
+				consumer.accept(item, function.apply(item));
+				item = source.get();
+			}
+			return;
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new DaemonThreadFactory(name));
+
+		// allow every thread to work on one batch while the next ones are waiting
+		int maxInFlight = threads * 2;
+		Deque<Future<Batch<S, R>>> inFlight = new ArrayDeque<>(maxInFlight);
+		try {
+			List<S> batch = nextBatch(source);
+			while (!batch.isEmpty()) {
+				List<S> items = batch;
+				inFlight.add(executor.submit(() -> apply(items, function)));
+				if (inFlight.size() >= maxInFlight) {
+					consume(inFlight.poll(), consumer);
+				}
+				batch = nextBatch(source);
+			}
+
+			while (!inFlight.isEmpty()) {
+				consume(inFlight.poll(), consumer);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private List<S> nextBatch(Supplier<S> source) {
+		List<S> batch = new ArrayList<>(batchSize);
+		S item = source.get();
+		while (item != null) {
+			batch.add(item);
+			if (batch.size() == batchSize) {
+				break;
+			}
+			item = source.get();
+		}
+		return batch;
+	}
+
+	private Batch<S, R> apply(List<S> items, Function<S, R> function) {
+		List<R> results = new ArrayList<>(items.size());
+		for (S item : items) {
+			results.add(function.apply(item));
+		}
+		return new Batch<>(items, results);
+	}
+
+	private <E extends Exception> void consume(Future<Batch<S, R>> future, ResultConsumer<S, R, E> consumer)
+			throws E {
+		Batch<S, R> batch;
+		try {
+			batch = future.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new OCSRuntimeException("Interrupted while waiting for " + name, ex);
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException re) {
+				throw re;
+			}
+			throw new OCSRuntimeException(ex.getCause().getMessage(), ex.getCause());
+		}
+
+		for (int i = 0; i < batch.items().size(); i++) {
+			consumer.accept(batch.items().get(i), batch.results().get(i));
+		}
+	}
+
+	/**
+	 * A batch of items together with their results
+	 */
+	private record Batch<S, R>(List<S> items, List<R> results) {
+	}
+}
@@ -14,6 +14,8 @@
 package com.ocs.dynamo.dao.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -22,6 +24,7 @@ import org.junit.jupiter.api.Test;
 
 import com.ocs.dynamo.domain.TestEntity;
 import com.ocs.dynamo.domain.query.PagingDataSetIterator;
+import com.ocs.dynamo.domain.query.PrefetchingDataSetIterator;
 
 public class DataSetIteratorTest {
 
@@ -86,4 +89,46 @@ public class DataSetIteratorTest {
 		assertEquals(12, i);
 		assertEquals(3, pagesRead);
 	}
+
+	@Test
+	public void testPrefetching() {
+		try (PrefetchingDataSetIterator<Integer, TestEntity> prefetching = new PrefetchingDataSetIterator<>(ids2,
+				this::createPage, 5, 2)) {
+			assertEquals(12, prefetching.size());
+			for (int i = 1; i <= 12; i++) {
+				assertEquals(i, prefetching.next().getId());
+			}
+			assertNull(prefetching.next());
+			assertNull(prefetching.next());
+			assertEquals(3, pagesRead);
+		}
+	}
+
+	@Test
+	public void testPrefetchingFailure() {
+		try (PrefetchingDataSetIterator<Integer, TestEntity> prefetching = new PrefetchingDataSetIterator<>(ids2,
+				page -> {
+					if (page.contains(11)) {
+						throw new IllegalStateException("Fetch failed");
+					}
+					return createPage(page);
+				}, 5, 1)) {
+			// the pages that were fetched successfully are returned first
+			for (int i = 1; i <= 10; i++) {
+				assertEquals(i, prefetching.next().getId());
+			}
+			assertThrows(IllegalStateException.class, prefetching::next);
+		}
+	}
+
+	private List<TestEntity> createPage(List<Integer> page) {
+		List<TestEntity> result = new ArrayList<>();
+		for (Integer i : page) {
+			TestEntity entity = new TestEntity();
+			entity.setId(i);
+			result.add(entity);
+		}
+		pagesRead++;
+		return result;
+	}
 }
@@ -0,0 +1,118 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+
+import com.ocs.dynamo.domain.TestEntity;
+import com.ocs.dynamo.domain.TestEntity2;
+import com.ocs.dynamo.service.BaseService;
+
+public class BaseSpringServiceLocatorTest {
+
+	private GenericApplicationContext context;
+
+	private final BaseSpringServiceLocator locator = new BaseSpringServiceLocator() {
+		@Override
+		protected ApplicationContext loadCtx() {
+			return context;
+		}
+	};
+
+	private GenericApplicationContext createContext() {
+		TestEntityServiceImpl service = mock(TestEntityServiceImpl.class);
+		when(service.getEntityClass()).thenReturn(TestEntity.class);
+
+		GenericApplicationContext result = new GenericApplicationContext();
+		result.registerBean("testEntityService", TestEntityServiceImpl.class, () -> service);
+		result.registerBean("first", StringBuilder.class);
+		result.registerBean("second", StringBuilder.class);
+		result.registerBean("prototype", Object.class, Object::new,
+				bd -> bd.setScope(BeanDefinition.SCOPE_PROTOTYPE));
+		result.refresh();
+		return result;
+	}
+
+	@Test
+	public void testGetService() {
+		context = createContext();
+
+		StringBuilder builder = locator.getService(StringBuilder.class);
+		assertSame(context.getBean("first"), builder);
+		assertSame(builder, locator.getService(StringBuilder.class));
+		assertSame(context.getBean("second"), locator.getServiceByName("second", StringBuilder.class));
+		assertNull(locator.getServiceByName("third", StringBuilder.class));
+		assertNull(locator.getService(Integer.class));
+	}
+
+	@Test
+	public void testPrototypeBeansAreNotCached() {
+		context = createContext();
+		assertNotSame(locator.getServiceByName("prototype", Object.class),
+				locator.getServiceByName("prototype", Object.class));
+	}
+
+	@Test
+	public void testGetServiceForEntity() {
+		context = createContext();
+
+		assertSame(context.getBean("testEntityService"), locator.getServiceForEntity(TestEntity.class));
+		assertNull(locator.getServiceForEntity(TestEntity2.class));
+	}
+
+	@Test
+	public void testLookupsDuringRefreshAreNotCached() {
+		TestEntityServiceImpl service = mock(TestEntityServiceImpl.class);
+		when(service.getEntityClass()).thenReturn(TestEntity.class);
+
+		List<BaseService<?, ?>> duringRefresh = new ArrayList<>();
+		context = new GenericApplicationContext();
+		context.registerBean("testEntityService", TestEntityServiceImpl.class, () -> {
+			// e.g. a lookup from a PostConstruct method, while the service itself is
+			// still being created
+			duringRefresh.add(locator.getServiceForEntity(TestEntity.class));
+			return service;
+		});
+		context.refresh();
+
+		assertEquals(1, duringRefresh.size());
+		assertNull(duringRefresh.get(0));
+		assertSame(service, locator.getServiceForEntity(TestEntity.class));
+	}
+
+	@Test
+	public void testRegistryIsRebuiltForNewContext() {
+		context = createContext();
+		StringBuilder builder = locator.getService(StringBuilder.class);
+
+		context.close();
+		locator.ctx = null;
+		context = createContext();
+		assertNotSame(builder, locator.getService(StringBuilder.class));
+		assertSame(context.getBean("testEntityService"), locator.getServiceForEntity(TestEntity.class));
+	}
+}
@@ -163,6 +163,14 @@ public class ClassUtilsTest {
         assertFalse(ClassUtils.canSetProperty(entity2, "testEntity.phone"));
     }
 
+    @Test
+    public void testIsOverridden() {
+        assertFalse(ClassUtils.isOverridden(Base.class, Base.class, "name"));
+        assertTrue(ClassUtils.isOverridden(Child.class, Base.class, "name"));
+        assertTrue(ClassUtils.isOverridden(GrandChild.class, Base.class, "name"));
+        assertFalse(ClassUtils.isOverridden(Child.class, Base.class, "name", String.class));
+    }
+
     @Test
     public void testForClass() {
         Class<?> clazz = ClassUtils.forClass("com.ocs.dynamo.domain.TestEntity");
@@ -291,6 +299,26 @@ public class ClassUtilsTest {
         assertEquals(12L, ClassUtils.getFieldValue(entity2, "testEntity.age"));
     }
 
+    @Test
+    public void testGetFieldValueFunction() {
+        TestEntity entity = new TestEntity();
+        entity.setAge(12L);
+
+        TestEntity2 entity2 = new TestEntity2();
+        entity2.setTestEntity(entity);
+
+        assertEquals(12L, ClassUtils.getFieldValueFunction(TestEntity.class, "age").apply(entity));
+        assertEquals(12L, ClassUtils.getFieldValueFunction(TestEntity2.class, "testEntity.age").apply(entity2));
+
+        // null values along the way
+        entity2.setTestEntity(null);
+        assertNull(ClassUtils.getFieldValueFunction(TestEntity2.class, "testEntity.age").apply(entity2));
+
+        // unknown properties are only detected when retrieving the value
+        assertThrows(OCSRuntimeException.class,
+                () -> ClassUtils.getFieldValueFunction(TestEntity.class, "age2").apply(entity));
+    }
+
     @Test
     public void testGetGetterMethod() {
 
@@ -374,4 +402,22 @@ public class ClassUtilsTest {
 
         assertEquals(12L, entity.getAge().longValue());
     }
+
+    private static class Base {
+
+        protected String name() {
+            return "base";
+        }
+    }
+
+    private static class Child extends Base {
+
+        @Override
+        protected String name() {
+            return "child";
+        }
+    }
+
+    private static class GrandChild extends Child {
+    }
 }
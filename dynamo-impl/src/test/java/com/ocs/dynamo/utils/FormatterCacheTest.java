@@ -0,0 +1,77 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+public class FormatterCacheTest {
+
+	@Test
+	public void testDateTimeFormatterIsShared() {
+		assertSame(FormatterCache.getDateTimeFormatter("dd-MM-yyyy"), FormatterCache.getDateTimeFormatter("dd-MM-yyyy"));
+		assertNotSame(FormatterCache.getDateTimeFormatter("dd-MM-yyyy"),
+				FormatterCache.getDateTimeFormatter("dd-MM-yyyy", ZoneId.of("CET")));
+	}
+
+	@Test
+	public void testDecimalFormatIsCachedPerThread() throws Exception {
+		DecimalFormat format = FormatterCache.getDecimalFormat(Locale.US, null, null, true, 2);
+		assertSame(format, FormatterCache.getDecimalFormat(Locale.US, null, null, true, 2));
+		assertNotSame(format, FormatterCache.getDecimalFormat(Locale.US, null, null, false, 2));
+		assertNotSame(format, FormatterCache.getDecimalFormat(Locale.US, null, "$", true, 2));
+
+		DecimalFormat other = CompletableFuture
+				.supplyAsync(() -> FormatterCache.getDecimalFormat(Locale.US, null, null, true, 2)).get();
+		assertNotSame(format, other);
+	}
+
+	@Test
+	public void testFormatFixedPrecision() {
+		assertNull(FormatterCache.formatFixedPrecision(null, Locale.US, true, 2));
+		assertEquals("1,234.57", FormatterCache.formatFixedPrecision(1234.567, Locale.US, true, 2));
+		assertEquals("1234.57", FormatterCache.formatFixedPrecision(1234.567, Locale.US, false, 2));
+		assertEquals("1.234,57", FormatterCache.formatFixedPrecision(new BigDecimal("1234.567"), Locale.GERMANY, true, 2));
+		assertEquals("-0.05", FormatterCache.formatFixedPrecision(new BigDecimal("-0.05"), Locale.US, true, 2));
+		assertEquals("12", FormatterCache.formatFixedPrecision(12.4, Locale.US, true, 0));
+	}
+
+	@Test
+	public void testFormatFixedPrecisionMatchesDecimalFormat() {
+		Random random = new Random(42);
+		for (Locale locale : new Locale[] { Locale.US, Locale.GERMANY, Locale.FRANCE, new Locale("nl") }) {
+			for (int i = 0; i < 1000; i++) {
+				double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(10));
+				for (int precision = 0; precision <= 3; precision++) {
+					DecimalFormat format = (DecimalFormat) DecimalFormat.getInstance(locale);
+					format.setMinimumFractionDigits(precision);
+					format.setMaximumFractionDigits(precision);
+					assertEquals(format.format(value),
+							FormatterCache.formatFixedPrecision(value, locale, true, precision));
+				}
+			}
+		}
+	}
+}
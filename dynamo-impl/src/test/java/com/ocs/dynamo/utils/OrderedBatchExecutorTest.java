@@ -0,0 +1,88 @@
+package com.ocs.dynamo.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class OrderedBatchExecutorTest {
+
+	private final List<Integer> values = IntStream.range(0, 1000).boxed().toList();
+
+	@Test
+	public void testSequential() {
+		List<Integer> items = new ArrayList<>();
+		List<String> results = new ArrayList<>();
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+
+		new OrderedBatchExecutor<Integer, String>("test", 1, 10).run(source(), i -> {
+			threads.add(Thread.currentThread().getName());
+			return "item " + i;
+		}, (item, result) -> {
+			items.add(item);
+			results.add(result);
+		});
+
+		assertEquals(values, items);
+		assertEquals("item 999", results.get(999));
+		assertEquals(Set.of(Thread.currentThread().getName()), threads);
+	}
+
+	@Test
+	public void testParallelKeepsOrder() {
+		List<Integer> items = new ArrayList<>();
+		List<String> results = new ArrayList<>();
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+
+		new OrderedBatchExecutor<Integer, String>("test-worker", 4, 7).run(source(), i -> {
+			threads.add(Thread.currentThread().getName());
+			return "item " + i;
+		}, (item, result) -> {
+			items.add(item);
+			results.add(result);
+		});
+
+		assertEquals(values, items);
+		for (int i = 0; i < 1000; i++) {
+			assertEquals("item " + i, results.get(i));
+		}
+		assertTrue(threads.stream().allMatch(name -> name.startsWith("test-worker-")));
+	}
+
+	@Test
+	public void testParallelFailure() {
+		OrderedBatchExecutor<Integer, String> executor = new OrderedBatchExecutor<>("test", 4, 10);
+		assertThrows(IllegalArgumentException.class, () -> executor.run(source(), i -> {
+			if (i == 500) {
+				throw new IllegalArgumentException("Cannot process " + i);
+			}
+			return "item " + i;
+		}, (item, result) -> {
+		}));
+	}
+
+	@Test
+	public void testConsumerFailure() {
+		OrderedBatchExecutor<Integer, String> executor = new OrderedBatchExecutor<>("test", 4, 10);
+		assertThrows(IOException.class, () -> executor.run(source(), i -> "item " + i, (item, result) -> {
+			if (item == 500) {
+				throw new IOException("Cannot write " + result);
+			}
+		}));
+	}
+
+	private Supplier<Integer> source() {
+		Iterator<Integer> iterator = values.iterator();
+		return () -> iterator.hasNext() ? iterator.next() : null;
+	}
+}
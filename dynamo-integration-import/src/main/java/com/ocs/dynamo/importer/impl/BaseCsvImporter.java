@@ -13,12 +13,16 @@
  */
 package com.ocs.dynamo.importer.impl;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.List;
 
-import org.apache.commons.io.input.CharSequenceReader;
-
 import com.ocs.dynamo.exception.OCSImportException;
 import com.ocs.dynamo.util.SystemPropertyUtils;
 import com.opencsv.CSVParserBuilder;
@@ -27,7 +31,9 @@ import com.opencsv.CSVReaderBuilder;
 import com.opencsv.exceptions.CsvException;
 
 /**
- * Base class for importing CSV files
+ * Base class for importing CSV files. Large files can be read row by row using
+ * {@link #iterateCsvFile(InputStream, String, String)} instead of reading them
+ * into memory completely
  * 
  * @author bas.rutten
  */
@@ -38,8 +44,69 @@ public class BaseCsvImporter extends BaseTextImporter {
      */
     @Override
     public int countRows(byte[] bytes, int sheetIndex) {
-        List<String[]> lines = readCsvFile(bytes, SystemPropertyUtils.getCsvSeparator(), SystemPropertyUtils.getCsvQuoteChar());
-        return lines.size();
+        return countRows(new ByteArrayInputStream(bytes));
+    }
+
+    /**
+     * Counts the number of rows in a CSV file without keeping the rows in memory.
+     * The stream is closed afterwards
+     * 
+     * @param in the stream that contains the CSV file
+     * @return the number of rows
+     */
+    public int countRows(InputStream in) {
+        try (RowIterator<String[]> rows = iterateCsvFile(in, SystemPropertyUtils.getCsvSeparator(),
+                SystemPropertyUtils.getCsvQuoteChar())) {
+            int count = 0;
+            while (rows.hasNext()) {
+                rows.next();
+                count++;
+            }
+            return count;
+        }
+    }
+
+    private CSVReader createReader(Reader in, String separator, String quote) {
+        return new CSVReaderBuilder(in)
+                .withCSVParser(new CSVParserBuilder().withSeparator(separator.charAt(0)).withQuoteChar(quote.charAt(0)).build())
+                .build();
+    }
+
+    /**
+     * Opens a CSV file for reading it row by row
+     * 
+     * @param path      the path of the CSV file
+     * @param separator the record separator
+     * @param quote     the quote char
+     * @return the iterator over the rows, which must be closed after use
+     */
+    public RowIterator<String[]> iterateCsvFile(Path path, String separator, String quote) {
+        try {
+            return iterateCsvFile(Files.newInputStream(path), separator, quote);
+        } catch (IOException ex) {
+            throw new OCSImportException(ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Reads a CSV file row by row. The rows are parsed lazily, so only the current
+     * row is kept in memory
+     * 
+     * @param in        the stream that contains the CSV file (UTF-8)
+     * @param separator the record separator
+     * @param quote     the quote char
+     * @return the iterator over the rows, which must be closed after use (this
+     *         also closes the stream)
+     */
+    public RowIterator<String[]> iterateCsvFile(InputStream in, String separator, String quote) {
+        CSVReader reader = createReader(new InputStreamReader(in, StandardCharsets.UTF_8), separator, quote);
+        return new RowIterator<>(reader, () -> {
+            try {
+                return reader.readNext();
+            } catch (CsvException ex) {
+                throw new OCSImportException(ex.getMessage(), ex);
+            }
+        });
     }
 
     /**
@@ -51,10 +118,8 @@ public class BaseCsvImporter extends BaseTextImporter {
      * @return
      */
     protected List<String[]> readCsvFile(byte[] bytes, String separator, String quote) {
-        try (CharSequenceReader seq = new CharSequenceReader(new String(bytes, StandardCharsets.UTF_8));
-                CSVReader reader = new CSVReaderBuilder(seq)
-                        .withCSVParser(new CSVParserBuilder().withSeparator(separator.charAt(0)).withQuoteChar(quote.charAt(0)).build())
-                        .build()) {
+        try (CSVReader reader = createReader(new InputStreamReader(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8),
+                separator, quote)) {
             return reader.readAll();
         } catch (IOException | CsvException ex) {
             throw new OCSImportException(ex.getMessage(), ex);
@@ -16,17 +16,21 @@ package com.ocs.dynamo.importer.impl;
 import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
-import org.apache.commons.io.input.CharSequenceReader;
-
 import com.ocs.dynamo.exception.OCSImportException;
 
 /**
- * Base class for Importers that can be used to import fixed length files
+ * Base class for Importers that can be used to import fixed length files. Large
+ * files can be read line by line using
+ * {@link #iterateFixedLengthFile(InputStream, List)} instead of reading them
+ * into memory completely
  * 
  * @author bas.rutten
  */
@@ -42,7 +46,19 @@ public class BaseFixedLengthImporter extends BaseTextImporter {
 	 */
 	@Override
 	public int countRows(byte[] bytes, int sheetIndex) {
-		try (BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes)))) {
+		return countRows(new ByteArrayInputStream(bytes));
+	}
+
+	/**
+	 * Counts the number of lines in a file without keeping the lines in memory.
+	 * The stream is closed afterwards
+	 * 
+	 * @param in
+	 *            the stream that contains the file
+	 * @return the number of lines
+	 */
+	public int countRows(InputStream in) {
+		try (BufferedReader reader = createReader(in)) {
 			int count = 0;
 
 			String line = reader.readLine();
@@ -56,6 +72,10 @@ public class BaseFixedLengthImporter extends BaseTextImporter {
 		}
 	}
 
+	private BufferedReader createReader(InputStream in) {
+		return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+	}
+
 	/**
 	 * Parses the comma-separated list of field lengths
 	 * 
@@ -78,6 +98,42 @@ public class BaseFixedLengthImporter extends BaseTextImporter {
 		}
 	}
 
+	/**
+	 * Opens a fixed length file for reading it line by line
+	 * 
+	 * @param path
+	 *            the path of the file
+	 * @param fieldLengths
+	 *            the field lengths
+	 * @return the iterator over the rows, which must be closed after use
+	 */
+	public RowIterator<String[]> iterateFixedLengthFile(Path path, List<Integer> fieldLengths) {
+		try {
+			return iterateFixedLengthFile(Files.newInputStream(path), fieldLengths);
+		} catch (IOException ex) {
+			throw new OCSImportException(ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * Reads a fixed length file line by line. The lines are split lazily, so only
+	 * the current line is kept in memory
+	 * 
+	 * @param in
+	 *            the stream that contains the file (UTF-8)
+	 * @param fieldLengths
+	 *            the field lengths
+	 * @return the iterator over the rows, which must be closed after use (this
+	 *         also closes the stream)
+	 */
+	public RowIterator<String[]> iterateFixedLengthFile(InputStream in, List<Integer> fieldLengths) {
+		BufferedReader reader = createReader(in);
+		return new RowIterator<>(reader, () -> {
+			String line = reader.readLine();
+			return line == null ? null : splitLine(line, fieldLengths);
+		});
+	}
+
 	/**
 	 * Reads a byte array into a CSV file
 	 * 
@@ -86,35 +142,38 @@ public class BaseFixedLengthImporter extends BaseTextImporter {
 	 * @param fieldLengths
 	 *            the field lengths
 	 * @return
-	 * @throws IOException
 	 */
 	protected List<String[]> readFixedLengthFile(byte[] bytes, List<Integer> fieldLengths) {
-		try (BufferedReader reader = new BufferedReader(
-		        new CharSequenceReader(new String(bytes, StandardCharsets.UTF_8)))) {
+		try (RowIterator<String[]> rows = iterateFixedLengthFile(new ByteArrayInputStream(bytes), fieldLengths)) {
 			List<String[]> result = new ArrayList<>();
+			rows.forEachRemaining(result::add);
+			return result;
+		}
+	}
 
-			String line = reader.readLine();
-			while (line != null) {
-				List<String> temp = new ArrayList<>();
-				int start = 0;
-				for (Integer len : fieldLengths) {
-					if (start + len <= line.length()) {
-						// there is space
-						String field = line.substring(start, start + len);
-						temp.add(field.trim());
-					} else if (start <= line.length()) {
-						String field = line.substring(start, line.length());
-						temp.add(field.trim());
-					}
-					start += len;
-				}
-
-				result.add(temp.toArray(new String[0]));
-				line = reader.readLine();
+	/**
+	 * Splits a line into its fields
+	 * 
+	 * @param line
+	 *            the line
+	 * @param fieldLengths
+	 *            the field lengths
+	 * @return the trimmed field values
+	 */
+	private String[] splitLine(String line, List<Integer> fieldLengths) {
+		List<String> temp = new ArrayList<>();
+		int start = 0;
+		for (Integer len : fieldLengths) {
+			if (start + len <= line.length()) {
+				// there is space
+				String field = line.substring(start, start + len);
+				temp.add(field.trim());
+			} else if (start <= line.length()) {
+				String field = line.substring(start, line.length());
+				temp.add(field.trim());
 			}
-			return result;
-		} catch (IOException ex) {
-			throw new OCSImportException(ex.getMessage(), ex);
+			start += len;
 		}
+		return temp.toArray(new String[0]);
 	}
 }
@@ -22,13 +22,10 @@ import java.math.RoundingMode;
 import java.time.LocalDate;
 
 import org.apache.commons.lang3.StringUtils;
-import org.springframework.beans.BeanUtils;
 
 import com.ocs.dynamo.exception.OCSImportException;
 import com.ocs.dynamo.importer.ImportField;
 import com.ocs.dynamo.importer.dto.AbstractDTO;
-import com.ocs.dynamo.utils.ClassUtils;
-import com.ocs.dynamo.utils.NumberUtils;
 
 /**
  * Base class for smart upload functionality
@@ -80,66 +77,75 @@ public abstract class BaseImporter<R, U> {
 	 * @param field the field definition
 	 * @return
 	 */
-	@SuppressWarnings("unchecked")
 	protected Object getFieldValue(PropertyDescriptor d, U unit, ImportField field) {
-		Object obj = null;
-		if (String.class.equals(d.getPropertyType())) {
-			String value = getStringValueWithDefault(unit, field);
-			if (value != null) {
-				value = value.trim();
-			}
-			obj = StringUtils.isEmpty(value) ? null : value;
-		} else if (d.getPropertyType().isEnum()) {
+		return getFieldValue(ImportPlan.Column.of(d, field, null), unit);
+	}
+
+	/**
+	 * Retrieves a value from a unit of data, using the conversion that was
+	 * determined up front for the column
+	 * 
+	 * @param column the column
+	 * @param unit   the unit of data to process
+	 * @return
+	 */
+	Object getFieldValue(ImportPlan.Column column, U unit) {
+		ImportField field = column.field();
+		return switch (column.conversion()) {
+		case STRING -> {
 			String value = getStringValueWithDefault(unit, field);
 			if (value != null) {
 				value = value.trim();
-				try {
-					@SuppressWarnings("rawtypes")
-					Class<? extends Enum> enumType = d.getPropertyType().asSubclass(Enum.class);
-					obj = Enum.valueOf(enumType, value.toUpperCase());
-				} catch (IllegalArgumentException ex) {
-					throw new OCSImportException("Value " + value + " cannot be translated to an enumeration value",
-							ex);
-				}
 			}
-		} else if (isNumeric(d.getPropertyType())) {
-			// numeric field
-			Double value = getNumericValueWithDefault(unit, field);
-			if (value != null) {
+			yield StringUtils.isEmpty(value) ? null : value;
+		}
+		case ENUM -> getEnumValue(column, getStringValueWithDefault(unit, field));
+		case BOOLEAN -> getBooleanValueWithDefault(unit, field);
+		case DATE -> getDateValueWithDefault(unit, field);
+		case NONE -> null;
+		default -> getNumericValue(column, getNumericValueWithDefault(unit, field));
+		};
+	}
 
-				// if the field represents a percentage but it is
-				// received as a
-				// fraction, we multiply it by 100
-				if (field.percentage() && isPercentageCorrectionSupported()) {
-					value = PERCENTAGE_FACTOR * value;
-				}
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private Object getEnumValue(ImportPlan.Column column, String value) {
+		if (value == null) {
+			return null;
+		}
+		value = value.trim();
+		try {
+			Class<? extends Enum> enumType = column.descriptor().getPropertyType().asSubclass(Enum.class);
+			return Enum.valueOf(enumType, value.toUpperCase());
+		} catch (IllegalArgumentException ex) {
+			throw new OCSImportException("Value " + value + " cannot be translated to an enumeration value", ex);
+		}
+	}
 
-				// illegal negative value
-				if (field.cannotBeNegative() && value < 0.0) {
-					throw new OCSImportException("Negative value " + value + " found for field '" + d.getName() + "'");
-				}
+	private Object getNumericValue(ImportPlan.Column column, Double value) {
+		if (value == null) {
+			return null;
+		}
 
-				// round to the nearest integer, then use intValue() or longValue()
-				BigDecimal rounded = BigDecimal.valueOf(value).setScale(0, RoundingMode.HALF_UP);
-				Class<?> pType = d.getPropertyType();
-				if (NumberUtils.isInteger(pType)) {
-					obj = rounded.intValue();
-				} else if (NumberUtils.isLong(pType)) {
-					obj = rounded.longValue();
-				} else if (NumberUtils.isFloat(pType)) {
-					obj = valueOf(value.floatValue());
-				} else if (NumberUtils.isDouble(pType)) {
-					obj = value;
-				} else if (BigDecimal.class.equals(pType)) {
-					obj = BigDecimal.valueOf(value);
-				}
-			}
-		} else if (Boolean.class.isAssignableFrom(d.getPropertyType())) {
-			obj = getBooleanValueWithDefault(unit, field);
-		} else if (LocalDate.class.isAssignableFrom(d.getPropertyType())) {
-			obj = getDateValueWithDefault(unit, field);
+		// if the field represents a percentage but it is received as a fraction, we
+		// multiply it by 100
+		if (column.percentage() && isPercentageCorrectionSupported()) {
+			value = PERCENTAGE_FACTOR * value;
+		}
+
+		// illegal negative value
+		if (column.cannotBeNegative() && value < 0.0) {
+			throw new OCSImportException("Negative value " + value + " found for field '" + column.name() + "'");
 		}
-		return obj;
+
+		// round to the nearest integer, then use intValue() or longValue()
+		return switch (column.conversion()) {
+		case INTEGER -> BigDecimal.valueOf(value).setScale(0, RoundingMode.HALF_UP).intValue();
+		case LONG -> BigDecimal.valueOf(value).setScale(0, RoundingMode.HALF_UP).longValue();
+		case FLOAT -> valueOf(value.floatValue());
+		case DOUBLE -> value;
+		case BIG_DECIMAL -> BigDecimal.valueOf(value);
+		default -> null;
+		};
 	}
 
 	/**
@@ -171,17 +177,6 @@ public abstract class BaseImporter<R, U> {
 	 */
 	protected abstract U getUnit(R row, ImportField field);
 
-	/**
-	 * Check if the class is a numeric class
-	 * 
-	 * @param clazz the class to check
-	 * @return
-	 */
-	private boolean isNumeric(Class<?> clazz) {
-		return Number.class.isAssignableFrom(clazz) || int.class.equals(clazz) || long.class.equals(clazz)
-				|| double.class.equals(clazz) || float.class.equals(clazz);
-	}
-
 	/**
 	 * Indicates whether fraction values are automatically converted to percentages
 	 * 
@@ -199,7 +194,8 @@ public abstract class BaseImporter<R, U> {
 	protected abstract boolean isWithinRange(R row, ImportField field);
 
 	/**
-	 * Processes a single row from the input and turns it into an object
+	 * Processes a single row from the input and turns it into an object. The way
+	 * in which the row is mapped to the class is determined once per class
 	 * 
 	 * @param rowNum the row number
 	 * @param row    the row
@@ -207,27 +203,24 @@ public abstract class BaseImporter<R, U> {
 	 * @return
 	 */
 	public <T extends AbstractDTO> T processRow(int rowNum, R row, Class<T> clazz) {
-		T dto = ClassUtils.instantiateClass(clazz);
+		ImportPlan<T> plan = ImportPlan.forClass(clazz);
+		T dto = plan.newInstance();
 		dto.setRowNum(rowNum);
 
-		PropertyDescriptor[] descriptors = BeanUtils.getPropertyDescriptors(clazz);
-		for (PropertyDescriptor descriptor : descriptors) {
-			ImportField field = ClassUtils.getAnnotation(clazz, descriptor.getName(), ImportField.class);
-			if (field != null) {
-				if (isWithinRange(row, field)) {
-					U unit = getUnit(row, field);
-
-					Object obj = getFieldValue(descriptor, unit, field);
-					if (obj != null) {
-						ClassUtils.setFieldValue(dto, descriptor.getName(), obj);
-					} else if (field.required()) {
-						// a required value is missing!
-						throw new OCSImportException(
-								format("Required value for field '%s' is missing", descriptor.getName()));
-					}
-				} else {
-					throw new OCSImportException(format("Row %d doesn't have enough columns", rowNum));
+		for (ImportPlan.Column column : plan.getColumns()) {
+			ImportField field = column.field();
+			if (isWithinRange(row, field)) {
+				U unit = getUnit(row, field);
+
+				Object obj = getFieldValue(column, unit);
+				if (obj != null) {
+					column.setValue(dto, obj);
+				} else if (column.required()) {
+					// a required value is missing!
+					throw new OCSImportException(format("Required value for field '%s' is missing", column.name()));
 				}
+			} else {
+				throw new OCSImportException(format("Row %d doesn't have enough columns", rowNum));
 			}
 		}
 		return dto;
@@ -0,0 +1,189 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+
+import com.ocs.dynamo.exception.OCSImportException;
+import com.ocs.dynamo.importer.ImportField;
+import com.ocs.dynamo.importer.impl.FixedLengthRecord.Field;
+import com.ocs.dynamo.util.SystemPropertyUtils;
+
+/**
+ * Importer for (very) large fixed length files that works directly on a
+ * memory-mapped file instead of reading the file into Strings. Only the fields
+ * that are mapped to an {@link ImportField} are decoded, and plain decimal
+ * numbers are parsed without creating a String. The field lengths are
+ * expressed in bytes, so the file must use a single byte character set
+ * (ISO-8859-1 by default)
+ * 
+ * @author bas.rutten
+ */
+public class BaseMappedFixedLengthImporter extends BaseImporter<FixedLengthRecord, Field> {
+
+	private final List<Integer> fieldLengths;
+
+	private final Charset charset;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param fieldLengths
+	 *            the lengths (in bytes) of the fields
+	 */
+	public BaseMappedFixedLengthImporter(List<Integer> fieldLengths) {
+		this(fieldLengths, StandardCharsets.ISO_8859_1);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param fieldLengths
+	 *            the lengths (in bytes) of the fields
+	 * @param charset
+	 *            the single byte character set of the file
+	 */
+	public BaseMappedFixedLengthImporter(List<Integer> fieldLengths, Charset charset) {
+		this.fieldLengths = fieldLengths;
+		this.charset = charset;
+	}
+
+	/**
+	 * Counts the number of lines in the file
+	 * 
+	 * @param bytes
+	 *            the byte content of the file
+	 * @param sheetIndex
+	 *            the index of the sheet (ignored)
+	 */
+	@Override
+	public int countRows(byte[] bytes, int sheetIndex) {
+		int count = 0;
+		for (byte b : bytes) {
+			if (b == '\n') {
+				count++;
+			}
+		}
+		return bytes.length > 0 && bytes[bytes.length - 1] != '\n' ? count + 1 : count;
+	}
+
+	/**
+	 * Counts the number of records in a file
+	 * 
+	 * @param path
+	 *            the path of the file
+	 * @return the number of records
+	 */
+	public int countRows(Path path) {
+		try (RowIterator<FixedLengthRecord> records = iterateFile(path)) {
+			int count = 0;
+			while (records.hasNext()) {
+				records.next();
+				count++;
+			}
+			return count;
+		}
+	}
+
+	/**
+	 * Opens a file for reading it record by record. Note that the iterator returns
+	 * the same record instance every time, pointing to the next record in the file
+	 * 
+	 * @param path
+	 *            the path of the file
+	 * @return the iterator over the records, which must be closed after use
+	 */
+	public RowIterator<FixedLengthRecord> iterateFile(Path path) {
+		MappedFixedLengthFile file = new MappedFixedLengthFile(path, fieldLengths, charset);
+		return new RowIterator<>(file, file::next);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Boolean getBooleanValueWithDefault(Field unit, ImportField field) {
+		// like the text based importer, an empty value resolves to false
+		return unit.isTrue();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected LocalDate getDateValueWithDefault(Field unit, ImportField field) {
+		String value = unit.isEmpty() ? field.defaultValue() : unit.getValue();
+		if (StringUtils.isEmpty(value)) {
+			return null;
+		}
+		return LocalDate.parse(value, DateTimeFormatter.ofPattern(SystemPropertyUtils.getDefaultDateFormat()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Double getNumericValueWithDefault(Field unit, ImportField field) {
+		if (unit.isEmpty()) {
+			return StringUtils.isEmpty(field.defaultValue()) ? null : Double.valueOf(field.defaultValue());
+		}
+		try {
+			return unit.getDoubleValue();
+		} catch (NumberFormatException ex) {
+			throw new OCSImportException(unit.getValue() + " cannot be converted to a number");
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected String getStringValueWithDefault(Field unit, ImportField field) {
+		if (unit.isEmpty()) {
+			return StringUtils.isEmpty(field.defaultValue()) ? null : field.defaultValue();
+		}
+		return unit.getValue();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected Field getUnit(FixedLengthRecord row, ImportField field) {
+		return row.getField(field.index());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean isPercentageCorrectionSupported() {
+		return false;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	protected boolean isWithinRange(FixedLengthRecord row, ImportField field) {
+		return field.index() < row.getFieldCount();
+	}
+}
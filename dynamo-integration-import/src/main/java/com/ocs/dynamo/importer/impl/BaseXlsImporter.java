@@ -19,20 +19,20 @@ import com.ocs.dynamo.exception.OCSRuntimeException;
 import com.ocs.dynamo.importer.ImportField;
 import com.ocs.dynamo.importer.dto.AbstractDTO;
 import com.ocs.dynamo.util.SystemPropertyUtils;
-import com.ocs.dynamo.utils.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.poifs.filesystem.OfficeXmlFileException;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
-import org.springframework.beans.BeanUtils;
 
-import java.beans.PropertyDescriptor;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 import static java.lang.String.format;
 
@@ -123,6 +123,34 @@ public class BaseXlsImporter extends BaseImporter<Row, Cell> {
 		return workbook;
 	}
 
+	/**
+	 * Creates a workbook for reading the rows of a file in order. XLSX files are
+	 * read using streaming so that only a limited number of rows is kept in
+	 * memory, old XLS files are read completely using {@link #createWorkbook}
+	 * 
+	 * @param bytes the byte content of the file
+	 * @return the workbook
+	 */
+	public Workbook createSequentialWorkbook(byte[] bytes) {
+		if (isStreamed(bytes)) {
+			return createReader(bytes, CACHE_SIZE);
+		}
+		return createWorkbook(bytes);
+	}
+
+	/**
+	 * Checks whether {@link #createSequentialWorkbook(byte[])} reads a file using
+	 * streaming. The cells of a streamed workbook resolve some of their values
+	 * (e.g. shared strings) lazily using the state of the reader, so they must
+	 * only be read by the thread that reads the rows
+	 * 
+	 * @param bytes the byte content of the file
+	 * @return true if this is the case, false otherwise
+	 */
+	public boolean isStreamed(byte[] bytes) {
+		return FileMagic.valueOf(bytes) == FileMagic.OOXML;
+	}
+
 	/**
 	 * Extracts a Boolean value from a cell
 	 * 
@@ -337,39 +365,68 @@ public class BaseXlsImporter extends BaseImporter<Row, Cell> {
 	 * @return the resulting DTO
 	 */
 	public <T extends AbstractDTO> T processRows(Sheet sheet, int firstRowIndex, int colIndex, Class<T> clazz) {
-		T dto = ClassUtils.instantiateClass(clazz);
+		int lastRowIndex = Math.min(sheet.getLastRowNum(), firstRowIndex + getRowsPerRecord(clazz) - 1);
+		List<Row> rows = new ArrayList<>();
+		for (int i = firstRowIndex; i <= lastRowIndex; i++) {
+			rows.add(sheet.getRow(i));
+		}
+		return processRows(rows, firstRowIndex, colIndex, clazz);
+	}
+
+	/**
+	 * Processes a number of consecutive rows and translates them into a DTO. This
+	 * does not require random access to the sheet, so the rows can come from a
+	 * streaming reader
+	 * 
+	 * @param rows          the rows, starting at the first row of the record. Rows
+	 *                      that are missing from the sheet are <code>null</code>,
+	 *                      and the list ends early at the end of the sheet
+	 * @param firstRowIndex the index of the first row in the sheet
+	 * @param colIndex      the index of the column that contains the values
+	 * @param clazz         the class
+	 * @return the resulting DTO
+	 */
+	public <T extends AbstractDTO> T processRows(List<Row> rows, int firstRowIndex, int colIndex, Class<T> clazz) {
+		ImportPlan<T> plan = ImportPlan.forClass(clazz);
+		T dto = plan.newInstance();
 
 		Object firstCellValue = null;
 		try {
-			firstCellValue = sheet.getRow(firstRowIndex).getCell(colIndex).getStringCellValue();
+			firstCellValue = rows.get(0).getCell(colIndex).getStringCellValue();
 		} catch (Exception ex) {
 			// do nothing - not a String value
 		}
 
 		if (firstCellValue != null && !"".equals(firstCellValue.toString())) {
-			PropertyDescriptor[] descriptors = BeanUtils.getPropertyDescriptors(clazz);
-			for (PropertyDescriptor d : descriptors) {
-				ImportField field = ClassUtils.getAnnotation(clazz, d.getName(), ImportField.class);
-				if (field != null) {
-					int rowNum = firstRowIndex + field.index();
-					if (rowNum <= sheet.getLastRowNum()) {
-						Row row = sheet.getRow(rowNum);
-						Cell unit = row.getCell(colIndex);
-						Object obj = getFieldValue(d, unit, field);
-						if (obj != null) {
-							ClassUtils.setFieldValue(dto, d.getName(), obj);
-						} else if (field.required()) {
-							// a required value is missing!
-							throw new OCSImportException(
-									format("Required value for field '%s' is missing", d.getName()));
-						}
-					} else {
-						throw new OCSImportException(
-								format("Input doesn't have enough rows: row %d does not exist", rowNum));
+			for (ImportPlan.Column column : plan.getColumns()) {
+				ImportField field = column.field();
+				if (field.index() < rows.size()) {
+					Row row = rows.get(field.index());
+					Cell unit = row == null ? null : row.getCell(colIndex);
+					Object obj = getFieldValue(column, unit);
+					if (obj != null) {
+						column.setValue(dto, obj);
+					} else if (column.required()) {
+						// a required value is missing!
+						throw new OCSImportException(format("Required value for field '%s' is missing", column.name()));
 					}
+				} else {
+					throw new OCSImportException(format("Input doesn't have enough rows: row %d does not exist",
+							firstRowIndex + field.index()));
 				}
 			}
 		}
 		return dto;
 	}
+
+	/**
+	 * Returns the number of rows that is read by {@link #processRows} for a
+	 * single DTO
+	 * 
+	 * @param clazz the class of the DTO
+	 * @return the number of rows
+	 */
+	public int getRowsPerRecord(Class<? extends AbstractDTO> clazz) {
+		return ImportPlan.forClass(clazz).getWidth();
+	}
 }
@@ -0,0 +1,357 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.importer.dto.AbstractDTO;
+import com.ocs.dynamo.importer.impl.ImportCheckpointStore.Checkpoint;
+import com.ocs.dynamo.service.BaseService;
+import com.ocs.dynamo.util.ProgressCounter;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists the results of an import in chunks. Every time the configured number
+ * of results has been collected they are mapped to entities and saved in a new
+ * transaction, after which the persistence context is flushed and cleared so
+ * that its size does not grow with the size of the import. Call
+ * {@link #close()} after the import to save the last chunk.
+ *
+ * A chunk preparer can be used to do work for all results of a chunk at once
+ * before they are mapped, e.g. to look up the referenced entities using a
+ * single query instead of one query per result.
+ *
+ * Since the sink is a {@link Consumer} it can be passed directly to e.g.
+ * {@link com.ocs.dynamo.importer.template.TextImportTemplate#execute(Consumer)}.
+ * To have the inserts of a chunk sent to the database in JDBC batches, set the
+ * "spring.jpa.properties.hibernate.jdbc.batch_size" (and
+ * "spring.jpa.properties.hibernate.order_inserts") properties of the
+ * application, preferably to (a divisor of) the chunk size.
+ *
+ * An import can be made resumable by calling
+ * {@link #resume(ImportCheckpointStore, String, String)} before it starts. A
+ * checkpoint is then saved for every chunk, and when the same file is imported
+ * again after a failure, the import templates skip the rows of the chunks that
+ * were already committed without converting or validating them (see
+ * {@link ResumableConsumer}). When the results are not produced by a template,
+ * the results of the committed chunks are received again and dropped without
+ * being mapped or saved. This relies on the results being produced in the order
+ * of the rows, which the templates always do. Note that the skipped rows are
+ * not checked for duplicates. Call {@link #complete()} instead of
+ * {@link #close()} once the import has succeeded to remove the checkpoint
+ *
+ * @author bas.rutten
+ *
+ * @param <D>  the type of the imported objects
+ * @param <ID> the type of the primary key of the entity
+ * @param <T>  the type of the entity
+ */
+@Slf4j
+public class ChunkedImportSink<D, ID extends Serializable, T extends AbstractEntity<ID>>
+		implements ResumableConsumer<D>, AutoCloseable {
+
+	/**
+	 * What to do when a chunk cannot be saved
+	 */
+	public enum FailurePolicy {
+
+		/**
+		 * Abort the import. The chunks that were saved before remain saved
+		 */
+		FAIL,
+
+		/**
+		 * Skip the chunk, record an error and continue with the next chunk
+		 */
+		SKIP
+	}
+
+	private final BaseService<ID, T> service;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final Function<D, T> mapper;
+
+	private final int chunkSize;
+
+	private final List<D> chunk;
+
+	/**
+	 * The (1-based) position of the first object of the current chunk
+	 */
+	private int chunkStart = 1;
+
+	/**
+	 * The number of objects that have been received
+	 */
+	private int received;
+
+	@Getter
+	private int persisted;
+
+	@Getter
+	private int skipped;
+
+	/**
+	 * The number of objects that were skipped because they had already been
+	 * committed by a previous run
+	 */
+	@Getter
+	private int resumed;
+
+	/**
+	 * The index of the first row of the file after the committed chunks
+	 */
+	@Getter
+	private int resumeRow;
+
+	/**
+	 * The index of the first row of the file after the rows of the last received
+	 * object
+	 */
+	private int nextRow;
+
+	private ImportCheckpointStore checkpointStore;
+
+	private String importName;
+
+	private String fileHash;
+
+	/**
+	 * Counter that is incremented by the number of imported objects after every
+	 * chunk that was saved
+	 */
+	@Setter
+	private ProgressCounter progressCounter;
+
+	@Setter
+	private FailurePolicy failurePolicy = FailurePolicy.FAIL;
+
+	/**
+	 * Called with the results of every chunk before they are mapped
+	 */
+	@Setter
+	private Consumer<List<D>> chunkPreparer;
+
+	/**
+	 * The errors of the skipped chunks
+	 */
+	@Getter
+	private final List<String> errors = new ArrayList<>();
+
+	/**
+	 * Constructor
+	 *
+	 * @param service            the service used to save the entities
+	 * @param transactionManager the transaction manager
+	 * @param mapper             maps an imported object to the entity to save.
+	 *                           When it returns <code>null</code> the object is
+	 *                           ignored
+	 * @param chunkSize          the number of imported objects to save per
+	 *                           transaction
+	 */
+	public ChunkedImportSink(BaseService<ID, T> service, PlatformTransactionManager transactionManager,
+			Function<D, T> mapper, int chunkSize) {
+		if (chunkSize < 1) {
+			throw new OCSRuntimeException("The chunk size must be at least 1");
+		}
+		this.service = service;
+		this.mapper = mapper;
+		this.chunkSize = chunkSize;
+		this.chunk = new ArrayList<>(chunkSize);
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	/**
+	 * Enables checkpointing and skips the objects that were committed by a
+	 * previous run of the import of the same file
+	 *
+	 * @param checkpointStore the store in which to keep the checkpoints
+	 * @param importName      the name that identifies the import
+	 * @param fileHash        the hash of the imported file (see
+	 *                        {@link ImportCheckpointStore#hash(byte[])})
+	 */
+	public void resume(ImportCheckpointStore checkpointStore, String importName, String fileHash) {
+		if (received > 0) {
+			throw new OCSRuntimeException("An import can only be resumed before it starts");
+		}
+		this.checkpointStore = checkpointStore;
+		this.importName = importName;
+		this.fileHash = fileHash;
+		Checkpoint checkpoint = checkpointStore.load(importName, fileHash);
+		this.resumed = checkpoint.committed();
+		this.resumeRow = checkpoint.nextRow();
+		this.nextRow = resumeRow;
+		this.chunkStart = resumed + 1;
+		if (resumed > 0) {
+			log.info("Resuming import {} after {} committed rows", importName, resumed);
+		}
+	}
+
+	/**
+	 * Skips the results of the committed chunks, after the template has skipped
+	 * the rows that they were created from
+	 */
+	@Override
+	public void resumed() {
+		if (received == 0 && resumeRow > 0) {
+			skipResumed();
+		}
+	}
+
+	@Override
+	public void accept(D dto, int nextRow) {
+		this.nextRow = nextRow;
+		accept(dto);
+	}
+
+	/**
+	 * Accepts an object. When the import is resumed and the rows of the committed
+	 * chunks were not skipped by a template, the objects of those chunks are
+	 * dropped here
+	 */
+	@Override
+	public void accept(D dto) {
+		if (received < resumed) {
+			if (++received == resumed) {
+				skipResumed();
+			}
+			return;
+		}
+		received++;
+		chunk.add(dto);
+		if (chunk.size() >= chunkSize) {
+			flush();
+		}
+	}
+
+	private void skipResumed() {
+		received = resumed;
+		if (progressCounter != null) {
+			progressCounter.incrementBy(resumed);
+		}
+	}
+
+	/**
+	 * Saves the last chunk
+	 */
+	@Override
+	public void close() {
+		flush();
+	}
+
+	/**
+	 * Saves the last chunk and removes the checkpoint, so that a next import of
+	 * the same file starts from the beginning again. Only call this when the
+	 * import has succeeded
+	 */
+	public void complete() {
+		flush();
+		if (checkpointStore != null) {
+			checkpointStore.clear(importName);
+		}
+	}
+
+	/**
+	 * Saves the current chunk in a new transaction
+	 */
+	public void flush() {
+		if (!chunk.isEmpty()) {
+			int size = chunk.size();
+			List<T> entities = new ArrayList<>(size);
+			try {
+				if (chunkPreparer != null) {
+					chunkPreparer.accept(chunk);
+				}
+				for (D dto : chunk) {
+					T entity = mapper.apply(dto);
+					if (entity != null) {
+						entities.add(entity);
+					}
+				}
+				boolean transactional = checkpointStore != null && checkpointStore.isTransactional();
+				transactionTemplate.executeWithoutResult(status -> {
+					service.save(entities);
+					service.flushAndClear();
+					if (transactional) {
+						checkpointStore.save(importName, fileHash, createCheckpoint());
+					}
+				});
+				if (checkpointStore != null && !transactional) {
+					checkpointStore.save(importName, fileHash, createCheckpoint());
+				}
+				persisted += entities.size();
+				if (progressCounter != null) {
+					progressCounter.incrementBy(size);
+				}
+			} catch (RuntimeException ex) {
+				if (failurePolicy == FailurePolicy.FAIL) {
+					throw ex;
+				}
+				log.warn(ex.getMessage(), ex);
+				skipped += size;
+				errors.add(describeChunk() + ": " + ex.getMessage());
+				saveSkippedCheckpoint();
+			} finally {
+				chunk.clear();
+			}
+		}
+		chunkStart = received + 1;
+	}
+
+	/**
+	 * Describes the current chunk for an error message. When the imported objects
+	 * are DTOs, the row numbers in the imported file are used, otherwise the
+	 * (1-based) positions of the objects in the import
+	 */
+	private String describeChunk() {
+		if (chunk.get(0) instanceof AbstractDTO first && chunk.get(chunk.size() - 1) instanceof AbstractDTO last) {
+			return String.format("Rows %d-%d", first.getRowNum(), last.getRowNum());
+		}
+		return String.format("Records %d-%d", chunkStart, received);
+	}
+
+	private Checkpoint createCheckpoint() {
+		return new Checkpoint(received, nextRow);
+	}
+
+	/**
+	 * Saves a checkpoint after a chunk that was skipped, so that a next run does
+	 * not try to save it again
+	 */
+	private void saveSkippedCheckpoint() {
+		if (checkpointStore == null) {
+			return;
+		}
+		if (checkpointStore.isTransactional()) {
+			transactionTemplate.executeWithoutResult(status -> checkpointStore.save(importName, fileHash, createCheckpoint()));
+		} else {
+			checkpointStore.save(importName, fileHash, createCheckpoint());
+		}
+	}
+}
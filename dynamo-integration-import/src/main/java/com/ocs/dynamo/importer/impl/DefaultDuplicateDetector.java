@@ -0,0 +1,82 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The default {@link DuplicateDetector}, which chooses the way in which a key
+ * is stored based on its type
+ *
+ * @author bas.rutten
+ *
+ * @param <ID> the type of the keys
+ */
+final class DefaultDuplicateDetector<ID> implements DuplicateDetector<ID> {
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * Whether to write the characters of string keys to disk
+	 */
+	private final boolean spill;
+
+	private LongKeySet longs;
+
+	private StringKeySet strings;
+
+	private Set<Object> others;
+
+	private boolean containsNull;
+
+	DefaultDuplicateDetector(boolean spill) {
+		this.spill = spill;
+	}
+
+	@Override
+	public boolean add(ID key) {
+		if (key == null) {
+			boolean added = !containsNull;
+			containsNull = true;
+			return added;
+		}
+
+		if (key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte) {
+			if (longs == null) {
+				longs = new LongKeySet(INITIAL_CAPACITY);
+			}
+			return longs.add(((Number) key).longValue());
+		}
+
+		if (key instanceof CharSequence sequence) {
+			if (strings == null) {
+				strings = new StringKeySet(INITIAL_CAPACITY, spill);
+			}
+			return strings.add(sequence);
+		}
+
+		if (others == null) {
+			others = new HashSet<>();
+		}
+		return others.add(key);
+	}
+
+	@Override
+	public void close() {
+		if (strings != null) {
+			strings.close();
+		}
+	}
+}
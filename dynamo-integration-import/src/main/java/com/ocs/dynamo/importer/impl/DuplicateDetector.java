@@ -0,0 +1,68 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+/**
+ * Keeps track of the keys of the rows that have been imported, in order to
+ * detect duplicate rows. String keys are compared case-insensitively
+ *
+ * @author bas.rutten
+ *
+ * @param <ID> the type of the keys
+ */
+public interface DuplicateDetector<ID> extends AutoCloseable {
+
+	/**
+	 * Registers a key
+	 *
+	 * @param key the key, may be <code>null</code>
+	 * @return <code>true</code> if the key was not registered before,
+	 *         <code>false</code> if it is a duplicate
+	 */
+	boolean add(ID key);
+
+	/**
+	 * Releases the resources that are held by the detector
+	 */
+	@Override
+	default void close() {
+		// nothing by default
+	}
+
+	/**
+	 * Creates the default detector. Integral keys are stored in a primitive
+	 * <code>long</code> set, string keys as 128-bit hashes (together with the
+	 * case-folded characters that are used to verify a match) and other keys in a
+	 * hash set
+	 *
+	 * @param <ID> the type of the keys
+	 * @return the detector
+	 */
+	static <ID> DuplicateDetector<ID> create() {
+		return new DefaultDuplicateDetector<>(false);
+	}
+
+	/**
+	 * Creates a detector that works like the default one, but writes the
+	 * characters of string keys to a temporary file instead of keeping them on the
+	 * heap. The file is only read when the hash of a key matches that of a
+	 * previous key, and is deleted when the detector is closed
+	 *
+	 * @param <ID> the type of the keys
+	 * @return the detector
+	 */
+	static <ID> DuplicateDetector<ID> createSpilling() {
+		return new DefaultDuplicateDetector<>(true);
+	}
+}
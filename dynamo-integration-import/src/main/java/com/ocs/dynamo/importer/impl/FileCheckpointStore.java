@@ -0,0 +1,106 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+import com.ocs.dynamo.exception.OCSRuntimeException;
+
+/**
+ * {@link ImportCheckpointStore} that keeps every checkpoint in a small
+ * properties file in a directory. A checkpoint is written to a temporary file
+ * first, which then replaces the previous one, so that a crash never leaves a
+ * partially written checkpoint behind. Mainly intended for tests and for
+ * imports that do not run against a database
+ *
+ * @author bas.rutten
+ */
+public class FileCheckpointStore implements ImportCheckpointStore {
+
+	private static final String HASH = "hash";
+
+	private static final String COMMITTED = "committed";
+
+	private static final String NEXT_ROW = "next.row";
+
+	private final Path directory;
+
+	/**
+	 * Constructor
+	 *
+	 * @param directory the directory in which to store the checkpoints
+	 */
+	public FileCheckpointStore(Path directory) {
+		this.directory = directory;
+	}
+
+	@Override
+	public Checkpoint load(String importName, String fileHash) {
+		Path file = getFile(importName);
+		if (!Files.exists(file)) {
+			return Checkpoint.NONE;
+		}
+
+		Properties properties = new Properties();
+		try (InputStream in = Files.newInputStream(file)) {
+			properties.load(in);
+		} catch (IOException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+		if (!fileHash.equals(properties.getProperty(HASH))) {
+			return Checkpoint.NONE;
+		}
+		return new Checkpoint(Integer.parseInt(properties.getProperty(COMMITTED, "0")),
+				Integer.parseInt(properties.getProperty(NEXT_ROW, "0")));
+	}
+
+	@Override
+	public void save(String importName, String fileHash, Checkpoint checkpoint) {
+		Properties properties = new Properties();
+		properties.setProperty(HASH, fileHash);
+		properties.setProperty(COMMITTED, Integer.toString(checkpoint.committed()));
+		properties.setProperty(NEXT_ROW, Integer.toString(checkpoint.nextRow()));
+
+		Path file = getFile(importName);
+		try {
+			Files.createDirectories(directory);
+			Path temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+			try (OutputStream out = Files.newOutputStream(temp)) {
+				properties.store(out, importName);
+			}
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+	}
+
+	@Override
+	public void clear(String importName) {
+		try {
+			Files.deleteIfExists(getFile(importName));
+		} catch (IOException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+	}
+
+	private Path getFile(String importName) {
+		return directory.resolve(importName.replaceAll("[^A-Za-z0-9._-]", "_") + ".checkpoint");
+	}
+}
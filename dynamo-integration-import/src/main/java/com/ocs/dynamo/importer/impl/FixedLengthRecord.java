@@ -0,0 +1,254 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * A single record of a fixed length file that is backed by the bytes of the
+ * (memory-mapped) file. The boundaries of the fields are computed once from the
+ * field lengths, and the value of a field is only decoded when it is requested.
+ * A single instance is reused for all records of a file, so a record (and its
+ * fields) must not be kept after moving on to the next record
+ * 
+ * @author bas.rutten
+ */
+public class FixedLengthRecord {
+
+	/**
+	 * The largest mantissa that can be converted to a double without loss of
+	 * precision
+	 */
+	private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+	/**
+	 * Powers of ten that can be represented exactly as a double
+	 */
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+			1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	private final int[] fieldStarts;
+
+	private final int[] fieldLengths;
+
+	private final Field[] fields;
+
+	private final Charset charset;
+
+	private ByteBuffer buffer;
+
+	private int start;
+
+	private int end;
+
+	private int fieldCount;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param fieldLengths the lengths (in bytes) of the fields
+	 * @param charset      the character set used to decode the values
+	 */
+	public FixedLengthRecord(List<Integer> fieldLengths, Charset charset) {
+		this.charset = charset;
+		this.fieldStarts = new int[fieldLengths.size()];
+		this.fieldLengths = new int[fieldLengths.size()];
+		this.fields = new Field[fieldLengths.size()];
+
+		int offset = 0;
+		for (int i = 0; i < fields.length; i++) {
+			fieldStarts[i] = offset;
+			this.fieldLengths[i] = fieldLengths.get(i);
+			fields[i] = new Field(i);
+			offset += fieldLengths.get(i);
+		}
+	}
+
+	/**
+	 * Points the record to a new range of bytes
+	 * 
+	 * @param buffer the buffer that contains the record
+	 * @param start  the index of the first byte of the record
+	 * @param end    the index after the last byte of the record (excluding the
+	 *               line separator)
+	 */
+	void set(ByteBuffer buffer, int start, int end) {
+		this.buffer = buffer;
+		this.start = start;
+		this.end = end;
+
+		// like the text based importer, a field that starts at the end of a short
+		// record is still present (and empty)
+		int count = 0;
+		while (count < fieldStarts.length && fieldStarts[count] <= end - start) {
+			count++;
+		}
+		this.fieldCount = count;
+	}
+
+	/**
+	 * @return the number of fields that are (partly) present in the record
+	 */
+	public int getFieldCount() {
+		return fieldCount;
+	}
+
+	/**
+	 * Returns a field of the record
+	 * 
+	 * @param index the index of the field
+	 * @return the field
+	 */
+	public Field getField(int index) {
+		return fields[index];
+	}
+
+	/**
+	 * @return the length of the record in bytes
+	 */
+	public int length() {
+		return end - start;
+	}
+
+	@Override
+	public String toString() {
+		return decode(start, end);
+	}
+
+	private String decode(int from, int to) {
+		byte[] bytes = new byte[to - from];
+		buffer.get(from, bytes);
+		return new String(bytes, charset);
+	}
+
+	/**
+	 * A single field of a record. The value is trimmed, just like with the text
+	 * based fixed length importer
+	 */
+	public class Field {
+
+		private final int index;
+
+		Field(int index) {
+			this.index = index;
+		}
+
+		private int from() {
+			int from = Math.min(start + fieldStarts[index], end);
+			int to = to();
+			while (from < to && (buffer.get(from) & 0xFF) <= ' ') {
+				from++;
+			}
+			return from;
+		}
+
+		private int to() {
+			int from = Math.min(start + fieldStarts[index], end);
+			int to = Math.min(from + fieldLengths[index], end);
+			while (to > from && (buffer.get(to - 1) & 0xFF) <= ' ') {
+				to--;
+			}
+			return to;
+		}
+
+		/**
+		 * @return whether the (trimmed) field is empty
+		 */
+		public boolean isEmpty() {
+			return from() >= to();
+		}
+
+		/**
+		 * @return the trimmed value of the field
+		 */
+		public String getValue() {
+			return decode(from(), to());
+		}
+
+		/**
+		 * Checks whether the field contains "true", ignoring case, without decoding
+		 * the value
+		 * 
+		 * @return true if this is the case, false otherwise
+		 */
+		public boolean isTrue() {
+			int from = from();
+			if (to() - from != 4) {
+				return false;
+			}
+			String expected = "true";
+			for (int i = 0; i < 4; i++) {
+				if (Character.toLowerCase(buffer.get(from + i)) != expected.charAt(i)) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Parses the field as a number. Plain decimal numbers (an optional sign,
+		 * digits and an optional fraction) are parsed directly from the bytes, any
+		 * other notation is parsed using {@link Double#valueOf(String)}
+		 * 
+		 * @return the numeric value, or <code>null</code> if the field is empty
+		 * @throws NumberFormatException when the value is not a number
+		 */
+		public Double getDoubleValue() {
+			int from = from();
+			int to = to();
+			if (from >= to) {
+				return null;
+			}
+
+			int pos = from;
+			boolean negative = false;
+			byte first = buffer.get(pos);
+			if (first == '-' || first == '+') {
+				negative = first == '-';
+				pos++;
+			}
+
+			long mantissa = 0;
+			int digits = 0;
+			int scale = -1;
+			for (; pos < to; pos++) {
+				byte b = buffer.get(pos);
+				if (b >= '0' && b <= '9') {
+					mantissa = mantissa * 10 + (b - '0');
+					digits++;
+					if (mantissa >= MAX_EXACT_MANTISSA) {
+						return Double.valueOf(getValue());
+					}
+				} else if (b == '.' && scale < 0) {
+					scale = 0;
+					continue;
+				} else {
+					return Double.valueOf(getValue());
+				}
+				if (scale >= 0) {
+					scale++;
+				}
+			}
+
+			if (digits == 0 || scale >= POWERS_OF_TEN.length) {
+				return Double.valueOf(getValue());
+			}
+			// both values are exact, so the division is correctly rounded
+			double value = scale > 0 ? mantissa / POWERS_OF_TEN[scale] : mantissa;
+			return negative ? -value : value;
+		}
+	}
+}
@@ -0,0 +1,129 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import com.ocs.dynamo.exception.OCSRuntimeException;
+
+/**
+ * Stores the progress of imports, so that an import that failed halfway can be
+ * resumed after the last chunk that was committed (see
+ * {@link ChunkedImportSink#resume(ImportCheckpointStore, String, String)}). A
+ * checkpoint consists of the number of committed results, the position in the
+ * file after the last committed result and the hash of the imported file. It
+ * is only used when the same file is imported again
+ *
+ * @author bas.rutten
+ */
+public interface ImportCheckpointStore {
+
+	/**
+	 * The progress of an import
+	 *
+	 * @param committed the number of committed results
+	 * @param nextRow   the index of the first row of the file after the rows of
+	 *                  the last committed result, 0 when unknown
+	 */
+	record Checkpoint(int committed, int nextRow) {
+
+		/**
+		 * The checkpoint of an import that has not committed anything yet
+		 */
+		public static final Checkpoint NONE = new Checkpoint(0, 0);
+	}
+
+	/**
+	 * Returns the progress of a previous run of an import
+	 *
+	 * @param importName the name of the import
+	 * @param fileHash   the hash of the file that is imported
+	 * @return the checkpoint, or {@link Checkpoint#NONE} when there is no
+	 *         checkpoint for the import or when it belongs to a different file
+	 */
+	Checkpoint load(String importName, String fileHash);
+
+	/**
+	 * Saves a checkpoint
+	 *
+	 * @param importName the name of the import
+	 * @param fileHash   the hash of the file that is imported
+	 * @param checkpoint the checkpoint
+	 */
+	void save(String importName, String fileHash, Checkpoint checkpoint);
+
+	/**
+	 * Removes the checkpoint of an import
+	 *
+	 * @param importName the name of the import
+	 */
+	void clear(String importName);
+
+	/**
+	 * Whether the store takes part in the database transaction. In that case a
+	 * checkpoint is saved in the same transaction as the chunk it belongs to,
+	 * otherwise it is saved right after that transaction has been committed
+	 *
+	 * @return true if this is the case
+	 */
+	default boolean isTransactional() {
+		return false;
+	}
+
+	/**
+	 * Calculates the hash of the content of a file
+	 *
+	 * @param bytes the content
+	 * @return the hexadecimal SHA-256 hash
+	 */
+	static String hash(byte[] bytes) {
+		MessageDigest digest = createDigest();
+		digest.update(bytes);
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Calculates the hash of a file, without reading the whole file into memory
+	 *
+	 * @param file the file
+	 * @return the hexadecimal SHA-256 hash
+	 */
+	static String hash(Path file) {
+		MessageDigest digest = createDigest();
+		byte[] buffer = new byte[1 << 16];
+		try (InputStream in = Files.newInputStream(file)) {
+			int read;
+			while ((read = in.read(buffer)) > 0) {
+				digest.update(buffer, 0, read);
+			}
+		} catch (IOException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+	}
+}
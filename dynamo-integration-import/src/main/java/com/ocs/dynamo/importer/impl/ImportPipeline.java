@@ -0,0 +1,116 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.ocs.dynamo.exception.OCSImportException;
+import com.ocs.dynamo.utils.OrderedBatchExecutor;
+
+/**
+ * Pipeline that converts the rows of an import. The rows are converted in
+ * batches on a number of worker threads, while the calling thread reads the
+ * rows and hands the results (or the import errors) to the handler in the
+ * original order of the rows (see {@link OrderedBatchExecutor}). The result of
+ * an import, including the order of the reported errors, is therefore the same
+ * as when converting the rows one by one.
+ * 
+ * The converter is called from multiple threads and must therefore be
+ * thread-safe. When only a single thread is configured, every row is converted
+ * by the calling thread
+ * 
+ * @author bas.rutten
+ *
+ * @param <S> the type of the rows to convert
+ * @param <R> the type of the converted rows
+ */
+public class ImportPipeline<S, R> {
+
+	/**
+	 * Handles the outcome of the conversion of a row
+	 *
+	 * @param <S> the type of the row
+	 * @param <R> the type of the converted row
+	 */
+	public interface RowHandler<S, R> {
+
+		/**
+		 * Called when a row has been converted
+		 * 
+		 * @param row    the row
+		 * @param result the result of the conversion
+		 */
+		void converted(S row, R result);
+
+		/**
+		 * Called when a row could not be converted
+		 * 
+		 * @param row the row
+		 * @param ex  the exception that occurred
+		 */
+		void failed(S row, OCSImportException ex);
+	}
+
+	/**
+	 * The outcome of the conversion of a single row
+	 */
+	private record Outcome<R>(R result, OCSImportException error) {
+	}
+
+	/**
+	 * The default number of rows that are converted together
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	private final OrderedBatchExecutor<S, Outcome<R>> executor;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param threads   the number of threads used for converting
+	 * @param batchSize the number of rows that are converted together
+	 */
+	public ImportPipeline(int threads, int batchSize) {
+		this.executor = new OrderedBatchExecutor<>("dynamo-import-convert", threads, batchSize);
+	}
+
+	/**
+	 * Converts all rows and hands the outcomes to the handler
+	 * 
+	 * @param source    supplies the rows, returns <code>null</code> when there are
+	 *                  no more rows
+	 * @param converter the function used to convert a row
+	 * @param handler   the handler of the outcomes
+	 */
+	public void run(Supplier<S> source, Function<S, R> converter, RowHandler<S, R> handler) {
+		executor.run(source, row -> convert(row, converter), (row, outcome) -> handle(row, outcome, handler));
+	}
+
+	private Outcome<R> convert(S row, Function<S, R> converter) {
+		try {
+			return new Outcome<>(converter.apply(row), null);
+		} catch (OCSImportException ex) {
+			return new Outcome<>(null, ex);
+		}
+	}
+
+	private void handle(S row, Outcome<R> outcome, RowHandler<S, R> handler) {
+		if (outcome.error() != null) {
+			handler.failed(row, outcome.error());
+		} else {
+			handler.converted(row, outcome.result());
+		}
+	}
+}
@@ -0,0 +1,262 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.BeanUtils;
+
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.importer.ImportField;
+import com.ocs.dynamo.importer.dto.AbstractDTO;
+import com.ocs.dynamo.utils.ClassUtils;
+import com.ocs.dynamo.utils.NumberUtils;
+
+/**
+ * The way in which the rows of an import are mapped to a DTO class: the
+ * properties that have an {@link ImportField} annotation (in the order of the
+ * property descriptors), together with the way in which their values are
+ * converted, handles to their setters and to the default constructor. A plan is
+ * created once per DTO class and then reused for every row. Plans are stored
+ * along with the class, so they do not keep the class loader of a redeployed
+ * application alive
+ * 
+ * @author bas.rutten
+ *
+ * @param <T> the type of the DTO
+ */
+final class ImportPlan<T extends AbstractDTO> {
+
+	private static final ClassValue<ImportPlan<?>> PLANS = new ClassValue<>() {
+
+		@Override
+		protected ImportPlan<?> computeValue(Class<?> type) {
+			return create(type.asSubclass(AbstractDTO.class));
+		}
+	};
+
+	private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+	private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+	private final MethodHandle constructor;
+
+	private final List<Column> columns;
+
+	private final int width;
+
+	private ImportPlan(MethodHandle constructor, List<Column> columns) {
+		this.constructor = constructor;
+		this.columns = columns;
+		this.width = columns.stream().mapToInt(column -> column.field().index() + 1).max().orElse(0);
+	}
+
+	/**
+	 * Returns the plan for a DTO class, creating it when it is first requested
+	 * 
+	 * @param <T>   the type of the DTO
+	 * @param clazz the DTO class
+	 * @return the plan
+	 */
+	@SuppressWarnings("unchecked")
+	static <T extends AbstractDTO> ImportPlan<T> forClass(Class<T> clazz) {
+		return (ImportPlan<T>) PLANS.get(clazz);
+	}
+
+	private static <T extends AbstractDTO> ImportPlan<T> create(Class<T> clazz) {
+		List<Column> columns = new ArrayList<>();
+		for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(clazz)) {
+			ImportField field = ClassUtils.getAnnotation(clazz, descriptor.getName(), ImportField.class);
+			if (field != null) {
+				Method writeMethod = descriptor.getWriteMethod();
+				columns.add(Column.of(descriptor, field, writeMethod == null ? null : unreflect(writeMethod)));
+			}
+		}
+
+		try {
+			Constructor<T> constructor = clazz.getDeclaredConstructor();
+			constructor.trySetAccessible();
+			return new ImportPlan<>(MethodHandles.lookup().unreflectConstructor(constructor).asType(CONSTRUCTOR_TYPE),
+					List.copyOf(columns));
+		} catch (NoSuchMethodException | IllegalAccessException ex) {
+			throw new OCSRuntimeException("Cannot instantiate " + clazz.getName() + ": " + ex.getMessage(), ex);
+		}
+	}
+
+	private static MethodHandle unreflect(Method method) {
+		try {
+			method.trySetAccessible();
+			return MethodHandles.lookup().unreflect(method).asType(SETTER_TYPE);
+		} catch (IllegalAccessException ex) {
+			// fall back to setting the value by name
+			return null;
+		}
+	}
+
+	/**
+	 * @return the columns, in the order in which they must be processed
+	 */
+	List<Column> getColumns() {
+		return columns;
+	}
+
+	/**
+	 * @return the number of fields (cells or rows) that must be read to fill a
+	 *         DTO, i.e. the highest field index plus one
+	 */
+	int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Creates a new DTO
+	 * 
+	 * @return the DTO
+	 */
+	@SuppressWarnings("unchecked")
+	T newInstance() {
+		try {
+			Object dto = constructor.invokeExact();
+			return (T) dto;
+		} catch (RuntimeException ex) {
+			throw ex;
+		} catch (Throwable ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * The way in which the value of a property is read and converted, based on the
+	 * type of the property
+	 */
+	enum Conversion {
+
+		STRING, ENUM, INTEGER, LONG, FLOAT, DOUBLE, BIG_DECIMAL,
+
+		/**
+		 * A numeric type to which the value cannot be converted
+		 */
+		OTHER_NUMBER, BOOLEAN, DATE,
+
+		/**
+		 * A type that is not supported, the value is not set
+		 */
+		NONE;
+
+		/**
+		 * Determines the conversion for a property type
+		 * 
+		 * @param type the type of the property
+		 * @return the conversion
+		 */
+		static Conversion forType(Class<?> type) {
+			if (String.class.equals(type)) {
+				return STRING;
+			} else if (type.isEnum()) {
+				return ENUM;
+			} else if (NumberUtils.isInteger(type)) {
+				return INTEGER;
+			} else if (NumberUtils.isLong(type)) {
+				return LONG;
+			} else if (NumberUtils.isFloat(type)) {
+				return FLOAT;
+			} else if (NumberUtils.isDouble(type)) {
+				return DOUBLE;
+			} else if (BigDecimal.class.equals(type)) {
+				return BIG_DECIMAL;
+			} else if (Number.class.isAssignableFrom(type)) {
+				return OTHER_NUMBER;
+			} else if (Boolean.class.isAssignableFrom(type)) {
+				return BOOLEAN;
+			} else if (LocalDate.class.isAssignableFrom(type)) {
+				return DATE;
+			}
+			return NONE;
+		}
+
+		/**
+		 * @return whether the value is read as a number
+		 */
+		boolean isNumeric() {
+			return ordinal() >= INTEGER.ordinal() && ordinal() <= OTHER_NUMBER.ordinal();
+		}
+	}
+
+	/**
+	 * A property of the DTO that is imported. The settings of the field definition
+	 * that are needed for every row are copied, since reading them from the
+	 * annotation is relatively slow
+	 * 
+	 * @param descriptor       the property descriptor
+	 * @param field            the field definition
+	 * @param setter           the handle to the setter, or <code>null</code> if the
+	 *                         value must be set by name
+	 * @param conversion       the way in which the value is converted
+	 * @param required         whether a value is required
+	 * @param percentage       whether the value is a percentage
+	 * @param cannotBeNegative whether the value cannot be negative
+	 */
+	record Column(PropertyDescriptor descriptor, ImportField field, MethodHandle setter, Conversion conversion,
+			boolean required, boolean percentage, boolean cannotBeNegative) {
+
+		/**
+		 * Creates a column
+		 * 
+		 * @param descriptor the property descriptor
+		 * @param field      the field definition
+		 * @param setter     the handle to the setter, or <code>null</code>
+		 * @return the column
+		 */
+		static Column of(PropertyDescriptor descriptor, ImportField field, MethodHandle setter) {
+			return new Column(descriptor, field, setter, Conversion.forType(descriptor.getPropertyType()),
+					field.required(), field.percentage(), field.cannotBeNegative());
+		}
+
+		/**
+		 * @return the name of the property
+		 */
+		String name() {
+			return descriptor.getName();
+		}
+
+		/**
+		 * Sets the value of the property
+		 * 
+		 * @param dto   the DTO
+		 * @param value the value
+		 */
+		void setValue(Object dto, Object value) {
+			if (setter == null) {
+				ClassUtils.setFieldValue(dto, descriptor.getName(), value);
+				return;
+			}
+			try {
+				setter.invokeExact(dto, value);
+			} catch (RuntimeException ex) {
+				throw ex;
+			} catch (Throwable ex) {
+				throw new OCSRuntimeException(ex.getMessage(), ex);
+			}
+		}
+	}
+}
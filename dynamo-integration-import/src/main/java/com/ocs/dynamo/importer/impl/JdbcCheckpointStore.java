@@ -0,0 +1,100 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * {@link ImportCheckpointStore} that keeps the checkpoints in a database table.
+ * The table is accessed through the data source of the application, so that a
+ * checkpoint is saved in the same transaction as the chunk it belongs to. The
+ * table must be created up front, e.g. using
+ *
+ * <pre>
+ * create table import_checkpoint (
+ *   import_name varchar(255) not null primary key,
+ *   file_hash varchar(64) not null,
+ *   committed integer not null,
+ *   next_row integer not null,
+ *   updated timestamp not null
+ * );
+ * </pre>
+ *
+ * @author bas.rutten
+ */
+public class JdbcCheckpointStore implements ImportCheckpointStore {
+
+	public static final String DEFAULT_TABLE_NAME = "import_checkpoint";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	private final String tableName;
+
+	/**
+	 * Constructor
+	 *
+	 * @param dataSource the data source
+	 */
+	public JdbcCheckpointStore(DataSource dataSource) {
+		this(dataSource, DEFAULT_TABLE_NAME);
+	}
+
+	/**
+	 * Constructor
+	 *
+	 * @param dataSource the data source
+	 * @param tableName  the name of the checkpoint table
+	 */
+	public JdbcCheckpointStore(DataSource dataSource, String tableName) {
+		this.jdbcTemplate = new JdbcTemplate(dataSource);
+		this.tableName = tableName;
+	}
+
+	@Override
+	public Checkpoint load(String importName, String fileHash) {
+		List<Checkpoint> checkpoints = jdbcTemplate.query(
+				"select committed, next_row from " + tableName + " where import_name = ? and file_hash = ?",
+				(rs, rowNum) -> new Checkpoint(rs.getInt(1), rs.getInt(2)), importName, fileHash);
+		return checkpoints.isEmpty() ? Checkpoint.NONE : checkpoints.get(0);
+	}
+
+	@Override
+	public void save(String importName, String fileHash, Checkpoint checkpoint) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		int updated = jdbcTemplate.update("update " + tableName
+				+ " set file_hash = ?, committed = ?, next_row = ?, updated = ? where import_name = ?", fileHash,
+				checkpoint.committed(), checkpoint.nextRow(), now, importName);
+		if (updated == 0) {
+			jdbcTemplate.update("insert into " + tableName
+					+ " (import_name, file_hash, committed, next_row, updated) values (?, ?, ?, ?, ?)", importName,
+					fileHash, checkpoint.committed(), checkpoint.nextRow(), now);
+		}
+	}
+
+	@Override
+	public void clear(String importName) {
+		jdbcTemplate.update("delete from " + tableName + " where import_name = ?", importName);
+	}
+
+	@Override
+	public boolean isTransactional() {
+		return true;
+	}
+}
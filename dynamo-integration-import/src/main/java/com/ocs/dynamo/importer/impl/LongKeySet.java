@@ -0,0 +1,127 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+/**
+ * Set of primitive <code>long</code> values that uses open addressing with
+ * linear probing, so that it needs 8 bytes per slot and does not create an
+ * object per value. Zero marks an empty slot and is therefore kept separately
+ *
+ * @author bas.rutten
+ */
+final class LongKeySet {
+
+	private long[] table;
+
+	private int size;
+
+	private int threshold;
+
+	private boolean containsZero;
+
+	/**
+	 * Constructor
+	 *
+	 * @param capacity the initial capacity
+	 */
+	LongKeySet(int capacity) {
+		allocate(tableSize(capacity));
+	}
+
+	/**
+	 * Adds a value
+	 *
+	 * @param value the value
+	 * @return <code>true</code> if the value was added, <code>false</code> if it
+	 *         was already present
+	 */
+	boolean add(long value) {
+		if (value == 0) {
+			if (containsZero) {
+				return false;
+			}
+			containsZero = true;
+			size++;
+			return true;
+		}
+
+		int mask = table.length - 1;
+		int i = (int) mix(value) & mask;
+		while (table[i] != 0) {
+			if (table[i] == value) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+		table[i] = value;
+		if (++size > threshold) {
+			grow();
+		}
+		return true;
+	}
+
+	/**
+	 * @return the number of values in the set
+	 */
+	int size() {
+		return size;
+	}
+
+	private void grow() {
+		long[] old = table;
+		allocate(old.length * 2);
+		int mask = table.length - 1;
+		for (long value : old) {
+			if (value != 0) {
+				int i = (int) mix(value) & mask;
+				while (table[i] != 0) {
+					i = (i + 1) & mask;
+				}
+				table[i] = value;
+			}
+		}
+	}
+
+	private void allocate(int length) {
+		table = new long[length];
+		threshold = length / 4 * 3;
+	}
+
+	/**
+	 * Returns the smallest power of two in which the specified number of values
+	 * fits
+	 *
+	 * @param capacity the number of values
+	 * @return the table size
+	 */
+	static int tableSize(int capacity) {
+		int size = Integer.highestOneBit(Math.max(capacity, 4) * 4 / 3);
+		return Math.min(size * 2, 1 << 30);
+	}
+
+	/**
+	 * Spreads the bits of a value (the finalization step of MurmurHash3)
+	 *
+	 * @param value the value
+	 * @return the mixed value
+	 */
+	static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb9fe1a85ec53L;
+		value ^= value >>> 33;
+		return value;
+	}
+}
@@ -0,0 +1,144 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import com.ocs.dynamo.exception.OCSImportException;
+
+/**
+ * Reads the records of a fixed length file from a memory-mapped file channel,
+ * without copying or decoding them. Records are separated by line separators.
+ * Files that are larger than 2 GB are mapped in consecutive windows
+ * 
+ * @author bas.rutten
+ */
+public class MappedFixedLengthFile implements Closeable {
+
+	/**
+	 * The maximum size of a single mapped window
+	 */
+	private static final long MAX_WINDOW_SIZE = Integer.MAX_VALUE;
+
+	private final FileChannel channel;
+
+	private final long size;
+
+	private final long windowSize;
+
+	private final FixedLengthRecord record;
+
+	private MappedByteBuffer window;
+
+	private long windowStart;
+
+	/**
+	 * The position in the file of the next record
+	 */
+	private long position;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param path         the path of the file
+	 * @param fieldLengths the lengths (in bytes) of the fields
+	 * @param charset      the (single byte) character set used to decode values
+	 */
+	public MappedFixedLengthFile(Path path, List<Integer> fieldLengths, Charset charset) {
+		this(path, fieldLengths, charset, MAX_WINDOW_SIZE);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param path         the path of the file
+	 * @param fieldLengths the lengths (in bytes) of the fields
+	 * @param charset      the (single byte) character set used to decode values
+	 * @param windowSize   the maximum number of bytes that are mapped at once
+	 */
+	MappedFixedLengthFile(Path path, List<Integer> fieldLengths, Charset charset, long windowSize) {
+		try {
+			this.channel = FileChannel.open(path, StandardOpenOption.READ);
+			this.size = channel.size();
+		} catch (IOException ex) {
+			throw new OCSImportException(ex.getMessage(), ex);
+		}
+		this.windowSize = Math.min(windowSize, MAX_WINDOW_SIZE);
+		this.record = new FixedLengthRecord(fieldLengths, charset);
+	}
+
+	/**
+	 * Moves to the next record
+	 * 
+	 * @return the record (the same instance is returned for every record), or
+	 *         <code>null</code> when there are no more records
+	 * @throws IOException when the file cannot be mapped
+	 */
+	public FixedLengthRecord next() throws IOException {
+		if (position >= size) {
+			return null;
+		}
+		if (window == null || position >= windowStart + window.limit()) {
+			map(position);
+		}
+
+		int start = (int) (position - windowStart);
+		int separator = indexOfSeparator(start);
+		if (separator < 0 && windowStart + window.limit() < size) {
+			// the record continues beyond the current window
+			map(position);
+			start = 0;
+			separator = indexOfSeparator(start);
+			if (separator < 0 && window.limit() < size - windowStart) {
+				throw new OCSImportException("Record at position " + position + " is too long");
+			}
+		}
+
+		int end = separator < 0 ? window.limit() : separator;
+		position = windowStart + (separator < 0 ? end : separator + 1);
+		if (end > start && window.get(end - 1) == '\r') {
+			end--;
+		}
+		record.set(window, start, end);
+		return record;
+	}
+
+	private int indexOfSeparator(int from) {
+		int limit = window.limit();
+		for (int i = from; i < limit; i++) {
+			if (window.get(i) == '\n') {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void map(long from) throws IOException {
+		windowStart = from;
+		window = channel.map(MapMode.READ_ONLY, from, Math.min(size - from, windowSize));
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+}
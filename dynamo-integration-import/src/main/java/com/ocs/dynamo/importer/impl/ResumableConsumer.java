@@ -0,0 +1,69 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.util.function.Consumer;
+
+/**
+ * Consumer of the results of an import that can resume the import after the
+ * rows that were processed by a previous run. The import templates skip the
+ * rows before {@link #getResumeRow()} without converting or validating them,
+ * and report the position in the file together with every result
+ *
+ * @author bas.rutten
+ *
+ * @param <T> the type of the results
+ */
+public interface ResumableConsumer<T> extends Consumer<T> {
+
+	/**
+	 * Returns the index of the first row of the file that must be processed
+	 *
+	 * @return the index, 0 to process the whole file
+	 */
+	int getResumeRow();
+
+	/**
+	 * Called by a template once it has skipped the rows before
+	 * {@link #getResumeRow()}, so that the consumer does not expect the results
+	 * of those rows
+	 */
+	void resumed();
+
+	/**
+	 * Accepts a result
+	 *
+	 * @param result  the result
+	 * @param nextRow the index of the first row of the file after the rows that
+	 *                the result was created from
+	 */
+	void accept(T result, int nextRow);
+
+	/**
+	 * Hands a result to a consumer, together with the position in the file when
+	 * the consumer is resumable
+	 *
+	 * @param consumer the consumer
+	 * @param result   the result
+	 * @param nextRow  the index of the first row of the file after the rows that
+	 *                 the result was created from
+	 */
+	static <T> void accept(Consumer<T> consumer, T result, int nextRow) {
+		if (consumer instanceof ResumableConsumer<T> resumable) {
+			resumable.accept(result, nextRow);
+		} else {
+			consumer.accept(result);
+		}
+	}
+}
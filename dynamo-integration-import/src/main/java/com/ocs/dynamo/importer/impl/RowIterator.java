@@ -0,0 +1,100 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.ocs.dynamo.exception.OCSImportException;
+
+/**
+ * Iterator over the rows of an import file that reads the rows lazily, so that
+ * only the current row has to be kept in memory. The iterator must be closed
+ * after use, which also closes the underlying file or stream
+ * 
+ * @author bas.rutten
+ *
+ * @param <R> the type of a single row
+ */
+public class RowIterator<R> implements Iterator<R>, Closeable {
+
+	/**
+	 * Reads the next row from the input
+	 *
+	 * @param <R> the type of the row
+	 */
+	@FunctionalInterface
+	public interface RowReader<R> {
+
+		/**
+		 * Reads the next row
+		 * 
+		 * @return the row, or <code>null</code> when there are no more rows
+		 * @throws IOException when the input cannot be read
+		 */
+		R read() throws IOException;
+	}
+
+	private final Closeable source;
+
+	private final RowReader<R> reader;
+
+	private R next;
+
+	private boolean fetched;
+
+	/**
+	 * Constructor
+	 * 
+	 * @param source the source that is closed when the iterator is closed
+	 * @param reader reads the next row from the source
+	 */
+	public RowIterator(Closeable source, RowReader<R> reader) {
+		this.source = source;
+		this.reader = reader;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (!fetched) {
+			try {
+				next = reader.read();
+			} catch (IOException ex) {
+				throw new OCSImportException(ex.getMessage(), ex);
+			}
+			fetched = true;
+		}
+		return next != null;
+	}
+
+	@Override
+	public R next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		fetched = false;
+		return next;
+	}
+
+	@Override
+	public void close() {
+		try {
+			source.close();
+		} catch (IOException ex) {
+			throw new OCSImportException(ex.getMessage(), ex);
+		}
+	}
+}
@@ -0,0 +1,343 @@
+/*
+   Licensed under the Apache License, Version 2.0 (the "License");
+   you may not use this file except in compliance with the License.
+   You may obtain a copy of the License at
+
+       http://www.apache.org/licenses/LICENSE-2.0
+
+   Unless required by applicable law or agreed to in writing, software
+   distributed under the License is distributed on an "AS IS" BASIS,
+   WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+   See the License for the specific language governing permissions and
+   limitations under the License.
+ */
+package com.ocs.dynamo.importer.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.ocs.dynamo.exception.OCSRuntimeException;
+
+/**
+ * Case-insensitive set of strings. The strings are case-folded while they are
+ * hashed, without creating a lower case copy. The set stores a 128-bit hash per
+ * string in primitive arrays (using open addressing), and the case-folded
+ * characters in a separate store. The characters are only compared when the
+ * hashes match, so when the store is kept on disk it is only read for actual
+ * duplicates
+ *
+ * @author bas.rutten
+ */
+final class StringKeySet implements Closeable {
+
+	private static final long C1 = 0x87c37b91114253d5L;
+
+	private static final long C2 = 0x4cf5ad432745937fL;
+
+	/**
+	 * The hashes, two per slot
+	 */
+	private long[] hashes;
+
+	/**
+	 * The offsets of the characters in the store, -1 for an empty slot
+	 */
+	private long[] offsets;
+
+	private int[] lengths;
+
+	private int size;
+
+	private int threshold;
+
+	private final CharStore store;
+
+	/**
+	 * The case-folded characters of the string that is being added
+	 */
+	private char[] folded = new char[64];
+
+	private int length;
+
+	private long hash1;
+
+	private long hash2;
+
+	/**
+	 * Constructor
+	 *
+	 * @param capacity the initial capacity
+	 * @param spill    whether to keep the characters in a temporary file
+	 */
+	StringKeySet(int capacity, boolean spill) {
+		this.store = spill ? new FileStore() : new HeapStore();
+		allocate(LongKeySet.tableSize(capacity));
+	}
+
+	/**
+	 * Adds a string
+	 *
+	 * @param value the string
+	 * @return <code>true</code> if the string was added, <code>false</code> if it
+	 *         (or the same string in a different case) was already present
+	 */
+	boolean add(CharSequence value) {
+		fold(value);
+
+		int mask = offsets.length - 1;
+		int i = (int) hash1 & mask;
+		while (offsets[i] >= 0) {
+			if (hashes[2 * i] == hash1 && hashes[2 * i + 1] == hash2 && lengths[i] == length
+					&& store.matches(offsets[i], folded, length)) {
+				return false;
+			}
+			i = (i + 1) & mask;
+		}
+
+		hashes[2 * i] = hash1;
+		hashes[2 * i + 1] = hash2;
+		offsets[i] = store.append(folded, length);
+		lengths[i] = length;
+		if (++size > threshold) {
+			grow();
+		}
+		return true;
+	}
+
+	/**
+	 * @return the number of strings in the set
+	 */
+	int size() {
+		return size;
+	}
+
+	@Override
+	public void close() {
+		try {
+			store.close();
+		} catch (IOException ex) {
+			throw new OCSRuntimeException(ex.getMessage(), ex);
+		}
+	}
+
+	/**
+	 * Case-folds a string into the buffer and calculates its hash
+	 *
+	 * @param value the string
+	 */
+	private void fold(CharSequence value) {
+		length = 0;
+		long h1 = C2;
+		long h2 = C1;
+		int i = 0;
+		while (i < value.length()) {
+			int codePoint = Character.codePointAt(value, i);
+			i += Character.charCount(codePoint);
+			int lower = Character.toLowerCase(codePoint);
+
+			if (length + 2 > folded.length) {
+				folded = Arrays.copyOf(folded, folded.length * 2);
+			}
+			length += Character.toChars(lower, folded, length);
+
+			h1 = Long.rotateLeft(h1 ^ lower * C1, 31) * C2;
+			h2 = Long.rotateLeft(h2 ^ lower * C2, 33) * C1 + h1;
+		}
+		h1 ^= length;
+		h2 ^= length;
+		h1 += h2;
+		h2 += h1;
+		h1 = LongKeySet.mix(h1);
+		h2 = LongKeySet.mix(h2);
+		hash1 = h1 + h2;
+		hash2 = h2 + hash1;
+	}
+
+	private void grow() {
+		long[] oldHashes = hashes;
+		long[] oldOffsets = offsets;
+		int[] oldLengths = lengths;
+		allocate(oldOffsets.length * 2);
+
+		int mask = offsets.length - 1;
+		for (int j = 0; j < oldOffsets.length; j++) {
+			if (oldOffsets[j] >= 0) {
+				int i = (int) oldHashes[2 * j] & mask;
+				while (offsets[i] >= 0) {
+					i = (i + 1) & mask;
+				}
+				hashes[2 * i] = oldHashes[2 * j];
+				hashes[2 * i + 1] = oldHashes[2 * j + 1];
+				offsets[i] = oldOffsets[j];
+				lengths[i] = oldLengths[j];
+			}
+		}
+	}
+
+	private void allocate(int slots) {
+		hashes = new long[2 * slots];
+		offsets = new long[slots];
+		Arrays.fill(offsets, -1L);
+		lengths = new int[slots];
+		threshold = slots / 4 * 3;
+	}
+
+	/**
+	 * Append-only store of the characters of the strings
+	 */
+	private interface CharStore extends Closeable {
+
+		/**
+		 * Appends characters
+		 *
+		 * @param chars  the characters
+		 * @param length the number of characters
+		 * @return the offset at which the characters are stored
+		 */
+		long append(char[] chars, int length);
+
+		/**
+		 * Checks whether the stored characters are equal to the specified ones
+		 *
+		 * @param offset the offset of the stored characters
+		 * @param chars  the characters
+		 * @param length the number of characters
+		 * @return true if this is the case
+		 */
+		boolean matches(long offset, char[] chars, int length);
+
+		@Override
+		default void close() throws IOException {
+			// nothing by default
+		}
+	}
+
+	/**
+	 * Stores the characters in pages on the heap
+	 */
+	private static final class HeapStore implements CharStore {
+
+		private static final int PAGE_BITS = 16;
+
+		private static final int PAGE_MASK = (1 << PAGE_BITS) - 1;
+
+		private final List<char[]> pages = new ArrayList<>();
+
+		private long position;
+
+		@Override
+		public long append(char[] chars, int length) {
+			long offset = position;
+			for (int i = 0; i < length; i++, position++) {
+				if ((position & PAGE_MASK) == 0 && pages.size() <= position >>> PAGE_BITS) {
+					pages.add(new char[1 << PAGE_BITS]);
+				}
+				pages.get((int) (position >>> PAGE_BITS))[(int) (position & PAGE_MASK)] = chars[i];
+			}
+			return offset;
+		}
+
+		@Override
+		public boolean matches(long offset, char[] chars, int length) {
+			for (int i = 0; i < length; i++) {
+				long p = offset + i;
+				if (pages.get((int) (p >>> PAGE_BITS))[(int) (p & PAGE_MASK)] != chars[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Stores the characters in a temporary file, which is deleted when the store
+	 * is closed
+	 */
+	private static final class FileStore implements CharStore {
+
+		private static final int BUFFER_SIZE = 1 << 16;
+
+		private final FileChannel channel;
+
+		private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+		private ByteBuffer readBuffer = ByteBuffer.allocate(256);
+
+		/**
+		 * The number of bytes written to the file
+		 */
+		private long written;
+
+		FileStore() {
+			try {
+				Path file = Files.createTempFile("dynamo-import-keys", ".tmp");
+				channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE,
+						StandardOpenOption.DELETE_ON_CLOSE);
+			} catch (IOException ex) {
+				throw new OCSRuntimeException(ex.getMessage(), ex);
+			}
+		}
+
+		@Override
+		public long append(char[] chars, int length) {
+			long offset = (written + writeBuffer.position()) / 2;
+			for (int i = 0; i < length; i++) {
+				if (writeBuffer.remaining() < 2) {
+					flush();
+				}
+				writeBuffer.putChar(chars[i]);
+			}
+			return offset;
+		}
+
+		@Override
+		public boolean matches(long offset, char[] chars, int length) {
+			flush();
+			if (readBuffer.capacity() < length * 2) {
+				readBuffer = ByteBuffer.allocate(length * 2);
+			}
+			readBuffer.clear().limit(length * 2);
+			try {
+				while (readBuffer.hasRemaining()) {
+					if (channel.read(readBuffer, offset * 2 + readBuffer.position()) < 0) {
+						return false;
+					}
+				}
+			} catch (IOException ex) {
+				throw new OCSRuntimeException(ex.getMessage(), ex);
+			}
+			readBuffer.flip();
+			for (int i = 0; i < length; i++) {
+				if (readBuffer.getChar() != chars[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private void flush() {
+			writeBuffer.flip();
+			try {
+				while (writeBuffer.hasRemaining()) {
+					written += channel.write(writeBuffer, written);
+				}
+			} catch (IOException ex) {
+				throw new OCSRuntimeException(ex.getMessage(), ex);
+			}
+			writeBuffer.clear();
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+}
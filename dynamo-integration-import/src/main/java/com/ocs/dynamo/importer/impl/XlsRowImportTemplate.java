@@ -15,20 +15,23 @@ package com.ocs.dynamo.importer.impl;
 
 import com.ocs.dynamo.exception.OCSImportException;
 import com.ocs.dynamo.importer.dto.AbstractDTO;
+import com.ocs.dynamo.importer.impl.ImportPipeline.RowHandler;
 import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.util.SystemPropertyUtils;
-import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Workbook;
 
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * A template for processing an Excel file that contains row-based data, and
- * transforming it into a collection of DTOs
+ * transforming it into a collection of DTOs. XLSX files are read using
+ * streaming, and only the rows of the records that are being converted are
+ * kept in memory
  *
  * @param <ID> the type of the key of the DTO
  * @param <T>  the type of the DTO
@@ -77,9 +80,9 @@ public abstract class XlsRowImportTemplate<ID, T extends AbstractDTO> {
     private final int recordLength;
 
     /**
-     * Keys of the records processed so far
+     * The index of the next row to inspect
      */
-    private final Set<ID> keys = new HashSet<>();
+    private int rowIndex;
 
     /**
      * The message service
@@ -121,62 +124,123 @@ public abstract class XlsRowImportTemplate<ID, T extends AbstractDTO> {
         this.recordLength = recordLength;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Processes the records in the sheet. The records of an XLS file are converted
+     * in parallel when multiple import threads are configured (see
+     * {@link SystemPropertyUtils#getImportThreads()}), in which case
+     * {@link #extractKey(AbstractDTO)} must be thread-safe. XLSX files are read
+     * using streaming and are always converted by the calling thread. The results
+     * and errors are always reported in the order of the records
+     *
+     * @return the results
+     * @throws IOException when the file cannot be read
+     */
     public List<T> execute() throws IOException {
-
         List<T> results = new ArrayList<>();
+        execute(results::add);
+        return results;
+    }
 
-        try (Workbook wb = importer.createWorkbook(bytes)) {
-            Sheet sheet = wb.getSheetAt(sheetIndex);
+    /**
+     * Processes the records in the sheet and hands every result to the consumer
+     * as soon as it has been created, so that the results do not have to be kept
+     * in memory. When the consumer is a {@link ResumableConsumer}, the rows that
+     * were already processed by a previous run are skipped without being converted
+     *
+     * @param consumer the consumer of the results
+     * @throws IOException when the file cannot be read
+     */
+    public void execute(Consumer<T> consumer) throws IOException {
+        try (Workbook wb = importer.createSequentialWorkbook(bytes);
+             DuplicateDetector<ID> keys = checkForDuplicates ? createDuplicateDetector() : null) {
+            RowWindow window = new RowWindow(wb.getSheetAt(sheetIndex).rowIterator());
+            int rowsPerRecord = importer.getRowsPerRecord(clazz);
+            if (consumer instanceof ResumableConsumer<T> resumable && resumable.getResumeRow() > 0) {
+                rowIndex = resumable.getResumeRow();
+                window.discard(rowIndex);
+                resumable.resumed();
+            }
 
-            int i = 0;
+            // the rows are read in order by the calling thread. The cells of a streamed
+            // workbook resolve values such as shared strings lazily using the state of
+            // the reader, so they are converted by the calling thread as well. Only the
+            // records of a workbook that is completely in memory are converted in parallel
+            int threads = importer.isStreamed(bytes) ? 1 : SystemPropertyUtils.getImportThreads();
+            new ImportPipeline<RecordRows, ConvertedRecord<ID, T>>(threads, ImportPipeline.DEFAULT_BATCH_SIZE)
+                    .run(() -> nextRecord(window, rowsPerRecord), this::convertRecord, new RowHandler<>() {
 
-            while (i <= sheet.getLastRowNum()) {
-                if (i >= firstRowNumber) {
-                    try {
-                        // check for non-empty separator row
-                        if (importer.isRowEmpty(sheet.getRow(i))) {
-                            break;
-                        } else {
-                            i++;
+                        @Override
+                        public void converted(RecordRows record, ConvertedRecord<ID, T> converted) {
+                            addResult(record.index(), converted, keys, consumer);
                         }
 
-                        T entity = importer.processRows(sheet, i, colIndex, clazz);
-
-                        if (entity != null && extractKey(entity) != null) {
-                            ID key = extractKey(entity);
-
-                            // in case of a string, compare by lower case
-                            if (key instanceof String) {
-                                key = (ID) ((String) key).toLowerCase();
-                            }
-
-                            if (checkForDuplicates) {
-                                if (!keys.contains(key)) {
-                                    keys.add(key);
-                                    results.add(entity);
-                                } else {
-                                    errors.add(messageService.getMessage("ocs.duplicate.row",
-                                           SystemPropertyUtils.getDefaultLocale(), i + 1, key));
-                                }
-                            } else {
-                                results.add(entity);
-                            }
+                        @Override
+                        public void failed(RecordRows record, OCSImportException ex) {
+                            // catch errors on a record by record level
+                            errors.add(String.format("Row %d: %s", record.index() + 1, ex.getMessage()));
                         }
-                    } catch (OCSImportException ex) {
-                        // catch errors on a record by record level
-                        errors.add(String.format("Row %d: %s", i + 1, ex.getMessage()));
-                    }
-                    i += recordLength;
-                } else {
-                    // row is before the start of the input, skip row and try
-                    // the next
-                    i++;
-                }
-            }
+                    });
+        }
+    }
+
+    /**
+     * Reads the rows of the next record
+     *
+     * @param window        the window on the rows of the sheet
+     * @param rowsPerRecord the number of rows to read for a record
+     * @return the rows, or <code>null</code> when there are no more records
+     */
+    private RecordRows nextRecord(RowWindow window, int rowsPerRecord) {
+        // skip the rows before the start of the input
+        rowIndex = Math.max(rowIndex, firstRowNumber);
+
+        // check for non-empty separator row
+        if (importer.isRowEmpty(window.get(rowIndex))) {
+            return null;
+        }
+        int index = rowIndex + 1;
+        rowIndex = index + recordLength;
+
+        RecordRows record = new RecordRows(index, window.getRows(index, rowsPerRecord));
+        window.discard(rowIndex);
+        return record;
+    }
+
+    private ConvertedRecord<ID, T> convertRecord(RecordRows record) {
+        T entity = importer.processRows(record.rows(), record.index(), colIndex, clazz);
+        if (entity == null) {
+            return new ConvertedRecord<>(null, null);
+        }
+        return new ConvertedRecord<>(entity, extractKey(entity));
+    }
 
-            return results;
+    private void addResult(int index, ConvertedRecord<ID, T> record, DuplicateDetector<ID> keys, Consumer<T> consumer) {
+        if (record.entity() == null || record.key() == null) {
+            return;
         }
+
+        if (keys != null) {
+            // strings are compared case-insensitively
+            if (keys.add(record.key())) {
+                ResumableConsumer.accept(consumer, record.entity(), index + recordLength);
+            } else {
+                errors.add(messageService.getMessage("ocs.duplicate.row",
+                        SystemPropertyUtils.getDefaultLocale(), index + 1, record.key()));
+            }
+        } else {
+            ResumableConsumer.accept(consumer, record.entity(), index + recordLength);
+        }
+    }
+
+    /**
+     * Creates the detector that is used to check for duplicate keys. Override
+     * this to e.g. use {@link DuplicateDetector#createSpilling()} for very large
+     * files
+     *
+     * @return the detector
+     */
+    protected DuplicateDetector<ID> createDuplicateDetector() {
+        return DuplicateDetector.create();
     }
 
     /**
@@ -187,4 +251,101 @@ public abstract class XlsRowImportTemplate<ID, T extends AbstractDTO> {
      */
     protected abstract ID extractKey(T row);
 
+    /**
+     * The rows of a record
+     *
+     * @param index the index of the first row of the record
+     * @param rows  the rows, see {@link BaseXlsImporter#processRows(List, int, int, Class)}
+     */
+    private record RecordRows(int index, List<Row> rows) {
+    }
+
+    /**
+     * The result of converting a record, together with its key
+     */
+    private record ConvertedRecord<ID, T>(T entity, ID key) {
+    }
+
+    /**
+     * The rows of the sheet that are still needed. The rows are read in order from
+     * the row iterator of the sheet (which skips the rows that do not exist), and
+     * are discarded once all records that contain them have been read
+     */
+    private static final class RowWindow {
+
+        private final Iterator<Row> iterator;
+
+        /**
+         * The buffered rows, <code>null</code> for rows that do not exist
+         */
+        private final List<Row> rows = new ArrayList<>();
+
+        /**
+         * The index of the first buffered row
+         */
+        private int offset;
+
+        RowWindow(Iterator<Row> iterator) {
+            this.iterator = iterator;
+        }
+
+        /**
+         * Returns a row
+         *
+         * @param index the index of the row, must not be smaller than the index of
+         *              the first buffered row
+         * @return the row, or <code>null</code> if it does not exist
+         */
+        Row get(int index) {
+            fill(index);
+            return index - offset < rows.size() ? rows.get(index - offset) : null;
+        }
+
+        /**
+         * Returns a number of consecutive rows. The result ends early when the end
+         * of the sheet is reached
+         *
+         * @param index the index of the first row
+         * @param count the number of rows
+         * @return the rows
+         */
+        List<Row> getRows(int index, int count) {
+            fill(index + count - 1);
+            List<Row> result = new ArrayList<>(count);
+            for (int i = index - offset; i < index - offset + count && i < rows.size(); i++) {
+                result.add(rows.get(i));
+            }
+            return result;
+        }
+
+        /**
+         * Discards the rows before a certain row. Rows that have not been read yet
+         * are skipped when they are read
+         *
+         * @param index the index of the row
+         */
+        void discard(int index) {
+            int count = Math.min(index - offset, rows.size());
+            if (count > 0) {
+                rows.subList(0, count).clear();
+            }
+            offset = Math.max(offset, index);
+        }
+
+        private void fill(int index) {
+            while (offset + rows.size() <= index && iterator.hasNext()) {
+                Row row = iterator.next();
+                if (row.getRowNum() < offset) {
+                    continue;
+                }
+                while (offset + rows.size() < row.getRowNum()) {
+                    rows.add(null);
+                }
+                if (offset + rows.size() == row.getRowNum()) {
+                    rows.add(row);
+                }
+            }
+        }
+    }
+
 }
@@ -13,6 +13,7 @@
  */
 package com.ocs.dynamo.importer.template;
 
+import java.util.Iterator;
 import java.util.List;
 
 import com.ocs.dynamo.importer.dto.AbstractDTO;
@@ -51,6 +52,23 @@ public class DefaultTextImportTemplate<ID, T extends AbstractDTO> extends TextIm
         this.type = type;
     }
 
+    /**
+     * Constructor
+     * 
+     * @param type
+     * @param messageService
+     * @param importer
+     * @param lines          iterator over the lines, e.g. a lazily reading
+     *                       {@link com.ocs.dynamo.importer.impl.RowIterator}
+     * @param errors
+     */
+    public DefaultTextImportTemplate(Class<T> type, MessageService messageService,
+            BaseTextImporter importer, Iterator<String[]> lines, List<String> errors) {
+        super(messageService, lines, errors, false);
+        this.importer = importer;
+        this.type = type;
+    }
+
     @Override
     protected boolean isAppropriateRow(String[] line) {
         return true;
@@ -14,12 +14,16 @@
 package com.ocs.dynamo.importer.template;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
-import java.util.Set;
+import java.util.function.Consumer;
 
 import com.ocs.dynamo.exception.OCSImportException;
+import com.ocs.dynamo.importer.impl.DuplicateDetector;
+import com.ocs.dynamo.importer.impl.ImportPipeline;
+import com.ocs.dynamo.importer.impl.ImportPipeline.RowHandler;
+import com.ocs.dynamo.importer.impl.ResumableConsumer;
 import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.util.SystemPropertyUtils;
 
@@ -27,7 +31,10 @@ import lombok.extern.slf4j.Slf4j;
 
 /**
  * Template class for importing data from a text (CSV or fixed width) file and
- * translating it to an entity
+ * translating it to an entity. The lines can be provided as a list or as an
+ * iterator that reads them lazily (see
+ * {@link com.ocs.dynamo.importer.impl.RowIterator}); in combination with
+ * {@link #execute(Consumer)} the file then never has to be kept in memory
  * 
  * @author bas.rutten
  * 
@@ -37,7 +44,7 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public abstract class TextImportTemplate<ID, T> {
 
-	private List<String[]> lines;
+	private Iterator<String[]> lines;
 
 	private boolean checkForDuplicates;
 
@@ -45,7 +52,10 @@ public abstract class TextImportTemplate<ID, T> {
 
 	private MessageService messageService;
 
-	private Set<ID> keys = new HashSet<>();
+	/**
+	 * The index of the next line
+	 */
+	private int rowIndex;
 
 	/**
 	 * Constructor
@@ -56,6 +66,19 @@ public abstract class TextImportTemplate<ID, T> {
 	 */
 	protected TextImportTemplate(MessageService messageService, List<String[]> lines, List<String> errors,
 			boolean checkForDuplicates) {
+		this(messageService, lines.iterator(), errors, checkForDuplicates);
+	}
+
+	/**
+	 * Constructor
+	 * 
+	 * @param lines              iterator over the lines that make up the text file.
+	 *                           The lines can only be processed once
+	 * @param errors             the errors that have occurred so far
+	 * @param checkForDuplicates whether to check for duplicate rows
+	 */
+	protected TextImportTemplate(MessageService messageService, Iterator<String[]> lines, List<String> errors,
+			boolean checkForDuplicates) {
 		this.lines = lines;
 		this.errors = errors;
 		this.checkForDuplicates = checkForDuplicates;
@@ -88,55 +111,136 @@ public abstract class TextImportTemplate<ID, T> {
 	protected abstract ID getKeyFromRow(T t);
 
 	/**
+	 * Creates the detector that is used to check for duplicate keys. Override
+	 * this to e.g. use {@link DuplicateDetector#createSpilling()} for very large
+	 * files
 	 * 
-	 * @return
+	 * @return the detector
+	 */
+	protected DuplicateDetector<ID> createDuplicateDetector() {
+		return DuplicateDetector.create();
+	}
+
+	/**
+	 * Processes all rows and collects the results
+	 * 
+	 * @return the results
 	 */
 	public List<T> execute() {
 		List<T> results = new ArrayList<>();
-		for (int i = 0; i < lines.size(); i++) {
-			String[] row = lines.get(i);
-			if (row != null && i > 0 && isAppropriateRow(row)) {
-				try {
-					executeRow(i, row, results);
-				} catch (OCSImportException ex) {
-					log.error(ex.getMessage(), ex);
-					// catch errors on a record by record level
-					errors.add(String.format("Row %d: %s", i + 1, ex.getMessage()));
-				}
-			}
-		}
-
+		execute(results::add);
 		return results;
 	}
 
 	/**
-	 * Processes a single row
+	 * Processes all rows and hands every result to the consumer as soon as it has
+	 * been created, so that the results do not have to be kept in memory. The
+	 * rows are converted in parallel when multiple import threads are configured
+	 * (see {@link SystemPropertyUtils#getImportThreads()}), in which case
+	 * {@link #process(int, String[])} and {@link #getKeyFromRow(Object)} must be
+	 * thread-safe. The results and errors are always reported in the order of the
+	 * rows. When the consumer is a {@link ResumableConsumer}, the rows that were
+	 * already processed by a previous run are skipped without being converted
 	 * 
-	 * @param i       the index of the row
-	 * @param row     the field values that together from the row
-	 * @param results the list of current results
+	 * @param consumer the consumer of the results
 	 */
-	@SuppressWarnings("unchecked")
-	private void executeRow(int i, String[] row, List<T> results) {
-		T t = process(i, row);
-		ID key = getKeyFromRow(t);
+	public void execute(Consumer<T> consumer) {
+		if (consumer instanceof ResumableConsumer<T> resumable && resumable.getResumeRow() > 0) {
+			skipRows(resumable.getResumeRow());
+			resumable.resumed();
+		}
+
+		try (DuplicateDetector<ID> keys = checkForDuplicates ? createDuplicateDetector() : null) {
+			new ImportPipeline<IndexedRow, ConvertedRow<ID, T>>(SystemPropertyUtils.getImportThreads(),
+					ImportPipeline.DEFAULT_BATCH_SIZE).run(this::nextRow, this::convertRow,
+							new RowHandler<>() {
+
+								@Override
+								public void converted(IndexedRow row, ConvertedRow<ID, T> result) {
+									addResult(row.index(), result, keys, consumer);
+								}
+
+								@Override
+								public void failed(IndexedRow row, OCSImportException ex) {
+									log.error(ex.getMessage(), ex);
+									// catch errors on a record by record level
+									errors.add(String.format("Row %d: %s", row.index() + 1, ex.getMessage()));
+								}
+							});
+		}
+	}
 
-		if (checkForDuplicates) {
+	/**
+	 * Skips the rows before a certain row
+	 * 
+	 * @param index the index of the first row that must be processed
+	 */
+	private void skipRows(int index) {
+		while (rowIndex < index && lines.hasNext()) {
+			lines.next();
+			rowIndex++;
+		}
+	}
 
-			// lower case comparison for Strings
-			if (key instanceof String) {
-				key = (ID) ((String) key).toLowerCase();
+	/**
+	 * Returns the next row that must be processed
+	 * 
+	 * @return the row, or <code>null</code> if there are no more rows
+	 */
+	private IndexedRow nextRow() {
+		while (lines.hasNext()) {
+			String[] row = lines.next();
+			int index = rowIndex++;
+			if (row != null && index > 0 && isAppropriateRow(row)) {
+				return new IndexedRow(index, row);
 			}
+		}
+		return null;
+	}
 
-			if (!keys.contains(key)) {
-				keys.add(key);
-				results.add(t);
+	/**
+	 * Converts a single row
+	 * 
+	 * @param row the row
+	 * @return the result and its key
+	 */
+	private ConvertedRow<ID, T> convertRow(IndexedRow row) {
+		T t = process(row.index(), row.values());
+		return new ConvertedRow<>(t, getKeyFromRow(t));
+	}
+
+	/**
+	 * Hands a converted row to the consumer, unless it is a duplicate
+	 * 
+	 * @param i        the index of the row
+	 * @param row      the converted row
+	 * @param keys     the detector used to check for duplicates, <code>null</code>
+	 *                 when not checking for duplicates
+	 * @param consumer the consumer of the results
+	 */
+	private void addResult(int i, ConvertedRow<ID, T> row, DuplicateDetector<ID> keys, Consumer<T> consumer) {
+		if (keys != null) {
+			// strings are compared case-insensitively
+			if (keys.add(row.key())) {
+				ResumableConsumer.accept(consumer, row.result(), i + 1);
 			} else {
 				errors.add(messageService.getMessage("ocs.duplicate.row",
-						SystemPropertyUtils.getDefaultDateLocale(), i + 1, key));
+						SystemPropertyUtils.getDefaultDateLocale(), i + 1, row.key()));
 			}
 		} else {
-			results.add(t);
+			ResumableConsumer.accept(consumer, row.result(), i + 1);
 		}
 	}
+
+	/**
+	 * A row of the file together with its index
+	 */
+	private record IndexedRow(int index, String[] values) {
+	}
+
+	/**
+	 * The result of converting a row, together with its key
+	 */
+	private record ConvertedRow<ID, T>(T result, ID key) {
+	}
 }
@@ -13,12 +13,16 @@
  */
 package com.ocs.dynamo.importer.impl;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
 import org.apache.commons.io.FileUtils;
@@ -74,6 +78,27 @@ public class BaseCsvImporterTest {
 		assertEquals(DateUtils.createLocalDate("01012015"), dto.getDate());
 	}
 
+	@Test
+	public void testCountRowsFromStream() throws IOException {
+		assertEquals(7, importer.countRows(new ByteArrayInputStream(readFile("importertest.csv"))));
+	}
+
+	/**
+	 * Reading the file row by row must produce the same rows as reading it at once
+	 */
+	@Test
+	public void testIterateFile() throws IOException {
+		List<String[]> lines = importer.readCsvFile(readFile("importertest.csv"), ";", "'");
+
+		try (RowIterator<String[]> rows = importer.iterateCsvFile(Path.of("src/test/resources/importertest.csv"), ";",
+				"'")) {
+			for (String[] line : lines) {
+				assertArrayEquals(line, rows.next());
+			}
+			assertFalse(rows.hasNext());
+		}
+	}
+
 	@Test
 	public void testReadFile_NotNumeric() throws IOException {
 		try {
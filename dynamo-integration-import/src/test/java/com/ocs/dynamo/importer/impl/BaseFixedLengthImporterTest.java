@@ -21,9 +21,12 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 public class BaseFixedLengthImporterTest {
@@ -73,6 +76,20 @@ public class BaseFixedLengthImporterTest {
 		assertEquals(-3, dto.getNumber().intValue());
 	}
 
+	@Test
+	public void testIterateFile() throws IOException {
+		List<Integer> lengths = List.of(10, 10, 10, 10, 10, 10, 10, 10, 10);
+		List<String[]> lines = importer.readFixedLengthFile(readFile("importertest.fixed"), lengths);
+
+		try (RowIterator<String[]> rows = importer.iterateFixedLengthFile(
+				Path.of("src/test/resources/importertest.fixed"), lengths)) {
+			for (String[] line : lines) {
+				assertArrayEquals(line, rows.next());
+			}
+			assertFalse(rows.hasNext());
+		}
+	}
+
 	@Test
 	public void testParseFieldLengths() {
 		List<Integer> list = importer.parseFieldLengths("1,2,3,4");
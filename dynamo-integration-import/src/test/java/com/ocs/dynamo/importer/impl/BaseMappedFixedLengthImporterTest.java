@@ -0,0 +1,138 @@
+package com.ocs.dynamo.importer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.ocs.dynamo.importer.impl.PersonDTO.Gender;
+import com.ocs.dynamo.utils.DateUtils;
+
+public class BaseMappedFixedLengthImporterTest {
+
+	private static final List<Integer> LENGTHS = List.of(10, 10, 10, 10, 10, 10, 10, 10, 10);
+
+	private static final Path FILE = Path.of("src/test/resources/importertest.fixed");
+
+	private BaseMappedFixedLengthImporter importer = new BaseMappedFixedLengthImporter(LENGTHS);
+
+	@Test
+	public void testCountRows() throws IOException {
+		byte[] bytes = FileUtils.readFileToByteArray(new File("src/test/resources/importertest.fixed"));
+		int expected = new BaseFixedLengthImporter().countRows(bytes, 0);
+		assertEquals(expected, importer.countRows(bytes, 0));
+		assertEquals(expected, importer.countRows(FILE));
+	}
+
+	@Test
+	public void testReadFile() {
+		try (RowIterator<FixedLengthRecord> records = importer.iterateFile(FILE)) {
+			PersonDTO dto = importer.processRow(0, records.next(), PersonDTO.class);
+			assertNotNull(dto);
+			assertEquals("Bas", dto.getName());
+			assertEquals(1, dto.getNumber().intValue());
+			assertEquals(2.4, dto.getFactor().doubleValue(), 0.001);
+			assertEquals("abc", dto.getRandom());
+			assertEquals(Gender.M, dto.getGender());
+			assertEquals(1.50, dto.getPercentage().doubleValue(), 0.001);
+			assertEquals(DateUtils.createLocalDate("01022016"), dto.getDate());
+			assertEquals(6.66, dto.getRating().doubleValue(), 0.001);
+
+			// check that default values are set
+			dto = importer.processRow(1, records.next(), PersonDTO.class);
+			assertEquals("Unknown", dto.getName());
+			assertEquals(2, dto.getNumber().intValue());
+			assertEquals(1.0, dto.getFactor().doubleValue(), 0.001);
+			assertEquals(DateUtils.createLocalDate("01022015"), dto.getDate());
+
+			// check negative values
+			dto = importer.processRow(2, records.next(), PersonDTO.class);
+			assertEquals("Endy", dto.getName());
+			assertEquals(-3, dto.getNumber().intValue());
+		}
+	}
+
+	/**
+	 * The records must be split in the same way as by the text based importer,
+	 * also when a record crosses the boundary of a mapped window
+	 */
+	@Test
+	public void testWindows() throws IOException {
+		List<String[]> expected = new BaseFixedLengthImporter()
+				.readFixedLengthFile(FileUtils.readFileToByteArray(FILE.toFile()), LENGTHS);
+
+		try (MappedFixedLengthFile file = new MappedFixedLengthFile(FILE, LENGTHS, StandardCharsets.ISO_8859_1,
+				128)) {
+			for (String[] line : expected) {
+				FixedLengthRecord record = file.next();
+				assertEquals(line.length, record.getFieldCount());
+
+				List<String> values = new ArrayList<>();
+				for (int i = 0; i < record.getFieldCount(); i++) {
+					values.add(record.getField(i).getValue());
+				}
+				assertArrayEquals(line, values.toArray(new String[0]));
+			}
+			assertNull(file.next());
+		}
+	}
+
+	@Test
+	public void testParseNumbers(@TempDir Path dir) throws IOException {
+		Path path = dir.resolve("numbers.txt");
+		Files.writeString(path, " 12\r\n-3.25\n+0.5\n1e3\n\n12a\n", StandardCharsets.ISO_8859_1);
+
+		try (MappedFixedLengthFile file = new MappedFixedLengthFile(path, List.of(5), StandardCharsets.ISO_8859_1)) {
+			assertEquals(12.0, file.next().getField(0).getDoubleValue(), 0.0001);
+			assertEquals(-3.25, file.next().getField(0).getDoubleValue(), 0.0001);
+			assertEquals(0.5, file.next().getField(0).getDoubleValue(), 0.0001);
+			assertEquals(1000.0, file.next().getField(0).getDoubleValue(), 0.0001);
+
+			FixedLengthRecord empty = file.next();
+			assertTrue(empty.getField(0).isEmpty());
+			assertNull(empty.getField(0).getDoubleValue());
+
+			FixedLengthRecord invalid = file.next();
+			assertThrows(NumberFormatException.class, () -> invalid.getField(0).getDoubleValue());
+			assertNull(file.next());
+		}
+	}
+
+	@Test
+	public void testNonAsciiCharacters() {
+		ByteBuffer buffer = ByteBuffer.wrap("Café  Müller  ÄÖ".getBytes(StandardCharsets.ISO_8859_1));
+		FixedLengthRecord record = new FixedLengthRecord(List.of(6, 8, 2), StandardCharsets.ISO_8859_1);
+		record.set(buffer, 0, buffer.limit());
+
+		assertEquals("Café", record.getField(0).getValue());
+		assertEquals("Müller", record.getField(1).getValue());
+		assertEquals("ÄÖ", record.getField(2).getValue());
+		assertFalse(record.getField(2).isEmpty());
+	}
+
+	@Test
+	public void testBoolean() {
+		ByteBuffer buffer = ByteBuffer.wrap("TRUE false".getBytes(StandardCharsets.ISO_8859_1));
+		FixedLengthRecord record = new FixedLengthRecord(List.of(5, 5), StandardCharsets.ISO_8859_1);
+		record.set(buffer, 0, buffer.limit());
+
+		assertTrue(record.getField(0).isTrue());
+		assertFalse(record.getField(1).isTrue());
+	}
+}
@@ -0,0 +1,227 @@
+package com.ocs.dynamo.importer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.ocs.dynamo.domain.AbstractEntity;
+import com.ocs.dynamo.exception.OCSRuntimeException;
+import com.ocs.dynamo.exception.OCSValidationException;
+import com.ocs.dynamo.importer.impl.ImportCheckpointStore.Checkpoint;
+import com.ocs.dynamo.service.BaseService;
+import com.ocs.dynamo.test.BaseMockitoTest;
+import com.ocs.dynamo.utils.DefaultProgressCounter;
+
+public class ChunkedImportSinkTest extends BaseMockitoTest {
+
+	@Mock
+	private BaseService<Integer, Person> service;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	public void setUp() {
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+	}
+
+	@Test
+	public void testChunks() {
+		DefaultProgressCounter counter = new DefaultProgressCounter();
+		List<List<String>> chunks = new ArrayList<>();
+		try (ChunkedImportSink<String, Integer, Person> sink = new ChunkedImportSink<>(service, transactionManager,
+				name -> name.isEmpty() ? null : new Person(name), 2)) {
+			sink.setProgressCounter(counter);
+			sink.setChunkPreparer(chunk -> chunks.add(List.copyOf(chunk)));
+			List.of("a", "b", "", "c", "d", "e", "f").forEach(sink);
+			assertEquals(5, sink.getPersisted());
+		}
+
+		verify(service, times(4)).save(anyList());
+		verify(service, times(4)).flushAndClear();
+		verify(transactionManager, times(4)).commit(any());
+		assertEquals(7, counter.getCurrent());
+		assertEquals(List.of(List.of("a", "b"), List.of("", "c"), List.of("d", "e"), List.of("f")), chunks);
+	}
+
+	@Test
+	public void testSkip() {
+		when(service.save(anyList())).thenThrow(new OCSValidationException("Invalid")).thenReturn(List.of());
+
+		ChunkedImportSink<String, Integer, Person> sink = new ChunkedImportSink<>(service, transactionManager,
+				Person::new, 2);
+		sink.setFailurePolicy(ChunkedImportSink.FailurePolicy.SKIP);
+		List.of("a", "b", "c").forEach(sink);
+		sink.close();
+
+		assertEquals(1, sink.getPersisted());
+		assertEquals(2, sink.getSkipped());
+		assertEquals(List.of("Records 1-2: Invalid"), sink.getErrors());
+		verify(transactionManager).rollback(any());
+	}
+
+	@Test
+	public void testSkipReportsRowNumbers() {
+		when(service.save(anyList())).thenReturn(List.of()).thenThrow(new OCSValidationException("Invalid"));
+
+		ChunkedImportSink<PersonDTO, Integer, Person> sink = new ChunkedImportSink<>(service, transactionManager,
+				dto -> new Person(dto.getName()), 2);
+		sink.setFailurePolicy(ChunkedImportSink.FailurePolicy.SKIP);
+		// the file has a header row, and row 4 was left out by the importer
+		List.of(2, 3, 5, 6).forEach(rowNum -> {
+			PersonDTO dto = new PersonDTO();
+			dto.setRowNum(rowNum);
+			dto.setName("Person " + rowNum);
+			sink.accept(dto);
+		});
+		sink.close();
+
+		assertEquals(2, sink.getPersisted());
+		assertEquals(2, sink.getSkipped());
+		assertEquals(List.of("Rows 5-6: Invalid"), sink.getErrors());
+	}
+
+	@Test
+	public void testFail() {
+		when(service.save(anyList())).thenThrow(new OCSValidationException("Invalid"));
+
+		ChunkedImportSink<String, Integer, Person> sink = new ChunkedImportSink<>(service, transactionManager,
+				Person::new, 2);
+		sink.accept("a");
+		assertThrows(OCSValidationException.class, () -> sink.accept("b"));
+		assertEquals(0, sink.getPersisted());
+	}
+
+	@Test
+	public void testResume(@TempDir Path directory) {
+		FileCheckpointStore store = new FileCheckpointStore(directory);
+		String hash = ImportCheckpointStore.hash("a,b,c,d,e,f".getBytes());
+		List<String> rows = List.of("a", "b", "c", "d", "e", "f");
+
+		// the third chunk fails
+		when(service.save(anyList())).thenReturn(List.of()).thenReturn(List.of())
+				.thenThrow(new OCSValidationException("Database down"));
+		ChunkedImportSink<String, Integer, Person> sink = new ChunkedImportSink<>(service, transactionManager,
+				Person::new, 2);
+		sink.resume(store, "persons", hash);
+		assertThrows(OCSValidationException.class, () -> rows.forEach(sink));
+		// the rows are unknown, since the results were not produced by a template
+		assertEquals(new Checkpoint(4, 0), store.load("persons", hash));
+		assertEquals(Checkpoint.NONE, store.load("persons", "other"));
+
+		// the second run only saves the last chunk
+		doReturn(List.of()).when(service).save(anyList());
+		List<String> saved = new ArrayList<>();
+		DefaultProgressCounter counter = new DefaultProgressCounter();
+		ChunkedImportSink<String, Integer, Person> resumed = new ChunkedImportSink<>(service, transactionManager,
+				name -> {
+					saved.add(name);
+					return new Person(name);
+				}, 2);
+		resumed.setProgressCounter(counter);
+		resumed.resume(store, "persons", hash);
+		rows.forEach(resumed);
+		resumed.complete();
+
+		assertEquals(4, resumed.getResumed());
+		assertEquals(2, resumed.getPersisted());
+		assertEquals(List.of("e", "f"), saved);
+		assertEquals(6, counter.getCurrent());
+		assertEquals(Checkpoint.NONE, store.load("persons", hash));
+		assertEquals(0, directory.toFile().list().length);
+	}
+
+	@Test
+	public void testResumeFromRow(@TempDir Path directory) {
+		FileCheckpointStore store = new FileCheckpointStore(directory);
+		String hash = ImportCheckpointStore.hash("a,b,c,d,e,f".getBytes());
+		List<String> rows = List.of("a", "b", "c", "d", "e", "f");
+
+		// the second chunk fails, every result is created from two rows after a header row
+		when(service.save(anyList())).thenReturn(List.of()).thenThrow(new OCSValidationException("Database down"));
+		ChunkedImportSink<String, Integer, Person> sink = new ChunkedImportSink<>(service, transactionManager,
+				Person::new, 2);
+		sink.resume(store, "persons", hash);
+		assertThrows(OCSValidationException.class, () -> {
+			for (int i = 0; i < rows.size(); i++) {
+				sink.accept(rows.get(i), 2 * i + 3);
+			}
+		});
+		assertEquals(new Checkpoint(2, 5), store.load("persons", hash));
+
+		// the template skips the rows of the first chunk, so its results are not received again
+		doReturn(List.of()).when(service).save(anyList());
+		List<String> saved = new ArrayList<>();
+		DefaultProgressCounter counter = new DefaultProgressCounter();
+		ChunkedImportSink<String, Integer, Person> resumed = new ChunkedImportSink<>(service, transactionManager,
+				name -> {
+					saved.add(name);
+					return new Person(name);
+				}, 2);
+		resumed.setProgressCounter(counter);
+		resumed.resume(store, "persons", hash);
+		assertEquals(5, resumed.getResumeRow());
+		resumed.resumed();
+		for (int i = 2; i < rows.size(); i++) {
+			resumed.accept(rows.get(i), 2 * i + 3);
+		}
+		resumed.close();
+
+		assertEquals(4, resumed.getPersisted());
+		assertEquals(List.of("c", "d", "e", "f"), saved);
+		assertEquals(6, counter.getCurrent());
+		assertEquals(new Checkpoint(6, 13), store.load("persons", hash));
+	}
+
+	@Test
+	public void testResumeAfterStart() {
+		ChunkedImportSink<String, Integer, Person> sink = new ChunkedImportSink<>(service, transactionManager,
+				Person::new, 2);
+		sink.accept("a");
+		assertThrows(OCSRuntimeException.class,
+				() -> sink.resume(new FileCheckpointStore(Path.of("checkpoints")), "persons", "hash"));
+	}
+
+	public static class Person extends AbstractEntity<Integer> {
+
+		private static final long serialVersionUID = 1L;
+
+		private Integer id;
+
+		private final String name;
+
+		public Person(String name) {
+			this.name = name;
+		}
+
+		@Override
+		public Integer getId() {
+			return id;
+		}
+
+		@Override
+		public void setId(Integer id) {
+			this.id = id;
+		}
+
+		public String getName() {
+			return name;
+		}
+	}
+}
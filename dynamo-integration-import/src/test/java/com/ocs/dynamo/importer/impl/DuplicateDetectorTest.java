@@ -0,0 +1,74 @@
+package com.ocs.dynamo.importer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+public class DuplicateDetectorTest {
+
+	@Test
+	public void testLongs() {
+		try (DuplicateDetector<Long> detector = DuplicateDetector.create()) {
+			for (long i = -5000; i < 5000; i++) {
+				assertTrue(detector.add(i * 31));
+			}
+			for (long i = -5000; i < 5000; i++) {
+				assertFalse(detector.add(i * 31));
+			}
+			assertTrue(detector.add(1L));
+		}
+	}
+
+	@Test
+	public void testLongKeySet() {
+		LongKeySet set = new LongKeySet(4);
+		assertTrue(set.add(0));
+		assertFalse(set.add(0));
+		assertTrue(set.add(Long.MIN_VALUE));
+		for (int i = 1; i <= 1000; i++) {
+			set.add(i);
+		}
+		assertEquals(1002, set.size());
+	}
+
+	@Test
+	public void testStrings() {
+		checkStrings(DuplicateDetector.create());
+	}
+
+	@Test
+	public void testStringsSpilling() {
+		checkStrings(DuplicateDetector.createSpilling());
+	}
+
+	private void checkStrings(DuplicateDetector<String> detector) {
+		try (detector) {
+			for (int i = 0; i < 10000; i++) {
+				assertTrue(detector.add("Key " + i));
+			}
+			// comparison is case-insensitive
+			assertFalse(detector.add("KEY 42"));
+			assertFalse(detector.add("key 9999"));
+			assertTrue(detector.add("Ärger"));
+			assertFalse(detector.add("äRGER"));
+			assertTrue(detector.add(""));
+			assertFalse(detector.add(""));
+		}
+	}
+
+	@Test
+	public void testOtherKeys() {
+		try (DuplicateDetector<Object> detector = DuplicateDetector.create()) {
+			assertTrue(detector.add(null));
+			assertFalse(detector.add(null));
+			assertTrue(detector.add(LocalDate.of(2024, 1, 1)));
+			assertFalse(detector.add(LocalDate.of(2024, 1, 1)));
+			assertTrue(detector.add(12));
+			assertFalse(detector.add(12L));
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.ocs.dynamo.importer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.ocs.dynamo.importer.impl.ImportCheckpointStore.Checkpoint;
+
+public class ImportCheckpointStoreTest {
+
+	@Test
+	public void testHash(@TempDir Path directory) throws Exception {
+		byte[] bytes = "id,name\n1,Bob\n".getBytes(StandardCharsets.UTF_8);
+		Path file = Files.write(directory.resolve("persons.csv"), bytes);
+
+		String hash = ImportCheckpointStore.hash(bytes);
+		assertEquals(64, hash.length());
+		assertEquals(hash, ImportCheckpointStore.hash(file));
+		assertNotEquals(hash, ImportCheckpointStore.hash("id,name\n1,Rob\n".getBytes(StandardCharsets.UTF_8)));
+	}
+
+	@Test
+	public void testFileStore(@TempDir Path directory) {
+		check(new FileCheckpointStore(directory.resolve("checkpoints")));
+	}
+
+	@Test
+	public void testJdbcStore() {
+		JdbcDataSource dataSource = new JdbcDataSource();
+		dataSource.setURL("jdbc:h2:mem:checkpoints;DB_CLOSE_DELAY=-1");
+		new JdbcTemplate(dataSource).execute("create table import_checkpoint (import_name varchar(255) not null "
+				+ "primary key, file_hash varchar(64) not null, committed integer not null, next_row integer not null, "
+				+ "updated timestamp not null)");
+
+		check(new JdbcCheckpointStore(dataSource));
+	}
+
+	private void check(ImportCheckpointStore store) {
+		assertEquals(Checkpoint.NONE, store.load("persons", "abc"));
+
+		store.save("persons", "abc", new Checkpoint(1000, 1002));
+		store.save("persons", "abc", new Checkpoint(2000, 2003));
+		store.save("persons/archive", "abc", new Checkpoint(500, 501));
+		assertEquals(new Checkpoint(2000, 2003), store.load("persons", "abc"));
+		assertEquals(new Checkpoint(500, 501), store.load("persons/archive", "abc"));
+
+		// a checkpoint of a different file is ignored
+		assertEquals(Checkpoint.NONE, store.load("persons", "def"));
+
+		store.clear("persons");
+		assertEquals(Checkpoint.NONE, store.load("persons", "abc"));
+		assertEquals(new Checkpoint(500, 501), store.load("persons/archive", "abc"));
+	}
+}
@@ -0,0 +1,53 @@
+package com.ocs.dynamo.importer.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ImportPlanTest {
+
+	@Test
+	public void testPlan() {
+		ImportPlan<PersonDTO> plan = ImportPlan.forClass(PersonDTO.class);
+
+		// the plan is created only once
+		assertSame(plan, ImportPlan.forClass(PersonDTO.class));
+
+		// only the annotated properties are included
+		assertEquals(9, plan.getColumns().size());
+		plan.getColumns().forEach(column -> assertNotNull(column.setter()));
+	}
+
+	@Test
+	public void testConversions() {
+		ImportPlan<PersonDTO> plan = ImportPlan.forClass(PersonDTO.class);
+
+		assertEquals(ImportPlan.Conversion.STRING, getColumn(plan, "name").conversion());
+		assertEquals(ImportPlan.Conversion.INTEGER, getColumn(plan, "number").conversion());
+		assertEquals(ImportPlan.Conversion.BIG_DECIMAL, getColumn(plan, "factor").conversion());
+		assertEquals(ImportPlan.Conversion.ENUM, getColumn(plan, "gender").conversion());
+		assertEquals(ImportPlan.Conversion.BOOLEAN, getColumn(plan, "abool").conversion());
+		assertEquals(ImportPlan.Conversion.DATE, getColumn(plan, "date").conversion());
+		assertEquals(ImportPlan.Conversion.DOUBLE, getColumn(plan, "rating").conversion());
+
+		assertTrue(getColumn(plan, "number").required());
+		assertTrue(getColumn(plan, "factor").cannotBeNegative());
+		assertTrue(getColumn(plan, "percentage").percentage());
+	}
+
+	@Test
+	public void testNewInstanceAndSetValue() {
+		ImportPlan<PersonDTO> plan = ImportPlan.forClass(PersonDTO.class);
+		PersonDTO dto = plan.newInstance();
+
+		getColumn(plan, "name").setValue(dto, "Bas");
+		assertEquals("Bas", dto.getName());
+	}
+
+	private static ImportPlan.Column getColumn(ImportPlan<?> plan, String name) {
+		return plan.getColumns().stream().filter(column -> name.equals(column.name())).findFirst().orElseThrow();
+	}
+}
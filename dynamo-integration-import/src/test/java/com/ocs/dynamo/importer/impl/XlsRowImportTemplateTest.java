@@ -3,12 +3,19 @@ package com.ocs.dynamo.importer.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.io.FileUtils;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mock;
@@ -56,6 +63,85 @@ public class XlsRowImportTemplateTest extends BaseMockitoTest {
 		assertEquals(Boolean.TRUE, person.getAbool());
 	}
 
+	/**
+	 * A resumed import must start after the rows of the records that were already
+	 * processed
+	 */
+	@Test
+	public void testResume() throws IOException {
+		byte[] bytes = readFile("importer_rows.xlsx");
+		List<PersonDTO> all = createTemplate(bytes).execute();
+		assertEquals(2, all.size());
+
+		List<PersonDTO> result = new ArrayList<>();
+		List<Integer> nextRows = new ArrayList<>();
+		createTemplate(bytes).execute(new ResumableConsumer<>() {
+
+			@Override
+			public int getResumeRow() {
+				return 10;
+			}
+
+			@Override
+			public void resumed() {
+				nextRows.add(10);
+			}
+
+			@Override
+			public void accept(PersonDTO dto, int nextRow) {
+				result.add(dto);
+				nextRows.add(nextRow);
+			}
+
+			@Override
+			public void accept(PersonDTO dto) {
+				result.add(dto);
+			}
+		});
+
+		assertEquals(1, result.size());
+		assertEquals(all.get(1).getName(), result.get(0).getName());
+		assertEquals(List.of(10, 20), nextRows);
+	}
+
+	/**
+	 * The cells of a streamed XLSX file must only be read by the calling thread
+	 */
+	@Test
+	public void testStreamedIgnoresThreads() throws IOException {
+		byte[] bytes = readFile("importer_rows.xlsx");
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+
+		System.setProperty("ocs.import.threads", "4");
+		try {
+			List<PersonDTO> result = new XlsRowImportTemplate<String, PersonDTO>(importer, messageService, bytes,
+					new ArrayList<>(), PersonDTO.class, 0, 0, 1, 9, false) {
+
+				@Override
+				protected String extractKey(PersonDTO record) {
+					threads.add(Thread.currentThread().getName());
+					return record.getName();
+				}
+			}.execute();
+
+			assertEquals(2, result.size());
+			assertEquals(Set.of(Thread.currentThread().getName()), threads);
+		} finally {
+			System.clearProperty("ocs.import.threads");
+		}
+	}
+
+	private XlsRowImportTemplate<String, PersonDTO> createTemplate(byte[] bytes) {
+		return new XlsRowImportTemplate<>(importer, messageService, bytes, new ArrayList<>(), PersonDTO.class, 0, 0, 1,
+				9, false) {
+
+			@Override
+			protected String extractKey(PersonDTO record) {
+				return record.getName();
+			}
+		};
+	}
+
 	@Test
 	public void test2() throws IOException {
 		byte[] bytes = readFile("importer_rows2.xlsx");
@@ -117,6 +203,45 @@ public class XlsRowImportTemplateTest extends BaseMockitoTest {
 
 	}
 
+	@Test
+	public void testMissingRows() throws IOException {
+		checkMissingRows(new XSSFWorkbook());
+		checkMissingRows(new HSSFWorkbook());
+	}
+
+	private void checkMissingRows(Workbook workbook) throws IOException {
+		// a record of which only the first, second and last rows exist
+		Sheet sheet = workbook.createSheet();
+		sheet.createRow(0).createCell(1).setCellValue("Person");
+		sheet.createRow(1).createCell(1).setCellValue("Bas");
+		sheet.createRow(2).createCell(1).setCellValue(12);
+		sheet.createRow(9).createCell(1).setCellValue(4.5);
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		workbook.write(out);
+		workbook.close();
+
+		List<String> errors = new ArrayList<>();
+		XlsRowImportTemplate<String, PersonDTO> template = new XlsRowImportTemplate<>(importer,
+				messageService, out.toByteArray(), errors, PersonDTO.class, 0, 0, 1, 9, true) {
+
+			@Override
+			protected String extractKey(PersonDTO record) {
+				return record.getName();
+			}
+		};
+		List<PersonDTO> result = template.execute();
+		assertTrue(errors.isEmpty());
+		assertEquals(1, result.size());
+
+		PersonDTO person = result.get(0);
+		assertEquals("Bas", person.getName());
+		assertEquals(12, person.getNumber().intValue());
+		// a missing boolean cell is read as false, so the default value is not used
+		assertEquals(Boolean.FALSE, person.getAbool());
+		assertEquals(4.5, person.getRating(), 0.001);
+	}
+
 	private byte[] readFile(String fileName) throws IOException {
 		return FileUtils.readFileToByteArray(new File("src/test/resources/" + fileName));
 	}
@@ -1,6 +1,7 @@
 package com.ocs.dynamo.importer.template;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -10,6 +11,7 @@ import org.mockito.Mock;
 
 import com.ocs.dynamo.importer.impl.BaseCsvImporter;
 import com.ocs.dynamo.importer.impl.BaseTextImporter;
+import com.ocs.dynamo.importer.impl.ResumableConsumer;
 import com.ocs.dynamo.service.MessageService;
 import com.ocs.dynamo.test.BaseMockitoTest;
 
@@ -53,6 +55,121 @@ public class TextImportTemplateTest extends BaseMockitoTest {
         assertEquals(0, errors.size());
     }
 
+    @Test
+    public void testIteratorWithConsumer() {
+        List<String[]> lines = new ArrayList<>();
+        lines.add(new String[] { "name", "number" });
+        lines.add(new String[] { "1", "Kevin" });
+        lines.add(new String[] { "2", "Stuart" });
+
+        List<String> errors = new ArrayList<>();
+
+        TextImportTemplate<Integer, TestDTO> template = new DefaultTextImportTemplate<>(TestDTO.class, messageService,
+                importer, lines.iterator(), errors);
+
+        List<TestDTO> result = new ArrayList<>();
+        template.execute(result::add);
+        assertEquals(2, result.size());
+        assertEquals(2, result.get(1).getFirst());
+        assertEquals(0, errors.size());
+    }
+
+    /**
+     * Converting the rows in parallel must produce the same results and errors,
+     * in the same order, as converting them one by one
+     */
+    @Test
+    public void testParallel() {
+        List<String[]> lines = new ArrayList<>();
+        lines.add(new String[] { "name", "number" });
+        for (int i = 0; i < 1000; i++) {
+            // every 7th row cannot be converted, every 5th row is a duplicate
+            String first = i % 7 == 0 ? "x" + i : Integer.toString(i % 5 == 0 ? 1 : i);
+            lines.add(new String[] { first, "Name " + i });
+        }
+
+        List<String> sequentialErrors = new ArrayList<>();
+        List<TestDTO> sequential = createDuplicateCheckingTemplate(lines, sequentialErrors).execute();
+
+        System.setProperty("ocs.import.threads", "4");
+        try {
+            List<String> parallelErrors = new ArrayList<>();
+            List<TestDTO> parallel = createDuplicateCheckingTemplate(lines, parallelErrors).execute();
+
+            assertEquals(sequential.stream().map(TestDTO::getSecond).toList(),
+                    parallel.stream().map(TestDTO::getSecond).toList());
+            assertEquals(sequentialErrors, parallelErrors);
+        } finally {
+            System.clearProperty("ocs.import.threads");
+        }
+    }
+
+    private TextImportTemplate<Integer, TestDTO> createDuplicateCheckingTemplate(List<String[]> lines,
+            List<String> errors) {
+        return new TextImportTemplate<Integer, TestDTO>(messageService, lines, errors, true) {
+
+            @Override
+            protected TestDTO process(int rowNum, String[] row) {
+                return importer.processRow(rowNum, row, TestDTO.class);
+            }
+
+            @Override
+            protected boolean isAppropriateRow(String[] line) {
+                return true;
+            }
+
+            @Override
+            protected Integer getKeyFromRow(TestDTO t) {
+                return t.getFirst();
+            }
+        };
+    }
+
+    /**
+     * The rows that were processed by a previous run must not be converted again
+     */
+    @Test
+    public void testResume() {
+        List<String[]> lines = new ArrayList<>();
+        lines.add(new String[] { "name", "number" });
+        lines.add(new String[] { "1", "Kevin" });
+        lines.add(new String[] { "a", "Stuart" });
+        lines.add(new String[] { "3", "Bob" });
+        lines.add(new String[] { "4", "Dave" });
+
+        List<Integer> processed = new ArrayList<>();
+        List<String> errors = new ArrayList<>();
+        TextImportTemplate<Integer, TestDTO> template = new TextImportTemplate<Integer, TestDTO>(messageService, lines,
+                errors, false) {
+
+            @Override
+            protected TestDTO process(int rowNum, String[] row) {
+                processed.add(rowNum);
+                return importer.processRow(rowNum, row, TestDTO.class);
+            }
+
+            @Override
+            protected boolean isAppropriateRow(String[] line) {
+                return true;
+            }
+
+            @Override
+            protected Integer getKeyFromRow(TestDTO t) {
+                return null;
+            }
+        };
+
+        ResumingConsumer consumer = new ResumingConsumer(3);
+        template.execute(consumer);
+
+        // the invalid row was skipped as well, so no error is reported again
+        assertEquals(List.of(3, 4), processed);
+        assertEquals(0, errors.size());
+        assertTrue(consumer.resumed);
+        assertEquals(List.of(3, 4), consumer.results.stream().map(TestDTO::getFirst).toList());
+        assertEquals(List.of(4, 5), consumer.nextRows);
+    }
+
     @Test
     public void testException() {
         List<String[]> lines = new ArrayList<>();
@@ -120,4 +237,39 @@ public class TextImportTemplateTest extends BaseMockitoTest {
         assertEquals(1, errors.size());
     }
 
+    private static class ResumingConsumer implements ResumableConsumer<TestDTO> {
+
+        private final int resumeRow;
+
+        private boolean resumed;
+
+        private final List<TestDTO> results = new ArrayList<>();
+
+        private final List<Integer> nextRows = new ArrayList<>();
+
+        ResumingConsumer(int resumeRow) {
+            this.resumeRow = resumeRow;
+        }
+
+        @Override
+        public int getResumeRow() {
+            return resumeRow;
+        }
+
+        @Override
+        public void resumed() {
+            resumed = true;
+        }
+
+        @Override
+        public void accept(TestDTO result, int nextRow) {
+            results.add(result);
+            nextRows.add(nextRow);
+        }
+
+        @Override
+        public void accept(TestDTO result) {
+            results.add(result);
+        }
+    }
 }